@@ -31,6 +31,7 @@ import com.buession.logging.annotation.AuditLog;
 import com.buession.logging.core.BusinessType;
 import com.buession.logging.core.Event;
 import com.buession.logging.core.LogData;
+import com.buession.logging.core.LogType;
 import com.buession.logging.core.mgt.LogManager;
 
 /**
@@ -68,7 +69,7 @@ public class AuditLogAnnotationHandler extends AbstractAnnotationHandler<AuditLo
 		logData.setEvent(log.event());
 		logData.setDescription(log.description());
 
-		logManager.save(logData);
+		logManager.save(logData, LogType.AUDIT);
 	}
 
 }
@@ -29,6 +29,7 @@ import com.buession.aop.handler.AbstractAnnotationHandler;
 import com.buession.core.utils.Assert;
 import com.buession.logging.annotation.Log;
 import com.buession.logging.core.LogData;
+import com.buession.logging.core.LogType;
 import com.buession.logging.core.mgt.LogManager;
 
 /**
@@ -70,7 +71,7 @@ public class LogAnnotationHandler extends AbstractAnnotationHandler<Log> {
 			//logData.setRequestBody(request.getRequestBody());
 		}
 
-		logManager.save(logData);
+		logManager.save(logData, LogType.LOG);
 	}
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，开启 GC 及分配速率统计（-prof gc），结果以 JSON 格式写入指定文件，便于和已发布的基线比较
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.buession.logging.benchmarks.BenchmarkRunner [结果文件] [基准测试正则]
+ * </pre>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * 默认结果文件
+	 */
+	public final static String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	private BenchmarkRunner() {
+
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final String resultFile = args.length > 0 ? args[0] : DEFAULT_RESULT_FILE;
+		final ChainedOptionsBuilder builder = new OptionsBuilder()
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(resultFile);
+
+		if(args.length > 1){
+			builder.include(args[1]);
+		}else{
+			builder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+		}
+
+		new Runner(builder.build()).run();
+	}
+
+}
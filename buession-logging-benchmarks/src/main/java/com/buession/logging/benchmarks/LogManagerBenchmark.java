@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.benchmarks;
+
+import com.buession.lang.Status;
+import com.buession.logging.benchmarks.support.LogDataFixtures;
+import com.buession.logging.benchmarks.support.StubGeoLocationResolver;
+import com.buession.logging.benchmarks.support.StubRequestContext;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.core.mgt.AbstractLogManager;
+import com.buession.logging.core.mgt.AsyncLogManager;
+import com.buession.logging.core.mgt.DefaultLogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AbstractLogManager#save(LogData)} 基准测试，覆盖请求信息补全、User-Agent 解析、地理位置解析和日志处理器分发；
+ * 日志处理器只保留最近一条日志数据，测量结果不包含后端 I/O
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class LogManagerBenchmark {
+
+	/**
+	 * 日志管理器类型
+	 */
+	@Param({"sync", "async"})
+	public String mode;
+
+	private AbstractLogManager logManager;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		logManager = "async".equals(mode) ? new AsyncLogManager() : new DefaultLogManager();
+
+		final Principal principal = new Principal();
+		principal.setId("10001");
+		principal.setUserName("buession");
+
+		logManager.setRequestContext(new StubRequestContext());
+		logManager.setPrincipalHandler((original)->principal);
+		logManager.setGeoLocationResolver(new StubGeoLocationResolver());
+		logManager.setLogHandler(new LastLogDataHandler());
+
+		if(logManager instanceof AsyncLogManager){
+			((AsyncLogManager) logManager).start();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		logManager.close();
+	}
+
+	@Benchmark
+	public Status save() {
+		return logManager.save(LogDataFixtures.newLogData());
+	}
+
+	private final static class LastLogDataHandler implements LogHandler {
+
+		private volatile LogData last;
+
+		@Override
+		public Status handle(final LogData logData) {
+			last = logData;
+			return Status.SUCCESS;
+		}
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.benchmarks.support;
+
+import com.buession.lang.BrowserType;
+import com.buession.lang.DeviceType;
+import com.buession.lang.Geo;
+import com.buession.lang.Status;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.GeoLocation;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.RequestMethod;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 基准测试数据，字段取值与一次典型的登录日志相当
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class LogDataFixtures {
+
+	/**
+	 * 客户端 IP
+	 */
+	public final static String CLIENT_IP = "203.0.113.18";
+
+	/**
+	 * User-Agent
+	 */
+	public final static String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 " +
+			"(KHTML, like Gecko) Chrome/124.0.0.0 Safari/537.36";
+
+	/**
+	 * 控制台默认模板
+	 */
+	public final static String CONSOLE_TEMPLATE = "${id} login success at: ${time}(IP: ${clientIp}), " +
+			"User-Agent: ${User-Agent}, OS: ${os_name} ${os_version}, Device: ${device_type}, " +
+			"Browser: ${browser_name} ${browser_version}.";
+
+	private LogDataFixtures() {
+
+	}
+
+	/**
+	 * 创建仅包含业务字段的日志数据，请求、User-Agent 和地理位置等信息由 {@link com.buession.logging.core.mgt.LogManager} 补全
+	 *
+	 * @return 日志数据
+	 */
+	public static LogData newLogData() {
+		final LogData logData = new LogData();
+
+		logData.setBusinessType("user");
+		logData.setEvent("login");
+		logData.setDescription("User login");
+		logData.setStatus(Status.SUCCESS);
+
+		return logData;
+	}
+
+	/**
+	 * 创建全部字段都已填充的日志数据
+	 *
+	 * @return 日志数据
+	 */
+	public static LogData newCompleteLogData() {
+		final LogData logData = newLogData();
+
+		final Principal principal = new Principal();
+		principal.setId("10001");
+		principal.setUserName("buession");
+		principal.setRealName("Buession");
+		logData.setPrincipal(principal);
+
+		logData.setDateTime(new Date());
+		logData.setTraceId("5f0c3e1a9d8b4c7e");
+		logData.setUrl("https://www.buession.com/login");
+		logData.setRequestMethod(RequestMethod.POST);
+		logData.setRequestParameters(requestParameters());
+		logData.setRequestBody("{\"username\":\"buession\",\"remember\":true}");
+		logData.setClientIp(CLIENT_IP);
+		logData.setRemoteAddr("10.0.0.12");
+		logData.setUserAgent(USER_AGENT);
+
+		final OperatingSystem operatingSystem = new OperatingSystem();
+		operatingSystem.setName("Mac OS X");
+		operatingSystem.setVersion("10.15.7");
+		logData.setOperatingSystem(operatingSystem);
+
+		logData.setDeviceType(DeviceType.COMPUTER);
+
+		final Browser browser = new Browser();
+		browser.setName("Chrome");
+		browser.setType(BrowserType.WEB_BROWSER);
+		browser.setVersion("124.0.0.0");
+		logData.setBrowser(browser);
+
+		logData.setLocation(geoLocation());
+
+		final Map<String, Object> extra = new LinkedHashMap<>(4);
+		extra.put("tenant", "buession");
+		extra.put("loginType", "password");
+		logData.setExtra(extra);
+
+		return logData;
+	}
+
+	/**
+	 * 创建地理位置信息
+	 *
+	 * @return 地理位置信息
+	 */
+	public static GeoLocation geoLocation() {
+		final GeoLocation location = new GeoLocation();
+
+		location.setGeo(new Geo(121.4581, 31.2222));
+
+		final GeoLocation.Country country = new GeoLocation.Country();
+		country.setCode("CN");
+		country.setName("China");
+		country.setFullName("People's Republic of China");
+		location.setCountry(country);
+
+		final GeoLocation.District district = new GeoLocation.District();
+		district.setName("Shanghai");
+		district.setFullName("Shanghai");
+		location.setDistrict(district);
+
+		return location;
+	}
+
+	private static Map<String, Object> requestParameters() {
+		final Map<String, Object> parameters = new LinkedHashMap<>(4);
+
+		parameters.put("username", "buession");
+		parameters.put("redirect", "/dashboard");
+		parameters.put("remember", "true");
+
+		return parameters;
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.benchmarks.support;
+
+import com.buession.logging.core.RequestMethod;
+import com.buession.logging.core.request.Request;
+import com.buession.logging.core.request.RequestContext;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Multimap;
+
+/**
+ * 内存 {@link RequestContext} 桩实现，每次返回同一个预先构建的 {@link Request}，不依赖 Servlet 容器
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class StubRequestContext implements RequestContext {
+
+	private final Request request = new StubRequest();
+
+	@Override
+	public Request createRequest() {
+		return request;
+	}
+
+	private final static class StubRequest implements Request {
+
+		private final Multimap<String, String> requestParameters = ImmutableListMultimap.of("username",
+				"buession", "redirect", "/dashboard", "remember", "true");
+
+		@Override
+		public String getUrl() {
+			return "https://www.buession.com/login";
+		}
+
+		@Override
+		public RequestMethod getRequestMethod() {
+			return RequestMethod.POST;
+		}
+
+		@Override
+		public String getRequestBody() {
+			return "{\"username\":\"buession\",\"remember\":true}";
+		}
+
+		@Override
+		public Multimap<String, String> getRequestParameters() {
+			return requestParameters;
+		}
+
+		@Override
+		public String getClientIp() {
+			return LogDataFixtures.CLIENT_IP;
+		}
+
+		@Override
+		public String getRemoteAddr() {
+			return "10.0.0.12";
+		}
+
+		@Override
+		public String getUserAgent() {
+			return LogDataFixtures.USER_AGENT;
+		}
+
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+/**
+ * 日志数据编解码器的公共方法
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+final class CodecSupport {
+
+	private CodecSupport() {
+
+	}
+
+	/**
+	 * 按名称返回枚举值；名称未知时（如：由新版本写入、新增了枚举值）返回 null，不抛出 {@link IllegalArgumentException}，
+	 * 保证解码只抛出 {@link java.io.IOException}
+	 *
+	 * @param enumType
+	 * 		枚举类型
+	 * @param name
+	 * 		枚举名称
+	 * @param <E>
+	 * 		枚举类型
+	 *
+	 * @return 枚举值，名称为 null 或未知时返回 null
+	 */
+	static <E extends Enum<E>> E enumValue(final Class<E> enumType, final String name) {
+		if(name == null){
+			return null;
+		}
+
+		try{
+			return Enum.valueOf(enumType, name);
+		}catch(IllegalArgumentException e){
+			return null;
+		}
+	}
+
+}
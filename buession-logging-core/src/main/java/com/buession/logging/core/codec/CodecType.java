@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+/**
+ * 日志数据编解码类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum CodecType {
+
+	/**
+	 * JSON
+	 */
+	JSON,
+
+	/**
+	 * CBOR，需要 jackson-dataformat-cbor
+	 */
+	CBOR,
+
+	/**
+	 * MessagePack，需要 jackson-dataformat-msgpack
+	 */
+	MESSAGE_PACK,
+
+	/**
+	 * Protocol Buffers，格式见 {@code com/buession/logging/core/codec/log_data.proto}
+	 */
+	PROTOBUF;
+
+	/**
+	 * 创建该类型的编解码器
+	 *
+	 * @return 编解码器
+	 */
+	public LogDataCodec createCodec() {
+		switch(this){
+			case CBOR:
+				return new CborLogDataCodec();
+			case MESSAGE_PACK:
+				return new MessagePackLogDataCodec();
+			case PROTOBUF:
+				return new ProtobufLogDataCodec();
+			default:
+				return new JsonLogDataCodec();
+		}
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.BrowserType;
+import com.buession.lang.DeviceType;
+import com.buession.lang.Geo;
+import com.buession.lang.Status;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.GeoLocation;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.RequestMethod;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基于 Jackson 的日志数据编解码器，编码使用 {@link JsonLogDataEncoder} 按固定字段顺序流式写出，
+ * {@link ObjectMapper} 的 {@link com.fasterxml.jackson.core.JsonFactory} 决定输出格式（JSON、CBOR、MessagePack 等）
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class JacksonLogDataCodec implements LogDataCodec {
+
+	private final static TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+
+	};
+
+	/**
+	 * 编码器
+	 */
+	private final JsonLogDataEncoder encoder;
+
+	/**
+	 * {@link ObjectMapper}
+	 */
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * MIME 类型
+	 */
+	private final String contentType;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param objectMapper
+	 *        {@link ObjectMapper}
+	 * @param contentType
+	 * 		MIME 类型
+	 */
+	public JacksonLogDataCodec(final ObjectMapper objectMapper, final String contentType) {
+		this(new JsonLogDataEncoder(objectMapper), contentType);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param encoder
+	 * 		编码器
+	 * @param contentType
+	 * 		MIME 类型
+	 */
+	public JacksonLogDataCodec(final JsonLogDataEncoder encoder, final String contentType) {
+		Assert.isNull(encoder, "JsonLogDataEncoder cloud not be null.");
+		Assert.isBlank(contentType, "Content type cloud not be null or empty.");
+		this.encoder = encoder;
+		this.objectMapper = encoder.getObjectMapper();
+		this.contentType = contentType;
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public byte[] encode(final LogData logData) throws IOException {
+		return encoder.encode(logData);
+	}
+
+	@Override
+	public byte[] encode(final List<LogData> logDataList) throws IOException {
+		return encoder.encode(logDataList);
+	}
+
+	@Override
+	public void encode(final LogData logData, final OutputStream outputStream) throws IOException {
+		encoder.encode(logData, outputStream);
+	}
+
+	@Override
+	public LogData decode(final byte[] data) throws IOException {
+		return readLogData(objectMapper.readTree(data));
+	}
+
+	@Override
+	public List<LogData> decodeList(final byte[] data) throws IOException {
+		final JsonNode node = objectMapper.readTree(data);
+
+		if(isNull(node)){
+			return null;
+		}else if(node.isArray() == false){
+			return Collections.singletonList(readLogData(node));
+		}
+
+		final List<LogData> result = new ArrayList<>(node.size());
+		for(JsonNode element : node){
+			result.add(readLogData(element));
+		}
+
+		return result;
+	}
+
+	protected LogData readLogData(final JsonNode node) throws IOException {
+		if(isNull(node)){
+			return null;
+		}
+
+		final LogData logData = new LogData();
+
+		logData.setPrincipal(readPrincipal(node.get("principal")));
+		logData.setDateTime(readDate(node.get("dateTime")));
+		logData.setBusinessType(text(node, "businessType"));
+		logData.setEvent(text(node, "event"));
+		logData.setDescription(text(node, "description"));
+		logData.setTraceId(text(node, "traceId"));
+		logData.setUrl(text(node, "url"));
+		logData.setRequestMethod(enumValue(RequestMethod.class, text(node, "requestMethod")));
+		logData.setRequestParameters(readMap(node.get("requestParameters")));
+		logData.setRequestBody(text(node, "requestBody"));
+		logData.setClientIp(text(node, "clientIp"));
+		logData.setRemoteAddr(text(node, "remoteAddr"));
+		logData.setUserAgent(text(node, "userAgent"));
+		logData.setOperatingSystem(readOperatingSystem(node.get("operatingSystem")));
+		logData.setDeviceType(enumValue(DeviceType.class, text(node, "deviceType")));
+		logData.setBrowser(readBrowser(node.get("browser")));
+		logData.setLocation(readLocation(node.get("location")));
+		logData.setStatus(enumValue(Status.class, text(node, "status")));
+		logData.setExtra(readMap(node.get("extra")));
+
+		return logData;
+	}
+
+	protected Principal readPrincipal(final JsonNode node) {
+		if(isNull(node)){
+			return null;
+		}
+
+		final Principal principal = new Principal();
+
+		principal.setId(text(node, "id"));
+		principal.setUserName(text(node, "userName"));
+		principal.setRealName(text(node, "realName"));
+
+		return principal;
+	}
+
+	protected OperatingSystem readOperatingSystem(final JsonNode node) {
+		if(isNull(node)){
+			return null;
+		}
+
+		final OperatingSystem operatingSystem = new OperatingSystem();
+
+		operatingSystem.setName(text(node, "name"));
+		operatingSystem.setVersion(text(node, "version"));
+
+		return operatingSystem;
+	}
+
+	protected Browser readBrowser(final JsonNode node) {
+		if(isNull(node)){
+			return null;
+		}
+
+		final Browser browser = new Browser();
+
+		browser.setName(text(node, "name"));
+		browser.setType(enumValue(BrowserType.class, text(node, "type")));
+		browser.setVersion(text(node, "version"));
+
+		return browser;
+	}
+
+	protected GeoLocation readLocation(final JsonNode node) {
+		if(isNull(node)){
+			return null;
+		}
+
+		final GeoLocation location = new GeoLocation();
+
+		final JsonNode geo = node.get("geo");
+		if(isNull(geo) == false){
+			location.setGeo(new Geo(geo.path("longitude").asDouble(), geo.path("latitude").asDouble()));
+		}
+
+		final JsonNode countryNode = node.get("country");
+		if(isNull(countryNode) == false){
+			final GeoLocation.Country country = new GeoLocation.Country();
+
+			country.setCode(text(countryNode, "code"));
+			country.setName(text(countryNode, "name"));
+			country.setFullName(text(countryNode, "fullName"));
+			location.setCountry(country);
+		}
+
+		final JsonNode districtNode = node.get("district");
+		if(isNull(districtNode) == false){
+			final GeoLocation.District district = new GeoLocation.District();
+
+			district.setName(text(districtNode, "name"));
+			district.setFullName(text(districtNode, "fullName"));
+			location.setDistrict(district);
+		}
+
+		return location;
+	}
+
+	protected Date readDate(final JsonNode node) throws IOException {
+		if(isNull(node)){
+			return null;
+		}else if(node.isNumber()){
+			return new Date(node.asLong());
+		}else{
+			return objectMapper.treeToValue(node, Date.class);
+		}
+	}
+
+	protected Map<String, Object> readMap(final JsonNode node) {
+		return isNull(node) ? null : objectMapper.convertValue(node, MAP_TYPE);
+	}
+
+	protected static String text(final JsonNode node, final String fieldName) {
+		final JsonNode value = node.get(fieldName);
+		return isNull(value) ? null : value.asText();
+	}
+
+	protected static <E extends Enum<E>> E enumValue(final Class<E> enumType, final String name) {
+		return CodecSupport.enumValue(enumType, name);
+	}
+
+	private static boolean isNull(final JsonNode node) {
+		return node == null || node.isNull() || node.isMissingNode();
+	}
+
+}
@@ -0,0 +1,678 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.GeoLocation;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.Principal;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link LogData} JSON 编码器，基于 Jackson Streaming API 按固定字段顺序直接写出，热点路径上不依赖反射；
+ * {@link LogData}、{@link Principal}、{@link Browser}、{@link OperatingSystem}、{@link GeoLocation} 的子类可能有额外的属性，
+ * 交给 {@link ObjectMapper} 序列化。
+ * 实例线程安全，应全局共享，编码为字节数组时复用线程本地缓冲区。
+ * {@link ObjectMapper} 使用二进制格式的 {@link JsonFactory}（如 CBOR、MessagePack）时，字节输出为对应格式，
+ * 此时不支持编码为字符串
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class JsonLogDataEncoder {
+
+	/**
+	 * 默认实例
+	 */
+	public final static JsonLogDataEncoder DEFAULT = new JsonLogDataEncoder();
+
+	/**
+	 * 线程本地缓冲区初始大小
+	 */
+	private final static int INITIAL_BUFFER_SIZE = 1024;
+
+	/**
+	 * 线程本地缓冲区最大保留大小，超过后释放，避免偶发的大日志长期占用内存
+	 */
+	private final static int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+	private final static SerializableString PRINCIPAL = new SerializedString("principal");
+
+	private final static SerializableString DATE_TIME = new SerializedString("dateTime");
+
+	private final static SerializableString BUSINESS_TYPE = new SerializedString("businessType");
+
+	private final static SerializableString EVENT = new SerializedString("event");
+
+	private final static SerializableString DESCRIPTION = new SerializedString("description");
+
+	private final static SerializableString TRACE_ID = new SerializedString("traceId");
+
+	private final static SerializableString URL = new SerializedString("url");
+
+	private final static SerializableString REQUEST_METHOD = new SerializedString("requestMethod");
+
+	private final static SerializableString REQUEST_PARAMETERS = new SerializedString("requestParameters");
+
+	private final static SerializableString REQUEST_BODY = new SerializedString("requestBody");
+
+	private final static SerializableString CLIENT_IP = new SerializedString("clientIp");
+
+	private final static SerializableString REMOTE_ADDR = new SerializedString("remoteAddr");
+
+	private final static SerializableString USER_AGENT = new SerializedString("userAgent");
+
+	private final static SerializableString OPERATING_SYSTEM = new SerializedString("operatingSystem");
+
+	private final static SerializableString DEVICE_TYPE = new SerializedString("deviceType");
+
+	private final static SerializableString BROWSER = new SerializedString("browser");
+
+	private final static SerializableString LOCATION = new SerializedString("location");
+
+	private final static SerializableString STATUS = new SerializedString("status");
+
+	private final static SerializableString EXTRA = new SerializedString("extra");
+
+	private final static SerializableString ID = new SerializedString("id");
+
+	private final static SerializableString USER_NAME = new SerializedString("userName");
+
+	private final static SerializableString REAL_NAME = new SerializedString("realName");
+
+	private final static SerializableString NAME = new SerializedString("name");
+
+	private final static SerializableString VERSION = new SerializedString("version");
+
+	private final static SerializableString TYPE = new SerializedString("type");
+
+	private final static SerializableString GEO = new SerializedString("geo");
+
+	private final static SerializableString COUNTRY = new SerializedString("country");
+
+	private final static SerializableString DISTRICT = new SerializedString("district");
+
+	private final static SerializableString CODE = new SerializedString("code");
+
+	private final static SerializableString FULL_NAME = new SerializedString("fullName");
+
+	/**
+	 * {@link ObjectMapper}，用于编码不在快速路径上的值
+	 */
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * {@link JsonFactory}
+	 */
+	private final JsonFactory jsonFactory;
+
+	/**
+	 * 日期是否编码为时间戳
+	 */
+	private final boolean datesAsTimestamps;
+
+	/**
+	 * 线程本地缓冲区
+	 */
+	private final ThreadLocal<ByteArrayBuilder> buffers =
+			ThreadLocal.withInitial(()->new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+	/**
+	 * 构造函数
+	 */
+	public JsonLogDataEncoder() {
+		this(new ObjectMapper());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param objectMapper
+	 *        {@link ObjectMapper}，用于编码请求参数、扩展数据中的复杂对象
+	 */
+	public JsonLogDataEncoder(final ObjectMapper objectMapper) {
+		Assert.isNull(objectMapper, "ObjectMapper cloud not be null.");
+		this.objectMapper = objectMapper;
+		this.jsonFactory = objectMapper.getFactory();
+		this.datesAsTimestamps = objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	}
+
+	/**
+	 * 返回 {@link ObjectMapper}
+	 *
+	 * @return {@link ObjectMapper}
+	 */
+	public ObjectMapper getObjectMapper() {
+		return objectMapper;
+	}
+
+	/**
+	 * 将日志数据编码为 JSON 并写入输出流，输出流不会被关闭
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param outputStream
+	 * 		输出流
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void encode(final LogData logData, final OutputStream outputStream) throws IOException {
+		try(JsonGenerator generator = createGenerator(outputStream)){
+			writeLogData(generator, logData);
+		}
+	}
+
+	/**
+	 * 将日志数据列表编码为 JSON 数组并写入输出流，输出流不会被关闭
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 * @param outputStream
+	 * 		输出流
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void encode(final List<LogData> logDataList, final OutputStream outputStream) throws IOException {
+		try(JsonGenerator generator = createGenerator(outputStream)){
+			writeLogDataList(generator, logDataList);
+		}
+	}
+
+	/**
+	 * 将日志数据编码为 JSON 并写入 {@link Writer}，{@link Writer} 不会被关闭
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param writer
+	 *        {@link Writer}
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void encode(final LogData logData, final Writer writer) throws IOException {
+		try(JsonGenerator generator = jsonFactory.createGenerator(writer)){
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			writeLogData(generator, logData);
+		}
+	}
+
+	/**
+	 * 将日志数据编码为 UTF-8 JSON 字节数组
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return JSON 字节数组
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	public byte[] encode(final LogData logData) throws IOException {
+		final ByteArrayBuilder buffer = buffers.get();
+
+		try{
+			encode(logData, buffer);
+			return buffer.toByteArray();
+		}finally{
+			release(buffer);
+		}
+	}
+
+	/**
+	 * 将日志数据列表编码为 UTF-8 JSON 数组字节数组
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @return JSON 字节数组
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	public byte[] encode(final List<LogData> logDataList) throws IOException {
+		final ByteArrayBuilder buffer = buffers.get();
+
+		try{
+			encode(logDataList, buffer);
+			return buffer.toByteArray();
+		}finally{
+			release(buffer);
+		}
+	}
+
+	/**
+	 * 将日志数据编码为 JSON 字符串
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return JSON 字符串
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	public String encodeAsString(final LogData logData) throws IOException {
+		final StringWriter writer = new StringWriter(INITIAL_BUFFER_SIZE);
+
+		encode(logData, writer);
+		return writer.toString();
+	}
+
+	/**
+	 * 将 {@link Map} 编码为 JSON 字符串
+	 *
+	 * @param map
+	 *        {@link Map}
+	 *
+	 * @return JSON 字符串
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	public String encodeAsString(final Map<?, ?> map) throws IOException {
+		final StringWriter writer = new StringWriter();
+
+		try(JsonGenerator generator = jsonFactory.createGenerator(writer)){
+			writeMap(generator, map);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * 将任意值编码为 JSON 字符串
+	 *
+	 * @param value
+	 * 		值
+	 *
+	 * @return JSON 字符串
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	public String encodeValueAsString(final Object value) throws IOException {
+		final StringWriter writer = new StringWriter();
+
+		try(JsonGenerator generator = jsonFactory.createGenerator(writer)){
+			writeValue(generator, value);
+		}
+
+		return writer.toString();
+	}
+
+	/**
+	 * 将日志数据写入 {@link JsonGenerator}，供需要把日志数据嵌入其它 JSON 结构的场景使用
+	 *
+	 * @param generator
+	 *        {@link JsonGenerator}
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void writeLogData(final JsonGenerator generator, final LogData logData) throws IOException {
+		if(logData == null){
+			generator.writeNull();
+			return;
+		}
+
+		// 子类可能有额外的属性，交给 ObjectMapper 序列化
+		if(logData.getClass() != LogData.class){
+			objectMapper.writeValue(generator, logData);
+			return;
+		}
+
+		generator.writeStartObject();
+
+		generator.writeFieldName(PRINCIPAL);
+		writePrincipal(generator, logData.getPrincipal());
+
+		generator.writeFieldName(DATE_TIME);
+		writeDate(generator, logData.getDateTime());
+
+		generator.writeFieldName(BUSINESS_TYPE);
+		generator.writeString(logData.getBusinessType());
+
+		generator.writeFieldName(EVENT);
+		generator.writeString(logData.getEvent());
+
+		generator.writeFieldName(DESCRIPTION);
+		generator.writeString(logData.getDescription());
+
+		generator.writeFieldName(TRACE_ID);
+		generator.writeString(logData.getTraceId());
+
+		generator.writeFieldName(URL);
+		generator.writeString(logData.getUrl());
+
+		generator.writeFieldName(REQUEST_METHOD);
+		writeEnum(generator, logData.getRequestMethod());
+
+		generator.writeFieldName(REQUEST_PARAMETERS);
+		writeMap(generator, logData.getRequestParameters());
+
+		generator.writeFieldName(REQUEST_BODY);
+		generator.writeString(logData.getRequestBody());
+
+		generator.writeFieldName(CLIENT_IP);
+		generator.writeString(logData.getClientIp());
+
+		generator.writeFieldName(REMOTE_ADDR);
+		generator.writeString(logData.getRemoteAddr());
+
+		generator.writeFieldName(USER_AGENT);
+		generator.writeString(logData.getUserAgent());
+
+		generator.writeFieldName(OPERATING_SYSTEM);
+		writeOperatingSystem(generator, logData.getOperatingSystem());
+
+		generator.writeFieldName(DEVICE_TYPE);
+		writeEnum(generator, logData.getDeviceType());
+
+		generator.writeFieldName(BROWSER);
+		writeBrowser(generator, logData.getBrowser());
+
+		generator.writeFieldName(LOCATION);
+		writeLocation(generator, logData.getLocation());
+
+		generator.writeFieldName(STATUS);
+		writeEnum(generator, logData.getStatus());
+
+		generator.writeFieldName(EXTRA);
+		writeMap(generator, logData.getExtra());
+
+		generator.writeEndObject();
+	}
+
+	/**
+	 * 将日志数据列表以 JSON 数组写入 {@link JsonGenerator}
+	 *
+	 * @param generator
+	 *        {@link JsonGenerator}
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void writeLogDataList(final JsonGenerator generator, final List<LogData> logDataList) throws IOException {
+		if(logDataList == null){
+			generator.writeNull();
+			return;
+		}
+
+		generator.writeStartArray();
+		for(LogData logData : logDataList){
+			writeLogData(generator, logData);
+		}
+		generator.writeEndArray();
+	}
+
+	/**
+	 * 将 {@link Map} 写入 {@link JsonGenerator}
+	 *
+	 * @param generator
+	 *        {@link JsonGenerator}
+	 * @param map
+	 *        {@link Map}
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	public void writeMap(final JsonGenerator generator, final Map<?, ?> map) throws IOException {
+		if(map == null){
+			generator.writeNull();
+			return;
+		}
+
+		generator.writeStartObject();
+		for(Map.Entry<?, ?> e : map.entrySet()){
+			generator.writeFieldName(String.valueOf(e.getKey()));
+			writeValue(generator, e.getValue());
+		}
+		generator.writeEndObject();
+	}
+
+	/**
+	 * 将任意值写入 {@link JsonGenerator}，常见类型直接写出，其它类型交给 {@link ObjectMapper}
+	 *
+	 * @param generator
+	 *        {@link JsonGenerator}
+	 * @param value
+	 * 		值
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	protected void writeValue(final JsonGenerator generator, final Object value) throws IOException {
+		if(value == null){
+			generator.writeNull();
+		}else if(value instanceof String){
+			generator.writeString((String) value);
+		}else if(value instanceof Integer || value instanceof Long || value instanceof Short ||
+				value instanceof Byte){
+			generator.writeNumber(((Number) value).longValue());
+		}else if(value instanceof Double || value instanceof Float){
+			generator.writeNumber(((Number) value).doubleValue());
+		}else if(value instanceof BigDecimal){
+			generator.writeNumber((BigDecimal) value);
+		}else if(value instanceof BigInteger){
+			generator.writeNumber((BigInteger) value);
+		}else if(value instanceof Boolean){
+			generator.writeBoolean((Boolean) value);
+		}else if(value instanceof Enum){
+			writeEnum(generator, (Enum<?>) value);
+		}else if(value instanceof Date){
+			writeDate(generator, (Date) value);
+		}else if(value instanceof Map){
+			writeMap(generator, (Map<?, ?>) value);
+		}else if(value instanceof String[]){
+			final String[] values = (String[]) value;
+
+			generator.writeStartArray();
+			for(String v : values){
+				generator.writeString(v);
+			}
+			generator.writeEndArray();
+		}else if(value instanceof Collection){
+			generator.writeStartArray();
+			for(Object v : (Collection<?>) value){
+				writeValue(generator, v);
+			}
+			generator.writeEndArray();
+		}else{
+			objectMapper.writeValue(generator, value);
+		}
+	}
+
+	protected void writePrincipal(final JsonGenerator generator, final Principal principal) throws IOException {
+		if(principal == null){
+			generator.writeNull();
+			return;
+		}
+
+		if(principal.getClass() != Principal.class){
+			objectMapper.writeValue(generator, principal);
+			return;
+		}
+
+		generator.writeStartObject();
+		generator.writeFieldName(ID);
+		generator.writeString(principal.getId());
+		generator.writeFieldName(USER_NAME);
+		generator.writeString(principal.getUserName());
+		generator.writeFieldName(REAL_NAME);
+		generator.writeString(principal.getRealName());
+		generator.writeEndObject();
+	}
+
+	protected void writeOperatingSystem(final JsonGenerator generator, final OperatingSystem operatingSystem)
+			throws IOException {
+		if(operatingSystem == null){
+			generator.writeNull();
+			return;
+		}
+
+		if(operatingSystem.getClass() != OperatingSystem.class){
+			objectMapper.writeValue(generator, operatingSystem);
+			return;
+		}
+
+		generator.writeStartObject();
+		generator.writeFieldName(NAME);
+		generator.writeString(operatingSystem.getName());
+		generator.writeFieldName(VERSION);
+		generator.writeString(operatingSystem.getVersion());
+		generator.writeEndObject();
+	}
+
+	protected void writeBrowser(final JsonGenerator generator, final Browser browser) throws IOException {
+		if(browser == null){
+			generator.writeNull();
+			return;
+		}
+
+		if(browser.getClass() != Browser.class){
+			objectMapper.writeValue(generator, browser);
+			return;
+		}
+
+		generator.writeStartObject();
+		generator.writeFieldName(NAME);
+		generator.writeString(browser.getName());
+		generator.writeFieldName(TYPE);
+		writeEnum(generator, browser.getType());
+		generator.writeFieldName(VERSION);
+		generator.writeString(browser.getVersion());
+		generator.writeEndObject();
+	}
+
+	protected void writeLocation(final JsonGenerator generator, final GeoLocation location) throws IOException {
+		if(location == null){
+			generator.writeNull();
+			return;
+		}
+
+		if(location.getClass() != GeoLocation.class){
+			objectMapper.writeValue(generator, location);
+			return;
+		}
+
+		generator.writeStartObject();
+
+		generator.writeFieldName(GEO);
+		if(location.getGeo() == null){
+			generator.writeNull();
+		}else{
+			objectMapper.writeValue(generator, location.getGeo());
+		}
+
+		generator.writeFieldName(COUNTRY);
+		final GeoLocation.Country country = location.getCountry();
+		if(country == null){
+			generator.writeNull();
+		}else{
+			generator.writeStartObject();
+			generator.writeFieldName(CODE);
+			generator.writeString(country.getCode());
+			generator.writeFieldName(NAME);
+			generator.writeString(country.getName());
+			generator.writeFieldName(FULL_NAME);
+			generator.writeString(country.getFullName());
+			generator.writeEndObject();
+		}
+
+		generator.writeFieldName(DISTRICT);
+		final GeoLocation.District district = location.getDistrict();
+		if(district == null){
+			generator.writeNull();
+		}else{
+			generator.writeStartObject();
+			generator.writeFieldName(NAME);
+			generator.writeString(district.getName());
+			generator.writeFieldName(FULL_NAME);
+			generator.writeString(district.getFullName());
+			generator.writeEndObject();
+		}
+
+		generator.writeEndObject();
+	}
+
+	protected void writeDate(final JsonGenerator generator, final Date date) throws IOException {
+		if(date == null){
+			generator.writeNull();
+		}else if(datesAsTimestamps){
+			generator.writeNumber(date.getTime());
+		}else{
+			objectMapper.writeValue(generator, date);
+		}
+	}
+
+	protected static void writeEnum(final JsonGenerator generator, final Enum<?> value) throws IOException {
+		if(value == null){
+			generator.writeNull();
+		}else{
+			generator.writeString(value.name());
+		}
+	}
+
+	private JsonGenerator createGenerator(final OutputStream outputStream) throws IOException {
+		final JsonGenerator generator = jsonFactory.createGenerator(outputStream);
+
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		return generator;
+	}
+
+	private void release(final ByteArrayBuilder buffer) {
+		if(buffer.size() > MAX_POOLED_BUFFER_SIZE){
+			buffers.remove();
+		}else{
+			buffer.reset();
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+import com.buession.logging.core.LogData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 日志数据编解码器，用于消息队列、HTTP 等需要以字节形式传输日志数据的场景；实现应线程安全
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public interface LogDataCodec {
+
+	/**
+	 * 返回编码结果的 MIME 类型
+	 *
+	 * @return MIME 类型
+	 */
+	String getContentType();
+
+	/**
+	 * 编码日志数据
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 编码结果
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	byte[] encode(final LogData logData) throws IOException;
+
+	/**
+	 * 编码日志数据列表
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @return 编码结果
+	 *
+	 * @throws IOException
+	 * 		编码异常
+	 */
+	byte[] encode(final List<LogData> logDataList) throws IOException;
+
+	/**
+	 * 编码日志数据并写入输出流，输出流不会被关闭
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param outputStream
+	 * 		输出流
+	 *
+	 * @throws IOException
+	 * 		编码或写入异常
+	 */
+	default void encode(final LogData logData, final OutputStream outputStream) throws IOException {
+		outputStream.write(encode(logData));
+	}
+
+	/**
+	 * 解码日志数据
+	 *
+	 * @param data
+	 * 		{@link #encode(LogData)} 的编码结果
+	 *
+	 * @return 日志数据
+	 *
+	 * @throws IOException
+	 * 		解码异常
+	 */
+	LogData decode(final byte[] data) throws IOException;
+
+	/**
+	 * 解码日志数据列表
+	 *
+	 * @param data
+	 * 		{@link #encode(List)} 的编码结果
+	 *
+	 * @return 日志数据列表
+	 *
+	 * @throws IOException
+	 * 		解码异常
+	 */
+	List<LogData> decodeList(final byte[] data) throws IOException;
+
+}
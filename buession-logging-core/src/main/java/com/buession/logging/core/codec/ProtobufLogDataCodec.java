@@ -0,0 +1,802 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.codec;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.BrowserType;
+import com.buession.lang.DeviceType;
+import com.buession.lang.Geo;
+import com.buession.lang.Status;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.GeoLocation;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.RequestMethod;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protocol Buffers 日志数据编解码器，格式见 {@code com/buession/logging/core/codec/log_data.proto}；
+ * 直接按 Protocol Buffers 编码规则读写，不依赖 protobuf-java 及生成代码，字段按编号写出，不携带字段名。
+ * 请求参数和扩展数据的值编码为 JSON 文本
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class ProtobufLogDataCodec implements LogDataCodec {
+
+	/**
+	 * MIME 类型
+	 */
+	public final static String CONTENT_TYPE = "application/x-protobuf";
+
+	private final static int WIRE_VARINT = 0;
+
+	private final static int WIRE_FIXED64 = 1;
+
+	private final static int WIRE_LENGTH_DELIMITED = 2;
+
+	private final static int WIRE_FIXED32 = 5;
+
+	private final static int INITIAL_BUFFER_SIZE = 512;
+
+	private final static int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * JSON 编码器，用于编解码请求参数、扩展数据的值
+	 */
+	private final JsonLogDataEncoder valueEncoder;
+
+	/**
+	 * 线程本地缓冲区
+	 */
+	private final ThreadLocal<Output> buffers = ThreadLocal.withInitial(()->new Output(INITIAL_BUFFER_SIZE));
+
+	/**
+	 * 构造函数
+	 */
+	public ProtobufLogDataCodec() {
+		this(JsonLogDataEncoder.DEFAULT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param valueEncoder
+	 * 		JSON 编码器，用于编解码请求参数、扩展数据的值
+	 */
+	public ProtobufLogDataCodec(final JsonLogDataEncoder valueEncoder) {
+		Assert.isNull(valueEncoder, "JsonLogDataEncoder cloud not be null.");
+		this.valueEncoder = valueEncoder;
+	}
+
+	@Override
+	public String getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public byte[] encode(final LogData logData) throws IOException {
+		final Output output = buffers.get();
+
+		try{
+			writeLogData(output, logData);
+			return output.toByteArray();
+		}finally{
+			release(output);
+		}
+	}
+
+	@Override
+	public byte[] encode(final List<LogData> logDataList) throws IOException {
+		final Output output = buffers.get();
+
+		try{
+			if(logDataList != null){
+				for(LogData logData : logDataList){
+					final int start = output.beginMessage(1);
+					writeLogData(output, logData);
+					output.endMessage(start);
+				}
+			}
+
+			return output.toByteArray();
+		}finally{
+			release(output);
+		}
+	}
+
+	@Override
+	public void encode(final LogData logData, final OutputStream outputStream) throws IOException {
+		final Output output = buffers.get();
+
+		try{
+			writeLogData(output, logData);
+			output.writeTo(outputStream);
+		}finally{
+			release(output);
+		}
+	}
+
+	@Override
+	public LogData decode(final byte[] data) throws IOException {
+		return data == null ? null : readLogData(new Input(data, 0, data.length));
+	}
+
+	@Override
+	public List<LogData> decodeList(final byte[] data) throws IOException {
+		if(data == null){
+			return null;
+		}
+
+		final Input input = new Input(data, 0, data.length);
+		final List<LogData> result = new ArrayList<>();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			if(tag >>> 3 == 1 && (tag & 0x07) == WIRE_LENGTH_DELIMITED){
+				result.add(readLogData(input.readMessage()));
+			}else{
+				input.skip(tag & 0x07);
+			}
+		}
+
+		return result;
+	}
+
+	protected void writeLogData(final Output output, final LogData logData) throws IOException {
+		if(logData == null){
+			return;
+		}
+
+		if(logData.getPrincipal() != null){
+			final Principal principal = logData.getPrincipal();
+			final int start = output.beginMessage(1);
+
+			output.writeString(1, principal.getId());
+			output.writeString(2, principal.getUserName());
+			output.writeString(3, principal.getRealName());
+			output.endMessage(start);
+		}
+
+		if(logData.getDateTime() != null){
+			output.writeInt64(2, logData.getDateTime().getTime());
+		}
+
+		output.writeString(3, logData.getBusinessType());
+		output.writeString(4, logData.getEvent());
+		output.writeString(5, logData.getDescription());
+		output.writeString(6, logData.getTraceId());
+		output.writeString(7, logData.getUrl());
+		output.writeEnum(8, logData.getRequestMethod());
+		writeMap(output, 9, logData.getRequestParameters());
+		output.writeString(10, logData.getRequestBody());
+		output.writeString(11, logData.getClientIp());
+		output.writeString(12, logData.getRemoteAddr());
+		output.writeString(13, logData.getUserAgent());
+
+		if(logData.getOperatingSystem() != null){
+			final OperatingSystem operatingSystem = logData.getOperatingSystem();
+			final int start = output.beginMessage(14);
+
+			output.writeString(1, operatingSystem.getName());
+			output.writeString(2, operatingSystem.getVersion());
+			output.endMessage(start);
+		}
+
+		output.writeEnum(15, logData.getDeviceType());
+
+		if(logData.getBrowser() != null){
+			final Browser browser = logData.getBrowser();
+			final int start = output.beginMessage(16);
+
+			output.writeString(1, browser.getName());
+			output.writeEnum(2, browser.getType());
+			output.writeString(3, browser.getVersion());
+			output.endMessage(start);
+		}
+
+		if(logData.getLocation() != null){
+			writeLocation(output, logData.getLocation());
+		}
+
+		output.writeEnum(18, logData.getStatus());
+		writeMap(output, 19, logData.getExtra());
+	}
+
+	protected void writeLocation(final Output output, final GeoLocation location) {
+		final int start = output.beginMessage(17);
+
+		if(location.getGeo() != null){
+			final int geoStart = output.beginMessage(1);
+
+			output.writeDouble(1, location.getGeo().getLongitude());
+			output.writeDouble(2, location.getGeo().getLatitude());
+			output.endMessage(geoStart);
+		}
+
+		if(location.getCountry() != null){
+			final GeoLocation.Country country = location.getCountry();
+			final int countryStart = output.beginMessage(2);
+
+			output.writeString(1, country.getCode());
+			output.writeString(2, country.getName());
+			output.writeString(3, country.getFullName());
+			output.endMessage(countryStart);
+		}
+
+		if(location.getDistrict() != null){
+			final GeoLocation.District district = location.getDistrict();
+			final int districtStart = output.beginMessage(3);
+
+			output.writeString(1, district.getName());
+			output.writeString(2, district.getFullName());
+			output.endMessage(districtStart);
+		}
+
+		output.endMessage(start);
+	}
+
+	protected void writeMap(final Output output, final int fieldNumber, final Map<String, Object> map)
+			throws IOException {
+		if(map == null){
+			return;
+		}
+
+		for(Map.Entry<String, Object> e : map.entrySet()){
+			final int start = output.beginMessage(fieldNumber);
+
+			output.writeString(1, e.getKey());
+			output.writeString(2, valueEncoder.encodeValueAsString(e.getValue()));
+			output.endMessage(start);
+		}
+	}
+
+	protected LogData readLogData(final Input input) throws IOException {
+		final LogData logData = new LogData();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					logData.setPrincipal(readPrincipal(input.readMessage()));
+					break;
+				case 2:
+					logData.setDateTime(new Date(input.readVarint()));
+					break;
+				case 3:
+					logData.setBusinessType(input.readString());
+					break;
+				case 4:
+					logData.setEvent(input.readString());
+					break;
+				case 5:
+					logData.setDescription(input.readString());
+					break;
+				case 6:
+					logData.setTraceId(input.readString());
+					break;
+				case 7:
+					logData.setUrl(input.readString());
+					break;
+				case 8:
+					logData.setRequestMethod(CodecSupport.enumValue(RequestMethod.class, input.readString()));
+					break;
+				case 9:
+					logData.setRequestParameters(readMapEntry(input.readMessage(), logData.getRequestParameters()));
+					break;
+				case 10:
+					logData.setRequestBody(input.readString());
+					break;
+				case 11:
+					logData.setClientIp(input.readString());
+					break;
+				case 12:
+					logData.setRemoteAddr(input.readString());
+					break;
+				case 13:
+					logData.setUserAgent(input.readString());
+					break;
+				case 14:
+					logData.setOperatingSystem(readOperatingSystem(input.readMessage()));
+					break;
+				case 15:
+					logData.setDeviceType(CodecSupport.enumValue(DeviceType.class, input.readString()));
+					break;
+				case 16:
+					logData.setBrowser(readBrowser(input.readMessage()));
+					break;
+				case 17:
+					logData.setLocation(readLocation(input.readMessage()));
+					break;
+				case 18:
+					logData.setStatus(CodecSupport.enumValue(Status.class, input.readString()));
+					break;
+				case 19:
+					logData.setExtra(readMapEntry(input.readMessage(), logData.getExtra()));
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return logData;
+	}
+
+	protected Principal readPrincipal(final Input input) throws IOException {
+		final Principal principal = new Principal();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					principal.setId(input.readString());
+					break;
+				case 2:
+					principal.setUserName(input.readString());
+					break;
+				case 3:
+					principal.setRealName(input.readString());
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return principal;
+	}
+
+	protected OperatingSystem readOperatingSystem(final Input input) throws IOException {
+		final OperatingSystem operatingSystem = new OperatingSystem();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					operatingSystem.setName(input.readString());
+					break;
+				case 2:
+					operatingSystem.setVersion(input.readString());
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return operatingSystem;
+	}
+
+	protected Browser readBrowser(final Input input) throws IOException {
+		final Browser browser = new Browser();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					browser.setName(input.readString());
+					break;
+				case 2:
+					browser.setType(CodecSupport.enumValue(BrowserType.class, input.readString()));
+					break;
+				case 3:
+					browser.setVersion(input.readString());
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return browser;
+	}
+
+	protected GeoLocation readLocation(final Input input) throws IOException {
+		final GeoLocation location = new GeoLocation();
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					location.setGeo(readGeo(input.readMessage()));
+					break;
+				case 2:
+					final Input countryInput = input.readMessage();
+					final GeoLocation.Country country = new GeoLocation.Country();
+
+					while(countryInput.hasRemaining()){
+						final int countryTag = countryInput.readTag();
+
+						switch(countryTag >>> 3){
+							case 1:
+								country.setCode(countryInput.readString());
+								break;
+							case 2:
+								country.setName(countryInput.readString());
+								break;
+							case 3:
+								country.setFullName(countryInput.readString());
+								break;
+							default:
+								countryInput.skip(countryTag & 0x07);
+								break;
+						}
+					}
+
+					location.setCountry(country);
+					break;
+				case 3:
+					final Input districtInput = input.readMessage();
+					final GeoLocation.District district = new GeoLocation.District();
+
+					while(districtInput.hasRemaining()){
+						final int districtTag = districtInput.readTag();
+
+						switch(districtTag >>> 3){
+							case 1:
+								district.setName(districtInput.readString());
+								break;
+							case 2:
+								district.setFullName(districtInput.readString());
+								break;
+							default:
+								districtInput.skip(districtTag & 0x07);
+								break;
+						}
+					}
+
+					location.setDistrict(district);
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return location;
+	}
+
+	protected Geo readGeo(final Input input) throws IOException {
+		double longitude = 0D;
+		double latitude = 0D;
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					longitude = input.readDouble();
+					break;
+				case 2:
+					latitude = input.readDouble();
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		return new Geo(longitude, latitude);
+	}
+
+	protected Map<String, Object> readMapEntry(final Input input, final Map<String, Object> map) throws IOException {
+		final Map<String, Object> result = map == null ? new LinkedHashMap<>() : map;
+		String key = null;
+		String value = null;
+
+		while(input.hasRemaining()){
+			final int tag = input.readTag();
+
+			switch(tag >>> 3){
+				case 1:
+					key = input.readString();
+					break;
+				case 2:
+					value = input.readString();
+					break;
+				default:
+					input.skip(tag & 0x07);
+					break;
+			}
+		}
+
+		result.put(key == null ? "" : key, value == null ? null :
+				valueEncoder.getObjectMapper().readValue(value, Object.class));
+		return result;
+	}
+
+	/**
+	 * 未知的枚举名称（如：由更新版本写入的枚举值）解码为 null，保证向前兼容
+	 */
+	private void release(final Output output) {
+		if(output.buffer.length > MAX_POOLED_BUFFER_SIZE){
+			buffers.remove();
+		}else{
+			output.size = 0;
+		}
+	}
+
+	/**
+	 * Protocol Buffers 编码输出
+	 */
+	protected final static class Output {
+
+		private byte[] buffer;
+
+		private int size;
+
+		Output(final int initialCapacity) {
+			this.buffer = new byte[initialCapacity];
+		}
+
+		void writeString(final int fieldNumber, final String value) {
+			if(value == null){
+				return;
+			}
+
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+			writeTag(fieldNumber, WIRE_LENGTH_DELIMITED);
+			writeVarint(bytes.length);
+			write(bytes, 0, bytes.length);
+		}
+
+		void writeEnum(final int fieldNumber, final Enum<?> value) {
+			if(value != null){
+				writeString(fieldNumber, value.name());
+			}
+		}
+
+		void writeInt64(final int fieldNumber, final long value) {
+			writeTag(fieldNumber, WIRE_VARINT);
+			writeVarint(value);
+		}
+
+		void writeDouble(final int fieldNumber, final double value) {
+			final long bits = Double.doubleToRawLongBits(value);
+
+			writeTag(fieldNumber, WIRE_FIXED64);
+			ensureCapacity(8);
+			for(int i = 0; i < 8; i++){
+				buffer[size++] = (byte) (bits >>> (i << 3));
+			}
+		}
+
+		/**
+		 * 开始写入嵌套消息，预留 1 字节长度，{@link #endMessage(int)} 时按实际长度回填
+		 *
+		 * @param fieldNumber
+		 * 		字段编号
+		 *
+		 * @return 消息体起始位置
+		 */
+		int beginMessage(final int fieldNumber) {
+			writeTag(fieldNumber, WIRE_LENGTH_DELIMITED);
+			ensureCapacity(1);
+			size++;
+			return size;
+		}
+
+		void endMessage(final int start) {
+			final int length = size - start;
+			final int lengthSize = varintSize(length);
+
+			if(lengthSize > 1){
+				ensureCapacity(lengthSize - 1);
+				System.arraycopy(buffer, start, buffer, start + lengthSize - 1, length);
+				size += lengthSize - 1;
+			}
+
+			int position = start - 1;
+			long value = length;
+			while((value & ~0x7FL) != 0){
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position] = (byte) value;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, size);
+		}
+
+		void writeTo(final OutputStream outputStream) throws IOException {
+			outputStream.write(buffer, 0, size);
+		}
+
+		private void writeTag(final int fieldNumber, final int wireType) {
+			writeVarint((fieldNumber << 3) | wireType);
+		}
+
+		private void writeVarint(long value) {
+			ensureCapacity(10);
+			while((value & ~0x7FL) != 0){
+				buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		private void write(final byte[] bytes, final int offset, final int length) {
+			ensureCapacity(length);
+			System.arraycopy(bytes, offset, buffer, size, length);
+			size += length;
+		}
+
+		private void ensureCapacity(final int length) {
+			if(size + length > buffer.length){
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+			}
+		}
+
+		private static int varintSize(final int value) {
+			int result = 1;
+			int v = value;
+
+			while((v & ~0x7F) != 0){
+				result++;
+				v >>>= 7;
+			}
+
+			return result;
+		}
+
+	}
+
+	/**
+	 * Protocol Buffers 解码输入
+	 */
+	protected final static class Input {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private final int limit;
+
+		Input(final byte[] buffer, final int offset, final int limit) {
+			this.buffer = buffer;
+			this.position = offset;
+			this.limit = limit;
+		}
+
+		boolean hasRemaining() {
+			return position < limit;
+		}
+
+		int readTag() throws IOException {
+			final long tag = readVarint();
+
+			if(tag <= 0 || tag > Integer.MAX_VALUE){
+				throw new IOException("Malformed protobuf data: invalid tag " + tag);
+			}
+
+			return (int) tag;
+		}
+
+		long readVarint() throws IOException {
+			long result = 0;
+
+			for(int shift = 0; shift < 64; shift += 7){
+				if(position >= limit){
+					throw new IOException("Malformed protobuf data: truncated varint");
+				}
+
+				final byte b = buffer[position++];
+				result |= (long) (b & 0x7F) << shift;
+				if((b & 0x80) == 0){
+					return result;
+				}
+			}
+
+			throw new IOException("Malformed protobuf data: varint too long");
+		}
+
+		String readString() throws IOException {
+			final int length = readLength();
+			final String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+
+			position += length;
+			return value;
+		}
+
+		double readDouble() throws IOException {
+			if(limit - position < 8){
+				throw new IOException("Malformed protobuf data: truncated fixed64");
+			}
+
+			long bits = 0;
+			for(int i = 0; i < 8; i++){
+				bits |= (buffer[position++] & 0xFFL) << (i << 3);
+			}
+
+			return Double.longBitsToDouble(bits);
+		}
+
+		Input readMessage() throws IOException {
+			final int length = readLength();
+			final Input input = new Input(buffer, position, position + length);
+
+			position += length;
+			return input;
+		}
+
+		void skip(final int wireType) throws IOException {
+			switch(wireType){
+				case WIRE_VARINT:
+					readVarint();
+					break;
+				case WIRE_FIXED64:
+					skipBytes(8);
+					break;
+				case WIRE_LENGTH_DELIMITED:
+					skipBytes(readLength());
+					break;
+				case WIRE_FIXED32:
+					skipBytes(4);
+					break;
+				default:
+					throw new IOException("Malformed protobuf data: unsupported wire type " + wireType);
+			}
+		}
+
+		private int readLength() throws IOException {
+			final long length = readVarint();
+
+			if(length < 0 || length > limit - position){
+				throw new IOException("Malformed protobuf data: invalid length " + length);
+			}
+
+			return (int) length;
+		}
+
+		private void skipBytes(final int length) throws IOException {
+			if(length > limit - position){
+				throw new IOException("Malformed protobuf data: truncated field");
+			}
+
+			position += length;
+		}
+
+	}
+
+}
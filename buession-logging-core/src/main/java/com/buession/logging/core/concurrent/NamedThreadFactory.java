@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.concurrent;
+
+import com.buession.core.utils.Assert;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按名称前缀命名线程的 {@link ThreadFactory}，日志框架创建的线程默认为守护线程
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+	private final String namePrefix;
+
+	private final boolean daemon;
+
+	private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param namePrefix
+	 * 		线程名称前缀
+	 */
+	public NamedThreadFactory(final String namePrefix) {
+		this(namePrefix, true);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param namePrefix
+	 * 		线程名称前缀
+	 * @param daemon
+	 * 		是否为守护线程
+	 */
+	public NamedThreadFactory(final String namePrefix, final boolean daemon) {
+		Assert.isBlank(namePrefix, "Thread name prefix cloud not be blank, empty or null.");
+		this.namePrefix = namePrefix;
+		this.daemon = daemon;
+	}
+
+	@Override
+	public Thread newThread(final Runnable r) {
+		final Thread thread = new Thread(r, namePrefix + '-' + threadNumber.getAndIncrement());
+
+		thread.setDaemon(daemon);
+		if(thread.getPriority() != Thread.NORM_PRIORITY){
+			thread.setPriority(Thread.NORM_PRIORITY);
+		}
+
+		return thread;
+	}
+
+}
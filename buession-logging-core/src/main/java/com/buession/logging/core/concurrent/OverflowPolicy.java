@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.concurrent;
+
+/**
+ * 队列已满时的溢出策略
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * 阻塞调用线程直至队列有空位或超时，超时后丢弃当前日志
+	 */
+	BLOCK,
+
+	/**
+	 * 丢弃当前日志
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * 丢弃队列中最早的日志，为当前日志腾出空位
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * 队列积压超过阈值后按比例采样，未被采样的日志直接丢弃；队列已满时丢弃当前日志
+	 */
+	SAMPLE
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.concurrent;
+
+import com.buession.core.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 有界、无锁、多生产者多消费者环形队列；槽位在创建时预分配，入队和出队只通过 CAS 竞争序号，不会产生额外的对象分配
+ *
+ * @param <E>
+ * 		元素类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class RingBuffer<E> {
+
+	/**
+	 * 自旋次数，超过后按等待策略让出 CPU
+	 */
+	private final static int SPIN_TRIES = 100;
+
+	/**
+	 * 让出 CPU 次数，超过后 {@link WaitStrategy#SLEEPING} 进入休眠
+	 */
+	private final static int YIELD_TRIES = 200;
+
+	/**
+	 * {@link WaitStrategy#SLEEPING} 每次休眠时长（纳秒）
+	 */
+	private final static long SLEEP_NANOS = 100_000L;
+
+	/**
+	 * 最大容量
+	 */
+	private final static int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final int capacity;
+
+	private final int mask;
+
+	private final Object[] buffer;
+
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong head = new AtomicLong();
+
+	private final AtomicLong tail = new AtomicLong();
+
+	private final WaitStrategy waitStrategy;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition notEmpty = lock.newCondition();
+
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	/**
+	 * 构造函数
+	 *
+	 * @param capacity
+	 * 		队列容量，会向上取整为 2 的幂
+	 * @param waitStrategy
+	 * 		消费者等待策略
+	 */
+	public RingBuffer(final int capacity, final WaitStrategy waitStrategy) {
+		Assert.isTrue(capacity <= 0, "Ring buffer capacity must be greater than 0.");
+		Assert.isNull(waitStrategy, "Wait strategy cloud not be null.");
+
+		this.capacity = ceilingPowerOfTwo(capacity);
+		this.mask = this.capacity - 1;
+		this.buffer = new Object[this.capacity];
+		this.sequences = new AtomicLongArray(this.capacity);
+		this.waitStrategy = waitStrategy;
+
+		for(int i = 0; i < this.capacity; i++){
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 返回队列容量
+	 *
+	 * @return 队列容量
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * 返回队列中待消费的元素数量
+	 *
+	 * @return 待消费的元素数量
+	 */
+	public int size() {
+		final long size = tail.get() - head.get();
+		return size < 0 ? 0 : (int) Math.min(size, capacity);
+	}
+
+	/**
+	 * 返回队列是否为空
+	 *
+	 * @return 队列为空返回 true；否则返回 false
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * 返回消费者等待策略
+	 *
+	 * @return 消费者等待策略
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * 元素入队，队列已满时立即返回
+	 *
+	 * @param e
+	 * 		元素
+	 *
+	 * @return 入队成功返回 true；队列已满返回 false
+	 */
+	public boolean offer(final E e) {
+		Assert.isNull(e, "Element cloud not be null.");
+
+		long position = tail.get();
+
+		for(;;){
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - position;
+
+			if(difference == 0){
+				if(tail.compareAndSet(position, position + 1)){
+					buffer[index] = e;
+					sequences.set(index, position + 1);
+					signalNotEmpty();
+					return true;
+				}
+				position = tail.get();
+			}else if(difference < 0){
+				return false;
+			}else{
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * 元素出队，队列为空时立即返回
+	 *
+	 * @return 队首元素，队列为空时返回 null
+	 */
+	@SuppressWarnings({"unchecked"})
+	public E poll() {
+		long position = head.get();
+
+		for(;;){
+			final int index = (int) (position & mask);
+			final long difference = sequences.get(index) - (position + 1);
+
+			if(difference == 0){
+				if(head.compareAndSet(position, position + 1)){
+					final E e = (E) buffer[index];
+
+					buffer[index] = null;
+					sequences.set(index, position + capacity);
+					return e;
+				}
+				position = head.get();
+			}else if(difference < 0){
+				return null;
+			}else{
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 * 按等待策略等待并取出元素
+	 *
+	 * @param timeout
+	 * 		最长等待时间
+	 * @param unit
+	 * 		时间单位
+	 *
+	 * @return 队首元素，超时返回 null
+	 *
+	 * @throws InterruptedException
+	 * 		等待过程中线程被中断
+	 */
+	public E poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		int counter = 0;
+		E e;
+
+		while((e = poll()) == null){
+			final long remaining = deadline - System.nanoTime();
+
+			if(remaining <= 0){
+				return null;
+			}
+
+			if(Thread.interrupted()){
+				throw new InterruptedException();
+			}
+
+			if(waitStrategy == WaitStrategy.BLOCKING){
+				e = awaitNotEmpty(remaining);
+				if(e != null){
+					return e;
+				}
+			}else{
+				idle(waitStrategy, counter++);
+			}
+		}
+
+		return e;
+	}
+
+	/**
+	 * 按等待策略让出一次 CPU，用于生产者或消费者的自旋等待
+	 *
+	 * @param waitStrategy
+	 * 		等待策略
+	 * @param counter
+	 * 		已等待次数
+	 */
+	public static void idle(final WaitStrategy waitStrategy, final int counter) {
+		if(waitStrategy == WaitStrategy.BUSY_SPIN || counter < SPIN_TRIES){
+			Thread.onSpinWait();
+		}else if(waitStrategy == WaitStrategy.YIELDING || counter < YIELD_TRIES){
+			Thread.yield();
+		}else{
+			LockSupport.parkNanos(SLEEP_NANOS);
+		}
+	}
+
+	private static int ceilingPowerOfTwo(final int value) {
+		if(value >= MAXIMUM_CAPACITY){
+			return MAXIMUM_CAPACITY;
+		}
+
+		return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+	}
+
+	private E awaitNotEmpty(final long nanos) throws InterruptedException {
+		waiters.incrementAndGet();
+		lock.lockInterruptibly();
+		try{
+			// 注册等待者之后再检查一次，避免错过生产者的唤醒
+			final E e = poll();
+
+			if(e == null){
+				notEmpty.awaitNanos(nanos);
+			}
+
+			return e;
+		}finally{
+			lock.unlock();
+			waiters.decrementAndGet();
+		}
+	}
+
+	private void signalNotEmpty() {
+		if(waiters.get() > 0){
+			lock.lock();
+			try{
+				notEmpty.signal();
+			}finally{
+				lock.unlock();
+			}
+		}
+	}
+
+}
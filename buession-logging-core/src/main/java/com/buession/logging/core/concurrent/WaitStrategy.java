@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.concurrent;
+
+/**
+ * 环形队列消费者等待策略
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum WaitStrategy {
+
+	/**
+	 * 阻塞等待，队列为空时消费者挂起，直到生产者唤醒；CPU 占用最低
+	 */
+	BLOCKING,
+
+	/**
+	 * 先自旋、再让出 CPU，最后短暂休眠；在延迟和 CPU 占用之间折中
+	 */
+	SLEEPING,
+
+	/**
+	 * 自旋后让出 CPU，延迟较低，空闲时仍有一定 CPU 占用
+	 */
+	YIELDING,
+
+	/**
+	 * 忙等待，延迟最低，空闲时独占一个 CPU 核心
+	 */
+	BUSY_SPIN
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.LogType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 日志补全上下文，携带日志数据以及在请求线程中采集的原始数据；
+ * 原始数据只在请求线程中写入，补全阶段只读
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class EnrichmentContext {
+
+	/**
+	 * 日志数据
+	 */
+	private final LogData logData;
+
+	/**
+	 * 日志类型
+	 */
+	private final LogType logType;
+
+	/**
+	 * 原始用户凭证
+	 */
+	private Object principal;
+
+	/**
+	 * 采集的原始数据
+	 */
+	private Map<String, Object> attributes;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param logData
+	 * 		日志数据
+	 */
+	public EnrichmentContext(final LogData logData) {
+		this(logData, LogType.LOG);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param logType
+	 * 		日志类型
+	 */
+	public EnrichmentContext(final LogData logData, final LogType logType) {
+		Assert.isNull(logData, "LogData cloud not be null.");
+		this.logData = logData;
+		this.logType = logType == null ? LogType.LOG : logType;
+	}
+
+	/**
+	 * 返回日志数据
+	 *
+	 * @return 日志数据
+	 */
+	public LogData getLogData() {
+		return logData;
+	}
+
+	/**
+	 * 返回日志类型
+	 *
+	 * @return 日志类型
+	 */
+	public LogType getLogType() {
+		return logType;
+	}
+
+	/**
+	 * 返回原始用户凭证
+	 *
+	 * @return 原始用户凭证
+	 */
+	public Object getPrincipal() {
+		return principal;
+	}
+
+	/**
+	 * 设置原始用户凭证
+	 *
+	 * @param principal
+	 * 		原始用户凭证
+	 */
+	public void setPrincipal(Object principal) {
+		this.principal = principal;
+	}
+
+	/**
+	 * 返回采集的原始数据
+	 *
+	 * @param name
+	 * 		名称
+	 * @param <T>
+	 * 		值类型
+	 *
+	 * @return 原始数据
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <T> T getAttribute(final String name) {
+		return attributes == null ? null : (T) attributes.get(name);
+	}
+
+	/**
+	 * 设置采集的原始数据
+	 *
+	 * @param name
+	 * 		名称
+	 * @param value
+	 * 		值
+	 */
+	public void setAttribute(final String name, final Object value) {
+		if(attributes == null){
+			attributes = new HashMap<>(4);
+		}
+
+		attributes.put(name, value);
+	}
+
+}
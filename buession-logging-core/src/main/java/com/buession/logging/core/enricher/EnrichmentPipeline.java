@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import com.buession.logging.core.metrics.LogMetrics;
+import com.buession.logging.core.request.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 日志补全管道，按 {@link LogEnricher#getOrder()} 分阶段顺序执行，同一阶段内的阻塞型补全器提交到线程池并行执行，
+ * 每个补全器单独计算超时，超时的补全器会被取消；
+ * 专用线程池的线程数和队列均有界，队列已满时跳过该补全器，挂起的远程查询不会无限堆积任务；
+ * 每个阶段结束后，在当前线程中按注册顺序应用各补全器返回的修改操作，超时、被拒绝或失败的补全器将被跳过
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class EnrichmentPipeline implements Closeable {
+
+	/**
+	 * 默认超时时间
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofMillis(500);
+
+	/**
+	 * 专用线程池每个线程对应的队列容量
+	 */
+	private final static int QUEUE_CAPACITY_PER_THREAD = 64;
+
+	/**
+	 * 各阶段的补全器
+	 */
+	private final List<List<LogEnricher>> stages;
+
+	/**
+	 * 全部补全器
+	 */
+	private final List<LogEnricher> enrichers;
+
+	/**
+	 * 默认超时时间
+	 */
+	private final Duration defaultTimeout;
+
+	/**
+	 * 执行补全器的线程池
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * 线程池是否由当前管道创建
+	 */
+	private final boolean sharedExecutor;
+
+	/**
+	 * 指标采集
+	 */
+	private final LogMetrics logMetrics;
+
+	private final static Logger logger = LoggerFactory.getLogger(EnrichmentPipeline.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param enrichers
+	 * 		补全器
+	 */
+	public EnrichmentPipeline(final Collection<? extends LogEnricher> enrichers) {
+		this(enrichers, DEFAULT_TIMEOUT, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param enrichers
+	 * 		补全器
+	 * @param defaultTimeout
+	 * 		默认超时时间，为 null 时不限制
+	 * @param executor
+	 * 		执行补全器的线程池，为 null 时创建有界的专用线程池，并在 {@link #close()} 时关闭
+	 */
+	public EnrichmentPipeline(final Collection<? extends LogEnricher> enrichers, final Duration defaultTimeout,
+							  final ExecutorService executor) {
+		this(enrichers, defaultTimeout, executor, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param enrichers
+	 * 		补全器
+	 * @param defaultTimeout
+	 * 		默认超时时间，为 null 时不限制
+	 * @param executor
+	 * 		执行补全器的线程池，为 null 时创建有界的专用线程池，并在 {@link #close()} 时关闭
+	 * @param logMetrics
+	 * 		指标采集，记录每个补全器的耗时
+	 */
+	public EnrichmentPipeline(final Collection<? extends LogEnricher> enrichers, final Duration defaultTimeout,
+							  final ExecutorService executor, final LogMetrics logMetrics) {
+		final Map<Integer, List<LogEnricher>> groups = new TreeMap<>();
+		final List<LogEnricher> all = new ArrayList<>();
+
+		if(enrichers != null){
+			for(LogEnricher enricher : enrichers){
+				if(enricher != null){
+					groups.computeIfAbsent(enricher.getOrder(), (k)->new ArrayList<>()).add(enricher);
+					all.add(enricher);
+				}
+			}
+		}
+
+		this.stages = new ArrayList<>(groups.values());
+		this.enrichers = Collections.unmodifiableList(all);
+		this.defaultTimeout = defaultTimeout;
+		this.logMetrics = logMetrics == null ? LogMetrics.NOOP : logMetrics;
+
+		int parallelism = 0;
+		for(List<LogEnricher> stage : stages){
+			int blocking = 0;
+
+			for(LogEnricher enricher : stage){
+				if(enricher.isBlocking()){
+					blocking++;
+				}
+			}
+
+			parallelism = Math.max(parallelism, blocking);
+		}
+
+		if(executor != null){
+			this.executor = executor;
+			this.sharedExecutor = true;
+		}else if(parallelism > 0){
+			final int threads = Math.max(parallelism, 2);
+
+			this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(threads * QUEUE_CAPACITY_PER_THREAD),
+					new NamedThreadFactory("buession-logging-enricher", true), new ThreadPoolExecutor.AbortPolicy());
+			this.sharedExecutor = false;
+		}else{
+			this.executor = null;
+			this.sharedExecutor = false;
+		}
+	}
+
+	/**
+	 * 返回全部补全器
+	 *
+	 * @return 全部补全器
+	 */
+	public List<LogEnricher> getEnrichers() {
+		return enrichers;
+	}
+
+	/**
+	 * 返回默认超时时间
+	 *
+	 * @return 默认超时时间
+	 */
+	public Duration getDefaultTimeout() {
+		return defaultTimeout;
+	}
+
+	/**
+	 * 判断管道中是否不存在补全器
+	 *
+	 * @return 不存在补全器返回 true；否则返回 false
+	 */
+	public boolean isEmpty() {
+		return enrichers.isEmpty();
+	}
+
+	/**
+	 * 在请求线程中执行各补全器的原始数据采集
+	 *
+	 * @param context
+	 * 		补全上下文
+	 * @param request
+	 * 		请求对象
+	 */
+	public void capture(final EnrichmentContext context, final Request request) {
+		for(LogEnricher enricher : enrichers){
+			try{
+				enricher.capture(context, request);
+			}catch(Exception e){
+				if(logger.isWarnEnabled()){
+					logger.warn("Enricher '{}' capture failure: {}", enricher.getName(), e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 执行补全
+	 *
+	 * @param context
+	 * 		补全上下文
+	 */
+	public void enrich(final EnrichmentContext context) {
+		for(List<LogEnricher> stage : stages){
+			if(stage.size() == 1 && (isAsync(stage.get(0)) == false || timeout(stage.get(0)) == null)){
+				final LogEnricher enricher = stage.get(0);
+
+				try{
+					apply(context.getLogData(), enricher, invoke(enricher, context));
+				}catch(Exception e){
+					if(logger.isWarnEnabled()){
+						logger.warn("Enricher '{}' failure: {}", enricher.getName(),
+								e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+					}
+				}
+			}else{
+				enrich(context, stage);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		if(executor != null && sharedExecutor == false){
+			executor.shutdown();
+		}
+	}
+
+	protected void enrich(final EnrichmentContext context, final List<LogEnricher> stage) {
+		final List<Future<Consumer<LogData>>> futures = new ArrayList<>(stage.size());
+		final long start = System.nanoTime();
+
+		for(LogEnricher enricher : stage){
+			Future<Consumer<LogData>> future = null;
+
+			if(isAsync(enricher)){
+				try{
+					future = executor.submit(()->invoke(enricher, context));
+				}catch(RejectedExecutionException e){
+					future = CompletableFuture.failedFuture(e);
+				}
+			}
+
+			futures.add(future);
+		}
+
+		// 阻塞型补全器已提交，非阻塞型补全器在当前线程中与之并行执行
+		for(int i = 0; i < stage.size(); i++){
+			if(futures.get(i) == null){
+				Future<Consumer<LogData>> future;
+
+				try{
+					future = CompletableFuture.completedFuture(invoke(stage.get(i), context));
+				}catch(Exception e){
+					future = CompletableFuture.failedFuture(e);
+				}
+
+				futures.set(i, future);
+			}
+		}
+
+		for(int i = 0; i < stage.size(); i++){
+			final LogEnricher enricher = stage.get(i);
+			final Future<Consumer<LogData>> future = futures.get(i);
+
+			try{
+				apply(context.getLogData(), enricher, await(enricher, future, start));
+			}catch(TimeoutException e){
+				future.cancel(true);
+				if(logger.isWarnEnabled()){
+					logger.warn("Enricher '{}' timed out after {}, cancelled.", enricher.getName(), timeout(enricher));
+				}
+			}catch(ExecutionException e){
+				final Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null ?
+						e.getCause().getCause() : e.getCause();
+
+				if(cause instanceof RejectedExecutionException){
+					if(logger.isWarnEnabled()){
+						logger.warn("Enricher '{}' rejected, executor is saturated, skipped.", enricher.getName());
+					}
+				}else if(logger.isWarnEnabled()){
+					logger.warn("Enricher '{}' failure: {}", enricher.getName(),
+							cause == null ? e.getMessage() : cause.getMessage());
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+
+				for(int j = i; j < futures.size(); j++){
+					futures.get(j).cancel(true);
+				}
+
+				return;
+			}
+		}
+	}
+
+	private boolean isAsync(final LogEnricher enricher) {
+		return enricher.isBlocking() && executor != null;
+	}
+
+	private Duration timeout(final LogEnricher enricher) {
+		final Duration timeout = enricher.getTimeout();
+		return timeout == null ? defaultTimeout : timeout;
+	}
+
+	private Consumer<LogData> await(final LogEnricher enricher, final Future<Consumer<LogData>> future,
+								   final long start) throws InterruptedException, ExecutionException,
+			TimeoutException {
+		final Duration timeout = timeout(enricher);
+
+		if(timeout == null || future.isDone()){
+			return future.get();
+		}
+
+		return future.get(Math.max(0L, start + timeout.toNanos() - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
+	private Consumer<LogData> invoke(final LogEnricher enricher, final EnrichmentContext context) {
+		final long start = System.nanoTime();
+		boolean success = false;
+
+		try{
+			final Consumer<LogData> action = enricher.enrich(context);
+
+			success = true;
+			return action;
+		}catch(RuntimeException e){
+			throw e;
+		}catch(Exception e){
+			throw new CompletionException(e);
+		}finally{
+			logMetrics.recordEnrichment(enricher.getName(), success, System.nanoTime() - start);
+		}
+	}
+
+	private static void apply(final LogData logData, final LogEnricher enricher, final Consumer<LogData> action) {
+		if(action == null){
+			return;
+		}
+
+		try{
+			action.accept(logData);
+		}catch(Exception e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Apply enricher '{}' result failure: {}", enricher.getName(), e.getMessage());
+			}
+		}
+	}
+
+}
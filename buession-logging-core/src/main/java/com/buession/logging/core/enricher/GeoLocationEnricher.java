@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.GeoLocation;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.geo.GeoLocationResolver;
+
+import java.util.function.Consumer;
+
+/**
+ * 地理位置补全器，根据客户端 IP 解析地理位置
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class GeoLocationEnricher implements LogEnricher {
+
+	/**
+	 * 地理位置解析器
+	 */
+	private final GeoLocationResolver geoLocationResolver;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param geoLocationResolver
+	 * 		地理位置解析器
+	 */
+	public GeoLocationEnricher(final GeoLocationResolver geoLocationResolver) {
+		Assert.isNull(geoLocationResolver, "GeoLocationResolver cloud not be null.");
+		this.geoLocationResolver = geoLocationResolver;
+	}
+
+	/**
+	 * 返回地理位置解析器
+	 *
+	 * @return 地理位置解析器
+	 */
+	public GeoLocationResolver getGeoLocationResolver() {
+		return geoLocationResolver;
+	}
+
+	@Override
+	public Consumer<LogData> enrich(final EnrichmentContext context) throws Exception {
+		final GeoLocation geoLocation = geoLocationResolver.resolve(context.getLogData().getClientIp());
+		return geoLocation == null ? null : (logData)->logData.setLocation(geoLocation);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.request.Request;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * 日志数据补全器；
+ * {@link #capture(EnrichmentContext, Request)} 在请求线程中执行，只应从请求、线程上下文中复制原始数据；
+ * {@link #enrich(EnrichmentContext)} 在补全线程中执行，相同 {@link #getOrder()} 的补全器会并行执行，
+ * 因此不应直接修改日志数据，而是返回一个修改操作，由管道在该阶段结束后按顺序应用；
+ * 超时或失败的补全器的修改操作会被丢弃，日志数据将缺少对应字段，但不会阻塞后续处理
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public interface LogEnricher {
+
+	/**
+	 * 默认顺序
+	 */
+	int DEFAULT_ORDER = 0;
+
+	/**
+	 * 在请求线程中采集补全所需的原始数据，并存入上下文
+	 *
+	 * @param context
+	 * 		补全上下文
+	 * @param request
+	 * 		请求对象
+	 */
+	default void capture(final EnrichmentContext context, final Request request) {
+	}
+
+	/**
+	 * 根据上下文计算补全结果
+	 *
+	 * @param context
+	 * 		补全上下文
+	 *
+	 * @return 对日志数据的修改操作，返回 null 表示无需修改
+	 *
+	 * @throws Exception
+	 * 		补全异常
+	 */
+	Consumer<LogData> enrich(final EnrichmentContext context) throws Exception;
+
+	/**
+	 * 返回执行顺序，值越小越先执行，相同值的补全器并行执行
+	 *
+	 * @return 执行顺序
+	 */
+	default int getOrder() {
+		return DEFAULT_ORDER;
+	}
+
+	/**
+	 * 返回是否可能阻塞（如：远程调用、IO）；
+	 * 非阻塞的补全器直接在补全线程中执行，不切换线程，也不受超时控制
+	 *
+	 * @return 可能阻塞返回 true；否则返回 false
+	 */
+	default boolean isBlocking() {
+		return true;
+	}
+
+	/**
+	 * 返回超时时间，返回 null 时使用管道的默认超时时间
+	 *
+	 * @return 超时时间
+	 */
+	default Duration getTimeout() {
+		return null;
+	}
+
+	/**
+	 * 返回补全器名称
+	 *
+	 * @return 补全器名称
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.handler.PrincipalHandler;
+import com.buession.logging.core.request.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.Consumer;
+
+/**
+ * 用户凭证补全器，在请求线程中采集原始用户凭证，再通过 {@link PrincipalHandler} 转换为 {@link Principal}；
+ * 日志数据中已存在用户凭证时不覆盖；原始用户凭证不是 {@link PrincipalHandler} 所需类型时跳过
+ *
+ * @param <T>
+ * 		原始用户凭证类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class PrincipalEnricher<T> implements LogEnricher {
+
+	/**
+	 * 用户凭证处理器
+	 */
+	private final PrincipalHandler<T> principalHandler;
+
+	/**
+	 * 原始用户凭证类型
+	 */
+	private final Class<?> principalType;
+
+	private final static Logger logger = LoggerFactory.getLogger(PrincipalEnricher.class);
+
+	/**
+	 * 构造函数，原始用户凭证类型从用户凭证处理器的泛型参数中解析，无法解析时不做类型检查
+	 *
+	 * @param principalHandler
+	 * 		用户凭证处理器
+	 */
+	public PrincipalEnricher(final PrincipalHandler<T> principalHandler) {
+		this(principalHandler, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param principalHandler
+	 * 		用户凭证处理器
+	 * @param principalType
+	 * 		原始用户凭证类型，为 null 时从用户凭证处理器的泛型参数中解析
+	 */
+	public PrincipalEnricher(final PrincipalHandler<T> principalHandler, final Class<T> principalType) {
+		Assert.isNull(principalHandler, "PrincipalHandler cloud not be null.");
+		this.principalHandler = principalHandler;
+		this.principalType = principalType == null ? resolvePrincipalType(principalHandler.getClass()) :
+				principalType;
+	}
+
+	/**
+	 * 返回用户凭证处理器
+	 *
+	 * @return 用户凭证处理器
+	 */
+	public PrincipalHandler<T> getPrincipalHandler() {
+		return principalHandler;
+	}
+
+	/**
+	 * 返回原始用户凭证类型
+	 *
+	 * @return 原始用户凭证类型
+	 */
+	public Class<?> getPrincipalType() {
+		return principalType;
+	}
+
+	@Override
+	public void capture(final EnrichmentContext context, final Request request) {
+		if(context.getLogData().getPrincipal() == null && request != null){
+			context.setPrincipal(request.getUserPrincipal());
+		}
+	}
+
+	@Override
+	@SuppressWarnings({"unchecked"})
+	public Consumer<LogData> enrich(final EnrichmentContext context) throws Exception {
+		if(context.getPrincipal() == null){
+			return null;
+		}
+
+		if(principalType.isInstance(context.getPrincipal()) == false){
+			if(logger.isDebugEnabled()){
+				logger.debug("Principal type {} is not supported by {}, skipped.",
+						context.getPrincipal().getClass().getName(), principalHandler.getClass().getName());
+			}
+
+			return null;
+		}
+
+		final Principal principal = principalHandler.handle((T) context.getPrincipal());
+
+		return principal == null ? null : (logData)->{
+			if(logData.getPrincipal() == null){
+				logData.setPrincipal(principal);
+			}
+		};
+	}
+
+	private static Class<?> resolvePrincipalType(final Class<?> clazz) {
+		for(Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()){
+			for(Type type : c.getGenericInterfaces()){
+				if(type instanceof ParameterizedType &&
+						((ParameterizedType) type).getRawType() == PrincipalHandler.class){
+					final Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+
+					if(argument instanceof Class){
+						return (Class<?>) argument;
+					}else if(argument instanceof ParameterizedType &&
+							((ParameterizedType) argument).getRawType() instanceof Class){
+						return (Class<?>) ((ParameterizedType) argument).getRawType();
+					}else{
+						return Object.class;
+					}
+				}
+			}
+		}
+
+		return Object.class;
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.logging.core.LogData;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 标签补全器，将固定的标签（如：应用名称、环境、实例）写入日志附加参数，已存在的同名附加参数不覆盖
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class TagsEnricher implements LogEnricher {
+
+	/**
+	 * 标签
+	 */
+	private final Map<String, Object> tags;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param tags
+	 * 		标签
+	 */
+	public TagsEnricher(final Map<String, ?> tags) {
+		this.tags = tags == null ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+	}
+
+	/**
+	 * 返回标签
+	 *
+	 * @return 标签
+	 */
+	public Map<String, Object> getTags() {
+		return tags;
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
+	@Override
+	public Consumer<LogData> enrich(final EnrichmentContext context) {
+		return tags.isEmpty() ? null : (logData)->{
+			Map<String, Object> extra = logData.getExtra();
+
+			if(extra == null){
+				extra = new HashMap<>(tags.size());
+				logData.setExtra(extra);
+			}
+
+			for(Map.Entry<String, Object> e : tags.entrySet()){
+				extra.putIfAbsent(e.getKey(), e.getValue());
+			}
+		};
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.core.validator.Validate;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.request.Request;
+import org.slf4j.MDC;
+
+import java.util.function.Consumer;
+
+/**
+ * 链路追踪 ID 补全器，在请求线程中依次从 {@link MDC}、请求头中读取追踪 ID；
+ * 日志数据中已存在追踪 ID 时不覆盖
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class TraceIdEnricher implements LogEnricher {
+
+	/**
+	 * 默认 MDC 键名
+	 */
+	public final static String DEFAULT_MDC_KEY = "traceId";
+
+	/**
+	 * 默认请求头名称
+	 */
+	public final static String DEFAULT_HEADER_NAME = "X-Trace-Id";
+
+	private final static String ATTRIBUTE_NAME = TraceIdEnricher.class.getName() + ".TRACE_ID";
+
+	/**
+	 * MDC 键名
+	 */
+	private final String mdcKey;
+
+	/**
+	 * 请求头名称
+	 */
+	private final String headerName;
+
+	/**
+	 * 构造函数
+	 */
+	public TraceIdEnricher() {
+		this(DEFAULT_MDC_KEY, DEFAULT_HEADER_NAME);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param mdcKey
+	 * 		MDC 键名，为 null 时不从 MDC 读取
+	 * @param headerName
+	 * 		请求头名称，为 null 时不从请求头读取
+	 */
+	public TraceIdEnricher(final String mdcKey, final String headerName) {
+		this.mdcKey = mdcKey;
+		this.headerName = headerName;
+	}
+
+	/**
+	 * 返回 MDC 键名
+	 *
+	 * @return MDC 键名
+	 */
+	public String getMdcKey() {
+		return mdcKey;
+	}
+
+	/**
+	 * 返回请求头名称
+	 *
+	 * @return 请求头名称
+	 */
+	public String getHeaderName() {
+		return headerName;
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
+	@Override
+	public void capture(final EnrichmentContext context, final Request request) {
+		if(context.getLogData().getTraceId() != null){
+			return;
+		}
+
+		String traceId = mdcKey == null ? null : MDC.get(mdcKey);
+
+		if(Validate.isBlank(traceId) && headerName != null && request != null){
+			traceId = request.getHeader(headerName);
+		}
+
+		if(Validate.hasText(traceId)){
+			context.setAttribute(ATTRIBUTE_NAME, traceId);
+		}
+	}
+
+	@Override
+	public Consumer<LogData> enrich(final EnrichmentContext context) {
+		final String traceId = context.getAttribute(ATTRIBUTE_NAME);
+
+		return traceId == null ? null : (logData)->{
+			if(logData.getTraceId() == null){
+				logData.setTraceId(traceId);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.enricher;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.useragent.UserAgentDetails;
+import com.buession.logging.core.useragent.UserAgentParser;
+
+import java.util.function.Consumer;
+
+/**
+ * User-Agent 补全器，根据 User-Agent 解析操作系统、设备类型和浏览器
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class UserAgentEnricher implements LogEnricher {
+
+	/**
+	 * User-Agent 解析器
+	 */
+	private final UserAgentParser userAgentParser;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param userAgentParser
+	 * 		User-Agent 解析器
+	 */
+	public UserAgentEnricher(final UserAgentParser userAgentParser) {
+		Assert.isNull(userAgentParser, "UserAgentParser cloud not be null.");
+		this.userAgentParser = userAgentParser;
+	}
+
+	/**
+	 * 返回 User-Agent 解析器
+	 *
+	 * @return User-Agent 解析器
+	 */
+	public UserAgentParser getUserAgentParser() {
+		return userAgentParser;
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return false;
+	}
+
+	@Override
+	public Consumer<LogData> enrich(final EnrichmentContext context) throws Exception {
+		final UserAgentDetails userAgentDetails = userAgentParser.parse(context.getLogData().getUserAgent());
+
+		return (logData)->{
+			logData.setOperatingSystem(userAgentDetails.getOperatingSystem());
+			logData.setDeviceType(userAgentDetails.getDeviceType());
+			logData.setBrowser(userAgentDetails.getBrowser());
+		};
+	}
+
+}
@@ -26,20 +26,49 @@ package com.buession.logging.core.formatter;
 
 import com.buession.core.utils.Assert;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Date;
 
 /**
  * 对日期时间对象 {@link Date} 格式化为与数据库相匹配的值
  *
+ * <p>模式为 {@code T} 时格式化为毫秒时间戳，为 {@code t} 时格式化为秒时间戳，其它值作为 {@link java.time.format.DateTimeFormatter}
+ * 模式。模式中不含秒以下字段，或秒以下字段仅为末尾的 {@code S} 时，每个线程缓存最近一秒的格式化结果，同一秒内只追加毫秒部分。</p>
+ *
  * @author Yong.Teng
  * @since 0.0.1
  */
 public class DateTimeFormatter implements Formatter<Date, Object> {
 
+	/**
+	 * 毫秒时间戳模式
+	 */
+	private final static String TIMESTAMP_MILLIS = "T";
+
+	/**
+	 * 秒时间戳模式
+	 */
+	private final static String TIMESTAMP_SECONDS = "t";
+
 	private final String format;
 
-	private java.time.format.DateTimeFormatter formatter;
+	private final java.time.format.DateTimeFormatter formatter;
+
+	/**
+	 * 秒级前缀格式化，为 null 时不缓存
+	 */
+	private final java.time.format.DateTimeFormatter secondsFormatter;
+
+	/**
+	 * 模式末尾 {@code S} 的个数
+	 */
+	private final int fractionDigits;
+
+	/**
+	 * 线程本地的秒级前缀缓存
+	 */
+	private final ThreadLocal<SecondsCache> secondsCache = ThreadLocal.withInitial(SecondsCache::new);
 
 	public DateTimeFormatter() {
 		this("yyyy-MM-dd HH:mm:ss");
@@ -48,6 +77,31 @@ public class DateTimeFormatter implements Formatter<Date, Object> {
 	public DateTimeFormatter(final String format) {
 		Assert.isNull(format, "Date time format is null.");
 		this.format = format;
+
+		if(TIMESTAMP_MILLIS.equals(format) || TIMESTAMP_SECONDS.equals(format)){
+			this.formatter = null;
+			this.secondsFormatter = null;
+			this.fractionDigits = 0;
+		}else{
+			final ZoneId zoneId = ZoneId.systemDefault();
+			final int prefixLength = cacheablePrefixLength(format);
+
+			this.formatter = java.time.format.DateTimeFormatter.ofPattern(format).withZone(zoneId);
+			this.secondsFormatter = prefixLength < 0 ? null : prefixLength == format.length() ? formatter :
+					java.time.format.DateTimeFormatter.ofPattern(format.substring(0, prefixLength)).withZone(zoneId);
+			this.fractionDigits = prefixLength < 0 ? 0 : format.length() - prefixLength;
+		}
+	}
+
+	/**
+	 * 返回日期时间格式
+	 *
+	 * @return 日期时间格式
+	 *
+	 * @since 2.1.0
+	 */
+	public String getFormat() {
+		return format;
 	}
 
 	@Override
@@ -56,22 +110,132 @@ public class DateTimeFormatter implements Formatter<Date, Object> {
 			return null;
 		}
 
-		if("T".equals(format)){
+		if(TIMESTAMP_MILLIS.equals(format)){
 			return date.getTime();
-		}else if("t".equals(format)){
+		}else if(TIMESTAMP_SECONDS.equals(format)){
 			return date.getTime() / 1000L;
 		}
 
-		return getDateTimeFormatter().format(date.toInstant());
+		if(secondsFormatter == null){
+			return formatter.format(date.toInstant());
+		}else if(fractionDigits == 0){
+			return seconds(Math.floorDiv(date.getTime(), 1000L));
+		}else{
+			final StringBuilder sb = new StringBuilder(format.length() + 8);
+
+			formatTo(date, sb);
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * 格式化日期时间并追加到调用方提供的 {@link StringBuilder}，结果与 {@link #format(Date)} 相同；
+	 * date 为 null 时不追加任何内容
+	 *
+	 * @param date
+	 * 		日期时间
+	 * @param sb
+	 *        {@link StringBuilder}
+	 *
+	 * @since 2.1.0
+	 */
+	public void formatTo(final Date date, final StringBuilder sb) {
+		if(date == null){
+			return;
+		}
+
+		final long time = date.getTime();
+
+		if(TIMESTAMP_MILLIS.equals(format)){
+			sb.append(time);
+		}else if(TIMESTAMP_SECONDS.equals(format)){
+			sb.append(time / 1000L);
+		}else if(secondsFormatter == null){
+			formatter.formatTo(date.toInstant(), sb);
+		}else{
+			sb.append(seconds(Math.floorDiv(time, 1000L)));
+			appendFraction(sb, (int) Math.floorMod(time, 1000L));
+		}
+	}
+
+	private String seconds(final long epochSecond) {
+		final SecondsCache cache = secondsCache.get();
+
+		if(cache.value == null || cache.epochSecond != epochSecond){
+			cache.value = secondsFormatter.format(Instant.ofEpochSecond(epochSecond));
+			cache.epochSecond = epochSecond;
+		}
+
+		return cache.value;
 	}
 
-	private java.time.format.DateTimeFormatter getDateTimeFormatter() {
-		if(formatter == null){
-			formatter = java.time.format.DateTimeFormatter.ofPattern(format)
-					.withZone(ZoneId.systemDefault());
+	private void appendFraction(final StringBuilder sb, final int millis) {
+		if(fractionDigits == 0){
+			return;
+		}
+
+		// 与 java.time 的 S 语义一致：截断到指定位数，不足位数时前补 0
+		int value = millis;
+		for(int i = fractionDigits; i < 3; i++){
+			value /= 10;
 		}
 
-		return formatter;
+		if(fractionDigits >= 2 && value < 10){
+			sb.append('0');
+		}
+		if(fractionDigits == 3 && value < 100){
+			sb.append('0');
+		}
+		sb.append(value);
+	}
+
+	/**
+	 * 计算可按秒缓存的模式前缀长度：模式中不含秒以下字段时返回模式长度；秒以下字段仅为末尾连续的不超过 3 个 {@code S}
+	 * 时返回其前缀长度；否则返回 -1
+	 *
+	 * @param pattern
+	 * 		日期时间模式
+	 *
+	 * @return 可按秒缓存的模式前缀长度
+	 */
+	private static int cacheablePrefixLength(final String pattern) {
+		boolean quoted = false;
+		int fractionStart = -1;
+
+		for(int i = 0; i < pattern.length(); i++){
+			final char c = pattern.charAt(i);
+
+			if(c == '\''){
+				if(fractionStart >= 0){
+					return -1;
+				}
+				quoted = !quoted;
+			}else if(quoted){
+				continue;
+			}else if(c == 'S'){
+				if(fractionStart < 0){
+					fractionStart = i;
+				}
+			}else if(fractionStart >= 0 || c == 'n' || c == 'N' || c == 'A' || c == '[' || c == ']'){
+				// S 后面还有其它内容，或包含纳秒、当日毫秒等字段和可选段
+				return -1;
+			}
+		}
+
+		if(fractionStart < 0){
+			return pattern.length();
+		}
+
+		// Date 只有毫秒精度，超过 3 位的秒以下字段（如 java.sql.Timestamp 的纳秒）交给 java.time 处理
+		return pattern.length() - fractionStart > 3 ? -1 : fractionStart;
+	}
+
+	private final static class SecondsCache {
+
+		private long epochSecond;
+
+		private String value;
+
 	}
 
 }
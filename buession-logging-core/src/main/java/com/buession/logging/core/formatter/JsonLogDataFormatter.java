@@ -24,9 +24,12 @@
  */
 package com.buession.logging.core.formatter;
 
+import com.buession.core.utils.Assert;
 import com.buession.logging.core.LogData;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.buession.logging.core.codec.JsonLogDataEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * 默认日志格式化
@@ -34,16 +37,60 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class JsonLogDataFormatter implements LogDataFormatter<String> {
+public class JsonLogDataFormatter implements StreamingLogDataFormatter {
+
+	/**
+	 * JSON 编码器
+	 *
+	 * @since 2.1.0
+	 */
+	private final JsonLogDataEncoder encoder;
+
+	/**
+	 * 构造函数
+	 *
+	 * @since 2.1.0
+	 */
+	public JsonLogDataFormatter() {
+		this(JsonLogDataEncoder.DEFAULT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param encoder
+	 * 		JSON 编码器
+	 *
+	 * @since 2.1.0
+	 */
+	public JsonLogDataFormatter(final JsonLogDataEncoder encoder) {
+		Assert.isNull(encoder, "JsonLogDataEncoder cloud not be null.");
+		this.encoder = encoder;
+	}
+
+	/**
+	 * 返回 JSON 编码器
+	 *
+	 * @return JSON 编码器
+	 *
+	 * @since 2.1.0
+	 */
+	public JsonLogDataEncoder getEncoder() {
+		return encoder;
+	}
 
 	@Override
 	public String format(final LogData logData) {
-		ObjectMapper objectMapper = new ObjectMapper();
 		try{
-			return objectMapper.writeValueAsString(logData);
-		}catch(JsonProcessingException e){
+			return encoder.encodeAsString(logData);
+		}catch(IOException e){
 			return null;
 		}
 	}
 
+	@Override
+	public void format(final LogData logData, final OutputStream outputStream) throws IOException {
+		encoder.encode(logData, outputStream);
+	}
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.formatter;
+
+import com.buession.logging.core.LogData;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 可直接写入输出流的日志数据格式化，避免先生成中间字符串
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public interface StreamingLogDataFormatter extends LogDataFormatter<String> {
+
+	/**
+	 * 将日志数据格式化后写入输出流，输出流不会被关闭
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param outputStream
+	 * 		输出流
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 */
+	void format(final LogData logData, final OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.geo;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.GeoLocation;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.net.InetAddresses;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 带缓存的地理位置解析器，以客户端 IP 为键，支持过期时间和最大条目数淘汰，线程安全；
+ * 可将 IP 按前缀长度归并（如：IPv4 /24、IPv6 /48），同一网段内的 IP 共享一条缓存，
+ * 此时同一网段内的 IP 将得到相同的地理位置。
+ * 解析结果为空时同样会被缓存，相同键返回同一个 {@link GeoLocation} 实例，使用方不应修改
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class CachingGeoLocationResolver implements GeoLocationResolver {
+
+	/**
+	 * 默认最大缓存条目数
+	 */
+	public final static long DEFAULT_MAXIMUM_SIZE = 10000;
+
+	/**
+	 * 默认缓存过期时间
+	 */
+	public final static Duration DEFAULT_TTL = Duration.ofHours(1);
+
+	/**
+	 * IPv4 最大前缀长度，即不归并
+	 */
+	public final static int IPV4_MAX_PREFIX_LENGTH = 32;
+
+	/**
+	 * IPv6 最大前缀长度，即不归并
+	 */
+	public final static int IPV6_MAX_PREFIX_LENGTH = 128;
+
+	/**
+	 * 实际执行解析的地理位置解析器
+	 */
+	private final GeoLocationResolver delegate;
+
+	/**
+	 * 最大缓存条目数
+	 */
+	private final long maximumSize;
+
+	/**
+	 * 缓存过期时间
+	 */
+	private final Duration ttl;
+
+	/**
+	 * IPv4 前缀长度
+	 */
+	private final int ipv4PrefixLength;
+
+	/**
+	 * IPv6 前缀长度
+	 */
+	private final int ipv6PrefixLength;
+
+	private final Cache<String, Optional<GeoLocation>> cache;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		实际执行解析的地理位置解析器
+	 */
+	public CachingGeoLocationResolver(final GeoLocationResolver delegate) {
+		this(delegate, DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		实际执行解析的地理位置解析器
+	 * @param maximumSize
+	 * 		最大缓存条目数
+	 * @param ttl
+	 * 		缓存过期时间
+	 */
+	public CachingGeoLocationResolver(final GeoLocationResolver delegate, final long maximumSize,
+									  final Duration ttl) {
+		this(delegate, maximumSize, ttl, IPV4_MAX_PREFIX_LENGTH, IPV6_MAX_PREFIX_LENGTH);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		实际执行解析的地理位置解析器
+	 * @param maximumSize
+	 * 		最大缓存条目数
+	 * @param ttl
+	 * 		缓存过期时间
+	 * @param ipv4PrefixLength
+	 * 		IPv4 前缀长度，取值范围 0 ~ 32
+	 * @param ipv6PrefixLength
+	 * 		IPv6 前缀长度，取值范围 0 ~ 128
+	 */
+	public CachingGeoLocationResolver(final GeoLocationResolver delegate, final long maximumSize,
+									  final Duration ttl, final int ipv4PrefixLength,
+									  final int ipv6PrefixLength) {
+		Assert.isNull(delegate, "Delegate GeoLocationResolver cloud not be null.");
+		Assert.isTrue(maximumSize <= 0, "Maximum size must be greater than 0.");
+		Assert.isTrue(ttl == null || ttl.isNegative() || ttl.isZero(), "TTL must be greater than 0.");
+		Assert.isTrue(ipv4PrefixLength < 0 || ipv4PrefixLength > IPV4_MAX_PREFIX_LENGTH,
+				"IPv4 prefix length must be between 0 and 32.");
+		Assert.isTrue(ipv6PrefixLength < 0 || ipv6PrefixLength > IPV6_MAX_PREFIX_LENGTH,
+				"IPv6 prefix length must be between 0 and 128.");
+
+		this.delegate = delegate;
+		this.maximumSize = maximumSize;
+		this.ttl = ttl;
+		this.ipv4PrefixLength = ipv4PrefixLength;
+		this.ipv6PrefixLength = ipv6PrefixLength;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats()
+				.build();
+	}
+
+	/**
+	 * 返回实际执行解析的地理位置解析器
+	 *
+	 * @return 实际执行解析的地理位置解析器
+	 */
+	public GeoLocationResolver getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回最大缓存条目数
+	 *
+	 * @return 最大缓存条目数
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * 返回缓存过期时间
+	 *
+	 * @return 缓存过期时间
+	 */
+	public Duration getTtl() {
+		return ttl;
+	}
+
+	/**
+	 * 返回 IPv4 前缀长度
+	 *
+	 * @return IPv4 前缀长度
+	 */
+	public int getIpv4PrefixLength() {
+		return ipv4PrefixLength;
+	}
+
+	/**
+	 * 返回 IPv6 前缀长度
+	 *
+	 * @return IPv6 前缀长度
+	 */
+	public int getIpv6PrefixLength() {
+		return ipv6PrefixLength;
+	}
+
+	@Override
+	public GeoLocation resolve(final String ip) throws Exception {
+		if(ip == null){
+			return delegate.resolve(null);
+		}
+
+		try{
+			return cache.get(cacheKey(ip), ()->Optional.ofNullable(delegate.resolve(ip))).orElse(null);
+		}catch(ExecutionException e){
+			throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+		}
+	}
+
+	/**
+	 * 返回当前缓存条目数
+	 *
+	 * @return 当前缓存条目数
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * 返回缓存命中次数
+	 *
+	 * @return 缓存命中次数
+	 */
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	/**
+	 * 返回缓存未命中次数
+	 *
+	 * @return 缓存未命中次数
+	 */
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	/**
+	 * 返回缓存统计信息
+	 *
+	 * @return 缓存统计信息
+	 */
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * 计算缓存键，按前缀长度将 IP 归并到网段；非 IP 字面量原样返回
+	 *
+	 * @param ip
+	 * 		IP 地址
+	 *
+	 * @return 缓存键
+	 */
+	protected String cacheKey(final String ip) {
+		if(ipv4PrefixLength == IPV4_MAX_PREFIX_LENGTH && ipv6PrefixLength == IPV6_MAX_PREFIX_LENGTH){
+			return ip;
+		}
+
+		if(InetAddresses.isInetAddress(ip) == false){
+			return ip;
+		}
+
+		final byte[] address = InetAddresses.forString(ip).getAddress();
+		final int prefixLength = address.length == 4 ? ipv4PrefixLength : ipv6PrefixLength;
+
+		for(int i = 0; i < address.length; i++){
+			final int bits = prefixLength - i * 8;
+
+			if(bits <= 0){
+				address[i] = 0;
+			}else if(bits < 8){
+				address[i] &= (byte) (0xFF << (8 - bits));
+			}
+		}
+
+		try{
+			return InetAddresses.toAddrString(InetAddress.getByAddress(address)) + '/' + prefixLength;
+		}catch(UnknownHostException e){
+			return ip;
+		}
+	}
+
+}
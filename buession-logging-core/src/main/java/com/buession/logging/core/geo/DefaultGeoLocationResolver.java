@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.geo;
+
+import com.buession.core.utils.Assert;
+import com.buession.geoip.Resolver;
+import com.buession.geoip.model.Location;
+import com.buession.lang.Constants;
+import com.buession.lang.Geo;
+import com.buession.logging.core.GeoLocation;
+
+/**
+ * 默认地理位置解析器，基于 {@link Resolver} 解析
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class DefaultGeoLocationResolver implements GeoLocationResolver {
+
+	/**
+	 * Geo 解析器
+	 */
+	private final Resolver resolver;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param resolver
+	 * 		Geo 解析器
+	 */
+	public DefaultGeoLocationResolver(final Resolver resolver) {
+		Assert.isNull(resolver, "Geo resolver cloud not be null.");
+		this.resolver = resolver;
+	}
+
+	/**
+	 * 返回 Geo 解析器
+	 *
+	 * @return Geo 解析器
+	 */
+	public Resolver getResolver() {
+		return resolver;
+	}
+
+	@Override
+	public GeoLocation resolve(final String ip) throws Exception {
+		final Location location = resolver.location(ip);
+
+		if(location == null){
+			return null;
+		}
+
+		final GeoLocation geoLocation = new GeoLocation();
+
+		if(location.getGeo() != null && location.getGeo().getLongitude() != null &&
+				location.getGeo().getLatitude() != null){
+			geoLocation.setGeo(new Geo(location.getGeo().getLongitude(), location.getGeo().getLatitude()));
+		}
+
+		final GeoLocation.Country country = new GeoLocation.Country();
+		country.setCode(emptyIfNull(location.getCountry().getIsoCode()));
+		country.setName(emptyIfNull(location.getCountry().getName()));
+		country.setFullName(emptyIfNull(location.getCountry().getFullName()));
+		geoLocation.setCountry(country);
+
+		final GeoLocation.District district = new GeoLocation.District();
+		district.setName(emptyIfNull(location.getDistrict().getName()));
+		district.setFullName(emptyIfNull(location.getDistrict().getFullName()));
+		geoLocation.setDistrict(district);
+
+		return geoLocation;
+	}
+
+	private static String emptyIfNull(final String str) {
+		return str == null ? Constants.EMPTY_STRING : str;
+	}
+
+}
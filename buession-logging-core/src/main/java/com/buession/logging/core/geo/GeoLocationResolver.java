@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.geo;
+
+import com.buession.logging.core.GeoLocation;
+
+/**
+ * 地理位置解析器，将客户端 IP 解析为 {@link GeoLocation}
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface GeoLocationResolver {
+
+	/**
+	 * 解析 IP 地址对应的地理位置
+	 *
+	 * @param ip
+	 * 		IP 地址
+	 *
+	 * @return 地理位置，无法解析时返回 null
+	 *
+	 * @throws Exception
+	 * 		解析异常
+	 */
+	GeoLocation resolve(final String ip) throws Exception;
+
+}
@@ -26,6 +26,7 @@ package com.buession.logging.core.handler;
 
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
+import com.buession.logging.core.metrics.LogMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,15 +38,51 @@ public abstract class AbstractLogHandler implements LogHandler {
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+	/**
+	 * 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	private LogMetrics logMetrics = LogMetrics.NOOP;
+
+	/**
+	 * 返回指标采集
+	 *
+	 * @return 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	public LogMetrics getLogMetrics() {
+		return logMetrics;
+	}
+
+	/**
+	 * 设置指标采集
+	 *
+	 * @param logMetrics
+	 * 		指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	public void setLogMetrics(LogMetrics logMetrics) {
+		this.logMetrics = logMetrics == null ? LogMetrics.NOOP : logMetrics;
+	}
+
 	@Override
 	public Status handle(final LogData logData) {
+		final long start = System.nanoTime();
+		Status status = Status.FAILURE;
+
 		try{
-			return doHandle(logData);
+			status = doHandle(logData);
+			return status;
 		}catch(Exception e){
 			if(logger.isErrorEnabled()){
 				logger.error("Save log data failure: " + e.getMessage(), e);
 			}
 			return Status.FAILURE;
+		}finally{
+			logMetrics.recordHandle(getClass().getSimpleName(), status, 1, System.nanoTime() - start);
 		}
 	}
 
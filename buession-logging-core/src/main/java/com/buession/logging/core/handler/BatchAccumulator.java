@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 批量累加器，元素数量、估算字节数或停留时间任一达到阈值时，将已累积的元素作为一批交给刷新函数；
+ * 缓冲区在锁内交换，刷新函数在释放缓冲区锁后执行，慢速后端不会阻塞其它线程添加元素；
+ * 刷新之间由独立的刷新锁串行化，保证批次之间的顺序
+ *
+ * @param <E>
+ * 		元素类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class BatchAccumulator<E> implements Closeable {
+
+	/**
+	 * 默认每批最大元素数量
+	 */
+	public final static int DEFAULT_MAX_COUNT = 512;
+
+	/**
+	 * 默认每批最大字节数
+	 */
+	public final static long DEFAULT_MAX_BYTES = 1024L * 1024L;
+
+	/**
+	 * 默认最大停留时间
+	 */
+	public final static Duration DEFAULT_LINGER = Duration.ofMillis(200);
+
+	private final int maxCount;
+
+	private final long maxBytes;
+
+	private final Duration linger;
+
+	private final ToLongFunction<? super E> sizer;
+
+	private final Consumer<List<E>> flusher;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private List<E> buffer;
+
+	private long bufferedBytes = 0;
+
+	private long firstAddedNanos = 0;
+
+	private volatile boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(BatchAccumulator.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param flusher
+	 * 		刷新函数
+	 */
+	public BatchAccumulator(final Consumer<List<E>> flusher) {
+		this(DEFAULT_MAX_COUNT, DEFAULT_MAX_BYTES, DEFAULT_LINGER, null, flusher);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxCount
+	 * 		每批最大元素数量
+	 * @param maxBytes
+	 * 		每批最大字节数，小于等于 0 或 sizer 为 null 时不限制
+	 * @param linger
+	 * 		元素最大停留时间，为 null 或 0 时不按时间刷新
+	 * @param sizer
+	 * 		元素字节数估算函数
+	 * @param flusher
+	 * 		刷新函数
+	 */
+	public BatchAccumulator(final int maxCount, final long maxBytes, final Duration linger,
+							final ToLongFunction<? super E> sizer, final Consumer<List<E>> flusher) {
+		Assert.isTrue(maxCount <= 0, "Max count must be greater than 0.");
+		Assert.isNull(flusher, "Flusher cloud not be null.");
+
+		this.maxCount = maxCount;
+		this.maxBytes = sizer == null ? 0 : maxBytes;
+		this.linger = linger == null || linger.isNegative() || linger.isZero() ? null : linger;
+		this.sizer = sizer;
+		this.flusher = flusher;
+		this.buffer = new ArrayList<>(maxCount);
+
+		if(this.linger == null){
+			this.scheduler = null;
+		}else{
+			final long period = Math.max(1L, this.linger.toMillis() / 2);
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(
+					new NamedThreadFactory("buession-logging-batch"));
+			this.scheduler.scheduleWithFixedDelay(this::flushIfLingered, period, period, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 返回每批最大元素数量
+	 *
+	 * @return 每批最大元素数量
+	 */
+	public int getMaxCount() {
+		return maxCount;
+	}
+
+	/**
+	 * 返回每批最大字节数
+	 *
+	 * @return 每批最大字节数
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * 返回元素最大停留时间
+	 *
+	 * @return 元素最大停留时间
+	 */
+	public Duration getLinger() {
+		return linger;
+	}
+
+	/**
+	 * 返回已累积、尚未刷新的元素数量
+	 *
+	 * @return 已累积的元素数量
+	 */
+	public synchronized int size() {
+		return buffer.size();
+	}
+
+	/**
+	 * 添加元素
+	 *
+	 * @param e
+	 * 		元素
+	 */
+	public void add(final E e) {
+		final boolean full;
+
+		synchronized(this){
+			append(e);
+			full = closed || isFull();
+		}
+
+		if(full){
+			flush();
+		}
+	}
+
+	/**
+	 * 批量添加元素
+	 *
+	 * @param elements
+	 * 		元素集合
+	 */
+	public void addAll(final Collection<? extends E> elements) {
+		for(E e : elements){
+			final boolean full;
+
+			synchronized(this){
+				append(e);
+				full = isFull();
+			}
+
+			if(full){
+				flush();
+			}
+		}
+
+		if(closed){
+			flush();
+		}
+	}
+
+	/**
+	 * 立即刷新已累积的元素，刷新函数执行期间不持有缓冲区锁
+	 */
+	public void flush() {
+		flushLock.lock();
+		try{
+			final List<E> batch = swap();
+
+			if(batch == null){
+				return;
+			}
+
+			try{
+				flusher.accept(batch);
+			}catch(RuntimeException e){
+				if(logger.isErrorEnabled()){
+					logger.error("Flush batch of {} element(s) failure: {}", batch.size(), e.getMessage(), e);
+				}
+			}
+		}finally{
+			flushLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+
+		if(scheduler != null){
+			scheduler.shutdownNow();
+		}
+
+		flush();
+	}
+
+	private void append(final E e) {
+		if(buffer.isEmpty()){
+			firstAddedNanos = System.nanoTime();
+		}
+
+		buffer.add(e);
+
+		if(maxBytes > 0){
+			bufferedBytes += sizer.applyAsLong(e);
+		}
+	}
+
+	private synchronized List<E> swap() {
+		if(buffer.isEmpty()){
+			return null;
+		}
+
+		final List<E> batch = buffer;
+
+		buffer = new ArrayList<>(maxCount);
+		bufferedBytes = 0;
+		firstAddedNanos = 0;
+
+		return batch;
+	}
+
+	private boolean isFull() {
+		return buffer.size() >= maxCount || (maxBytes > 0 && bufferedBytes >= maxBytes);
+	}
+
+	private void flushIfLingered() {
+		final boolean lingered;
+
+		synchronized(this){
+			lingered = buffer.isEmpty() == false && System.nanoTime() - firstAddedNanos >= linger.toNanos();
+		}
+
+		if(lingered){
+			flush();
+		}
+	}
+
+}
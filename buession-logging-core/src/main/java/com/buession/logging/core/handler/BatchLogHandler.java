@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 批量日志处理器，一次处理多条日志以减少后端的往返开销
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public interface BatchLogHandler extends LogHandler {
+
+	/**
+	 * 批量日志处理
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @return 日志处理结果
+	 */
+	Status handle(final List<LogData> logDataList);
+
+	/**
+	 * 返回包装该处理器的 {@link BatchingLogHandler} 应使用的批量大小；
+	 * 大于 1 时即使未开启全局批量模式也会以该值启用批量模式，小于等于 1 时使用全局批量配置
+	 *
+	 * @return 批量大小
+	 */
+	default int getBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * 返回包装该处理器的 {@link BatchingLogHandler} 应使用的日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @return 日志最大停留时间
+	 */
+	default Duration getFlushInterval() {
+		return null;
+	}
+
+}
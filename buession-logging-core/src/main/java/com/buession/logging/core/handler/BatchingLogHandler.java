@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.metrics.LogMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量累积日志处理器，将逐条写入的日志累积成批，达到数量、字节数或停留时间阈值时交给 {@link BatchLogHandler} 一次处理；
+ * 日志进入缓冲区即返回 {@link Status#SUCCESS}，后端的处理结果只记录在日志中
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class BatchingLogHandler implements BatchLogHandler, Closeable {
+
+	/**
+	 * 单条日志固定开销估算（字节）
+	 */
+	private final static int LOG_DATA_OVERHEAD = 256;
+
+	/**
+	 * 单个 Map 条目固定开销估算（字节）
+	 */
+	private final static int MAP_ENTRY_OVERHEAD = 32;
+
+	private final BatchLogHandler delegate;
+
+	private final BatchAccumulator<LogData> accumulator;
+
+	private final AtomicInteger inFlightCounter = new AtomicInteger();
+
+	private final static Logger logger = LoggerFactory.getLogger(BatchingLogHandler.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		批量日志处理器
+	 */
+	public BatchingLogHandler(final BatchLogHandler delegate) {
+		this(delegate, BatchAccumulator.DEFAULT_MAX_COUNT, BatchAccumulator.DEFAULT_MAX_BYTES,
+				BatchAccumulator.DEFAULT_LINGER);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		批量日志处理器
+	 * @param maxCount
+	 * 		每批最大日志数量
+	 * @param maxBytes
+	 * 		每批最大估算字节数，小于等于 0 时不限制
+	 * @param linger
+	 * 		日志最大停留时间
+	 */
+	public BatchingLogHandler(final BatchLogHandler delegate, final int maxCount, final long maxBytes,
+							  final Duration linger) {
+		Assert.isNull(delegate, "Delegate BatchLogHandler cloud not be null.");
+		this.delegate = delegate;
+		this.accumulator = new BatchAccumulator<>(maxCount, maxBytes, linger, BatchingLogHandler::estimateSize,
+				this::flush);
+	}
+
+	/**
+	 * 返回被代理的批量日志处理器
+	 *
+	 * @return 批量日志处理器
+	 */
+	public BatchLogHandler getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回已累积、尚未处理的日志数量
+	 *
+	 * @return 已累积的日志数量
+	 */
+	public int getPendingCount() {
+		return accumulator.size();
+	}
+
+	@Override
+	public Status handle(final LogData logData) {
+		accumulator.add(logData);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	public Status handle(final List<LogData> logDataList) {
+		accumulator.addAll(logDataList);
+		return Status.SUCCESS;
+	}
+
+	/**
+	 * 返回正在交由后端处理的批次数
+	 *
+	 * @return 正在处理的批次数
+	 */
+	public int getInFlightCount() {
+		return inFlightCounter.get();
+	}
+
+	/**
+	 * 设置指标采集，注册已累积日志数量、正在处理的批次数仪表
+	 *
+	 * @param logMetrics
+	 * 		指标采集
+	 */
+	public void setLogMetrics(final LogMetrics logMetrics) {
+		if(logMetrics != null){
+			final String handler = delegate.getClass().getSimpleName();
+
+			logMetrics.gauge("buession.logging.batch.pending", this, BatchingLogHandler::getPendingCount, "handler",
+					handler);
+			logMetrics.gauge("buession.logging.batch.inflight", this, BatchingLogHandler::getInFlightCount,
+					"handler", handler);
+		}
+	}
+
+	/**
+	 * 立即处理已累积的日志
+	 */
+	public void flush() {
+		accumulator.flush();
+	}
+
+	@Override
+	public void close() {
+		accumulator.close();
+	}
+
+	/**
+	 * 估算日志数据序列化后的字节数
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 估算字节数
+	 */
+	public static long estimateSize(final LogData logData) {
+		long size = LOG_DATA_OVERHEAD;
+
+		size += length(logData.getBusinessType());
+		size += length(logData.getEvent());
+		size += length(logData.getDescription());
+		size += length(logData.getTraceId());
+		size += length(logData.getUrl());
+		size += length(logData.getRequestBody());
+		size += length(logData.getClientIp());
+		size += length(logData.getRemoteAddr());
+		size += length(logData.getUserAgent());
+		size += size(logData.getRequestParameters());
+		size += size(logData.getExtra());
+
+		return size;
+	}
+
+	private void flush(final List<LogData> batch) {
+		final Status status;
+
+		inFlightCounter.incrementAndGet();
+		try{
+			status = delegate.handle(batch);
+		}finally{
+			inFlightCounter.decrementAndGet();
+		}
+
+		if(status != Status.SUCCESS && logger.isWarnEnabled()){
+			logger.warn("Handle batch of {} log data failure.", batch.size());
+		}
+	}
+
+	private static int length(final String value) {
+		return value == null ? 0 : value.length();
+	}
+
+	private static long size(final Map<String, Object> map) {
+		if(map == null){
+			return 0;
+		}
+
+		long size = 0;
+
+		for(Map.Entry<String, Object> e : map.entrySet()){
+			size += MAP_ENTRY_OVERHEAD + length(e.getKey());
+			if(e.getValue() instanceof CharSequence){
+				size += ((CharSequence) e.getValue()).length();
+			}
+		}
+
+		return size;
+	}
+
+}
@@ -0,0 +1,577 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 熔断日志处理器，后端失败率或慢调用比例超过阈值时熔断，熔断期间不再调用后端，日志直接交由降级日志处理器；
+ * 熔断一段时间后进入半开状态，放行少量探测调用，探测结果正常则恢复，否则继续熔断。
+ *
+ * <p>后端调用失败时同样交由降级日志处理器。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class CircuitBreakerLogHandler implements BatchLogHandler {
+
+	/**
+	 * 默认失败率阈值（百分比）
+	 */
+	public final static float DEFAULT_FAILURE_RATE_THRESHOLD = 50F;
+
+	/**
+	 * 默认慢调用比例阈值（百分比）
+	 */
+	public final static float DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100F;
+
+	/**
+	 * 默认慢调用时长阈值
+	 */
+	public final static Duration DEFAULT_SLOW_CALL_DURATION_THRESHOLD = Duration.ofSeconds(2);
+
+	/**
+	 * 默认滑动窗口大小（调用次数）
+	 */
+	public final static int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+
+	/**
+	 * 默认计算失败率所需的最少调用次数
+	 */
+	public final static int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+
+	/**
+	 * 默认熔断持续时间
+	 */
+	public final static Duration DEFAULT_WAIT_DURATION_IN_OPEN_STATE = Duration.ofSeconds(30);
+
+	/**
+	 * 默认半开状态允许的探测调用次数
+	 */
+	public final static int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+
+	private final static byte OUTCOME_FAILURE = 1;
+
+	private final static byte OUTCOME_SLOW = 2;
+
+	private final LogHandler delegate;
+
+	private final LogHandler fallback;
+
+	private float failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+	private float slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+	private long slowCallDurationThreshold = DEFAULT_SLOW_CALL_DURATION_THRESHOLD.toNanos();
+
+	private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+
+	private long waitDurationInOpenState = DEFAULT_WAIT_DURATION_IN_OPEN_STATE.toNanos();
+
+	private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+
+	private volatile State state = State.CLOSED;
+
+	private volatile long openedAt;
+
+	private final AtomicInteger halfOpenPermits = new AtomicInteger();
+
+	private final LongAdder rejectedCounter = new LongAdder();
+
+	private final Object monitor = new Object();
+
+	/**
+	 * 滑动窗口，记录最近若干次调用的结果
+	 */
+	private byte[] outcomes = new byte[DEFAULT_SLIDING_WINDOW_SIZE];
+
+	private int outcomeIndex;
+
+	private int outcomeCount;
+
+	private int failureCount;
+
+	private int slowCallCount;
+
+	private int halfOpenCallCount;
+
+	private int halfOpenFailureCount;
+
+	private int halfOpenSlowCallCount;
+
+	private final static Logger logger = LoggerFactory.getLogger(CircuitBreakerLogHandler.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		日志处理器
+	 */
+	public CircuitBreakerLogHandler(final LogHandler delegate) {
+		this(delegate, null);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		日志处理器
+	 * @param fallback
+	 * 		降级日志处理器，为 null 时熔断期间直接返回 {@link Status#FAILURE}
+	 */
+	public CircuitBreakerLogHandler(final LogHandler delegate, final LogHandler fallback) {
+		Assert.isNull(delegate, "Delegate LogHandler cloud not be null.");
+		this.delegate = delegate;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * 返回被代理的日志处理器
+	 *
+	 * @return 日志处理器
+	 */
+	public LogHandler getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回降级日志处理器
+	 *
+	 * @return 降级日志处理器
+	 */
+	public LogHandler getFallback() {
+		return fallback;
+	}
+
+	/**
+	 * 返回失败率阈值（百分比）
+	 *
+	 * @return 失败率阈值
+	 */
+	public float getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	/**
+	 * 设置失败率阈值（百分比），取值范围 (0, 100]
+	 *
+	 * @param failureRateThreshold
+	 * 		失败率阈值
+	 */
+	public void setFailureRateThreshold(float failureRateThreshold) {
+		Assert.isTrue(failureRateThreshold <= 0F || failureRateThreshold > 100F,
+				"Failure rate threshold must be between 0 and 100.");
+		this.failureRateThreshold = failureRateThreshold;
+	}
+
+	/**
+	 * 返回慢调用比例阈值（百分比）
+	 *
+	 * @return 慢调用比例阈值
+	 */
+	public float getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	/**
+	 * 设置慢调用比例阈值（百分比），取值范围 (0, 100]
+	 *
+	 * @param slowCallRateThreshold
+	 * 		慢调用比例阈值
+	 */
+	public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+		Assert.isTrue(slowCallRateThreshold <= 0F || slowCallRateThreshold > 100F,
+				"Slow call rate threshold must be between 0 and 100.");
+		this.slowCallRateThreshold = slowCallRateThreshold;
+	}
+
+	/**
+	 * 返回慢调用时长阈值
+	 *
+	 * @return 慢调用时长阈值
+	 */
+	public Duration getSlowCallDurationThreshold() {
+		return Duration.ofNanos(slowCallDurationThreshold);
+	}
+
+	/**
+	 * 设置慢调用时长阈值，调用耗时不小于该值即视为慢调用
+	 *
+	 * @param slowCallDurationThreshold
+	 * 		慢调用时长阈值
+	 */
+	public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+		Assert.isNull(slowCallDurationThreshold, "Slow call duration threshold cloud not be null.");
+		this.slowCallDurationThreshold = slowCallDurationThreshold.toNanos();
+	}
+
+	/**
+	 * 返回滑动窗口大小
+	 *
+	 * @return 滑动窗口大小
+	 */
+	public int getSlidingWindowSize() {
+		return outcomes.length;
+	}
+
+	/**
+	 * 设置滑动窗口大小，即计算失败率时参考的最近调用次数；设置后已记录的调用结果会被清空
+	 *
+	 * @param slidingWindowSize
+	 * 		滑动窗口大小
+	 */
+	public void setSlidingWindowSize(int slidingWindowSize) {
+		Assert.isTrue(slidingWindowSize <= 0, "Sliding window size must be greater than 0.");
+
+		synchronized(monitor){
+			outcomes = new byte[slidingWindowSize];
+			resetWindow();
+		}
+	}
+
+	/**
+	 * 返回计算失败率所需的最少调用次数
+	 *
+	 * @return 最少调用次数
+	 */
+	public int getMinimumNumberOfCalls() {
+		return minimumNumberOfCalls;
+	}
+
+	/**
+	 * 设置计算失败率所需的最少调用次数
+	 *
+	 * @param minimumNumberOfCalls
+	 * 		最少调用次数
+	 */
+	public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+		Assert.isTrue(minimumNumberOfCalls <= 0, "Minimum number of calls must be greater than 0.");
+		this.minimumNumberOfCalls = minimumNumberOfCalls;
+	}
+
+	/**
+	 * 返回熔断持续时间
+	 *
+	 * @return 熔断持续时间
+	 */
+	public Duration getWaitDurationInOpenState() {
+		return Duration.ofNanos(waitDurationInOpenState);
+	}
+
+	/**
+	 * 设置熔断持续时间，超过该时间后进入半开状态
+	 *
+	 * @param waitDurationInOpenState
+	 * 		熔断持续时间
+	 */
+	public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+		Assert.isNull(waitDurationInOpenState, "Wait duration in open state cloud not be null.");
+		this.waitDurationInOpenState = waitDurationInOpenState.toNanos();
+	}
+
+	/**
+	 * 返回半开状态允许的探测调用次数
+	 *
+	 * @return 探测调用次数
+	 */
+	public int getPermittedCallsInHalfOpenState() {
+		return permittedCallsInHalfOpenState;
+	}
+
+	/**
+	 * 设置半开状态允许的探测调用次数
+	 *
+	 * @param permittedCallsInHalfOpenState
+	 * 		探测调用次数
+	 */
+	public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+		Assert.isTrue(permittedCallsInHalfOpenState <= 0, "Permitted calls in half open state must be greater than 0.");
+		this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+	}
+
+	/**
+	 * 返回熔断状态
+	 *
+	 * @return 熔断状态
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * 返回因熔断未调用后端的次数
+	 *
+	 * @return 未调用后端的次数
+	 */
+	public long getRejectedCount() {
+		return rejectedCounter.sum();
+	}
+
+	/**
+	 * 返回滑动窗口内的失败率（百分比），调用次数不足时返回 -1
+	 *
+	 * @return 失败率
+	 */
+	public float getFailureRate() {
+		synchronized(monitor){
+			return outcomeCount < minimumNumberOfCalls ? -1F : failureCount * 100F / outcomeCount;
+		}
+	}
+
+	/**
+	 * 返回滑动窗口内的慢调用比例（百分比），调用次数不足时返回 -1
+	 *
+	 * @return 慢调用比例
+	 */
+	public float getSlowCallRate() {
+		synchronized(monitor){
+			return outcomeCount < minimumNumberOfCalls ? -1F : slowCallCount * 100F / outcomeCount;
+		}
+	}
+
+	/**
+	 * 重置为关闭状态并清空已记录的调用结果
+	 */
+	public void reset() {
+		synchronized(monitor){
+			transitionTo(State.CLOSED);
+		}
+	}
+
+	@Override
+	public int getBatchSize() {
+		return delegate instanceof BatchLogHandler ? ((BatchLogHandler) delegate).getBatchSize() : 0;
+	}
+
+	@Override
+	public Duration getFlushInterval() {
+		return delegate instanceof BatchLogHandler ? ((BatchLogHandler) delegate).getFlushInterval() : null;
+	}
+
+	@Override
+	public Status handle(final LogData logData) {
+		return call(logData, LogHandler::handle);
+	}
+
+	@Override
+	public Status handle(final List<LogData> logDataList) {
+		return call(logDataList, (handler, data)->{
+			if(handler instanceof BatchLogHandler){
+				return ((BatchLogHandler) handler).handle(data);
+			}
+
+			Status status = Status.SUCCESS;
+
+			for(LogData logData : data){
+				if(handler.handle(logData) != Status.SUCCESS){
+					status = Status.FAILURE;
+				}
+			}
+
+			return status;
+		});
+	}
+
+	private <T> Status call(final T data, final Invoker<T> invoker) {
+		if(tryAcquirePermission() == false){
+			rejectedCounter.increment();
+			return invokeFallback(data, invoker);
+		}
+
+		final long start = System.nanoTime();
+		Status status;
+
+		try{
+			status = invoker.invoke(delegate, data);
+		}catch(Exception e){
+			if(logger.isErrorEnabled()){
+				logger.error("Handle log data failure: {}", e.getMessage());
+			}
+			status = Status.FAILURE;
+		}
+
+		onResult(status == Status.SUCCESS, System.nanoTime() - start >= slowCallDurationThreshold);
+
+		return status == Status.SUCCESS ? status : invokeFallback(data, invoker);
+	}
+
+	private <T> Status invokeFallback(final T data, final Invoker<T> invoker) {
+		if(fallback == null){
+			return Status.FAILURE;
+		}
+
+		try{
+			return invoker.invoke(fallback, data);
+		}catch(Exception e){
+			if(logger.isErrorEnabled()){
+				logger.error("Handle log data by fallback failure: {}", e.getMessage());
+			}
+			return Status.FAILURE;
+		}
+	}
+
+	private boolean tryAcquirePermission() {
+		if(state == State.CLOSED){
+			return true;
+		}
+
+		if(state == State.OPEN){
+			if(System.nanoTime() - openedAt < waitDurationInOpenState){
+				return false;
+			}
+
+			synchronized(monitor){
+				if(state == State.OPEN && System.nanoTime() - openedAt >= waitDurationInOpenState){
+					transitionTo(State.HALF_OPEN);
+				}
+			}
+		}
+
+		return state == State.CLOSED || (state == State.HALF_OPEN && halfOpenPermits.getAndDecrement() > 0);
+	}
+
+	private void onResult(final boolean success, final boolean slow) {
+		synchronized(monitor){
+			if(state == State.HALF_OPEN){
+				halfOpenCallCount++;
+				if(success == false){
+					halfOpenFailureCount++;
+				}
+				if(slow){
+					halfOpenSlowCallCount++;
+				}
+
+				if(halfOpenCallCount >= permittedCallsInHalfOpenState){
+					transitionTo(exceedsThreshold(halfOpenFailureCount, halfOpenSlowCallCount, halfOpenCallCount) ?
+							State.OPEN : State.CLOSED);
+				}
+			}else if(state == State.CLOSED){
+				record((byte) ((success ? 0 : OUTCOME_FAILURE) | (slow ? OUTCOME_SLOW : 0)));
+
+				if(outcomeCount >= minimumNumberOfCalls &&
+						exceedsThreshold(failureCount, slowCallCount, outcomeCount)){
+					transitionTo(State.OPEN);
+				}
+			}
+		}
+	}
+
+	private void record(final byte outcome) {
+		if(outcomeCount == outcomes.length){
+			final byte evicted = outcomes[outcomeIndex];
+
+			if((evicted & OUTCOME_FAILURE) != 0){
+				failureCount--;
+			}
+			if((evicted & OUTCOME_SLOW) != 0){
+				slowCallCount--;
+			}
+		}else{
+			outcomeCount++;
+		}
+
+		outcomes[outcomeIndex] = outcome;
+		outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+
+		if((outcome & OUTCOME_FAILURE) != 0){
+			failureCount++;
+		}
+		if((outcome & OUTCOME_SLOW) != 0){
+			slowCallCount++;
+		}
+	}
+
+	private boolean exceedsThreshold(final int failures, final int slowCalls, final int calls) {
+		return failures * 100F / calls >= failureRateThreshold || slowCalls * 100F / calls >= slowCallRateThreshold;
+	}
+
+	private void transitionTo(final State newState) {
+		final State oldState = state;
+
+		resetWindow();
+
+		if(newState == State.OPEN){
+			openedAt = System.nanoTime();
+		}else if(newState == State.HALF_OPEN){
+			halfOpenPermits.set(permittedCallsInHalfOpenState);
+		}
+
+		state = newState;
+
+		if(oldState != newState && logger.isWarnEnabled()){
+			logger.warn("Circuit breaker of {} transition from {} to {}.", delegate.getClass().getName(), oldState,
+					newState);
+		}
+	}
+
+	private void resetWindow() {
+		outcomeIndex = 0;
+		outcomeCount = 0;
+		failureCount = 0;
+		slowCallCount = 0;
+		halfOpenCallCount = 0;
+		halfOpenFailureCount = 0;
+		halfOpenSlowCallCount = 0;
+	}
+
+	/**
+	 * 熔断状态
+	 */
+	public enum State {
+
+		/**
+		 * 关闭，正常调用后端
+		 */
+		CLOSED,
+
+		/**
+		 * 打开，不调用后端
+		 */
+		OPEN,
+
+		/**
+		 * 半开，放行少量探测调用
+		 */
+		HALF_OPEN
+
+	}
+
+	@FunctionalInterface
+	private interface Invoker<T> {
+
+		Status invoke(final LogHandler handler, final T data);
+
+	}
+
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 组合日志处理器，将每条日志并行分发给多个日志处理器；
+ * 每个日志处理器拥有独立的单线程执行器和有界队列，某个后端变慢或不可用时不会影响其它后端，
+ * 队列满时该后端的本次写入直接视为失败；
+ * 同一条日志数据会被多个日志处理器并发读取，日志处理器不应修改日志数据
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class CompositeLogHandler implements BatchLogHandler, Closeable {
+
+	/**
+	 * 默认每个日志处理器的队列容量
+	 */
+	public final static int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * 默认等待结果的超时时间
+	 */
+	public final static Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * 日志处理器
+	 */
+	private final List<LogHandler> delegates;
+
+	/**
+	 * 结果汇总策略
+	 */
+	private final CompositePolicy policy;
+
+	/**
+	 * 每个日志处理器的队列容量
+	 */
+	private final int queueCapacity;
+
+	/**
+	 * 等待结果的超时时间
+	 */
+	private final Duration timeout;
+
+	private final List<ThreadPoolExecutor> executors;
+
+	private final static Logger logger = LoggerFactory.getLogger(CompositeLogHandler.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegates
+	 * 		日志处理器，第一个为主日志处理器
+	 */
+	public CompositeLogHandler(final List<? extends LogHandler> delegates) {
+		this(delegates, CompositePolicy.ALL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegates
+	 * 		日志处理器，第一个为主日志处理器
+	 * @param policy
+	 * 		结果汇总策略
+	 */
+	public CompositeLogHandler(final List<? extends LogHandler> delegates, final CompositePolicy policy) {
+		this(delegates, policy, DEFAULT_QUEUE_CAPACITY, DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegates
+	 * 		日志处理器，第一个为主日志处理器
+	 * @param policy
+	 * 		结果汇总策略
+	 * @param queueCapacity
+	 * 		每个日志处理器的队列容量
+	 * @param timeout
+	 * 		等待结果的超时时间
+	 */
+	public CompositeLogHandler(final List<? extends LogHandler> delegates, final CompositePolicy policy,
+							   final int queueCapacity, final Duration timeout) {
+		Assert.isTrue(Validate.isEmpty(delegates), "Delegate LogHandlers cloud not be empty.");
+		Assert.isTrue(queueCapacity <= 0, "Queue capacity must be greater than 0.");
+
+		this.delegates = Collections.unmodifiableList(new ArrayList<>(delegates));
+		this.policy = policy == null ? CompositePolicy.ALL : policy;
+		this.queueCapacity = queueCapacity;
+		this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+		this.executors = new ArrayList<>(delegates.size());
+
+		for(LogHandler delegate : this.delegates){
+			Assert.isNull(delegate, "Delegate LogHandler cloud not be null.");
+			executors.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(queueCapacity),
+					new NamedThreadFactory("buession-logging-" + delegate.getClass().getSimpleName(), true)));
+		}
+	}
+
+	/**
+	 * 返回日志处理器
+	 *
+	 * @return 日志处理器
+	 */
+	public List<LogHandler> getDelegates() {
+		return delegates;
+	}
+
+	/**
+	 * 返回结果汇总策略
+	 *
+	 * @return 结果汇总策略
+	 */
+	public CompositePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * 返回每个日志处理器的队列容量
+	 *
+	 * @return 每个日志处理器的队列容量
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * 返回等待结果的超时时间
+	 *
+	 * @return 等待结果的超时时间
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * 返回各日志处理器队列中待处理的任务数
+	 *
+	 * @return 待处理的任务数
+	 */
+	public List<Integer> getQueueSizes() {
+		final List<Integer> sizes = new ArrayList<>(executors.size());
+
+		for(ThreadPoolExecutor executor : executors){
+			sizes.add(executor.getQueue().size());
+		}
+
+		return sizes;
+	}
+
+	@Override
+	public Status handle(final LogData logData) {
+		return dispatch((delegate)->delegate.handle(logData));
+	}
+
+	@Override
+	public Status handle(final List<LogData> logDataList) {
+		if(Validate.isEmpty(logDataList)){
+			return Status.SUCCESS;
+		}
+
+		return dispatch((delegate)->{
+			if(delegate instanceof BatchLogHandler){
+				return ((BatchLogHandler) delegate).handle(logDataList);
+			}
+
+			Status status = Status.SUCCESS;
+			for(LogData logData : logDataList){
+				if(delegate.handle(logData) != Status.SUCCESS){
+					status = Status.FAILURE;
+				}
+			}
+
+			return status;
+		});
+	}
+
+	@Override
+	public void close() {
+		for(ThreadPoolExecutor executor : executors){
+			executor.shutdown();
+		}
+
+		final long deadline = System.nanoTime() + timeout.toNanos();
+
+		for(ThreadPoolExecutor executor : executors){
+			try{
+				if(executor.awaitTermination(Math.max(0L, deadline - System.nanoTime()),
+						TimeUnit.NANOSECONDS) == false && logger.isWarnEnabled()){
+					logger.warn("Composite log handler closed with {} log data unprocessed.",
+							executor.getQueue().size());
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	protected Status dispatch(final Function<LogHandler, Status> action) {
+		final List<CompletableFuture<Status>> futures = new ArrayList<>(delegates.size());
+
+		for(int i = 0; i < delegates.size(); i++){
+			futures.add(submit(i, action));
+		}
+
+		switch(policy){
+			case PRIMARY:
+				return await(futures.get(0), System.nanoTime() + timeout.toNanos());
+			case ANY:
+				return awaitAny(futures);
+			default:
+				return awaitAll(futures);
+		}
+	}
+
+	private CompletableFuture<Status> submit(final int index, final Function<LogHandler, Status> action) {
+		final LogHandler delegate = delegates.get(index);
+
+		try{
+			return CompletableFuture.supplyAsync(()->action.apply(delegate), executors.get(index));
+		}catch(RejectedExecutionException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Log handler '{}' queue is full, log data rejected.", delegate.getClass().getName());
+			}
+			return CompletableFuture.completedFuture(Status.FAILURE);
+		}
+	}
+
+	private Status awaitAll(final List<CompletableFuture<Status>> futures) {
+		final long deadline = System.nanoTime() + timeout.toNanos();
+		Status result = Status.SUCCESS;
+
+		for(CompletableFuture<Status> future : futures){
+			if(await(future, deadline) != Status.SUCCESS){
+				result = Status.FAILURE;
+			}
+		}
+
+		return result;
+	}
+
+	private Status awaitAny(final List<CompletableFuture<Status>> futures) {
+		final CompletableFuture<Status> any = new CompletableFuture<>();
+
+		for(CompletableFuture<Status> future : futures){
+			future.whenComplete((status, ex)->{
+				if(status == Status.SUCCESS){
+					any.complete(Status.SUCCESS);
+				}
+			});
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+				.whenComplete((v, ex)->any.complete(Status.FAILURE));
+
+		return await(any, System.nanoTime() + timeout.toNanos());
+	}
+
+	private Status await(final CompletableFuture<Status> future, final long deadline) {
+		try{
+			final Status status = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return status == null ? Status.FAILURE : status;
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			return Status.FAILURE;
+		}catch(ExecutionException e){
+			if(logger.isErrorEnabled()){
+				logger.error("Save log data failure: {}", e.getCause().getMessage(), e.getCause());
+			}
+			return Status.FAILURE;
+		}catch(TimeoutException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Wait for log handler result timed out after {}.", timeout);
+			}
+			return Status.FAILURE;
+		}
+	}
+
+}
@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.codec.JsonLogDataCodec;
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import com.buession.logging.core.journal.SegmentJournal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带磁盘日志的日志处理器，后端（Kafka、RocketMQ、Elasticsearch 等）不可用时，日志写入本地 {@link SegmentJournal}，
+ * 后台线程按写入顺序定时重放，后端恢复后日志不会丢失；
+ * 磁盘日志中存在未重放的日志时，新日志同样写入磁盘日志，以保证顺序；
+ * 日志以 {@link LogDataCodec}（默认为 JSON）编码后写入磁盘日志，不使用 Java 序列化。
+ *
+ * <p>重放的语义为至少一次：批量写入部分成功时，整批日志都会被重放；
+ * 因此不应包装 {@link CompositeLogHandler}，而应为其每个日志处理器分别使用独立的磁盘日志，
+ * 避免某个后端失败时日志被重复写入其它已成功的后端。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class JournaledLogHandler implements BatchLogHandler, Closeable {
+
+	/**
+	 * 默认重放间隔
+	 */
+	public final static Duration DEFAULT_REPLAY_INTERVAL = Duration.ofSeconds(5);
+
+	/**
+	 * 默认单次重放的最大日志数量
+	 */
+	public final static int DEFAULT_REPLAY_BATCH_SIZE = 256;
+
+	private final LogHandler delegate;
+
+	private final SegmentJournal journal;
+
+	private final LogDataCodec codec;
+
+	private final int replayBatchSize;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final Object replayMonitor = new Object();
+
+	private final LongAdder journaledCounter = new LongAdder();
+
+	private final LongAdder droppedCounter = new LongAdder();
+
+	private final static Logger logger = LoggerFactory.getLogger(JournaledLogHandler.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		日志处理器
+	 * @param journal
+	 * 		磁盘日志
+	 */
+	public JournaledLogHandler(final LogHandler delegate, final SegmentJournal journal) {
+		this(delegate, journal, DEFAULT_REPLAY_INTERVAL, DEFAULT_REPLAY_BATCH_SIZE);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		日志处理器
+	 * @param journal
+	 * 		磁盘日志
+	 * @param replayInterval
+	 * 		重放间隔
+	 * @param replayBatchSize
+	 * 		单次重放的最大日志数量
+	 */
+	public JournaledLogHandler(final LogHandler delegate, final SegmentJournal journal, final Duration replayInterval,
+							   final int replayBatchSize) {
+		this(delegate, journal, replayInterval, replayBatchSize, new JsonLogDataCodec());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		日志处理器
+	 * @param journal
+	 * 		磁盘日志
+	 * @param replayInterval
+	 * 		重放间隔
+	 * @param replayBatchSize
+	 * 		单次重放的最大日志数量
+	 * @param codec
+	 * 		日志数据编解码器
+	 */
+	public JournaledLogHandler(final LogHandler delegate, final SegmentJournal journal, final Duration replayInterval,
+							   final int replayBatchSize, final LogDataCodec codec) {
+		Assert.isNull(delegate, "Delegate LogHandler cloud not be null.");
+		Assert.isNull(journal, "SegmentJournal cloud not be null.");
+		Assert.isNull(replayInterval, "Replay interval cloud not be null.");
+		Assert.isTrue(replayBatchSize <= 0, "Replay batch size must be greater than 0.");
+		Assert.isNull(codec, "LogDataCodec cloud not be null.");
+
+		this.delegate = delegate;
+		this.journal = journal;
+		this.codec = codec;
+		this.replayBatchSize = replayBatchSize;
+
+		final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+				new NamedThreadFactory("buession-logging-journal", true));
+
+		executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		executor.scheduleWithFixedDelay(this::replay, replayInterval.toMillis(), replayInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+		this.scheduler = executor;
+	}
+
+	/**
+	 * 返回被代理的日志处理器
+	 *
+	 * @return 日志处理器
+	 */
+	public LogHandler getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回磁盘日志
+	 *
+	 * @return 磁盘日志
+	 */
+	public SegmentJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 返回写入磁盘日志的日志数量
+	 *
+	 * @return 写入磁盘日志的日志数量
+	 */
+	public long getJournaledCount() {
+		return journaledCounter.sum();
+	}
+
+	/**
+	 * 返回因磁盘占用达到上限而丢弃的日志数量
+	 *
+	 * @return 丢弃的日志数量
+	 */
+	public long getDroppedCount() {
+		return droppedCounter.sum();
+	}
+
+	@Override
+	public int getBatchSize() {
+		return delegate instanceof BatchLogHandler ? ((BatchLogHandler) delegate).getBatchSize() : 0;
+	}
+
+	@Override
+	public Duration getFlushInterval() {
+		return delegate instanceof BatchLogHandler ? ((BatchLogHandler) delegate).getFlushInterval() : null;
+	}
+
+	@Override
+	public Status handle(final LogData logData) {
+		return handle(Collections.singletonList(logData));
+	}
+
+	@Override
+	public Status handle(final List<LogData> logDataList) {
+		if(journal.isEmpty() && invoke(logDataList) == Status.SUCCESS){
+			return Status.SUCCESS;
+		}
+
+		return append(logDataList);
+	}
+
+	/**
+	 * 按写入顺序重放磁盘日志，直至磁盘日志为空或后端处理失败
+	 */
+	public void replay() {
+		synchronized(replayMonitor){
+			try{
+				List<byte[]> records;
+
+				while((records = journal.peek(replayBatchSize)).isEmpty() == false){
+					final List<LogData> logDataList = new ArrayList<>(records.size());
+
+					for(byte[] record : records){
+						try{
+							logDataList.add(deserialize(record));
+						}catch(Exception e){
+							if(logger.isErrorEnabled()){
+								logger.error("Deserialize journaled log data failure, skip it: {}", e.getMessage());
+							}
+						}
+					}
+
+					if(logDataList.isEmpty() == false && invoke(logDataList) != Status.SUCCESS){
+						break;
+					}
+
+					journal.commit();
+				}
+			}catch(Exception e){
+				if(logger.isErrorEnabled()){
+					logger.error("Replay journaled log data failure: {}", e.getMessage(), e);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		scheduler.shutdownNow();
+
+		try{
+			scheduler.awaitTermination(DEFAULT_REPLAY_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+
+		synchronized(replayMonitor){
+			journal.close();
+		}
+	}
+
+	/**
+	 * 序列化日志数据
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 序列化结果
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	protected byte[] serialize(final LogData logData) throws IOException {
+		return codec.encode(logData);
+	}
+
+	/**
+	 * 反序列化日志数据
+	 *
+	 * @param data
+	 * 		序列化结果
+	 *
+	 * @return 日志数据
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	protected LogData deserialize(final byte[] data) throws IOException {
+		return codec.decode(data);
+	}
+
+	private Status invoke(final List<LogData> logDataList) {
+		try{
+			if(delegate instanceof BatchLogHandler){
+				return ((BatchLogHandler) delegate).handle(logDataList);
+			}
+
+			for(LogData logData : logDataList){
+				if(delegate.handle(logData) != Status.SUCCESS){
+					return Status.FAILURE;
+				}
+			}
+
+			return Status.SUCCESS;
+		}catch(Exception e){
+			if(logger.isErrorEnabled()){
+				logger.error("Handle log data failure: {}", e.getMessage());
+			}
+			return Status.FAILURE;
+		}
+	}
+
+	private Status append(final List<LogData> logDataList) {
+		Status status = Status.SUCCESS;
+
+		for(LogData logData : logDataList){
+			try{
+				if(journal.append(serialize(logData))){
+					journaledCounter.increment();
+					continue;
+				}
+
+				if(logger.isWarnEnabled()){
+					logger.warn("Journal {} reached the max disk size {}, log data dropped.", journal.getDirectory(),
+							journal.getMaxDiskSize());
+				}
+			}catch(Exception e){
+				if(logger.isErrorEnabled()){
+					logger.error("Append log data to journal failure: {}", e.getMessage(), e);
+				}
+			}
+
+			droppedCounter.increment();
+			status = Status.FAILURE;
+		}
+
+		return status;
+	}
+
+}
@@ -0,0 +1,568 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.journal;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 基于内存映射文件的分段日志，只追加写入，按写入顺序读取；
+ * 读取位置通过检查点文件持久化，已读完的分段会回收复用，总磁盘占用不超过设定的上限。
+ *
+ * <p>记录格式：{@code [长度(4)][CRC32C(4)][数据]}，CRC 同时覆盖分段编号，回收复用的分段中残留的旧记录不会被误读。</p>
+ *
+ * <p>同一时刻只允许一个读取者，写入与读取线程安全。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class SegmentJournal implements Closeable {
+
+	/**
+	 * 默认分段大小
+	 */
+	public final static int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * 默认最大磁盘占用
+	 */
+	public final static long DEFAULT_MAX_DISK_SIZE = 1024L * 1024 * 1024;
+
+	/**
+	 * 最多保留的空闲分段数量
+	 */
+	private final static int MAX_FREE_SEGMENTS = 2;
+
+	/**
+	 * 记录头大小
+	 */
+	private final static int HEADER_SIZE = 8;
+
+	/**
+	 * 分段结束标记
+	 */
+	private final static int END_OF_SEGMENT = -1;
+
+	/**
+	 * 检查点大小：分段编号(8) + 位置(4) + CRC32C(4)
+	 */
+	private final static int CHECKPOINT_SIZE = 16;
+
+	private final static String SEGMENT_SUFFIX = ".seg";
+
+	private final static String FREE_SEGMENT_SUFFIX = ".free";
+
+	private final static String CHECKPOINT_FILE_NAME = "checkpoint";
+
+	private final Path directory;
+
+	private final int segmentSize;
+
+	private final long maxDiskSize;
+
+	private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+	private final Deque<Path> freeSegments = new ArrayDeque<>(MAX_FREE_SEGMENTS);
+
+	private final FileChannel checkpointChannel;
+
+	private final MappedByteBuffer checkpointBuffer;
+
+	private Segment writeSegment;
+
+	private long readSegmentId;
+
+	private int readPosition;
+
+	private int pendingReadPosition = -1;
+
+	private boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(SegmentJournal.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public SegmentJournal(final Path directory) throws IOException {
+		this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_DISK_SIZE);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 * @param segmentSize
+	 * 		分段大小
+	 * @param maxDiskSize
+	 * 		最大磁盘占用，不能小于分段大小
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public SegmentJournal(final Path directory, final int segmentSize, final long maxDiskSize) throws IOException {
+		Assert.isNull(directory, "Journal directory cloud not be null.");
+		Assert.isTrue(segmentSize <= HEADER_SIZE * 2, "Segment size must be greater than " + HEADER_SIZE * 2 + ".");
+		Assert.isTrue(maxDiskSize < segmentSize, "Max disk size must be greater than or equal to segment size.");
+
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxDiskSize = maxDiskSize;
+
+		Files.createDirectories(directory);
+
+		checkpointChannel = FileChannel.open(directory.resolve(CHECKPOINT_FILE_NAME), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		checkpointBuffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0, CHECKPOINT_SIZE);
+
+		recover();
+	}
+
+	/**
+	 * 返回分段文件目录
+	 *
+	 * @return 分段文件目录
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 返回分段大小
+	 *
+	 * @return 分段大小
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * 返回最大磁盘占用
+	 *
+	 * @return 最大磁盘占用
+	 */
+	public long getMaxDiskSize() {
+		return maxDiskSize;
+	}
+
+	/**
+	 * 返回单条记录的最大字节数
+	 *
+	 * @return 单条记录的最大字节数
+	 */
+	public int getMaxRecordSize() {
+		return segmentSize - HEADER_SIZE;
+	}
+
+	/**
+	 * 返回当前分段数量（不含空闲分段）
+	 *
+	 * @return 分段数量
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * 返回当前磁盘占用，包括空闲分段
+	 *
+	 * @return 磁盘占用
+	 */
+	public synchronized long getDiskUsage() {
+		return (long) (segments.size() + freeSegments.size()) * segmentSize;
+	}
+
+	/**
+	 * 返回是否没有未读取的记录
+	 *
+	 * @return 没有未读取的记录返回 true；否则返回 false
+	 */
+	public synchronized boolean isEmpty() {
+		return readSegmentId == writeSegment.id && readPosition >= writeSegment.position;
+	}
+
+	/**
+	 * 追加一条记录
+	 *
+	 * @param data
+	 * 		记录数据
+	 *
+	 * @return 追加成功返回 true；磁盘占用达到上限时返回 false
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public synchronized boolean append(final byte[] data) throws IOException {
+		Assert.isNull(data, "Record data cloud not be null.");
+		Assert.isTrue(data.length > getMaxRecordSize(),
+				"Record size " + data.length + " exceeds the max record size " + getMaxRecordSize() + ".");
+		ensureOpen();
+
+		if(writeSegment.remaining() < HEADER_SIZE + data.length){
+			if(roll() == false){
+				return false;
+			}
+		}
+
+		final ByteBuffer buffer = writeSegment.buffer;
+		final int position = writeSegment.position;
+
+		buffer.position(position + HEADER_SIZE);
+		buffer.put(data);
+		// 先写数据再写头，进程中途退出时不会留下头部有效但数据不完整的记录
+		buffer.putInt(position + 4, crc(writeSegment.id, data));
+		buffer.putInt(position, data.length);
+
+		writeSegment.position = position + HEADER_SIZE + data.length;
+
+		return true;
+	}
+
+	/**
+	 * 读取当前读取位置之后最多 {@code maxRecords} 条记录，不移动读取位置；
+	 * 处理完成后需调用 {@link #commit()} 确认。一次读取不会跨越分段
+	 *
+	 * @param maxRecords
+	 * 		最多读取的记录数
+	 *
+	 * @return 记录列表，没有未读取的记录时返回空列表
+	 */
+	public synchronized List<byte[]> peek(final int maxRecords) {
+		Assert.isTrue(maxRecords <= 0, "Max records must be greater than 0.");
+		ensureOpen();
+
+		final List<byte[]> records = new ArrayList<>(Math.min(maxRecords, 64));
+
+		while(true){
+			final Segment segment = segments.get(readSegmentId);
+			int position = readPosition;
+
+			while(records.size() < maxRecords){
+				if(segment == writeSegment && position >= writeSegment.position){
+					break;
+				}
+
+				final byte[] data = read(segment, position);
+				if(data == null){
+					break;
+				}
+
+				records.add(data);
+				position += HEADER_SIZE + data.length;
+			}
+
+			if(records.isEmpty() == false || segment == writeSegment){
+				pendingReadPosition = position;
+				return records;
+			}
+
+			// 当前分段已读完，转到下一分段
+			if(segmentSize - readPosition >= HEADER_SIZE && segment.buffer.getInt(readPosition) != END_OF_SEGMENT &&
+					logger.isWarnEnabled()){
+				logger.warn("Journal segment {} is corrupted at position {}, skip the rest of it.", segment.id,
+						readPosition);
+			}
+			readSegmentId = segments.higherKey(readSegmentId);
+			readPosition = 0;
+			recycle(segment);
+			writeCheckpoint();
+		}
+	}
+
+	/**
+	 * 确认最近一次 {@link #peek(int)} 读取的记录已处理，移动读取位置并写入检查点
+	 */
+	public synchronized void commit() {
+		ensureOpen();
+
+		if(pendingReadPosition >= 0){
+			readPosition = pendingReadPosition;
+			pendingReadPosition = -1;
+			writeCheckpoint();
+		}
+	}
+
+	/**
+	 * 将写入的记录及检查点刷写到磁盘
+	 */
+	public synchronized void sync() {
+		if(closed == false){
+			writeSegment.buffer.force();
+			checkpointBuffer.force();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed){
+			return;
+		}
+
+		sync();
+		closed = true;
+
+		for(Segment segment : segments.values()){
+			segment.channel.close();
+		}
+		segments.clear();
+		checkpointChannel.close();
+	}
+
+	private void recover() throws IOException {
+		final TreeMap<Long, Path> files = new TreeMap<>();
+		long maxSegmentId = -1L;
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory)){
+			for(Path path : stream){
+				final String fileName = path.getFileName().toString();
+
+				if(fileName.endsWith(SEGMENT_SUFFIX)){
+					files.put(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())),
+							path);
+				}else if(fileName.endsWith(FREE_SEGMENT_SUFFIX)){
+					final long id = Long.parseLong(fileName.substring(0, fileName.indexOf('.')));
+
+					maxSegmentId = Math.max(maxSegmentId, id);
+					freeSegments.add(path);
+				}
+			}
+		}
+
+		readSegmentId = files.isEmpty() ? 0L : files.firstKey();
+		readPosition = 0;
+
+		final long checkpointSegmentId = checkpointBuffer.getLong(0);
+		final int checkpointPosition = checkpointBuffer.getInt(8);
+		final int checkpointCrc = checkpointBuffer.getInt(12);
+
+		if(checkpointCrc != 0 && checkpointCrc == checkpointCrc(checkpointSegmentId, checkpointPosition)){
+			if(files.containsKey(checkpointSegmentId)){
+				readSegmentId = checkpointSegmentId;
+				readPosition = checkpointPosition;
+			}
+			maxSegmentId = Math.max(maxSegmentId, checkpointSegmentId);
+		}
+
+		for(Map.Entry<Long, Path> e : files.entrySet()){
+			if(e.getKey() < readSegmentId){
+				Files.delete(e.getValue());
+			}else{
+				segments.put(e.getKey(), openSegment(e.getKey(), e.getValue()));
+			}
+		}
+
+		if(segments.isEmpty()){
+			// 分段编号不能与回收分段中残留记录的编号重复
+			readSegmentId = maxSegmentId + 1;
+			writeSegment = createSegment(readSegmentId);
+		}else{
+			writeSegment = segments.lastEntry().getValue();
+
+			// 从最后一个有效记录之后继续写入
+			int position = writeSegment.id == readSegmentId ? readPosition : 0;
+			byte[] data;
+
+			while(position < segmentSize && (data = read(writeSegment, position)) != null){
+				position += HEADER_SIZE + data.length;
+			}
+			writeSegment.position = position;
+
+			// 非写入分段在读完前不会被追加，置为已写满
+			for(Segment segment : segments.headMap(writeSegment.id).values()){
+				segment.position = segmentSize;
+			}
+		}
+
+		writeCheckpoint();
+	}
+
+	private boolean roll() throws IOException {
+		if(freeSegments.isEmpty() && (long) (segments.size() + 1) * segmentSize > maxDiskSize){
+			return false;
+		}
+
+		if(writeSegment.remaining() >= 4){
+			writeSegment.buffer.putInt(writeSegment.position, END_OF_SEGMENT);
+		}
+		writeSegment.buffer.force();
+		writeSegment.position = segmentSize;
+
+		writeSegment = createSegment(writeSegment.id + 1);
+
+		return true;
+	}
+
+	private Segment createSegment(final long id) throws IOException {
+		final Path path = directory.resolve(segmentFileName(id));
+		final Path free = freeSegments.poll();
+
+		if(free != null){
+			Files.move(free, path, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		final Segment segment = openSegment(id, path);
+
+		segments.put(id, segment);
+
+		return segment;
+	}
+
+	private Segment openSegment(final long id, final Path path) throws IOException {
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		try{
+			return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+		}catch(IOException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	private void recycle(final Segment segment) {
+		segments.remove(segment.id);
+
+		try{
+			segment.channel.close();
+
+			if(freeSegments.size() < MAX_FREE_SEGMENTS){
+				final Path free = directory.resolve(segmentFileName(segment.id) + FREE_SEGMENT_SUFFIX);
+
+				Files.move(segment.path, free, StandardCopyOption.REPLACE_EXISTING);
+				freeSegments.add(free);
+			}else{
+				Files.delete(segment.path);
+			}
+		}catch(IOException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Recycle journal segment {} failure: {}", segment.path, e.getMessage());
+			}
+		}
+	}
+
+	private byte[] read(final Segment segment, final int position) {
+		if(segmentSize - position < HEADER_SIZE){
+			return null;
+		}
+
+		final ByteBuffer buffer = segment.buffer;
+		final int length = buffer.getInt(position);
+
+		if(length <= 0 || length > segmentSize - position - HEADER_SIZE){
+			return null;
+		}
+
+		final byte[] data = new byte[length];
+
+		buffer.get(position + HEADER_SIZE, data);
+
+		return buffer.getInt(position + 4) == crc(segment.id, data) ? data : null;
+	}
+
+	private void writeCheckpoint() {
+		checkpointBuffer.putLong(0, readSegmentId);
+		checkpointBuffer.putInt(8, readPosition);
+		checkpointBuffer.putInt(12, checkpointCrc(readSegmentId, readPosition));
+	}
+
+	private void ensureOpen() {
+		if(closed){
+			throw new IllegalStateException("Journal " + directory + " has been closed.");
+		}
+	}
+
+	private static int crc(final long segmentId, final byte[] data) {
+		final CRC32C crc32c = new CRC32C();
+
+		crc32c.update(ByteBuffer.allocate(8).putLong(0, segmentId));
+		crc32c.update(data);
+
+		return (int) crc32c.getValue();
+	}
+
+	private static int checkpointCrc(final long segmentId, final int position) {
+		final CRC32C crc32c = new CRC32C();
+
+		crc32c.update(ByteBuffer.allocate(12).putLong(0, segmentId).putInt(8, position));
+
+		// 避免与全零的初始检查点混淆
+		return (int) crc32c.getValue() | 1;
+	}
+
+	private static String segmentFileName(final long id) {
+		return String.format("%020d", id) + SEGMENT_SUFFIX;
+	}
+
+	private final static class Segment {
+
+		private final long id;
+
+		private final Path path;
+
+		private final FileChannel channel;
+
+		private final MappedByteBuffer buffer;
+
+		private int position;
+
+		private Segment(final long id, final Path path, final FileChannel channel, final MappedByteBuffer buffer) {
+			this.id = id;
+			this.path = path;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		private int remaining() {
+			return buffer.capacity() - position;
+		}
+
+	}
+
+}
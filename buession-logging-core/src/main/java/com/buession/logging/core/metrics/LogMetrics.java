@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.metrics;
+
+import com.buession.lang.Status;
+import com.buession.logging.core.LogType;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 日志管道指标采集 SPI，默认实现 {@link #NOOP} 不采集任何指标
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public interface LogMetrics {
+
+	/**
+	 * 不采集任何指标的实现
+	 */
+	LogMetrics NOOP = new LogMetrics() {
+
+	};
+
+	/**
+	 * 记录一次日志保存，即 {@code LogManager.save} 在调用线程中的耗时
+	 *
+	 * @param logType
+	 * 		日志类型
+	 * @param status
+	 * 		保存结果
+	 * @param durationNanos
+	 * 		耗时（纳秒）
+	 */
+	default void recordSave(LogType logType, Status status, long durationNanos) {
+	}
+
+	/**
+	 * 记录一次日志补全
+	 *
+	 * @param enricher
+	 * 		补全器名称
+	 * @param success
+	 * 		是否成功
+	 * @param durationNanos
+	 * 		耗时（纳秒）
+	 */
+	default void recordEnrichment(String enricher, boolean success, long durationNanos) {
+	}
+
+	/**
+	 * 记录一次日志处理器调用
+	 *
+	 * @param handler
+	 * 		日志处理器名称
+	 * @param status
+	 * 		处理结果
+	 * @param count
+	 * 		日志数量
+	 * @param durationNanos
+	 * 		耗时（纳秒）
+	 */
+	default void recordHandle(String handler, Status status, int count, long durationNanos) {
+	}
+
+	/**
+	 * 注册仪表，如：队列深度、处理中的批次数
+	 *
+	 * @param name
+	 * 		指标名称
+	 * @param obj
+	 * 		被观测对象
+	 * @param function
+	 * 		取值函数
+	 * @param tags
+	 * 		标签，按名称、值依次排列
+	 * @param <T>
+	 * 		被观测对象类型
+	 */
+	default <T> void gauge(String name, T obj, ToDoubleFunction<T> function, String... tags) {
+	}
+
+}
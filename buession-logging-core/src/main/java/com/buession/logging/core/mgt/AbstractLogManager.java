@@ -25,24 +25,35 @@
 package com.buession.logging.core.mgt;
 
 import com.buession.geoip.Resolver;
-import com.buession.geoip.model.Location;
-import com.buession.lang.Constants;
-import com.buession.lang.Geo;
 import com.buession.lang.Status;
-import com.buession.logging.core.Browser;
 import com.buession.logging.core.GeoLocation;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.LogType;
+import com.buession.logging.core.enricher.EnrichmentContext;
+import com.buession.logging.core.enricher.EnrichmentPipeline;
+import com.buession.logging.core.enricher.GeoLocationEnricher;
+import com.buession.logging.core.enricher.LogEnricher;
+import com.buession.logging.core.enricher.PrincipalEnricher;
+import com.buession.logging.core.enricher.UserAgentEnricher;
+import com.buession.logging.core.geo.CachingGeoLocationResolver;
+import com.buession.logging.core.geo.DefaultGeoLocationResolver;
+import com.buession.logging.core.geo.GeoLocationResolver;
 import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.core.handler.PrincipalHandler;
+import com.buession.logging.core.metrics.LogMetrics;
 import com.buession.logging.core.request.Request;
 import com.buession.logging.core.request.RequestContext;
-import com.buession.web.utils.useragentutils.UserAgent;
+import com.buession.logging.core.useragent.CachingUserAgentParser;
+import com.buession.logging.core.useragent.UserAgentDetails;
+import com.buession.logging.core.useragent.UserAgentParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.Optional;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 日志管理器抽象类
@@ -72,6 +83,43 @@ public abstract class AbstractLogManager implements LogManager {
 	 */
 	private Resolver geoResolver;
 
+	/**
+	 * 地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	private GeoLocationResolver geoLocationResolver;
+
+	/**
+	 * User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	private UserAgentParser userAgentParser = new CachingUserAgentParser();
+
+	/**
+	 * 自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	private List<LogEnricher> enrichers;
+
+	/**
+	 * 日志补全器默认超时时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration enrichmentTimeout = EnrichmentPipeline.DEFAULT_TIMEOUT;
+
+	/**
+	 * 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	private LogMetrics logMetrics = LogMetrics.NOOP;
+
+	private volatile EnrichmentPipeline enrichmentPipeline;
+
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@Override
@@ -92,6 +140,7 @@ public abstract class AbstractLogManager implements LogManager {
 	@Override
 	public void setPrincipalHandler(PrincipalHandler<?> principalHandler) {
 		this.principalHandler = principalHandler;
+		resetEnrichmentPipeline();
 	}
 
 	@Override
@@ -112,12 +161,107 @@ public abstract class AbstractLogManager implements LogManager {
 	@Override
 	public void setGeoResolver(Resolver geoResolver) {
 		this.geoResolver = geoResolver;
+		this.geoLocationResolver = geoResolver == null ? null :
+				new CachingGeoLocationResolver(new DefaultGeoLocationResolver(geoResolver));
+		resetEnrichmentPipeline();
+	}
+
+	@Override
+	public GeoLocationResolver getGeoLocationResolver() {
+		return geoLocationResolver;
+	}
+
+	@Override
+	public void setGeoLocationResolver(GeoLocationResolver geoLocationResolver) {
+		this.geoLocationResolver = geoLocationResolver;
+		resetEnrichmentPipeline();
+	}
+
+	@Override
+	public UserAgentParser getUserAgentParser() {
+		return userAgentParser;
+	}
+
+	@Override
+	public void setUserAgentParser(UserAgentParser userAgentParser) {
+		this.userAgentParser = userAgentParser == null ? new CachingUserAgentParser() : userAgentParser;
+		resetEnrichmentPipeline();
+	}
+
+	@Override
+	public List<LogEnricher> getEnrichers() {
+		return enrichers;
+	}
+
+	@Override
+	public void setEnrichers(List<LogEnricher> enrichers) {
+		this.enrichers = enrichers;
+		resetEnrichmentPipeline();
+	}
+
+	@Override
+	public Duration getEnrichmentTimeout() {
+		return enrichmentTimeout;
+	}
+
+	@Override
+	public void setEnrichmentTimeout(Duration enrichmentTimeout) {
+		this.enrichmentTimeout = enrichmentTimeout;
+		resetEnrichmentPipeline();
+	}
+
+	@Override
+	public LogMetrics getLogMetrics() {
+		return logMetrics;
+	}
+
+	@Override
+	public void setLogMetrics(LogMetrics logMetrics) {
+		this.logMetrics = logMetrics == null ? LogMetrics.NOOP : logMetrics;
+		resetEnrichmentPipeline();
 	}
 
 	@Override
 	public Status save(final LogData logData) {
-		final Request request = requestContext.createRequest();
+		return save(logData, LogType.LOG);
+	}
 
+	@Override
+	public Status save(final LogData logData, final LogType logType) {
+		final long start = System.nanoTime();
+		Status status = Status.FAILURE;
+
+		try{
+			final Request request = requestContext.createRequest();
+			final EnrichmentContext context = new EnrichmentContext(logData, logType);
+
+			prepare(logData, request);
+			getEnrichmentPipeline().capture(context, request);
+
+			status = doSave(context);
+			return status;
+		}finally{
+			logMetrics.recordSave(logType, status, System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public void close() {
+		resetEnrichmentPipeline();
+	}
+
+	/**
+	 * 从请求中复制日志所需的原始字段（客户端 IP、User-Agent、URL、请求方式等），
+	 * 该方法在调用 {@link #save(LogData)} 的线程中执行，不做任何解析
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param request
+	 * 		请求对象
+	 *
+	 * @since 2.1.0
+	 */
+	protected void prepare(final LogData logData, final Request request) {
 		logData.setDateTime(new Date());
 		logData.setUrl(request.getUrl());
 		logData.setRequestMethod(request.getRequestMethod());
@@ -125,45 +269,130 @@ public abstract class AbstractLogManager implements LogManager {
 		logData.setClientIp(request.getClientIp());
 		logData.setRemoteAddr(request.getRemoteAddr());
 		logData.setUserAgent(request.getUserAgent());
+	}
 
-		if(getGeoResolver() != null){
-			parseLocation(logData);
-		}
+	/**
+	 * 补全日志数据后交给日志处理器
+	 *
+	 * @param context
+	 * 		补全上下文
+	 *
+	 * @return 执行结果
+	 *
+	 * @since 2.1.0
+	 */
+	protected Status doSave(final EnrichmentContext context) {
+		enrich(context);
+		return getLogHandler().handle(context.getLogData());
+	}
+
+	/**
+	 * 执行日志补全管道，解析地理位置、操作系统、浏览器、用户凭证等信息；
+	 * 对于 {@link AsyncLogManager}，该方法在消费线程中执行
+	 *
+	 * @param context
+	 * 		补全上下文
+	 *
+	 * @since 2.1.0
+	 */
+	protected void enrich(final EnrichmentContext context) {
+		getEnrichmentPipeline().enrich(context);
+	}
 
-		parseUserAgent(logData, request);
+	/**
+	 * 返回日志补全管道，首次调用时创建
+	 *
+	 * @return 日志补全管道
+	 *
+	 * @since 2.1.0
+	 */
+	protected EnrichmentPipeline getEnrichmentPipeline() {
+		EnrichmentPipeline pipeline = enrichmentPipeline;
+
+		if(pipeline == null){
+			synchronized(this){
+				pipeline = enrichmentPipeline;
+				if(pipeline == null){
+					pipeline = createEnrichmentPipeline();
+					enrichmentPipeline = pipeline;
+				}
+			}
+		}
 
-		return getLogHandler().handle(logData);
+		return pipeline;
 	}
 
-	protected void parseLocation(final LogData logData) {
-		try{
-			final Location location = getGeoResolver().location(logData.getClientIp());
+	/**
+	 * 创建日志补全管道，内置地理位置、User-Agent、用户凭证补全器，并追加自定义补全器
+	 *
+	 * @return 日志补全管道
+	 *
+	 * @since 2.1.0
+	 */
+	protected EnrichmentPipeline createEnrichmentPipeline() {
+		final List<LogEnricher> pipelineEnrichers = new ArrayList<>();
 
-			if(location == null){
-				return;
-			}
+		if(getGeoLocationResolver() != null){
+			pipelineEnrichers.add(isOverridden("parseLocation", LogData.class) ? new ParseLocationEnricher() :
+					new GeoLocationEnricher(getGeoLocationResolver()));
+		}
 
-			final GeoLocation geoLocation = new GeoLocation();
+		if(isOverridden("parseUserAgent", LogData.class, Request.class)){
+			pipelineEnrichers.add(new ParseUserAgentEnricher());
+		}else if(getUserAgentParser() != null){
+			pipelineEnrichers.add(new UserAgentEnricher(getUserAgentParser()));
+		}
 
-			if(location.getGeo() != null && location.getGeo().getLongitude() != null &&
-					location.getGeo().getLatitude() != null){
-				geoLocation.setGeo(new Geo(location.getGeo().getLongitude(), location.getGeo().getLatitude()));
-			}
+		if(getPrincipalHandler() != null){
+			pipelineEnrichers.add(new PrincipalEnricher<>(getPrincipalHandler()));
+		}
+
+		if(getEnrichers() != null){
+			pipelineEnrichers.addAll(getEnrichers());
+		}
+
+		return new EnrichmentPipeline(pipelineEnrichers, getEnrichmentTimeout(), null, getLogMetrics());
+	}
+
+	/**
+	 * 配置变更后丢弃已创建的日志补全管道，下次使用时重新创建
+	 *
+	 * @since 2.1.0
+	 */
+	protected void resetEnrichmentPipeline() {
+		final EnrichmentPipeline pipeline;
+
+		synchronized(this){
+			pipeline = enrichmentPipeline;
+			enrichmentPipeline = null;
+		}
+
+		if(pipeline != null){
+			pipeline.close();
+		}
+	}
 
-			final GeoLocation.Country country = new GeoLocation.Country();
-			country.setCode(Optional.ofNullable(location.getCountry().getIsoCode()).orElse(Constants.EMPTY_STRING));
-			country.setName(Optional.ofNullable(location.getCountry().getName()).orElse(Constants.EMPTY_STRING));
-			country.setFullName(
-					Optional.ofNullable(location.getCountry().getFullName()).orElse(Constants.EMPTY_STRING));
-			geoLocation.setCountry(country);
+	/**
+	 * 解析地理位置；子类覆盖该方法时，将代替 {@link GeoLocationEnricher} 在补全线程中执行
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @deprecated 由 {@link GeoLocationEnricher} 代替，请通过 {@link #setGeoLocationResolver(GeoLocationResolver)}
+	 * 自定义地理位置解析，或通过 {@link #setEnrichers(List)} 注册自定义补全器
+	 */
+	@Deprecated
+	protected void parseLocation(final LogData logData) {
+		if(getGeoLocationResolver() == null){
+			return;
+		}
 
-			final GeoLocation.District district = new GeoLocation.District();
-			district.setName(Optional.ofNullable(location.getDistrict().getName()).orElse(Constants.EMPTY_STRING));
-			district.setFullName(
-					Optional.ofNullable(location.getDistrict().getFullName()).orElse(Constants.EMPTY_STRING));
-			geoLocation.setDistrict(district);
+		try{
+			final GeoLocation geoLocation = getGeoLocationResolver().resolve(logData.getClientIp());
 
-			logData.setLocation(geoLocation);
+			if(geoLocation != null){
+				logData.setLocation(geoLocation);
+			}
 		}catch(Exception e){
 			if(logger.isWarnEnabled()){
 				logger.warn("Parse ip: {} to get location error: {}", logData.getClientIp(), e.getMessage());
@@ -171,25 +400,81 @@ public abstract class AbstractLogManager implements LogManager {
 		}
 	}
 
+	/**
+	 * 解析 User-Agent；子类覆盖该方法时，将代替 {@link UserAgentEnricher} 在请求线程中执行，
+	 * 以保证传入的请求对象仍然有效
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param request
+	 * 		请求对象
+	 *
+	 * @deprecated 由 {@link UserAgentEnricher} 代替，请通过 {@link #setUserAgentParser(UserAgentParser)}
+	 * 自定义 User-Agent 解析，或通过 {@link #setEnrichers(List)} 注册自定义补全器
+	 */
+	@Deprecated
 	protected void parseUserAgent(final LogData logData, final Request request) {
 		logData.setUserAgent(request.getUserAgent());
 
-		final UserAgent userAgent = new UserAgent(logData.getUserAgent());
+		final UserAgentDetails userAgentDetails = getUserAgentParser().parse(logData.getUserAgent());
 
-		final OperatingSystem operatingSystem = new OperatingSystem();
-		operatingSystem.setName(
-				Optional.ofNullable(userAgent.getOperatingSystem().name()).orElse(Constants.EMPTY_STRING));
-		operatingSystem.setVersion(
-				Optional.ofNullable(userAgent.getOperatingSystem().getVersion()).orElse(Constants.EMPTY_STRING));
-		logData.setOperatingSystem(operatingSystem);
+		logData.setOperatingSystem(userAgentDetails.getOperatingSystem());
+		logData.setDeviceType(userAgentDetails.getDeviceType());
+		logData.setBrowser(userAgentDetails.getBrowser());
+	}
+
+	private boolean isOverridden(final String name, final Class<?>... parameterTypes) {
+		for(Class<?> clazz = getClass(); clazz != AbstractLogManager.class; clazz = clazz.getSuperclass()){
+			try{
+				clazz.getDeclaredMethod(name, parameterTypes);
+				return true;
+			}catch(NoSuchMethodException e){
+				// 继续查找父类
+			}
+		}
 
-		logData.setDeviceType(userAgent.getOperatingSystem().getDeviceType());
+		return false;
+	}
+
+	/**
+	 * 调用子类覆盖的 {@link #parseLocation(LogData)} 的补全器
+	 */
+	private final class ParseLocationEnricher implements LogEnricher {
+
+		@Override
+		public boolean isBlocking() {
+			return false;
+		}
+
+		@SuppressWarnings({"deprecation"})
+		@Override
+		public Consumer<LogData> enrich(final EnrichmentContext context) {
+			return AbstractLogManager.this::parseLocation;
+		}
+
+	}
+
+	/**
+	 * 在请求线程中调用子类覆盖的 {@link #parseUserAgent(LogData, Request)} 的补全器
+	 */
+	private final class ParseUserAgentEnricher implements LogEnricher {
+
+		@SuppressWarnings({"deprecation"})
+		@Override
+		public void capture(final EnrichmentContext context, final Request request) {
+			parseUserAgent(context.getLogData(), request);
+		}
+
+		@Override
+		public boolean isBlocking() {
+			return false;
+		}
+
+		@Override
+		public Consumer<LogData> enrich(final EnrichmentContext context) {
+			return null;
+		}
 
-		final Browser browser = new Browser();
-		browser.setName(Optional.ofNullable(userAgent.getBrowser().name()).orElse(Constants.EMPTY_STRING));
-		browser.setType(userAgent.getBrowser().getBrowserType());
-		browser.setVersion(Optional.ofNullable(userAgent.getBrowser().getVersion()).orElse(Constants.EMPTY_STRING));
-		logData.setBrowser(browser);
 	}
 
 }
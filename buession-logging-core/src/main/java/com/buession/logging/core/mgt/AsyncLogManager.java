@@ -0,0 +1,607 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.mgt;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogType;
+import com.buession.logging.core.enricher.EnrichmentContext;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import com.buession.logging.core.concurrent.OverflowPolicy;
+import com.buession.logging.core.concurrent.RingBuffer;
+import com.buession.logging.core.concurrent.WaitStrategy;
+import com.buession.logging.core.metrics.LogMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 异步日志管理器，请求线程只复制客户端 IP、User-Agent、URL 等原始字段，日志数据经预分配的环形队列交由消费线程；
+ * 地理位置、User-Agent 解析以及日志处理器的耗时均在消费线程中，不再计入请求线程；
+ * 队列积压时按 {@link OverflowPolicy} 处理，普通日志与审计日志可分别配置，被丢弃的日志按策略计数
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class AsyncLogManager extends AbstractLogManager {
+
+	/**
+	 * 默认队列容量
+	 */
+	public final static int DEFAULT_BUFFER_SIZE = 8192;
+
+	/**
+	 * 默认消费者等待策略
+	 */
+	public final static WaitStrategy DEFAULT_WAIT_STRATEGY = WaitStrategy.BLOCKING;
+
+	/**
+	 * 默认消费线程数
+	 */
+	public final static int DEFAULT_CONSUMERS = 1;
+
+	/**
+	 * 默认关闭等待时间
+	 */
+	public final static Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * 默认溢出策略
+	 */
+	public final static OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+
+	/**
+	 * 默认阻塞策略的最长等待时间
+	 */
+	public final static Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(1);
+
+	/**
+	 * 默认采样率
+	 */
+	public final static double DEFAULT_SAMPLE_RATE = 0.1D;
+
+	/**
+	 * 默认开始采样的队列占用比例
+	 */
+	public final static double DEFAULT_SAMPLE_THRESHOLD = 0.75D;
+
+	/**
+	 * 消费线程单次等待时长（毫秒），用于及时感知关闭
+	 */
+	private final static long POLL_TIMEOUT_MILLIS = 100L;
+
+	private final RingBuffer<EnrichmentContext> ringBuffer;
+
+	private final int consumers;
+
+	private final List<Thread> consumerThreads;
+
+	private final ThreadFactory threadFactory = new NamedThreadFactory("buession-logging-async");
+
+	private Duration shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+
+	private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+	private OverflowPolicy auditOverflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+	private Duration blockTimeout = DEFAULT_BLOCK_TIMEOUT;
+
+	private double sampleRate = DEFAULT_SAMPLE_RATE;
+
+	private double sampleThreshold = DEFAULT_SAMPLE_THRESHOLD;
+
+	private final Map<OverflowPolicy, LongAdder> droppedCounters = new EnumMap<>(OverflowPolicy.class);
+
+	private volatile boolean running = false;
+
+	private final Object lifecycleMonitor = new Object();
+
+	/**
+	 * 构造函数
+	 */
+	public AsyncLogManager() {
+		this(DEFAULT_BUFFER_SIZE, DEFAULT_WAIT_STRATEGY, DEFAULT_CONSUMERS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param bufferSize
+	 * 		队列容量，会向上取整为 2 的幂
+	 * @param waitStrategy
+	 * 		消费者等待策略
+	 * @param consumers
+	 * 		消费线程数
+	 */
+	public AsyncLogManager(final int bufferSize, final WaitStrategy waitStrategy, final int consumers) {
+		Assert.isTrue(consumers <= 0, "Consumers must be greater than 0.");
+		this.ringBuffer = new RingBuffer<>(bufferSize, waitStrategy);
+		this.consumers = consumers;
+		this.consumerThreads = new ArrayList<>(consumers);
+
+		for(OverflowPolicy policy : OverflowPolicy.values()){
+			droppedCounters.put(policy, new LongAdder());
+		}
+	}
+
+	/**
+	 * 返回队列容量
+	 *
+	 * @return 队列容量
+	 */
+	public int getBufferSize() {
+		return ringBuffer.capacity();
+	}
+
+	/**
+	 * 返回消费者等待策略
+	 *
+	 * @return 消费者等待策略
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return ringBuffer.getWaitStrategy();
+	}
+
+	/**
+	 * 返回消费线程数
+	 *
+	 * @return 消费线程数
+	 */
+	public int getConsumers() {
+		return consumers;
+	}
+
+	/**
+	 * 返回队列中待处理的日志数量
+	 *
+	 * @return 待处理的日志数量
+	 */
+	public int getQueueSize() {
+		return ringBuffer.size();
+	}
+
+	/**
+	 * 返回关闭时等待队列排空的最长时间
+	 *
+	 * @return 关闭等待时间
+	 */
+	public Duration getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	/**
+	 * 设置关闭时等待队列排空的最长时间
+	 *
+	 * @param shutdownTimeout
+	 * 		关闭等待时间
+	 */
+	public void setShutdownTimeout(Duration shutdownTimeout) {
+		this.shutdownTimeout = shutdownTimeout == null ? DEFAULT_SHUTDOWN_TIMEOUT : shutdownTimeout;
+	}
+
+	/**
+	 * 返回普通日志的溢出策略
+	 *
+	 * @return 普通日志的溢出策略
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * 设置普通日志的溢出策略
+	 *
+	 * @param overflowPolicy
+	 * 		普通日志的溢出策略
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy == null ? DEFAULT_OVERFLOW_POLICY : overflowPolicy;
+	}
+
+	/**
+	 * 返回审计日志的溢出策略
+	 *
+	 * @return 审计日志的溢出策略
+	 */
+	public OverflowPolicy getAuditOverflowPolicy() {
+		return auditOverflowPolicy;
+	}
+
+	/**
+	 * 设置审计日志的溢出策略
+	 *
+	 * @param auditOverflowPolicy
+	 * 		审计日志的溢出策略
+	 */
+	public void setAuditOverflowPolicy(OverflowPolicy auditOverflowPolicy) {
+		this.auditOverflowPolicy = auditOverflowPolicy == null ? DEFAULT_OVERFLOW_POLICY : auditOverflowPolicy;
+	}
+
+	/**
+	 * 返回指定日志类型的溢出策略
+	 *
+	 * @param logType
+	 * 		日志类型
+	 *
+	 * @return 溢出策略
+	 */
+	public OverflowPolicy getOverflowPolicy(final LogType logType) {
+		return logType == LogType.AUDIT ? auditOverflowPolicy : overflowPolicy;
+	}
+
+	/**
+	 * 返回阻塞策略的最长等待时间
+	 *
+	 * @return 阻塞策略的最长等待时间，为 null 时一直等待
+	 */
+	public Duration getBlockTimeout() {
+		return blockTimeout;
+	}
+
+	/**
+	 * 设置阻塞策略的最长等待时间
+	 *
+	 * @param blockTimeout
+	 * 		阻塞策略的最长等待时间，为 null 时一直等待
+	 */
+	public void setBlockTimeout(Duration blockTimeout) {
+		this.blockTimeout = blockTimeout;
+	}
+
+	/**
+	 * 返回采样策略的采样率
+	 *
+	 * @return 采样率
+	 */
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * 设置采样策略的采样率，取值范围 [0, 1]
+	 *
+	 * @param sampleRate
+	 * 		采样率
+	 */
+	public void setSampleRate(double sampleRate) {
+		Assert.isTrue(sampleRate < 0D || sampleRate > 1D, "Sample rate must be between 0 and 1.");
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * 返回开始采样的队列占用比例
+	 *
+	 * @return 开始采样的队列占用比例
+	 */
+	public double getSampleThreshold() {
+		return sampleThreshold;
+	}
+
+	/**
+	 * 设置开始采样的队列占用比例，取值范围 [0, 1]
+	 *
+	 * @param sampleThreshold
+	 * 		开始采样的队列占用比例
+	 */
+	public void setSampleThreshold(double sampleThreshold) {
+		Assert.isTrue(sampleThreshold < 0D || sampleThreshold > 1D, "Sample threshold must be between 0 and 1.");
+		this.sampleThreshold = sampleThreshold;
+	}
+
+	/**
+	 * 返回指定溢出策略丢弃的日志数量
+	 *
+	 * @param policy
+	 * 		溢出策略
+	 *
+	 * @return 丢弃的日志数量
+	 */
+	public long getDroppedCount(final OverflowPolicy policy) {
+		Assert.isNull(policy, "OverflowPolicy cloud not be null.");
+		return droppedCounters.get(policy).sum();
+	}
+
+	/**
+	 * 返回丢弃的日志总数
+	 *
+	 * @return 丢弃的日志总数
+	 */
+	public long getDroppedCount() {
+		long count = 0L;
+
+		for(LongAdder counter : droppedCounters.values()){
+			count += counter.sum();
+		}
+
+		return count;
+	}
+
+	/**
+	 * 设置指标采集，并注册队列深度、丢弃日志数量仪表
+	 *
+	 * @param logMetrics
+	 * 		指标采集，为 null 时不采集
+	 */
+	@Override
+	public void setLogMetrics(LogMetrics logMetrics) {
+		super.setLogMetrics(logMetrics);
+
+		getLogMetrics().gauge("buession.logging.async.queue.size", this, AsyncLogManager::getQueueSize);
+		for(OverflowPolicy policy : OverflowPolicy.values()){
+			getLogMetrics().gauge("buession.logging.async.dropped", this, (m)->m.getDroppedCount(policy), "policy",
+					policy.name().toLowerCase());
+		}
+	}
+
+	/**
+	 * 返回消费线程是否已启动
+	 *
+	 * @return 消费线程已启动返回 true；否则返回 false
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 启动消费线程；未启动时日志在调用线程中同步处理
+	 */
+	public void start() {
+		synchronized(lifecycleMonitor){
+			if(running){
+				return;
+			}
+
+			running = true;
+			for(int i = 0; i < consumers; i++){
+				final Thread thread = threadFactory.newThread(this::consume);
+
+				consumerThreads.add(thread);
+				thread.start();
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		synchronized(lifecycleMonitor){
+			if(running == false){
+				super.close();
+				return;
+			}
+			running = false;
+		}
+
+		final long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+
+		for(Thread thread : consumerThreads){
+			try{
+				thread.join(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		consumerThreads.clear();
+
+		drain();
+
+		if(ringBuffer.isEmpty() == false && logger.isWarnEnabled()){
+			logger.warn("Async log manager closed with {} log data unprocessed.", ringBuffer.size());
+		}
+
+		super.close();
+	}
+
+	@Override
+	protected Status doSave(final EnrichmentContext context) {
+		if(running == false){
+			return super.doSave(context);
+		}
+
+		final OverflowPolicy policy = getOverflowPolicy(context.getLogType());
+
+		if(policy == OverflowPolicy.SAMPLE && isUnderPressure() &&
+				ThreadLocalRandom.current().nextDouble() >= sampleRate){
+			return drop(policy);
+		}
+
+		if(ringBuffer.offer(context) == false){
+			switch(policy){
+				case DROP_NEWEST:
+				case SAMPLE:
+					return drop(policy);
+				case DROP_OLDEST:
+					offerDropOldest(context);
+					break;
+				default:
+					if(offerBlocking(context) == false){
+						return running ? drop(policy) : super.doSave(context);
+					}
+					break;
+			}
+		}
+
+		// 入队期间管理器被关闭，消费线程可能已退出
+		if(running == false){
+			drain();
+		}
+
+		return Status.SUCCESS;
+	}
+
+	/**
+	 * 阻塞直至入队成功、超时或管理器被关闭
+	 *
+	 * @param context
+	 * 		补全上下文
+	 *
+	 * @return 入队成功返回 true；否则返回 false
+	 */
+	private boolean offerBlocking(final EnrichmentContext context) {
+		final Duration timeout = blockTimeout;
+		return offerBlocking(context, timeout != null, blockDeadline(timeout));
+	}
+
+	/**
+	 * 阻塞直至入队成功、到达截止时间或管理器被关闭
+	 *
+	 * @param context
+	 * 		补全上下文
+	 * @param timed
+	 * 		是否有截止时间，为 false 时一直阻塞直至入队成功或管理器被关闭
+	 * @param deadline
+	 * 		截止时间（{@link System#nanoTime()}），timed 为 false 时忽略
+	 *
+	 * @return 入队成功返回 true；否则返回 false
+	 */
+	private boolean offerBlocking(final EnrichmentContext context, final boolean timed, final long deadline) {
+		final WaitStrategy producerWaitStrategy =
+				getWaitStrategy() == WaitStrategy.BLOCKING ? WaitStrategy.SLEEPING : getWaitStrategy();
+		int counter = 0;
+
+		while(ringBuffer.offer(context) == false){
+			if(running == false || (timed && System.nanoTime() - deadline >= 0)){
+				return false;
+			}
+			RingBuffer.idle(producerWaitStrategy, counter++);
+		}
+
+		return true;
+	}
+
+	/**
+	 * 淘汰队列中最早的日志直至入队成功；被淘汰的日志若其策略为阻塞（如：审计日志），则在当前日志入队后按阻塞策略重新入队，
+	 * 在阻塞超时时间内仍未入队的计入丢弃；被淘汰的日志不会在调用线程中处理
+	 *
+	 * @param context
+	 * 		补全上下文
+	 */
+	private void offerDropOldest(final EnrichmentContext context) {
+		List<EnrichmentContext> retained = null;
+
+		do{
+			final EnrichmentContext evicted = ringBuffer.poll();
+
+			if(evicted != null){
+				if(getOverflowPolicy(evicted.getLogType()) == OverflowPolicy.BLOCK){
+					if(retained == null){
+						retained = new ArrayList<>(2);
+					}
+					retained.add(evicted);
+				}else{
+					drop(OverflowPolicy.DROP_OLDEST);
+				}
+			}
+		}while(ringBuffer.offer(context) == false);
+
+		if(retained != null){
+			final Duration timeout = blockTimeout;
+			final long deadline = blockDeadline(timeout);
+
+			for(EnrichmentContext evicted : retained){
+				if(offerBlocking(evicted, timeout != null, deadline) == false){
+					if(running){
+						drop(OverflowPolicy.BLOCK);
+					}else{
+						handle(evicted);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 返回阻塞入队的截止时间（{@link System#nanoTime()}）；nanoTime 可能为负数，不能用哨兵值表示不超时
+	 *
+	 * @param timeout
+	 * 		阻塞超时时间
+	 *
+	 * @return 截止时间，timeout 为 null 时返回 0，调用方不应使用
+	 */
+	private static long blockDeadline(final Duration timeout) {
+		return timeout == null ? 0L : System.nanoTime() + timeout.toNanos();
+	}
+
+	private boolean isUnderPressure() {
+		return ringBuffer.size() >= ringBuffer.capacity() * sampleThreshold;
+	}
+
+	private Status drop(final OverflowPolicy policy) {
+		droppedCounters.get(policy).increment();
+
+		if(logger.isDebugEnabled()){
+			logger.debug("Async log queue is full, log data dropped by overflow policy: {}.", policy);
+		}
+
+		return Status.FAILURE;
+	}
+
+	/**
+	 * 在消费线程中处理日志数据
+	 *
+	 * @param context
+	 * 		补全上下文
+	 */
+	protected void handle(final EnrichmentContext context) {
+		try{
+			super.doSave(context);
+		}catch(Exception e){
+			if(logger.isErrorEnabled()){
+				logger.error("Handle log data failure: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	private void consume() {
+		while(running || ringBuffer.isEmpty() == false){
+			try{
+				final EnrichmentContext context = ringBuffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+				if(context != null){
+					handle(context);
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+	}
+
+	private void drain() {
+		EnrichmentContext context;
+
+		while((context = ringBuffer.poll()) != null){
+			handle(context);
+		}
+	}
+
+}
@@ -27,9 +27,18 @@ package com.buession.logging.core.mgt;
 import com.buession.geoip.Resolver;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
+import com.buession.logging.core.LogType;
+import com.buession.logging.core.enricher.LogEnricher;
+import com.buession.logging.core.geo.GeoLocationResolver;
 import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.core.handler.PrincipalHandler;
+import com.buession.logging.core.metrics.LogMetrics;
 import com.buession.logging.core.request.RequestContext;
+import com.buession.logging.core.useragent.UserAgentParser;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 日志管理器
@@ -37,7 +46,7 @@ import com.buession.logging.core.request.RequestContext;
  * @author Yong.Teng
  * @since 0.0.1
  */
-public interface LogManager {
+public interface LogManager extends Closeable {
 
 	/**
 	 * 返回 {@link RequestContext} 实例
@@ -99,6 +108,116 @@ public interface LogManager {
 	 */
 	void setGeoResolver(Resolver geoResolver);
 
+	/**
+	 * 返回地理位置解析器
+	 *
+	 * @return 地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	default GeoLocationResolver getGeoLocationResolver() {
+		return null;
+	}
+
+	/**
+	 * 设置地理位置解析器，未设置时将根据 {@link #setGeoResolver(Resolver)} 创建带缓存的地理位置解析器
+	 *
+	 * @param geoLocationResolver
+	 * 		地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	default void setGeoLocationResolver(GeoLocationResolver geoLocationResolver) {
+	}
+
+	/**
+	 * 返回 User-Agent 解析器
+	 *
+	 * @return User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	default UserAgentParser getUserAgentParser() {
+		return null;
+	}
+
+	/**
+	 * 设置 User-Agent 解析器
+	 *
+	 * @param userAgentParser
+	 * 		User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	default void setUserAgentParser(UserAgentParser userAgentParser) {
+	}
+
+	/**
+	 * 返回自定义日志补全器
+	 *
+	 * @return 自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	default List<LogEnricher> getEnrichers() {
+		return null;
+	}
+
+	/**
+	 * 设置自定义日志补全器，与内置的地理位置、User-Agent、用户凭证补全器一起执行
+	 *
+	 * @param enrichers
+	 * 		自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	default void setEnrichers(List<LogEnricher> enrichers) {
+	}
+
+	/**
+	 * 返回日志补全器默认超时时间
+	 *
+	 * @return 日志补全器默认超时时间
+	 *
+	 * @since 2.1.0
+	 */
+	default Duration getEnrichmentTimeout() {
+		return null;
+	}
+
+	/**
+	 * 设置日志补全器默认超时时间，超时的补全器将被跳过
+	 *
+	 * @param enrichmentTimeout
+	 * 		日志补全器默认超时时间，为 null 时不限制
+	 *
+	 * @since 2.1.0
+	 */
+	default void setEnrichmentTimeout(Duration enrichmentTimeout) {
+	}
+
+	/**
+	 * 返回指标采集
+	 *
+	 * @return 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	default LogMetrics getLogMetrics() {
+		return null;
+	}
+
+	/**
+	 * 设置指标采集
+	 *
+	 * @param logMetrics
+	 * 		指标采集，为 null 时不采集
+	 *
+	 * @since 2.1.0
+	 */
+	default void setLogMetrics(LogMetrics logMetrics) {
+	}
+
 	/**
 	 * 保存日志
 	 *
@@ -109,4 +228,29 @@ public interface LogManager {
 	 */
 	Status save(final LogData logData);
 
+	/**
+	 * 保存指定类型的日志，异步日志管理器可据此为普通日志和审计日志采用不同的溢出策略
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param logType
+	 * 		日志类型
+	 *
+	 * @return 执行结果
+	 *
+	 * @since 2.1.0
+	 */
+	default Status save(final LogData logData, final LogType logType) {
+		return save(logData);
+	}
+
+	/**
+	 * 关闭日志管理器，释放其持有的线程等资源
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	default void close() {
+	}
+
 }
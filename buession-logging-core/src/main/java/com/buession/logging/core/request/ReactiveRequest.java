@@ -178,4 +178,9 @@ public class ReactiveRequest extends AbstractRequest {
 		return request.getHeaders().get("User-Agent").get(0);
 	}
 
+	@Override
+	public String getHeader(String name) {
+		return request.getHeaders().getFirst(name);
+	}
+
 }
@@ -84,4 +84,29 @@ public interface Request {
 	 */
 	String getUserAgent();
 
+	/**
+	 * 返回请求头
+	 *
+	 * @param name
+	 * 		请求头名称
+	 *
+	 * @return 请求头
+	 *
+	 * @since 2.1.0
+	 */
+	default String getHeader(String name) {
+		return null;
+	}
+
+	/**
+	 * 返回当前认证用户的原始凭证
+	 *
+	 * @return 原始凭证，未认证时返回 null
+	 *
+	 * @since 2.1.0
+	 */
+	default java.security.Principal getUserPrincipal() {
+		return null;
+	}
+
 }
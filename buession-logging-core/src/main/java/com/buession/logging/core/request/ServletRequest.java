@@ -163,4 +163,14 @@ public class ServletRequest extends AbstractRequest {
 		return request.getHeader("User-Agent");
 	}
 
+	@Override
+	public String getHeader(String name) {
+		return request.getHeader(name);
+	}
+
+	@Override
+	public java.security.Principal getUserPrincipal() {
+		return request.getUserPrincipal();
+	}
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.useragent;
+
+import com.buession.core.utils.Assert;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 带缓存的 User-Agent 解析器，以原始 User-Agent 字符串为键，缓存容量有上限（LRU 淘汰），线程安全；
+ * 相同 User-Agent 返回同一个 {@link UserAgentDetails} 实例
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class CachingUserAgentParser implements UserAgentParser {
+
+	/**
+	 * 默认最大缓存条目数
+	 */
+	public final static long DEFAULT_MAXIMUM_SIZE = 1024;
+
+	/**
+	 * 实际执行解析的 User-Agent 解析器
+	 */
+	private final UserAgentParser delegate;
+
+	/**
+	 * 最大缓存条目数
+	 */
+	private final long maximumSize;
+
+	private final Cache<String, UserAgentDetails> cache;
+
+	/**
+	 * 构造函数
+	 */
+	public CachingUserAgentParser() {
+		this(new DefaultUserAgentParser());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		实际执行解析的 User-Agent 解析器
+	 */
+	public CachingUserAgentParser(final UserAgentParser delegate) {
+		this(delegate, DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param delegate
+	 * 		实际执行解析的 User-Agent 解析器
+	 * @param maximumSize
+	 * 		最大缓存条目数
+	 */
+	public CachingUserAgentParser(final UserAgentParser delegate, final long maximumSize) {
+		Assert.isNull(delegate, "Delegate UserAgentParser cloud not be null.");
+		Assert.isTrue(maximumSize <= 0, "Maximum size must be greater than 0.");
+		this.delegate = delegate;
+		this.maximumSize = maximumSize;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+	}
+
+	/**
+	 * 返回实际执行解析的 User-Agent 解析器
+	 *
+	 * @return 实际执行解析的 User-Agent 解析器
+	 */
+	public UserAgentParser getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * 返回最大缓存条目数
+	 *
+	 * @return 最大缓存条目数
+	 */
+	public long getMaximumSize() {
+		return maximumSize;
+	}
+
+	@Override
+	public UserAgentDetails parse(final String userAgent) {
+		if(userAgent == null){
+			return delegate.parse(null);
+		}
+
+		try{
+			return cache.get(userAgent, ()->delegate.parse(userAgent));
+		}catch(ExecutionException e){
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 返回当前缓存条目数
+	 *
+	 * @return 当前缓存条目数
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * 返回缓存命中次数
+	 *
+	 * @return 缓存命中次数
+	 */
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	/**
+	 * 返回缓存未命中次数
+	 *
+	 * @return 缓存未命中次数
+	 */
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	/**
+	 * 返回缓存统计信息
+	 *
+	 * @return 缓存统计信息
+	 */
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+}
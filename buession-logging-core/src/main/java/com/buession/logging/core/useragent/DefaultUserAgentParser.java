@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.useragent;
+
+import com.buession.lang.Constants;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.web.utils.useragentutils.UserAgent;
+
+import java.util.Optional;
+
+/**
+ * 默认 User-Agent 解析器，每次调用都会执行完整的 User-Agent 识别
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class DefaultUserAgentParser implements UserAgentParser {
+
+	@Override
+	public UserAgentDetails parse(final String userAgent) {
+		final UserAgent ua = new UserAgent(userAgent);
+
+		final OperatingSystem operatingSystem = new OperatingSystem();
+		operatingSystem.setName(Optional.ofNullable(ua.getOperatingSystem().name()).orElse(Constants.EMPTY_STRING));
+		operatingSystem.setVersion(
+				Optional.ofNullable(ua.getOperatingSystem().getVersion()).orElse(Constants.EMPTY_STRING));
+
+		final Browser browser = new Browser();
+		browser.setName(Optional.ofNullable(ua.getBrowser().name()).orElse(Constants.EMPTY_STRING));
+		browser.setType(ua.getBrowser().getBrowserType());
+		browser.setVersion(Optional.ofNullable(ua.getBrowser().getVersion()).orElse(Constants.EMPTY_STRING));
+
+		return new UserAgentDetails(operatingSystem, ua.getOperatingSystem().getDeviceType(), browser);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.core.useragent;
+
+import com.buession.lang.DeviceType;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.OperatingSystem;
+
+import java.util.StringJoiner;
+
+/**
+ * User-Agent 解析结果，构建后不可变；
+ * 其中的 {@link OperatingSystem}、{@link Browser} 实例会被缓存并在多条日志之间共享，使用方不应修改
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class UserAgentDetails {
+
+	/**
+	 * 操作系统
+	 */
+	private final OperatingSystem operatingSystem;
+
+	/**
+	 * 设备类型
+	 */
+	private final DeviceType deviceType;
+
+	/**
+	 * 浏览器
+	 */
+	private final Browser browser;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param operatingSystem
+	 * 		操作系统
+	 * @param deviceType
+	 * 		设备类型
+	 * @param browser
+	 * 		浏览器
+	 */
+	public UserAgentDetails(final OperatingSystem operatingSystem, final DeviceType deviceType,
+							final Browser browser) {
+		this.operatingSystem = operatingSystem;
+		this.deviceType = deviceType;
+		this.browser = browser;
+	}
+
+	/**
+	 * 返回操作系统
+	 *
+	 * @return 操作系统
+	 */
+	public OperatingSystem getOperatingSystem() {
+		return operatingSystem;
+	}
+
+	/**
+	 * 返回设备类型
+	 *
+	 * @return 设备类型
+	 */
+	public DeviceType getDeviceType() {
+		return deviceType;
+	}
+
+	/**
+	 * 返回浏览器
+	 *
+	 * @return 浏览器
+	 */
+	public Browser getBrowser() {
+		return browser;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner(", ", "[", "]")
+				.add("operatingSystem=" + operatingSystem)
+				.add("deviceType=" + deviceType)
+				.add("browser=" + browser)
+				.toString();
+	}
+
+}
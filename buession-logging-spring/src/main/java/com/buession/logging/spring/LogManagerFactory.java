@@ -24,14 +24,37 @@
  */
 package com.buession.logging.spring;
 
+import com.buession.core.utils.Assert;
 import com.buession.geoip.Resolver;
+import com.buession.logging.core.enricher.EnrichmentPipeline;
+import com.buession.logging.core.enricher.LogEnricher;
+import com.buession.logging.core.geo.GeoLocationResolver;
+import com.buession.logging.core.journal.SegmentJournal;
+import com.buession.logging.core.metrics.LogMetrics;
+import com.buession.logging.core.handler.BatchAccumulator;
+import com.buession.logging.core.handler.BatchLogHandler;
+import com.buession.logging.core.handler.BatchingLogHandler;
+import com.buession.logging.core.handler.CompositeLogHandler;
 import com.buession.logging.core.handler.DefaultLogHandler;
 import com.buession.logging.core.handler.DefaultPrincipalHandler;
+import com.buession.logging.core.handler.JournaledLogHandler;
 import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.core.concurrent.OverflowPolicy;
+import com.buession.logging.core.concurrent.WaitStrategy;
 import com.buession.logging.core.handler.PrincipalHandler;
+import com.buession.logging.core.mgt.AsyncLogManager;
 import com.buession.logging.core.mgt.DefaultLogManager;
 import com.buession.logging.core.mgt.LogManager;
 import com.buession.logging.core.request.RequestContext;
+import com.buession.logging.core.useragent.UserAgentParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 日志工厂
@@ -66,6 +89,174 @@ public class LogManagerFactory {
 	 */
 	private Resolver geoResolver;
 
+	/**
+	 * 地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	private GeoLocationResolver geoLocationResolver;
+
+	/**
+	 * User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	private UserAgentParser userAgentParser;
+
+	/**
+	 * 自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	private List<LogEnricher> enrichers;
+
+	/**
+	 * 日志补全器默认超时时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration enrichmentTimeout = EnrichmentPipeline.DEFAULT_TIMEOUT;
+
+	/**
+	 * 是否异步处理日志
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean async = false;
+
+	/**
+	 * 异步队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	private int bufferSize = AsyncLogManager.DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * 异步队列消费者等待策略
+	 *
+	 * @since 2.1.0
+	 */
+	private WaitStrategy waitStrategy = AsyncLogManager.DEFAULT_WAIT_STRATEGY;
+
+	/**
+	 * 异步队列消费线程数
+	 *
+	 * @since 2.1.0
+	 */
+	private int consumers = AsyncLogManager.DEFAULT_CONSUMERS;
+
+	/**
+	 * 异步队列已满时普通日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	private OverflowPolicy overflowPolicy = AsyncLogManager.DEFAULT_OVERFLOW_POLICY;
+
+	/**
+	 * 异步队列已满时审计日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	private OverflowPolicy auditOverflowPolicy = AsyncLogManager.DEFAULT_OVERFLOW_POLICY;
+
+	/**
+	 * 阻塞策略的最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration blockTimeout = AsyncLogManager.DEFAULT_BLOCK_TIMEOUT;
+
+	/**
+	 * 采样策略的采样率
+	 *
+	 * @since 2.1.0
+	 */
+	private double sampleRate = AsyncLogManager.DEFAULT_SAMPLE_RATE;
+
+	/**
+	 * 开始采样的队列占用比例
+	 *
+	 * @since 2.1.0
+	 */
+	private double sampleThreshold = AsyncLogManager.DEFAULT_SAMPLE_THRESHOLD;
+
+	/**
+	 * 是否批量写入日志
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean batch = false;
+
+	/**
+	 * 单批最大记录数
+	 *
+	 * @since 2.1.0
+	 */
+	private int batchMaxCount = BatchAccumulator.DEFAULT_MAX_COUNT;
+
+	/**
+	 * 单批最大字节数
+	 *
+	 * @since 2.1.0
+	 */
+	private long batchMaxBytes = BatchAccumulator.DEFAULT_MAX_BYTES;
+
+	/**
+	 * 批量写入最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration batchLinger = BatchAccumulator.DEFAULT_LINGER;
+
+	/**
+	 * 后端不可用时是否将日志写入磁盘日志，待后端恢复后重放
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean journal = false;
+
+	/**
+	 * 磁盘日志目录；日志处理器为 {@link CompositeLogHandler} 时，每个日志处理器使用该目录下的独立子目录
+	 *
+	 * @since 2.1.0
+	 */
+	private String journalDirectory;
+
+	/**
+	 * 磁盘日志分段大小
+	 *
+	 * @since 2.1.0
+	 */
+	private int journalSegmentSize = SegmentJournal.DEFAULT_SEGMENT_SIZE;
+
+	/**
+	 * 磁盘日志最大磁盘占用
+	 *
+	 * @since 2.1.0
+	 */
+	private long journalMaxDiskSize = SegmentJournal.DEFAULT_MAX_DISK_SIZE;
+
+	/**
+	 * 磁盘日志重放间隔
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration journalReplayInterval = JournaledLogHandler.DEFAULT_REPLAY_INTERVAL;
+
+	/**
+	 * 磁盘日志单次重放的最大日志数量
+	 *
+	 * @since 2.1.0
+	 */
+	private int journalReplayBatchSize = JournaledLogHandler.DEFAULT_REPLAY_BATCH_SIZE;
+
+	/**
+	 * 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	private LogMetrics logMetrics;
+
 	/**
 	 * 返回 {@link RequestContext} 实例
 	 *
@@ -161,16 +352,679 @@ public class LogManagerFactory {
 		this.geoResolver = geoResolver;
 	}
 
+	/**
+	 * 返回地理位置解析器
+	 *
+	 * @return 地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	public GeoLocationResolver getGeoLocationResolver() {
+		return geoLocationResolver;
+	}
+
+	/**
+	 * 设置地理位置解析器
+	 *
+	 * @param geoLocationResolver
+	 * 		地理位置解析器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setGeoLocationResolver(GeoLocationResolver geoLocationResolver) {
+		this.geoLocationResolver = geoLocationResolver;
+	}
+
+	/**
+	 * 返回 User-Agent 解析器
+	 *
+	 * @return User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	public UserAgentParser getUserAgentParser() {
+		return userAgentParser;
+	}
+
+	/**
+	 * 设置 User-Agent 解析器
+	 *
+	 * @param userAgentParser
+	 * 		User-Agent 解析器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setUserAgentParser(UserAgentParser userAgentParser) {
+		this.userAgentParser = userAgentParser;
+	}
+
+	/**
+	 * 返回自定义日志补全器
+	 *
+	 * @return 自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	public List<LogEnricher> getEnrichers() {
+		return enrichers;
+	}
+
+	/**
+	 * 设置自定义日志补全器
+	 *
+	 * @param enrichers
+	 * 		自定义日志补全器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setEnrichers(List<LogEnricher> enrichers) {
+		this.enrichers = enrichers;
+	}
+
+	/**
+	 * 返回日志补全器默认超时时间
+	 *
+	 * @return 日志补全器默认超时时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getEnrichmentTimeout() {
+		return enrichmentTimeout;
+	}
+
+	/**
+	 * 设置日志补全器默认超时时间
+	 *
+	 * @param enrichmentTimeout
+	 * 		日志补全器默认超时时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setEnrichmentTimeout(Duration enrichmentTimeout) {
+		this.enrichmentTimeout = enrichmentTimeout;
+	}
+
+	/**
+	 * 返回是否异步处理日志
+	 *
+	 * @return 是否异步处理日志
+	 *
+	 * @since 2.1.0
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * 设置是否异步处理日志
+	 *
+	 * @param async
+	 * 		是否异步处理日志
+	 *
+	 * @since 2.1.0
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * 返回异步队列容量
+	 *
+	 * @return 异步队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置异步队列容量
+	 *
+	 * @param bufferSize
+	 * 		异步队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * 返回异步队列消费者等待策略
+	 *
+	 * @return 异步队列消费者等待策略
+	 *
+	 * @since 2.1.0
+	 */
+	public WaitStrategy getWaitStrategy() {
+		return waitStrategy;
+	}
+
+	/**
+	 * 设置异步队列消费者等待策略
+	 *
+	 * @param waitStrategy
+	 * 		异步队列消费者等待策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWaitStrategy(WaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * 返回异步队列消费线程数
+	 *
+	 * @return 异步队列消费线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public int getConsumers() {
+		return consumers;
+	}
+
+	/**
+	 * 设置异步队列消费线程数
+	 *
+	 * @param consumers
+	 * 		异步队列消费线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public void setConsumers(int consumers) {
+		this.consumers = consumers;
+	}
+
+	/**
+	 * 返回异步队列已满时普通日志的溢出策略
+	 *
+	 * @return 异步队列已满时普通日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * 设置异步队列已满时普通日志的溢出策略
+	 *
+	 * @param overflowPolicy
+	 * 		异步队列已满时普通日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * 返回异步队列已满时审计日志的溢出策略
+	 *
+	 * @return 异步队列已满时审计日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	public OverflowPolicy getAuditOverflowPolicy() {
+		return auditOverflowPolicy;
+	}
+
+	/**
+	 * 设置异步队列已满时审计日志的溢出策略
+	 *
+	 * @param auditOverflowPolicy
+	 * 		异步队列已满时审计日志的溢出策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setAuditOverflowPolicy(OverflowPolicy auditOverflowPolicy) {
+		this.auditOverflowPolicy = auditOverflowPolicy;
+	}
+
+	/**
+	 * 返回阻塞策略的最长等待时间
+	 *
+	 * @return 阻塞策略的最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getBlockTimeout() {
+		return blockTimeout;
+	}
+
+	/**
+	 * 设置阻塞策略的最长等待时间
+	 *
+	 * @param blockTimeout
+	 * 		阻塞策略的最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBlockTimeout(Duration blockTimeout) {
+		this.blockTimeout = blockTimeout;
+	}
+
+	/**
+	 * 返回采样策略的采样率
+	 *
+	 * @return 采样策略的采样率
+	 *
+	 * @since 2.1.0
+	 */
+	public double getSampleRate() {
+		return sampleRate;
+	}
+
+	/**
+	 * 设置采样策略的采样率
+	 *
+	 * @param sampleRate
+	 * 		采样策略的采样率
+	 *
+	 * @since 2.1.0
+	 */
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * 返回开始采样的队列占用比例
+	 *
+	 * @return 开始采样的队列占用比例
+	 *
+	 * @since 2.1.0
+	 */
+	public double getSampleThreshold() {
+		return sampleThreshold;
+	}
+
+	/**
+	 * 设置开始采样的队列占用比例
+	 *
+	 * @param sampleThreshold
+	 * 		开始采样的队列占用比例
+	 *
+	 * @since 2.1.0
+	 */
+	public void setSampleThreshold(double sampleThreshold) {
+		this.sampleThreshold = sampleThreshold;
+	}
+
+	/**
+	 * 返回是否批量写入日志
+	 *
+	 * @return 是否批量写入日志
+	 *
+	 * @since 2.1.0
+	 */
+	public boolean isBatch() {
+		return batch;
+	}
+
+	/**
+	 * 设置是否批量写入日志，仅对实现了 {@link BatchLogHandler} 的日志处理器生效
+	 *
+	 * @param batch
+	 * 		是否批量写入日志
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatch(boolean batch) {
+		this.batch = batch;
+	}
+
+	/**
+	 * 返回单批最大记录数
+	 *
+	 * @return 单批最大记录数
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBatchMaxCount() {
+		return batchMaxCount;
+	}
+
+	/**
+	 * 设置单批最大记录数
+	 *
+	 * @param batchMaxCount
+	 * 		单批最大记录数
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchMaxCount(int batchMaxCount) {
+		this.batchMaxCount = batchMaxCount;
+	}
+
+	/**
+	 * 返回单批最大字节数
+	 *
+	 * @return 单批最大字节数
+	 *
+	 * @since 2.1.0
+	 */
+	public long getBatchMaxBytes() {
+		return batchMaxBytes;
+	}
+
+	/**
+	 * 设置单批最大字节数
+	 *
+	 * @param batchMaxBytes
+	 * 		单批最大字节数
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchMaxBytes(long batchMaxBytes) {
+		this.batchMaxBytes = batchMaxBytes;
+	}
+
+	/**
+	 * 返回批量写入最长等待时间
+	 *
+	 * @return 批量写入最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getBatchLinger() {
+		return batchLinger;
+	}
+
+	/**
+	 * 设置批量写入最长等待时间
+	 *
+	 * @param batchLinger
+	 * 		批量写入最长等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchLinger(Duration batchLinger) {
+		this.batchLinger = batchLinger;
+	}
+
+	/**
+	 * 返回后端不可用时是否将日志写入磁盘日志
+	 *
+	 * @return 后端不可用时是否将日志写入磁盘日志
+	 *
+	 * @since 2.1.0
+	 */
+	public boolean isJournal() {
+		return journal;
+	}
+
+	/**
+	 * 设置后端不可用时是否将日志写入磁盘日志
+	 *
+	 * @param journal
+	 * 		后端不可用时是否将日志写入磁盘日志
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournal(boolean journal) {
+		this.journal = journal;
+	}
+
+	/**
+	 * 返回磁盘日志目录
+	 *
+	 * @return 磁盘日志目录
+	 *
+	 * @since 2.1.0
+	 */
+	public String getJournalDirectory() {
+		return journalDirectory;
+	}
+
+	/**
+	 * 设置磁盘日志目录
+	 *
+	 * @param journalDirectory
+	 * 		磁盘日志目录
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournalDirectory(String journalDirectory) {
+		this.journalDirectory = journalDirectory;
+	}
+
+	/**
+	 * 返回磁盘日志分段大小
+	 *
+	 * @return 磁盘日志分段大小
+	 *
+	 * @since 2.1.0
+	 */
+	public int getJournalSegmentSize() {
+		return journalSegmentSize;
+	}
+
+	/**
+	 * 设置磁盘日志分段大小
+	 *
+	 * @param journalSegmentSize
+	 * 		磁盘日志分段大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournalSegmentSize(int journalSegmentSize) {
+		this.journalSegmentSize = journalSegmentSize;
+	}
+
+	/**
+	 * 返回磁盘日志最大磁盘占用
+	 *
+	 * @return 磁盘日志最大磁盘占用
+	 *
+	 * @since 2.1.0
+	 */
+	public long getJournalMaxDiskSize() {
+		return journalMaxDiskSize;
+	}
+
+	/**
+	 * 设置磁盘日志最大磁盘占用
+	 *
+	 * @param journalMaxDiskSize
+	 * 		磁盘日志最大磁盘占用
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournalMaxDiskSize(long journalMaxDiskSize) {
+		this.journalMaxDiskSize = journalMaxDiskSize;
+	}
+
+	/**
+	 * 返回磁盘日志重放间隔
+	 *
+	 * @return 磁盘日志重放间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getJournalReplayInterval() {
+		return journalReplayInterval;
+	}
+
+	/**
+	 * 设置磁盘日志重放间隔
+	 *
+	 * @param journalReplayInterval
+	 * 		磁盘日志重放间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournalReplayInterval(Duration journalReplayInterval) {
+		this.journalReplayInterval = journalReplayInterval;
+	}
+
+	/**
+	 * 返回磁盘日志单次重放的最大日志数量
+	 *
+	 * @return 磁盘日志单次重放的最大日志数量
+	 *
+	 * @since 2.1.0
+	 */
+	public int getJournalReplayBatchSize() {
+		return journalReplayBatchSize;
+	}
+
+	/**
+	 * 设置磁盘日志单次重放的最大日志数量
+	 *
+	 * @param journalReplayBatchSize
+	 * 		磁盘日志单次重放的最大日志数量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournalReplayBatchSize(int journalReplayBatchSize) {
+		this.journalReplayBatchSize = journalReplayBatchSize;
+	}
+
+	/**
+	 * 返回指标采集
+	 *
+	 * @return 指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	public LogMetrics getLogMetrics() {
+		return logMetrics;
+	}
+
+	/**
+	 * 设置指标采集
+	 *
+	 * @param logMetrics
+	 * 		指标采集
+	 *
+	 * @since 2.1.0
+	 */
+	public void setLogMetrics(LogMetrics logMetrics) {
+		this.logMetrics = logMetrics;
+	}
+
 	protected LogManager createLogManager() {
-		final LogManager logManager = new DefaultLogManager();
+		final LogManager logManager = async ? new AsyncLogManager(bufferSize, waitStrategy, consumers) :
+				new DefaultLogManager();
 
 		logManager.setRequestContext(requestContext);
 		logManager.setGeoResolver(geoResolver);
 		logManager.setPrincipalHandler(principalHandler);
-		logManager.setLogHandler(logHandler);
-		logManager.setGeoResolver(geoResolver);
+		logManager.setLogHandler(createLogHandler());
+
+		if(geoLocationResolver != null){
+			logManager.setGeoLocationResolver(geoLocationResolver);
+		}
+
+		if(userAgentParser != null){
+			logManager.setUserAgentParser(userAgentParser);
+		}
+
+		logManager.setEnrichers(enrichers);
+		logManager.setEnrichmentTimeout(enrichmentTimeout);
+		logManager.setLogMetrics(logMetrics);
+
+		if(logManager instanceof AsyncLogManager){
+			final AsyncLogManager asyncLogManager = (AsyncLogManager) logManager;
+
+			asyncLogManager.setOverflowPolicy(overflowPolicy);
+			asyncLogManager.setAuditOverflowPolicy(auditOverflowPolicy);
+			asyncLogManager.setBlockTimeout(blockTimeout);
+			asyncLogManager.setSampleRate(sampleRate);
+			asyncLogManager.setSampleThreshold(sampleThreshold);
+			asyncLogManager.start();
+		}
 
 		return logManager;
 	}
 
+	protected LogHandler createLogHandler() {
+		LogHandler handler = logHandler;
+
+		if(journal && handler instanceof JournaledLogHandler == false){
+			handler = handler instanceof CompositeLogHandler ?
+					createJournaledLogHandler((CompositeLogHandler) handler) :
+					new JournaledLogHandler(handler, createSegmentJournal(), journalReplayInterval,
+							journalReplayBatchSize);
+		}
+
+		if(handler instanceof BatchLogHandler == false || handler instanceof BatchingLogHandler){
+			return handler;
+		}
+
+		// 日志处理器自身指定的批量大小、最大停留时间优先于全局批量配置
+		final BatchLogHandler batchLogHandler = (BatchLogHandler) handler;
+		final int batchSize = batchLogHandler.getBatchSize();
+
+		if(batch || batchSize > 1){
+			final Duration flushInterval = batchLogHandler.getFlushInterval();
+			final BatchingLogHandler batchingLogHandler = new BatchingLogHandler(batchLogHandler,
+					batchSize > 1 ? batchSize : batchMaxCount, batchMaxBytes,
+					flushInterval == null ? batchLinger : flushInterval);
+
+			batchingLogHandler.setLogMetrics(logMetrics);
+
+			return batchingLogHandler;
+		}
+
+		return handler;
+	}
+
+	/**
+	 * 为组合日志处理器中的每个日志处理器分别创建磁盘日志，某个后端失败时只重放该后端的日志，不会重复写入其它后端
+	 *
+	 * @param compositeLogHandler
+	 * 		组合日志处理器
+	 *
+	 * @return 由带磁盘日志的日志处理器组成的组合日志处理器
+	 *
+	 * @since 2.1.0
+	 */
+	protected CompositeLogHandler createJournaledLogHandler(final CompositeLogHandler compositeLogHandler) {
+		Assert.isBlank(journalDirectory, "Property 'journalDirectory' is required");
+
+		final List<LogHandler> delegates = compositeLogHandler.getDelegates();
+		final List<LogHandler> journaledDelegates = new ArrayList<>(delegates.size());
+
+		for(int i = 0; i < delegates.size(); i++){
+			final LogHandler delegate = delegates.get(i);
+
+			if(delegate instanceof JournaledLogHandler){
+				journaledDelegates.add(delegate);
+			}else{
+				final Path directory = Paths.get(journalDirectory, i + "-" + delegate.getClass().getSimpleName());
+
+				journaledDelegates.add(new JournaledLogHandler(delegate, createSegmentJournal(directory),
+						journalReplayInterval, journalReplayBatchSize));
+			}
+		}
+
+		return new CompositeLogHandler(journaledDelegates, compositeLogHandler.getPolicy(),
+				compositeLogHandler.getQueueCapacity(), compositeLogHandler.getTimeout());
+	}
+
+	protected SegmentJournal createSegmentJournal() {
+		Assert.isBlank(journalDirectory, "Property 'journalDirectory' is required");
+		return createSegmentJournal(Paths.get(journalDirectory));
+	}
+
+	/**
+	 * 创建指定目录的磁盘日志
+	 *
+	 * @param directory
+	 * 		磁盘日志目录
+	 *
+	 * @return 磁盘日志
+	 *
+	 * @since 2.1.0
+	 */
+	protected SegmentJournal createSegmentJournal(final Path directory) {
+		try{
+			return new SegmentJournal(directory, journalSegmentSize, journalMaxDiskSize);
+		}catch(IOException e){
+			throw new UncheckedIOException("Open journal " + directory + " failure: " + e.getMessage(), e);
+		}
+	}
+
 }
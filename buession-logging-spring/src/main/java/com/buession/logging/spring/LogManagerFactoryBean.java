@@ -25,17 +25,25 @@
 package com.buession.logging.spring;
 
 import com.buession.core.utils.Assert;
+import com.buession.logging.core.handler.BatchingLogHandler;
+import com.buession.logging.core.handler.CompositeLogHandler;
+import com.buession.logging.core.handler.JournaledLogHandler;
+import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.core.mgt.LogManager;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 
+import java.io.Closeable;
+
 /**
  * 日志工厂 Bean
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class LogManagerFactoryBean extends LogManagerFactory implements FactoryBean<LogManager>, InitializingBean {
+public class LogManagerFactoryBean extends LogManagerFactory implements FactoryBean<LogManager>, InitializingBean,
+		DisposableBean {
 
 	/**
 	 * 日志管理器
@@ -65,4 +73,36 @@ public class LogManagerFactoryBean extends LogManagerFactory implements FactoryB
 		}
 	}
 
+	@Override
+	public void destroy() throws Exception {
+		if(logManager != null){
+			logManager.close();
+		}
+
+		// 由工厂包装出的日志处理器（如：批量写入、磁盘日志）需要由外向内依次释放，原始日志处理器的生命周期由其自身管理
+		LogHandler handler = logManager == null ? null : logManager.getLogHandler();
+
+		while(handler != null && handler != getLogHandler()){
+			if(handler instanceof Closeable){
+				((Closeable) handler).close();
+			}
+
+			if(handler instanceof BatchingLogHandler){
+				handler = ((BatchingLogHandler) handler).getDelegate();
+			}else if(handler instanceof JournaledLogHandler){
+				handler = ((JournaledLogHandler) handler).getDelegate();
+			}else if(handler instanceof CompositeLogHandler){
+				// 为每个日志处理器分别创建的磁盘日志
+				for(LogHandler delegate : ((CompositeLogHandler) handler).getDelegates()){
+					if(delegate instanceof JournaledLogHandler){
+						((JournaledLogHandler) delegate).close();
+					}
+				}
+				handler = null;
+			}else{
+				handler = null;
+			}
+		}
+	}
+
 }
@@ -26,13 +26,29 @@ package com.buession.logging.springboot.autoconfigure;
 
 import com.buession.core.validator.Validate;
 import com.buession.geoip.Resolver;
+import com.buession.logging.core.enricher.LogEnricher;
+import com.buession.logging.core.enricher.TagsEnricher;
+import com.buession.logging.core.enricher.TraceIdEnricher;
+import com.buession.logging.core.geo.CachingGeoLocationResolver;
+import com.buession.logging.core.geo.DefaultGeoLocationResolver;
+import com.buession.logging.core.geo.GeoLocationResolver;
+import com.buession.logging.core.handler.CircuitBreakerLogHandler;
+import com.buession.logging.core.handler.CompositeLogHandler;
 import com.buession.logging.core.handler.DefaultPrincipalHandler;
 import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.core.handler.PrincipalHandler;
+import com.buession.logging.core.metrics.LogMetrics;
 import com.buession.logging.core.request.ReactiveRequestContext;
 import com.buession.logging.core.request.RequestContext;
 import com.buession.logging.core.request.ServletRequestContext;
+import com.buession.logging.core.useragent.CachingUserAgentParser;
+import com.buession.logging.core.useragent.DefaultUserAgentParser;
+import com.buession.logging.core.useragent.UserAgentParser;
 import com.buession.logging.spring.LogManagerFactoryBean;
+import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -40,16 +56,25 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplicat
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * @author Yong.Teng
  * @since 0.0.1
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-public class LogConfiguration {
+public class LogConfiguration implements DisposableBean {
 
 	private final LogProperties logProperties;
 
+	private CompositeLogHandler compositeLogHandler;
+
 	public LogConfiguration(LogProperties logProperties) {
 		this.logProperties = logProperties;
 	}
@@ -60,24 +85,198 @@ public class LogConfiguration {
 		return new DefaultPrincipalHandler();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean({UserAgentParser.class})
+	public UserAgentParser userAgentParser() {
+		final LogProperties.UserAgentCache userAgentCache = logProperties.getUserAgentCache();
+
+		if(userAgentCache != null && userAgentCache.isEnabled() == false){
+			return new DefaultUserAgentParser();
+		}
+
+		return new CachingUserAgentParser(new DefaultUserAgentParser(), userAgentCache == null ?
+				CachingUserAgentParser.DEFAULT_MAXIMUM_SIZE : userAgentCache.getMaximumSize());
+	}
+
 	@Bean
 	public LogManagerFactoryBean logManagerFactoryBean(RequestContext requestContext,
-													   PrincipalHandler<?> principalHandler, LogHandler logHandler,
-													   ObjectProvider<Resolver> geoResolver) {
+													   PrincipalHandler<?> principalHandler, ListableBeanFactory beanFactory,
+													   ObjectProvider<Resolver> geoResolver,
+													   ObjectProvider<GeoLocationResolver> geoLocationResolver,
+													   ObjectProvider<UserAgentParser> userAgentParser,
+													   ObjectProvider<LogEnricher> enrichers,
+													   ObjectProvider<LogMetrics> logMetrics) {
 		final LogManagerFactoryBean logManagerFactoryBean = new LogManagerFactoryBean();
 
 		logManagerFactoryBean.setRequestContext(requestContext);
 		logManagerFactoryBean.setPrincipalHandler(principalHandler);
-		logManagerFactoryBean.setLogHandler(logHandler);
+		final LogHandler logHandler = createLogHandler(getLogHandlers(beanFactory));
+		if(logHandler != null){
+			logManagerFactoryBean.setLogHandler(logHandler);
+		}
 		geoResolver.ifAvailable(logManagerFactoryBean::setGeoResolver);
+		logManagerFactoryBean.setGeoLocationResolver(
+				geoLocationResolver.getIfAvailable(()->createGeoLocationResolver(geoResolver.getIfAvailable())));
+		userAgentParser.ifAvailable(logManagerFactoryBean::setUserAgentParser);
+		logManagerFactoryBean.setEnrichers(createEnrichers(enrichers));
+		logMetrics.ifAvailable(logManagerFactoryBean::setLogMetrics);
 
 		if(Validate.hasText(logProperties.getClientIpHeaderName())){
 			logManagerFactoryBean.setClientIpHeaderName(logProperties.getClientIpHeaderName());
 		}
 
+		final LogProperties.Async async = logProperties.getAsync();
+		if(async != null){
+			logManagerFactoryBean.setAsync(async.isEnabled());
+			logManagerFactoryBean.setBufferSize(async.getBufferSize());
+			logManagerFactoryBean.setWaitStrategy(async.getWaitStrategy());
+			logManagerFactoryBean.setConsumers(async.getConsumers());
+			logManagerFactoryBean.setOverflowPolicy(async.getOverflowPolicy());
+			logManagerFactoryBean.setAuditOverflowPolicy(async.getAuditOverflowPolicy());
+			logManagerFactoryBean.setBlockTimeout(async.getBlockTimeout());
+			logManagerFactoryBean.setSampleRate(async.getSampleRate());
+			logManagerFactoryBean.setSampleThreshold(async.getSampleThreshold());
+		}
+
+		if(logProperties.getEnrichment() != null){
+			logManagerFactoryBean.setEnrichmentTimeout(logProperties.getEnrichment().getTimeout());
+		}
+
+		final LogProperties.Batch batch = logProperties.getBatch();
+		if(batch != null){
+			logManagerFactoryBean.setBatch(batch.isEnabled());
+			logManagerFactoryBean.setBatchMaxCount(batch.getMaxCount());
+			logManagerFactoryBean.setBatchMaxBytes(batch.getMaxBytes());
+			logManagerFactoryBean.setBatchLinger(batch.getLinger());
+		}
+
+		final LogProperties.Journal journal = logProperties.getJournal();
+		if(journal != null){
+			logManagerFactoryBean.setJournal(journal.isEnabled());
+			logManagerFactoryBean.setJournalDirectory(journal.getDirectory());
+			logManagerFactoryBean.setJournalSegmentSize(journal.getSegmentSize());
+			logManagerFactoryBean.setJournalMaxDiskSize(journal.getMaxDiskSize());
+			logManagerFactoryBean.setJournalReplayInterval(journal.getReplayInterval());
+			logManagerFactoryBean.setJournalReplayBatchSize(journal.getReplayBatchSize());
+		}
+
 		return logManagerFactoryBean;
 	}
 
+	@SuppressWarnings({"rawtypes"})
+	private static Map<String, LogHandler> getLogHandlers(final ListableBeanFactory beanFactory) {
+		final Map<String, LogHandler> logHandlers = new LinkedHashMap<>(beanFactory.getBeansOfType(LogHandler.class));
+		final Set<String> fallbackBeanNames = new HashSet<>();
+
+		for(Map.Entry<String, BaseLogHandlerFactoryBean> e : beanFactory.getBeansOfType(
+				BaseLogHandlerFactoryBean.class).entrySet()){
+			final BaseLogHandlerFactoryBean<?> factoryBean = e.getValue();
+			final String beanName = BeanFactoryUtils.transformedBeanName(e.getKey());
+			final CircuitBreakerLogHandler circuitBreakerLogHandler = factoryBean.getCircuitBreakerLogHandler();
+
+			// 启用熔断的日志处理器以熔断日志处理器参与组合，日志处理器 Bean 本身保持原类型
+			if(circuitBreakerLogHandler != null && logHandlers.containsKey(beanName)){
+				logHandlers.put(beanName, circuitBreakerLogHandler);
+			}
+
+			final String fallbackBeanName = factoryBean.getFallbackLogHandlerBeanName();
+
+			if(fallbackBeanName != null){
+				fallbackBeanNames.add(fallbackBeanName);
+			}
+		}
+
+		// 仅作为降级日志处理器的日志处理器不参与组合
+		if(fallbackBeanNames.size() < logHandlers.size()){
+			logHandlers.keySet().removeAll(fallbackBeanNames);
+		}
+
+		return logHandlers;
+	}
+
+	private LogHandler createLogHandler(final Map<String, LogHandler> logHandlers) {
+		if(logHandlers.isEmpty()){
+			return null;
+		}else if(logHandlers.size() == 1){
+			return logHandlers.values().iterator().next();
+		}
+
+		// 应用已自行组合日志处理器
+		for(LogHandler logHandler : logHandlers.values()){
+			if(logHandler instanceof CompositeLogHandler){
+				return logHandler;
+			}
+		}
+
+		final LogProperties.Composite composite = logProperties.getComposite();
+		final List<LogHandler> delegates = new ArrayList<>(logHandlers.size());
+		final String primary = composite == null ? null : composite.getPrimary();
+
+		if(Validate.hasText(primary)){
+			for(Map.Entry<String, LogHandler> e : logHandlers.entrySet()){
+				if(e.getKey().equals(primary) || e.getKey().equals(primary + "LogHandlerFactoryBean")){
+					delegates.add(e.getValue());
+				}
+			}
+		}
+
+		for(LogHandler logHandler : logHandlers.values()){
+			if(delegates.contains(logHandler) == false){
+				delegates.add(logHandler);
+			}
+		}
+
+		compositeLogHandler = composite == null ? new CompositeLogHandler(delegates) :
+				new CompositeLogHandler(delegates, composite.getPolicy(), composite.getQueueCapacity(),
+						composite.getTimeout());
+
+		return compositeLogHandler;
+	}
+
+	private List<LogEnricher> createEnrichers(final ObjectProvider<LogEnricher> enricherBeans) {
+		final List<LogEnricher> enrichers = new ArrayList<>();
+		final LogProperties.Enrichment enrichment = logProperties.getEnrichment();
+
+		if(enrichment != null){
+			if(enrichment.isTraceIdEnabled()){
+				enrichers.add(new TraceIdEnricher(enrichment.getTraceIdMdcKey(), enrichment.getTraceIdHeaderName()));
+			}
+
+			if(Validate.isNotEmpty(enrichment.getTags())){
+				enrichers.add(new TagsEnricher(enrichment.getTags()));
+			}
+		}
+
+		enricherBeans.orderedStream().forEach(enrichers::add);
+
+		return enrichers;
+	}
+
+	private GeoLocationResolver createGeoLocationResolver(final Resolver geoResolver) {
+		if(geoResolver == null){
+			return null;
+		}
+
+		final GeoLocationResolver resolver = new DefaultGeoLocationResolver(geoResolver);
+		final LogProperties.GeoCache geoCache = logProperties.getGeoCache();
+
+		if(geoCache == null){
+			return new CachingGeoLocationResolver(resolver);
+		}else if(geoCache.isEnabled()){
+			return new CachingGeoLocationResolver(resolver, geoCache.getMaximumSize(), geoCache.getTtl(),
+					geoCache.getIpv4PrefixLength(), geoCache.getIpv6PrefixLength());
+		}else{
+			return resolver;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if(compositeLogHandler != null){
+			compositeLogHandler.close();
+		}
+	}
+
 	@AutoConfiguration
 	@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 	static class Servlet {
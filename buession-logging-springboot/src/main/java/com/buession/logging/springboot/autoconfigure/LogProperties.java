@@ -24,6 +24,18 @@
  */
 package com.buession.logging.springboot.autoconfigure;
 
+import com.buession.logging.core.concurrent.OverflowPolicy;
+import com.buession.logging.core.concurrent.WaitStrategy;
+import com.buession.logging.core.enricher.EnrichmentPipeline;
+import com.buession.logging.core.enricher.TraceIdEnricher;
+import com.buession.logging.core.geo.CachingGeoLocationResolver;
+import com.buession.logging.core.journal.SegmentJournal;
+import com.buession.logging.core.handler.CompositeLogHandler;
+import com.buession.logging.core.handler.JournaledLogHandler;
+import com.buession.logging.core.handler.CompositePolicy;
+import com.buession.logging.core.handler.BatchAccumulator;
+import com.buession.logging.core.mgt.AsyncLogManager;
+import com.buession.logging.core.useragent.CachingUserAgentParser;
 import com.buession.logging.springboot.autoconfigure.console.ConsoleProperties;
 import com.buession.logging.springboot.autoconfigure.elasticsearch.ElasticsearchProperties;
 import com.buession.logging.springboot.autoconfigure.file.FileProperties;
@@ -34,6 +46,11 @@ import com.buession.logging.springboot.autoconfigure.rabbit.RabbitProperties;
 import com.buession.logging.springboot.autoconfigure.rest.RestProperties;
 import com.buession.logging.springboot.autoconfigure.rocketmq.RocketMQProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Yong.Teng
@@ -49,6 +66,62 @@ public class LogProperties {
 	 */
 	private String clientIpHeaderName;
 
+	/**
+	 * 异步日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private Async async = new Async();
+
+	/**
+	 * 批量日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private Batch batch = new Batch();
+
+	/**
+	 * User-Agent 解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private UserAgentCache userAgentCache = new UserAgentCache();
+
+	/**
+	 * 地理位置解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private GeoCache geoCache = new GeoCache();
+
+	/**
+	 * 日志补全配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private Enrichment enrichment = new Enrichment();
+
+	/**
+	 * 多日志处理器组合配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private Composite composite = new Composite();
+
+	/**
+	 * 磁盘日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private Journal journal = new Journal();
+
 	/**
 	 * 控制台日志配置
 	 *
@@ -115,6 +188,167 @@ public class LogProperties {
 		this.clientIpHeaderName = clientIpHeaderName;
 	}
 
+	/**
+	 * 返回异步日志配置
+	 *
+	 * @return 异步日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Async getAsync() {
+		return async;
+	}
+
+	/**
+	 * 设置异步日志配置
+	 *
+	 * @param async
+	 * 		异步日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setAsync(Async async) {
+		this.async = async;
+	}
+
+	/**
+	 * 返回批量日志配置
+	 *
+	 * @return 批量日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Batch getBatch() {
+		return batch;
+	}
+
+	/**
+	 * 设置批量日志配置
+	 *
+	 * @param batch
+	 * 		批量日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatch(Batch batch) {
+		this.batch = batch;
+	}
+
+	/**
+	 * 返回 User-Agent 解析缓存配置
+	 *
+	 * @return User-Agent 解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public UserAgentCache getUserAgentCache() {
+		return userAgentCache;
+	}
+
+	/**
+	 * 设置 User-Agent 解析缓存配置
+	 *
+	 * @param userAgentCache
+	 * 		User-Agent 解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setUserAgentCache(UserAgentCache userAgentCache) {
+		this.userAgentCache = userAgentCache;
+	}
+
+	/**
+	 * 返回地理位置解析缓存配置
+	 *
+	 * @return 地理位置解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public GeoCache getGeoCache() {
+		return geoCache;
+	}
+
+	/**
+	 * 设置地理位置解析缓存配置
+	 *
+	 * @param geoCache
+	 * 		地理位置解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setGeoCache(GeoCache geoCache) {
+		this.geoCache = geoCache;
+	}
+
+	/**
+	 * 返回日志补全配置
+	 *
+	 * @return 日志补全配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Enrichment getEnrichment() {
+		return enrichment;
+	}
+
+	/**
+	 * 设置日志补全配置
+	 *
+	 * @param enrichment
+	 * 		日志补全配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setEnrichment(Enrichment enrichment) {
+		this.enrichment = enrichment;
+	}
+
+	/**
+	 * 返回多日志处理器组合配置
+	 *
+	 * @return 多日志处理器组合配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Composite getComposite() {
+		return composite;
+	}
+
+	/**
+	 * 设置多日志处理器组合配置
+	 *
+	 * @param composite
+	 * 		多日志处理器组合配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setComposite(Composite composite) {
+		this.composite = composite;
+	}
+
+	/**
+	 * 返回磁盘日志配置
+	 *
+	 * @return 磁盘日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Journal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * 设置磁盘日志配置
+	 *
+	 * @param journal
+	 * 		磁盘日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setJournal(Journal journal) {
+		this.journal = journal;
+	}
+
 	/**
 	 * 返回控制台日志配置
 	 *
@@ -286,4 +520,522 @@ public class LogProperties {
 		this.rest = rest;
 	}
 
+	/**
+	 * 异步日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Async {
+
+		/**
+		 * 是否异步处理日志
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 队列容量，会向上取整为 2 的幂
+		 */
+		private int bufferSize = AsyncLogManager.DEFAULT_BUFFER_SIZE;
+
+		/**
+		 * 消费者等待策略
+		 */
+		private WaitStrategy waitStrategy = AsyncLogManager.DEFAULT_WAIT_STRATEGY;
+
+		/**
+		 * 消费线程数
+		 */
+		private int consumers = AsyncLogManager.DEFAULT_CONSUMERS;
+
+		/**
+		 * 队列已满时普通日志（@Log）的溢出策略
+		 */
+		private OverflowPolicy overflowPolicy = AsyncLogManager.DEFAULT_OVERFLOW_POLICY;
+
+		/**
+		 * 队列已满时审计日志（@AuditLog）的溢出策略
+		 */
+		private OverflowPolicy auditOverflowPolicy = AsyncLogManager.DEFAULT_OVERFLOW_POLICY;
+
+		/**
+		 * 阻塞策略的最长等待时间，超时后丢弃日志
+		 */
+		private Duration blockTimeout = AsyncLogManager.DEFAULT_BLOCK_TIMEOUT;
+
+		/**
+		 * 采样策略的采样率，取值范围 [0, 1]
+		 */
+		private double sampleRate = AsyncLogManager.DEFAULT_SAMPLE_RATE;
+
+		/**
+		 * 开始采样的队列占用比例，取值范围 [0, 1]
+		 */
+		private double sampleThreshold = AsyncLogManager.DEFAULT_SAMPLE_THRESHOLD;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getBufferSize() {
+			return bufferSize;
+		}
+
+		public void setBufferSize(int bufferSize) {
+			this.bufferSize = bufferSize;
+		}
+
+		public WaitStrategy getWaitStrategy() {
+			return waitStrategy;
+		}
+
+		public void setWaitStrategy(WaitStrategy waitStrategy) {
+			this.waitStrategy = waitStrategy;
+		}
+
+		public int getConsumers() {
+			return consumers;
+		}
+
+		public void setConsumers(int consumers) {
+			this.consumers = consumers;
+		}
+
+		public OverflowPolicy getOverflowPolicy() {
+			return overflowPolicy;
+		}
+
+		public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+			this.overflowPolicy = overflowPolicy;
+		}
+
+		public OverflowPolicy getAuditOverflowPolicy() {
+			return auditOverflowPolicy;
+		}
+
+		public void setAuditOverflowPolicy(OverflowPolicy auditOverflowPolicy) {
+			this.auditOverflowPolicy = auditOverflowPolicy;
+		}
+
+		public Duration getBlockTimeout() {
+			return blockTimeout;
+		}
+
+		public void setBlockTimeout(Duration blockTimeout) {
+			this.blockTimeout = blockTimeout;
+		}
+
+		public double getSampleRate() {
+			return sampleRate;
+		}
+
+		public void setSampleRate(double sampleRate) {
+			this.sampleRate = sampleRate;
+		}
+
+		public double getSampleThreshold() {
+			return sampleThreshold;
+		}
+
+		public void setSampleThreshold(double sampleThreshold) {
+			this.sampleThreshold = sampleThreshold;
+		}
+
+	}
+
+	/**
+	 * 批量日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Batch {
+
+		/**
+		 * 是否批量写入日志，仅对支持批量写入的日志处理器生效
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 单批最大记录数
+		 */
+		private int maxCount = BatchAccumulator.DEFAULT_MAX_COUNT;
+
+		/**
+		 * 单批最大字节数（估算值）
+		 */
+		private long maxBytes = BatchAccumulator.DEFAULT_MAX_BYTES;
+
+		/**
+		 * 最长等待时间，超过该时间未满批也会写入
+		 */
+		private Duration linger = BatchAccumulator.DEFAULT_LINGER;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxCount() {
+			return maxCount;
+		}
+
+		public void setMaxCount(int maxCount) {
+			this.maxCount = maxCount;
+		}
+
+		public long getMaxBytes() {
+			return maxBytes;
+		}
+
+		public void setMaxBytes(long maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+		public Duration getLinger() {
+			return linger;
+		}
+
+		public void setLinger(Duration linger) {
+			this.linger = linger;
+		}
+
+	}
+
+	/**
+	 * User-Agent 解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class UserAgentCache {
+
+		/**
+		 * 是否缓存 User-Agent 解析结果
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 最大缓存条目数
+		 */
+		private long maximumSize = CachingUserAgentParser.DEFAULT_MAXIMUM_SIZE;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getMaximumSize() {
+			return maximumSize;
+		}
+
+		public void setMaximumSize(long maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+	}
+
+	/**
+	 * 地理位置解析缓存配置
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class GeoCache {
+
+		/**
+		 * 是否缓存地理位置解析结果
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * 最大缓存条目数
+		 */
+		private long maximumSize = CachingGeoLocationResolver.DEFAULT_MAXIMUM_SIZE;
+
+		/**
+		 * 缓存过期时间
+		 */
+		private Duration ttl = CachingGeoLocationResolver.DEFAULT_TTL;
+
+		/**
+		 * IPv4 归并前缀长度，32 表示不归并
+		 */
+		private int ipv4PrefixLength = CachingGeoLocationResolver.IPV4_MAX_PREFIX_LENGTH;
+
+		/**
+		 * IPv6 归并前缀长度，128 表示不归并
+		 */
+		private int ipv6PrefixLength = CachingGeoLocationResolver.IPV6_MAX_PREFIX_LENGTH;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getMaximumSize() {
+			return maximumSize;
+		}
+
+		public void setMaximumSize(long maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+
+		public Duration getTtl() {
+			return ttl;
+		}
+
+		public void setTtl(Duration ttl) {
+			this.ttl = ttl;
+		}
+
+		public int getIpv4PrefixLength() {
+			return ipv4PrefixLength;
+		}
+
+		public void setIpv4PrefixLength(int ipv4PrefixLength) {
+			this.ipv4PrefixLength = ipv4PrefixLength;
+		}
+
+		public int getIpv6PrefixLength() {
+			return ipv6PrefixLength;
+		}
+
+		public void setIpv6PrefixLength(int ipv6PrefixLength) {
+			this.ipv6PrefixLength = ipv6PrefixLength;
+		}
+
+	}
+
+	/**
+	 * 日志补全配置
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Enrichment {
+
+		/**
+		 * 补全器默认超时时间，超时的补全器将被跳过
+		 */
+		private Duration timeout = EnrichmentPipeline.DEFAULT_TIMEOUT;
+
+		/**
+		 * 是否补全链路追踪 ID
+		 */
+		private boolean traceIdEnabled = false;
+
+		/**
+		 * 链路追踪 ID 的 MDC 键名
+		 */
+		private String traceIdMdcKey = TraceIdEnricher.DEFAULT_MDC_KEY;
+
+		/**
+		 * 链路追踪 ID 的请求头名称
+		 */
+		private String traceIdHeaderName = TraceIdEnricher.DEFAULT_HEADER_NAME;
+
+		/**
+		 * 写入日志附加参数的固定标签
+		 */
+		private Map<String, String> tags = new LinkedHashMap<>();
+
+		public Duration getTimeout() {
+			return timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public boolean isTraceIdEnabled() {
+			return traceIdEnabled;
+		}
+
+		public void setTraceIdEnabled(boolean traceIdEnabled) {
+			this.traceIdEnabled = traceIdEnabled;
+		}
+
+		public String getTraceIdMdcKey() {
+			return traceIdMdcKey;
+		}
+
+		public void setTraceIdMdcKey(String traceIdMdcKey) {
+			this.traceIdMdcKey = traceIdMdcKey;
+		}
+
+		public String getTraceIdHeaderName() {
+			return traceIdHeaderName;
+		}
+
+		public void setTraceIdHeaderName(String traceIdHeaderName) {
+			this.traceIdHeaderName = traceIdHeaderName;
+		}
+
+		public Map<String, String> getTags() {
+			return tags;
+		}
+
+		public void setTags(Map<String, String> tags) {
+			this.tags = tags;
+		}
+
+	}
+
+	/**
+	 * 多日志处理器组合配置，同时启用多个日志处理器时生效
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Composite {
+
+		/**
+		 * 结果汇总策略
+		 */
+		private CompositePolicy policy = CompositePolicy.ALL;
+
+		/**
+		 * 主日志处理器，可以为 Bean 名称，或 console、elasticsearch、file、jdbc、kafka、mongo、rabbit、rest、rocketMQ
+		 */
+		private String primary;
+
+		/**
+		 * 每个日志处理器的队列容量
+		 */
+		private int queueCapacity = CompositeLogHandler.DEFAULT_QUEUE_CAPACITY;
+
+		/**
+		 * 等待结果的超时时间
+		 */
+		private Duration timeout = CompositeLogHandler.DEFAULT_TIMEOUT;
+
+		public CompositePolicy getPolicy() {
+			return policy;
+		}
+
+		public void setPolicy(CompositePolicy policy) {
+			this.policy = policy;
+		}
+
+		public String getPrimary() {
+			return primary;
+		}
+
+		public void setPrimary(String primary) {
+			this.primary = primary;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Duration getTimeout() {
+			return timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+	}
+
+	/**
+	 * 磁盘日志配置，后端不可用时日志写入本地磁盘日志，待后端恢复后按顺序重放
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Journal {
+
+		/**
+		 * 是否启用磁盘日志
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 磁盘日志目录
+		 */
+		private String directory;
+
+		/**
+		 * 分段大小
+		 */
+		private int segmentSize = SegmentJournal.DEFAULT_SEGMENT_SIZE;
+
+		/**
+		 * 最大磁盘占用，达到上限后新日志将被丢弃
+		 */
+		private long maxDiskSize = SegmentJournal.DEFAULT_MAX_DISK_SIZE;
+
+		/**
+		 * 重放间隔
+		 */
+		private Duration replayInterval = JournaledLogHandler.DEFAULT_REPLAY_INTERVAL;
+
+		/**
+		 * 单次重放的最大日志数量
+		 */
+		private int replayBatchSize = JournaledLogHandler.DEFAULT_REPLAY_BATCH_SIZE;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getDirectory() {
+			return directory;
+		}
+
+		public void setDirectory(String directory) {
+			this.directory = directory;
+		}
+
+		public int getSegmentSize() {
+			return segmentSize;
+		}
+
+		public void setSegmentSize(int segmentSize) {
+			this.segmentSize = segmentSize;
+		}
+
+		public long getMaxDiskSize() {
+			return maxDiskSize;
+		}
+
+		public void setMaxDiskSize(long maxDiskSize) {
+			this.maxDiskSize = maxDiskSize;
+		}
+
+		public Duration getReplayInterval() {
+			return replayInterval;
+		}
+
+		public void setReplayInterval(Duration replayInterval) {
+			this.replayInterval = replayInterval;
+		}
+
+		public int getReplayBatchSize() {
+			return replayBatchSize;
+		}
+
+		public void setReplayBatchSize(int replayBatchSize) {
+			this.replayBatchSize = replayBatchSize;
+		}
+
+	}
+
 }
@@ -26,7 +26,6 @@ package com.buession.logging.springboot.autoconfigure.console;
 
 import com.buession.logging.console.spring.ConsoleLogHandlerFactoryBean;
 import com.buession.logging.console.spring.config.ConsoleLogHandlerFactoryBeanConfigurer;
-import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import org.springframework.beans.BeanUtils;
@@ -45,7 +44,6 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({ConsoleLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = ConsoleProperties.PREFIX, name = "enabled", havingValue = "true")
 public class ConsoleLogHandlerConfiguration extends AbstractLogHandlerConfiguration<ConsoleProperties> {
@@ -55,14 +53,18 @@ public class ConsoleLogHandlerConfiguration extends AbstractLogHandlerConfigurat
 	}
 
 	@Bean
-	public ConsoleLogHandlerFactoryBean logHandlerFactoryBean() {
+	public ConsoleLogHandlerFactoryBean consoleLogHandlerFactoryBean() {
 		final ConsoleLogHandlerFactoryBeanConfigurer configurer = new ConsoleLogHandlerFactoryBeanConfigurer();
 
 		configurer.setTemplate(properties.getTemplate());
 		propertyMapper.from(properties::getFormatter).as(BeanUtils::instantiateClass)
 				.to(configurer::setFormatter);
 
-		return new ConsoleLogHandlerFactoryBean(configurer);
+		final ConsoleLogHandlerFactoryBean factoryBean = new ConsoleLogHandlerFactoryBean(configurer);
+
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
+
+		return factoryBean;
 	}
 
 }
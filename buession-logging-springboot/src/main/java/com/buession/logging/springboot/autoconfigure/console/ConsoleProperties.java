@@ -27,6 +27,8 @@ package com.buession.logging.springboot.autoconfigure.console;
 import com.buession.logging.console.formatter.ConsoleLogDataFormatter;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * 控制台日志配置
@@ -49,6 +51,14 @@ public class ConsoleProperties implements AdapterProperties {
 	 */
 	private Class<? extends ConsoleLogDataFormatter> formatter;
 
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回日志模板
 	 *
@@ -87,4 +97,28 @@ public class ConsoleProperties implements AdapterProperties {
 		this.formatter = formatter;
 	}
 
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 }
@@ -24,7 +24,6 @@
  */
 package com.buession.logging.springboot.autoconfigure.elasticsearch;
 
-import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.elasticsearch.spring.ElasticsearchLogHandlerFactoryBean;
 import com.buession.logging.elasticsearch.spring.config.ElasticsearchLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -46,7 +45,6 @@ import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({ElasticsearchLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = ElasticsearchProperties.PREFIX, name = "enabled", havingValue = "true")
 public class ElasticsearchLogHandlerConfiguration extends AbstractLogHandlerConfiguration<ElasticsearchProperties> {
@@ -56,7 +54,7 @@ public class ElasticsearchLogHandlerConfiguration extends AbstractLogHandlerConf
 	}
 
 	@Bean
-	public ElasticsearchLogHandlerFactoryBean logHandlerFactoryBean(
+	public ElasticsearchLogHandlerFactoryBean elasticsearchLogHandlerFactoryBean(
 			@Qualifier("loggingElasticsearchTemplate") ElasticsearchTemplate elasticsearchTemplate) {
 		final ElasticsearchLogHandlerFactoryBeanConfigurer configurer = new ElasticsearchLogHandlerFactoryBeanConfigurer();
 
@@ -66,6 +64,7 @@ public class ElasticsearchLogHandlerConfiguration extends AbstractLogHandlerConf
 		final ElasticsearchLogHandlerFactoryBean factoryBean = new ElasticsearchLogHandlerFactoryBean(configurer);
 
 		factoryBean.setElasticsearchTemplate(elasticsearchTemplate);
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
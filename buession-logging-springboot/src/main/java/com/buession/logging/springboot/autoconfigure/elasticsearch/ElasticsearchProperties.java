@@ -29,9 +29,11 @@ import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import com.buession.core.builder.ListBuilder;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
 import org.elasticsearch.client.RestClientBuilder;
 import org.springframework.data.elasticsearch.core.RefreshPolicy;
 import org.springframework.data.mapping.callback.EntityCallbacks;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.time.Duration;
 import java.util.LinkedHashMap;
@@ -127,6 +129,14 @@ public class ElasticsearchProperties implements AdapterProperties {
 	 */
 	private Class<? extends EntityCallbacks> entityCallbacks;
 
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回 Elasticsearch URL 地址
 	 *
@@ -407,4 +417,28 @@ public class ElasticsearchProperties implements AdapterProperties {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.springboot.autoconfigure.file;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.core.codec.ProtobufLogDataCodec;
+import com.buession.logging.file.spring.AuditLogHandlerFactoryBean;
+import com.buession.logging.file.store.AuditLogStore;
+import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
+import com.buession.logging.springboot.autoconfigure.LogProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 本地审计日志处理器自动配置类
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(LogProperties.class)
+@ConditionalOnClass({AuditLogHandlerFactoryBean.class})
+@ConditionalOnProperty(prefix = FileProperties.PREFIX, name = "audit.enabled", havingValue = "true")
+public class AuditLogHandlerConfiguration extends AbstractLogHandlerConfiguration<FileProperties> {
+
+	public AuditLogHandlerConfiguration(LogProperties logProperties) {
+		super(logProperties.getFile());
+	}
+
+	/**
+	 * 审计日志存储，应用可注入该 Bean 按时间范围或用户查询审计日志
+	 *
+	 * @return 审计日志存储
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	@Bean(name = "loggingAuditLogStore", destroyMethod = "close")
+	@ConditionalOnMissingBean(name = "loggingAuditLogStore")
+	public AuditLogStore auditLogStore() throws IOException {
+		final FileProperties.Audit audit = properties.getAudit();
+
+		Assert.isBlank(audit.getDirectory(), "Property '" + FileProperties.PREFIX + ".audit.directory' is required");
+
+		final LogDataCodec codec = audit.getCodec() == null ? new ProtobufLogDataCodec() :
+				audit.getCodec().createCodec();
+
+		return new AuditLogStore(Paths.get(audit.getDirectory()), codec, (int) audit.getSegmentSize().toBytes(),
+				audit.getMaxDiskSize().toBytes(), (int) audit.getIndexInterval().toBytes());
+	}
+
+	@Bean
+	public AuditLogHandlerFactoryBean auditLogHandlerFactoryBean(
+			@Qualifier("loggingAuditLogStore") AuditLogStore auditLogStore) {
+		final AuditLogHandlerFactoryBean factoryBean = new AuditLogHandlerFactoryBean();
+
+		factoryBean.setStore(auditLogStore);
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
+
+		return factoryBean;
+	}
+
+}
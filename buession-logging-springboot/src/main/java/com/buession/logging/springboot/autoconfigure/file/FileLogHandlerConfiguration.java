@@ -24,7 +24,7 @@
  */
 package com.buession.logging.springboot.autoconfigure.file;
 
-import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.file.core.RollingPolicy;
 import com.buession.logging.file.spring.FileLogHandlerFactoryBean;
 import com.buession.logging.file.spring.config.FileLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -36,6 +36,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.util.unit.DataSize;
 
 /**
  * 文件日志处理器自动配置类
@@ -45,7 +46,6 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({FileLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = FileProperties.PREFIX, name = "enabled", havingValue = "true")
 public class FileLogHandlerConfiguration extends AbstractLogHandlerConfiguration<FileProperties> {
@@ -55,13 +55,33 @@ public class FileLogHandlerConfiguration extends AbstractLogHandlerConfiguration
 	}
 
 	@Bean
-	public FileLogHandlerFactoryBean logHandlerFactoryBean() {
+	public FileLogHandlerFactoryBean fileLogHandlerFactoryBean() {
 		final FileLogHandlerFactoryBeanConfigurer configurer = new FileLogHandlerFactoryBeanConfigurer();
 
 		configurer.setPath(properties.getPath());
 		propertyMapper.from(properties::getFormatter).as(BeanUtils::instantiateClass).to(configurer::setFormatter);
+		propertyMapper.from(properties::getFsyncPolicy).to(configurer::setFsyncPolicy);
+		propertyMapper.from(properties::getFsyncInterval).to(configurer::setFsyncInterval);
+		propertyMapper.from(properties::getBufferSize).asInt(DataSize::toBytes).to(configurer::setBufferSize);
+		propertyMapper.from(properties::getRolling).as(this::createRollingPolicy).to(configurer::setRollingPolicy);
 
-		return new FileLogHandlerFactoryBean(configurer);
+		final FileLogHandlerFactoryBean factoryBean = new FileLogHandlerFactoryBean(configurer);
+
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
+
+		return factoryBean;
+	}
+
+	private RollingPolicy createRollingPolicy(final FileProperties.Rolling rolling) {
+		final RollingPolicy rollingPolicy = new RollingPolicy();
+
+		propertyMapper.from(rolling::getMaxFileSize).as(DataSize::toBytes).to(rollingPolicy::setMaxFileSize);
+		propertyMapper.from(rolling::getDatePattern).to(rollingPolicy::setDatePattern);
+		propertyMapper.from(rolling::getCompression).to(rollingPolicy::setCompression);
+		rollingPolicy.setMaxHistory(rolling.getMaxHistory());
+		propertyMapper.from(rolling::getTotalSizeCap).as(DataSize::toBytes).to(rollingPolicy::setTotalSizeCap);
+
+		return rollingPolicy;
 	}
 
 }
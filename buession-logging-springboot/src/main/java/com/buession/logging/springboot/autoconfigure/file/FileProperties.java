@@ -24,9 +24,19 @@
  */
 package com.buession.logging.springboot.autoconfigure.file;
 
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.core.formatter.LogDataFormatter;
+import com.buession.logging.file.core.CompressionType;
+import com.buession.logging.file.core.FileChannelWriter;
+import com.buession.logging.file.core.FsyncPolicy;
+import com.buession.logging.file.store.AuditLogStore;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * 文件日志配置
@@ -48,6 +58,49 @@ public class FileProperties implements AdapterProperties {
 	 */
 	private Class<? extends LogDataFormatter<String>> formatter;
 
+	/**
+	 * 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	private FsyncPolicy fsyncPolicy = FsyncPolicy.OS;
+
+	/**
+	 * 刷盘间隔，仅刷盘策略为 {@link FsyncPolicy#PERIODIC} 时有效
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration fsyncInterval = FileChannelWriter.DEFAULT_FSYNC_INTERVAL;
+
+	/**
+	 * 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	private DataSize bufferSize = DataSize.ofBytes(FileChannelWriter.DEFAULT_BUFFER_SIZE);
+
+	/**
+	 * 滚动配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Rolling rolling = new Rolling();
+
+	/**
+	 * 本地审计日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Audit audit = new Audit();
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回日志文件路径
 	 *
@@ -86,4 +139,304 @@ public class FileProperties implements AdapterProperties {
 		this.formatter = formatter;
 	}
 
+	/**
+	 * 返回刷盘策略
+	 *
+	 * @return 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public FsyncPolicy getFsyncPolicy() {
+		return fsyncPolicy;
+	}
+
+	/**
+	 * 设置刷盘策略
+	 *
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * 返回刷盘间隔
+	 *
+	 * @return 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFsyncInterval() {
+		return fsyncInterval;
+	}
+
+	/**
+	 * 设置刷盘间隔
+	 *
+	 * @param fsyncInterval
+	 * 		刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncInterval(Duration fsyncInterval) {
+		this.fsyncInterval = fsyncInterval;
+	}
+
+	/**
+	 * 返回组提交缓冲区大小
+	 *
+	 * @return 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public DataSize getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置组提交缓冲区大小
+	 *
+	 * @param bufferSize
+	 * 		组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBufferSize(DataSize bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * 返回滚动配置
+	 *
+	 * @return 滚动配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Rolling getRolling() {
+		return rolling;
+	}
+
+	/**
+	 * 设置滚动配置
+	 *
+	 * @param rolling
+	 * 		滚动配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setRolling(Rolling rolling) {
+		this.rolling = rolling;
+	}
+
+	/**
+	 * 返回本地审计日志配置
+	 *
+	 * @return 本地审计日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Audit getAudit() {
+		return audit;
+	}
+
+	/**
+	 * 设置本地审计日志配置
+	 *
+	 * @param audit
+	 * 		本地审计日志配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setAudit(Audit audit) {
+		this.audit = audit;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * 滚动配置，按大小和按时间可同时启用，任一条件满足即滚动
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Rolling {
+
+		/**
+		 * 单个文件最大大小，为空时不按大小滚动
+		 */
+		private DataSize maxFileSize;
+
+		/**
+		 * 时间格式，如：yyyy-MM-dd；格式化结果变化时滚动，为空时不按时间滚动
+		 */
+		private String datePattern;
+
+		/**
+		 * 滚动文件压缩方式
+		 */
+		private CompressionType compression = CompressionType.NONE;
+
+		/**
+		 * 最多保留的滚动文件数量，小于等于 0 时不限制
+		 */
+		private int maxHistory;
+
+		/**
+		 * 滚动文件总大小上限，为空时不限制
+		 */
+		private DataSize totalSizeCap;
+
+		public DataSize getMaxFileSize() {
+			return maxFileSize;
+		}
+
+		public void setMaxFileSize(DataSize maxFileSize) {
+			this.maxFileSize = maxFileSize;
+		}
+
+		public String getDatePattern() {
+			return datePattern;
+		}
+
+		public void setDatePattern(String datePattern) {
+			this.datePattern = datePattern;
+		}
+
+		public CompressionType getCompression() {
+			return compression;
+		}
+
+		public void setCompression(CompressionType compression) {
+			this.compression = compression;
+		}
+
+		public int getMaxHistory() {
+			return maxHistory;
+		}
+
+		public void setMaxHistory(int maxHistory) {
+			this.maxHistory = maxHistory;
+		}
+
+		public DataSize getTotalSizeCap() {
+			return totalSizeCap;
+		}
+
+		public void setTotalSizeCap(DataSize totalSizeCap) {
+			this.totalSizeCap = totalSizeCap;
+		}
+
+	}
+
+	/**
+	 * 本地审计日志配置，日志写入内存映射的分段文件，并维护按时间和按用户的稀疏索引
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Audit {
+
+		/**
+		 * 是否启用
+		 */
+		private boolean enabled;
+
+		/**
+		 * 分段文件目录
+		 */
+		private String directory;
+
+		/**
+		 * 分段大小
+		 */
+		private DataSize segmentSize = DataSize.ofBytes(AuditLogStore.DEFAULT_SEGMENT_SIZE);
+
+		/**
+		 * 最大磁盘占用，超过时删除最旧的分段
+		 */
+		private DataSize maxDiskSize = DataSize.ofBytes(AuditLogStore.DEFAULT_MAX_DISK_SIZE);
+
+		/**
+		 * 稀疏时间索引间隔
+		 */
+		private DataSize indexInterval = DataSize.ofBytes(AuditLogStore.DEFAULT_INDEX_INTERVAL);
+
+		/**
+		 * 日志数据编码方式，为空时使用 Protobuf
+		 */
+		private CodecType codec;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getDirectory() {
+			return directory;
+		}
+
+		public void setDirectory(String directory) {
+			this.directory = directory;
+		}
+
+		public DataSize getSegmentSize() {
+			return segmentSize;
+		}
+
+		public void setSegmentSize(DataSize segmentSize) {
+			this.segmentSize = segmentSize;
+		}
+
+		public DataSize getMaxDiskSize() {
+			return maxDiskSize;
+		}
+
+		public void setMaxDiskSize(DataSize maxDiskSize) {
+			this.maxDiskSize = maxDiskSize;
+		}
+
+		public DataSize getIndexInterval() {
+			return indexInterval;
+		}
+
+		public void setIndexInterval(DataSize indexInterval) {
+			this.indexInterval = indexInterval;
+		}
+
+		public CodecType getCodec() {
+			return codec;
+		}
+
+		public void setCodec(CodecType codec) {
+			this.codec = codec;
+		}
+
+	}
+
 }
@@ -24,7 +24,8 @@
  */
 package com.buession.logging.springboot.autoconfigure.jdbc;
 
-import com.buession.logging.core.handler.LogHandler;
+import com.buession.core.validator.Validate;
+import com.buession.logging.jdbc.partition.PartitionPolicy;
 import com.buession.logging.jdbc.spring.JdbcLogHandlerFactoryBean;
 import com.buession.logging.jdbc.spring.config.JdbcLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -47,7 +48,6 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({JdbcLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = JdbcProperties.PREFIX, name = "enabled", havingValue = "true")
 public class JdbcLogHandlerConfiguration extends AbstractLogHandlerConfiguration<JdbcProperties> {
@@ -57,7 +57,7 @@ public class JdbcLogHandlerConfiguration extends AbstractLogHandlerConfiguration
 	}
 
 	@Bean
-	public JdbcLogHandlerFactoryBean logHandlerFactoryBean(
+	public JdbcLogHandlerFactoryBean jdbcLogHandlerFactoryBean(
 			@Qualifier("loggingJdbcTemplate") JdbcTemplate jdbcTemplate) {
 		final JdbcLogHandlerFactoryBeanConfigurer configurer = new JdbcLogHandlerFactoryBeanConfigurer();
 
@@ -71,12 +71,41 @@ public class JdbcLogHandlerConfiguration extends AbstractLogHandlerConfiguration
 				.to(configurer::setExtraFormatter);
 		propertyMapper.from(properties.getDataConverter()).as(BeanUtils::instantiateClass)
 				.to(configurer::setDataConverter);
+		configurer.setBatchSize(properties.getBatchSize());
+		propertyMapper.from(properties::getFlushInterval).to(configurer::setFlushInterval);
+		configurer.setDialect(properties.getDialect());
+		propertyMapper.from(properties::getPartition).when((partition)->Validate.hasText(partition.getTable()))
+				.as(this::createPartitionPolicy).to(configurer::setPartitionPolicy);
+		propertyMapper.from(properties::getWriter).to((writer)->{
+			configurer.setWriterThreads(writer.getThreads());
+			configurer.setWriterQueueCapacity(writer.getQueueCapacity());
+			configurer.setWriterOfferTimeout(writer.getOfferTimeout());
+			configurer.setWriterWriteTimeout(writer.getWriteTimeout());
+			configurer.setStatementCacheSize(writer.getStatementCacheSize());
+		});
 
 		final JdbcLogHandlerFactoryBean factoryBean = new JdbcLogHandlerFactoryBean(configurer);
 
 		factoryBean.setJdbcTemplate(jdbcTemplate);
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
 
+	private PartitionPolicy createPartitionPolicy(final JdbcProperties.Partition partition) {
+		final PartitionPolicy partitionPolicy = new PartitionPolicy();
+
+		partitionPolicy.setTable(partition.getTable());
+		propertyMapper.from(partition::getGranularity).to(partitionPolicy::setGranularity);
+		propertyMapper.from(partition::getTablePattern).to(partitionPolicy::setTablePattern);
+		partitionPolicy.setCreateDdl(partition.getCreateDdl());
+		partitionPolicy.setDropDdl(partition.getDropDdl());
+		partitionPolicy.setPrecreate(partition.getPrecreate());
+		partitionPolicy.setRetention(partition.getRetention());
+		partitionPolicy.setZoneId(partition.getZoneId());
+		partitionPolicy.setMaintenanceInterval(partition.getMaintenanceInterval());
+
+		return partitionPolicy;
+	}
+
 }
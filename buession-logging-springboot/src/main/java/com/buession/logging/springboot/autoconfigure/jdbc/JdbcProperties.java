@@ -33,13 +33,22 @@ import com.buession.jdbc.config.OracleConfig;
 import com.buession.jdbc.config.TomcatConfig;
 import com.buession.logging.jdbc.converter.DefaultLogDataConverter;
 import com.buession.logging.jdbc.converter.LogDataConverter;
+import com.buession.logging.jdbc.core.JdbcWriterPool;
+import com.buession.logging.jdbc.core.StatementCache;
+import com.buession.logging.jdbc.dialect.DialectType;
+import com.buession.logging.jdbc.partition.PartitionGranularity;
+import com.buession.logging.jdbc.partition.PartitionPolicy;
 import com.buession.logging.jdbc.formatter.DefaultGeoFormatter;
 import com.buession.logging.core.formatter.GeoFormatter;
 import com.buession.logging.jdbc.formatter.JsonMapFormatter;
 import com.buession.logging.core.formatter.MapFormatter;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.Properties;
 
 /**
@@ -165,6 +174,50 @@ public class JdbcProperties implements AdapterProperties {
 	 */
 	private Class<? extends LogDataConverter> dataConverter = DefaultLogDataConverter.class;
 
+	/**
+	 * 批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小（即使未开启全局批量模式），
+	 * 小于等于 1 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private int batchSize;
+
+	/**
+	 * 批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration flushInterval;
+
+	/**
+	 * 数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @since 2.1.0
+	 */
+	private DialectType dialect;
+
+	/**
+	 * 日志表分区配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Partition partition = new Partition();
+
+	/**
+	 * JDBC 写入线程池配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Writer writer = new Writer();
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回数据库驱动类名
 	 *
@@ -562,4 +615,343 @@ public class JdbcProperties implements AdapterProperties {
 		this.dataConverter = dataConverter;
 	}
 
+	/**
+	 * 返回批量大小
+	 *
+	 * @return 批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小，小于等于 1 时使用全局批量配置
+	 *
+	 * @param batchSize
+	 * 		批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 返回批量模式下日志最大停留时间
+	 *
+	 * @return 批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * 设置批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @param flushInterval
+	 * 		批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 返回数据库方言类型
+	 *
+	 * @return 数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public DialectType getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * 设置数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @param dialect
+	 * 		数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setDialect(DialectType dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * 返回日志表分区配置
+	 *
+	 * @return 日志表分区配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Partition getPartition() {
+		return partition;
+	}
+
+	/**
+	 * 设置日志表分区配置
+	 *
+	 * @param partition
+	 * 		日志表分区配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setPartition(Partition partition) {
+		this.partition = partition;
+	}
+
+	/**
+	 * 返回 JDBC 写入线程池配置
+	 *
+	 * @return JDBC 写入线程池配置
+	 *
+	 * @since 2.1.0
+	 */
+	public Writer getWriter() {
+		return writer;
+	}
+
+	/**
+	 * 设置 JDBC 写入线程池配置
+	 *
+	 * @param writer
+	 * 		JDBC 写入线程池配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * 日志表分区配置，设置了基础表名时启用，SQL 中须使用 ${table} 作为表名
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Partition {
+
+		/**
+		 * 基础表名
+		 */
+		private String table;
+
+		/**
+		 * 分区粒度
+		 */
+		private PartitionGranularity granularity = PartitionGranularity.DAY;
+
+		/**
+		 * 分区表名模板
+		 */
+		private String tablePattern = PartitionPolicy.DEFAULT_TABLE_PATTERN;
+
+		/**
+		 * 建表语句模板，为空时不自动创建分区
+		 */
+		private String createDdl;
+
+		/**
+		 * 删表语句模板，为空时不删除过期分区，如：{@value PartitionPolicy#DEFAULT_DROP_DDL}
+		 */
+		private String dropDdl;
+
+		/**
+		 * 提前创建的分区数量
+		 */
+		private int precreate = PartitionPolicy.DEFAULT_PRECREATE;
+
+		/**
+		 * 保留的分区数量（包含当前分区），小于等于 0 时不删除过期分区
+		 */
+		private int retention;
+
+		/**
+		 * 分区时区，为空时使用系统默认时区
+		 */
+		private ZoneId zoneId;
+
+		/**
+		 * 维护间隔
+		 */
+		private Duration maintenanceInterval = PartitionPolicy.DEFAULT_MAINTENANCE_INTERVAL;
+
+		public String getTable() {
+			return table;
+		}
+
+		public void setTable(String table) {
+			this.table = table;
+		}
+
+		public PartitionGranularity getGranularity() {
+			return granularity;
+		}
+
+		public void setGranularity(PartitionGranularity granularity) {
+			this.granularity = granularity;
+		}
+
+		public String getTablePattern() {
+			return tablePattern;
+		}
+
+		public void setTablePattern(String tablePattern) {
+			this.tablePattern = tablePattern;
+		}
+
+		public String getCreateDdl() {
+			return createDdl;
+		}
+
+		public void setCreateDdl(String createDdl) {
+			this.createDdl = createDdl;
+		}
+
+		public String getDropDdl() {
+			return dropDdl;
+		}
+
+		public void setDropDdl(String dropDdl) {
+			this.dropDdl = dropDdl;
+		}
+
+		public int getPrecreate() {
+			return precreate;
+		}
+
+		public void setPrecreate(int precreate) {
+			this.precreate = precreate;
+		}
+
+		public int getRetention() {
+			return retention;
+		}
+
+		public void setRetention(int retention) {
+			this.retention = retention;
+		}
+
+		public ZoneId getZoneId() {
+			return zoneId;
+		}
+
+		public void setZoneId(ZoneId zoneId) {
+			this.zoneId = zoneId;
+		}
+
+		public Duration getMaintenanceInterval() {
+			return maintenanceInterval;
+		}
+
+		public void setMaintenanceInterval(Duration maintenanceInterval) {
+			this.maintenanceInterval = maintenanceInterval;
+		}
+
+	}
+
+	/**
+	 * JDBC 写入线程池配置，线程数大于 0 时启用；写入线程独占连接，同时占用的连接数不超过线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public final static class Writer {
+
+		/**
+		 * 写入线程数，小于等于 0 时在调用方线程上写入
+		 */
+		private int threads;
+
+		/**
+		 * 队列容量（任务数）
+		 */
+		private int queueCapacity = JdbcWriterPool.DEFAULT_QUEUE_CAPACITY;
+
+		/**
+		 * 队列满时提交方最大等待时间
+		 */
+		private Duration offerTimeout = JdbcWriterPool.DEFAULT_OFFER_TIMEOUT;
+
+		/**
+		 * 提交方等待写入结果的最长时间，超时后取消写入并将该批日志按失败处理
+		 */
+		private Duration writeTimeout = JdbcWriterPool.DEFAULT_WRITE_TIMEOUT;
+
+		/**
+		 * 每个写入线程连接上缓存的语句数量
+		 */
+		private int statementCacheSize = StatementCache.DEFAULT_CAPACITY;
+
+		public int getThreads() {
+			return threads;
+		}
+
+		public void setThreads(int threads) {
+			this.threads = threads;
+		}
+
+		public int getQueueCapacity() {
+			return queueCapacity;
+		}
+
+		public void setQueueCapacity(int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+		}
+
+		public Duration getOfferTimeout() {
+			return offerTimeout;
+		}
+
+		public void setOfferTimeout(Duration offerTimeout) {
+			this.offerTimeout = offerTimeout;
+		}
+
+		public Duration getWriteTimeout() {
+			return writeTimeout;
+		}
+
+		public void setWriteTimeout(Duration writeTimeout) {
+			this.writeTimeout = writeTimeout;
+		}
+
+		public int getStatementCacheSize() {
+			return statementCacheSize;
+		}
+
+		public void setStatementCacheSize(int statementCacheSize) {
+			this.statementCacheSize = statementCacheSize;
+		}
+
+	}
+
 }
@@ -24,7 +24,6 @@
  */
 package com.buession.logging.springboot.autoconfigure.kafka;
 
-import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.kafka.spring.KafkaLogHandlerFactoryBean;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
@@ -45,7 +44,6 @@ import org.springframework.kafka.core.KafkaTemplate;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({KafkaLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = KafkaProperties.PREFIX, name = "enabled", havingValue = "true")
 public class KafkaLogHandlerConfiguration extends AbstractLogHandlerConfiguration<KafkaProperties> {
@@ -55,12 +53,13 @@ public class KafkaLogHandlerConfiguration extends AbstractLogHandlerConfiguratio
 	}
 
 	@Bean
-	public KafkaLogHandlerFactoryBean logHandlerFactoryBean(
+	public KafkaLogHandlerFactoryBean kafkaLogHandlerFactoryBean(
 			@Qualifier("loggingKafkaTemplate") KafkaTemplate<String, Object> kafkaTemplate) {
 		final KafkaLogHandlerFactoryBean factoryBean = new KafkaLogHandlerFactoryBean();
 
 		factoryBean.setKafkaTemplate(kafkaTemplate);
 		factoryBean.setTopic(properties.getTopic());
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
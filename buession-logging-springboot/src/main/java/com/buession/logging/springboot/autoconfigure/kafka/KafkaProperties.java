@@ -28,16 +28,20 @@ import com.buession.core.builder.ListBuilder;
 import com.buession.core.converter.mapper.PropertyMapper;
 import com.buession.core.utils.StringUtils;
 import com.buession.core.validator.Validate;
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.kafka.config.KafkaConfiguration;
 import com.buession.logging.kafka.config.SecurityConfiguration;
 import com.buession.logging.kafka.config.SslConfiguration;
 import com.buession.logging.kafka.core.Constants;
+import com.buession.logging.kafka.serializer.LogDataCodecSerializer;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.unit.DataSize;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.util.HashMap;
 import java.util.List;
@@ -101,6 +105,7 @@ public class KafkaProperties implements AdapterProperties, KafkaConfiguration {
 
 	/**
 	 * Serializer class for value.
+	 * 设置为 {@code com.buession.logging.kafka.serializer.JsonLogDataSerializer} 时日志数据直接编码为 JSON 字节
 	 */
 	private Class<?> valueSerializer = JsonSerializer.class;
 
@@ -124,6 +129,21 @@ public class KafkaProperties implements AdapterProperties, KafkaConfiguration {
 	 */
 	private Map<String, String> properties = new HashMap<>();
 
+	/**
+	 * 日志数据编解码类型，为空时使用默认的序列化方式；设置后值序列化器固定为 {@link LogDataCodecSerializer}
+	 *
+	 * @since 2.1.0
+	 */
+	private CodecType codec;
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * Return Comma-delimited list of host:port pairs to use for establishing the initial
 	 * connections to the Kafka cluster.
@@ -404,6 +424,10 @@ public class KafkaProperties implements AdapterProperties, KafkaConfiguration {
 				.to((value)->properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, value));
 		propertyMapper.from(this::getValueSerializer)
 				.to((value)->properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, value));
+		propertyMapper.from(this::getCodec).to((value)->{
+			properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, LogDataCodecSerializer.class);
+			properties.put(LogDataCodecSerializer.CODEC_CONFIG, value.name());
+		});
 
 		if(getSslConfiguration() != null){
 			properties.putAll(getSslConfiguration().buildProperties());
@@ -420,4 +444,51 @@ public class KafkaProperties implements AdapterProperties, KafkaConfiguration {
 		return properties;
 	}
 
+	/**
+	 * 返回日志数据编解码类型
+	 *
+	 * @return 日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public CodecType getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码类型
+	 *
+	 * @param codec
+	 * 		日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(CodecType codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.springboot.autoconfigure.metrics;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogType;
+import com.buession.logging.core.metrics.LogMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 基于 Micrometer 的指标采集
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class MicrometerLogMetrics implements LogMetrics {
+
+	/**
+	 * 日志保存耗时
+	 */
+	public final static String SAVE_TIMER = "buession.logging.save";
+
+	/**
+	 * 日志补全耗时
+	 */
+	public final static String ENRICHMENT_TIMER = "buession.logging.enrichment";
+
+	/**
+	 * 日志处理器耗时
+	 */
+	public final static String HANDLER_TIMER = "buession.logging.handler";
+
+	/**
+	 * 日志处理器处理的日志数量
+	 */
+	public final static String HANDLER_RECORDS_COUNTER = "buession.logging.handler.records";
+
+	private final MeterRegistry registry;
+
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+	/**
+	 * 构造函数
+	 *
+	 * @param registry
+	 *        {@link MeterRegistry}
+	 */
+	public MicrometerLogMetrics(final MeterRegistry registry) {
+		Assert.isNull(registry, "MeterRegistry cloud not be null.");
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordSave(final LogType logType, final Status status, final long durationNanos) {
+		final String type = logType == null ? LogType.LOG.name() : logType.name();
+
+		timer(SAVE_TIMER, "type", type.toLowerCase(), "status", status(status)).record(durationNanos,
+				TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordEnrichment(final String enricher, final boolean success, final long durationNanos) {
+		timer(ENRICHMENT_TIMER, "enricher", enricher, "outcome", success ? "success" : "failure").record(
+				durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordHandle(final String handler, final Status status, final int count, final long durationNanos) {
+		final String statusTag = status(status);
+
+		timer(HANDLER_TIMER, "handler", handler, "status", statusTag).record(durationNanos, TimeUnit.NANOSECONDS);
+		counter(HANDLER_RECORDS_COUNTER, "handler", handler, "status", statusTag).increment(count);
+	}
+
+	@Override
+	public <T> void gauge(final String name, final T obj, final ToDoubleFunction<T> function, final String... tags) {
+		Gauge.builder(name, obj, function).tags(tags).strongReference(false).register(registry);
+	}
+
+	private Timer timer(final String name, final String... tags) {
+		return timers.computeIfAbsent(key(name, tags), (k)->Timer.builder(name).tags(tags).register(registry));
+	}
+
+	private Counter counter(final String name, final String... tags) {
+		return counters.computeIfAbsent(key(name, tags), (k)->Counter.builder(name).tags(tags).register(registry));
+	}
+
+	private static String key(final String name, final String... tags) {
+		final StringBuilder sb = new StringBuilder(name);
+
+		for(String tag : tags){
+			sb.append('|').append(tag);
+		}
+
+		return sb.toString();
+	}
+
+	private static String status(final Status status) {
+		return status == null ? "unknown" : status.name().toLowerCase();
+	}
+
+}
@@ -24,7 +24,6 @@
  */
 package com.buession.logging.springboot.autoconfigure.mongo;
 
-import com.buession.logging.core.handler.LogHandler;
 import com.buession.logging.mongodb.spring.MongoLogHandlerFactoryBean;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
@@ -45,7 +44,6 @@ import org.springframework.data.mongodb.core.MongoTemplate;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({MongoLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = LogProperties.PREFIX, name = "mongo.enabled", havingValue = "true")
 public class MongoLogHandlerConfiguration extends AbstractLogHandlerConfiguration<MongoProperties> {
@@ -55,12 +53,13 @@ public class MongoLogHandlerConfiguration extends AbstractLogHandlerConfiguratio
 	}
 
 	@Bean
-	public MongoLogHandlerFactoryBean logHandlerFactoryBean(
+	public MongoLogHandlerFactoryBean mongoLogHandlerFactoryBean(
 			@Qualifier("loggingMongoTemplate") MongoTemplate mongoTemplate) {
 		final MongoLogHandlerFactoryBean factoryBean = new MongoLogHandlerFactoryBean();
 
 		factoryBean.setMongoTemplate(mongoTemplate);
 		factoryBean.setCollectionName(properties.getCollectionName());
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
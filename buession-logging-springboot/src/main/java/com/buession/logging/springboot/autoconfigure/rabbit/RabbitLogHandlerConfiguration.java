@@ -24,7 +24,7 @@
  */
 package com.buession.logging.springboot.autoconfigure.rabbit;
 
-import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.rabbitmq.converter.LogDataCodecMessageConverter;
 import com.buession.logging.rabbitmq.spring.RabbitLogHandlerFactoryBean;
 import com.buession.logging.rabbitmq.spring.config.RabbitLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -46,7 +46,6 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({RabbitLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = LogProperties.PREFIX, name = "rabbit.enabled", havingValue = "true")
 public class RabbitLogHandlerConfiguration extends AbstractLogHandlerConfiguration<RabbitProperties> {
@@ -56,16 +55,19 @@ public class RabbitLogHandlerConfiguration extends AbstractLogHandlerConfigurati
 	}
 
 	@Bean
-	public RabbitLogHandlerFactoryBean logHandlerFactoryBean(
+	public RabbitLogHandlerFactoryBean rabbitLogHandlerFactoryBean(
 			@Qualifier("loggingRabbitTemplate") RabbitTemplate rabbitTemplate) {
 		final RabbitLogHandlerFactoryBeanConfigurer configurer = new RabbitLogHandlerFactoryBeanConfigurer();
 
 		configurer.setExchange(properties.getExchange());
 		configurer.setRoutingKey(properties.getRoutingKey());
+		propertyMapper.from(properties::getCodec).as((codec)->new LogDataCodecMessageConverter(codec.createCodec()))
+				.to(configurer::setMessageConverter);
 
 		final RabbitLogHandlerFactoryBean factoryBean = new RabbitLogHandlerFactoryBean(configurer);
 
 		factoryBean.setRabbitTemplate(rabbitTemplate);
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
@@ -25,11 +25,14 @@
 package com.buession.logging.springboot.autoconfigure.rabbit;
 
 import com.buession.logging.core.SslConfiguration;
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.rabbitmq.core.Cache;
 import com.buession.logging.rabbitmq.core.Retry;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.time.Duration;
 
@@ -161,6 +164,21 @@ public class RabbitProperties implements AdapterProperties {
 	 */
 	private Retry retry = new Retry();
 
+	/**
+	 * 日志数据编解码类型，为空时使用 JSON 编码
+	 *
+	 * @since 2.1.0
+	 */
+	private CodecType codec;
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回 RabbitMQ 地址
 	 *
@@ -584,4 +602,51 @@ public class RabbitProperties implements AdapterProperties {
 		this.retry = retry;
 	}
 
+	/**
+	 * 返回日志数据编解码类型
+	 *
+	 * @return 日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public CodecType getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码类型
+	 *
+	 * @param codec
+	 * 		日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(CodecType codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 }
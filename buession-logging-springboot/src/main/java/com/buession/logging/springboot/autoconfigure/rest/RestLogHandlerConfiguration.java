@@ -26,7 +26,7 @@ package com.buession.logging.springboot.autoconfigure.rest;
 
 import com.buession.httpclient.HttpAsyncClient;
 import com.buession.httpclient.HttpClient;
-import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.rest.core.LogDataCodecRequestBodyBuilder;
 import com.buession.logging.rest.spring.RestLogHandlerFactoryBean;
 import com.buession.logging.rest.spring.config.RestLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -49,7 +49,6 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({RestLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = LogProperties.PREFIX, name = "rest.enabled", havingValue = "true")
 public class RestLogHandlerConfiguration extends AbstractLogHandlerConfiguration<RestProperties> {
@@ -59,7 +58,7 @@ public class RestLogHandlerConfiguration extends AbstractLogHandlerConfiguration
 	}
 
 	@Bean
-	public RestLogHandlerFactoryBean logHandlerFactoryBean(
+	public RestLogHandlerFactoryBean restLogHandlerFactoryBean(
 			@Qualifier("loggingRestHttpClient") ObjectProvider<HttpClient> httpClient,
 			@Qualifier("loggingRestHttpAsyncClient") ObjectProvider<HttpAsyncClient> httpAsyncClient) {
 		final RestLogHandlerFactoryBeanConfigurer configurer = new RestLogHandlerFactoryBeanConfigurer();
@@ -68,12 +67,16 @@ public class RestLogHandlerConfiguration extends AbstractLogHandlerConfiguration
 		configurer.setRequestMethod(properties.getRequestMethod());
 		propertyMapper.from(properties::getRequestBodyBuilder).as(BeanUtils::instantiateClass)
 				.to(configurer::setRequestBodyBuilder);
+		propertyMapper.from(properties::getCodec).as((codec)->new LogDataCodecRequestBodyBuilder(codec.createCodec()))
+				.to(configurer::setRequestBodyBuilder);
 
 		final RestLogHandlerFactoryBean factoryBean = new RestLogHandlerFactoryBean(configurer);
 
 		httpClient.ifAvailable(factoryBean::setHttpClient);
 		httpAsyncClient.ifAvailable(factoryBean::setHttpAsyncClient);
 
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
+
 		return factoryBean;
 	}
 
@@ -27,9 +27,11 @@ package com.buession.logging.springboot.autoconfigure.rest;
 import com.buession.httpclient.conn.nio.IOReactorConfig;
 import com.buession.httpclient.core.Configuration;
 import com.buession.logging.core.RequestMethod;
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.rest.core.JsonRequestBodyBuilder;
 import com.buession.logging.rest.core.RequestBodyBuilder;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.util.concurrent.ThreadFactory;
@@ -65,6 +67,21 @@ public class RestProperties implements AdapterProperties {
 	@NestedConfigurationProperty
 	private HttpClientProperties httpClient = new HttpClientProperties();
 
+	/**
+	 * 日志数据编解码类型，为空时使用默认的序列化方式；设置后优先于 requestBodyBuilder
+	 *
+	 * @since 2.1.0
+	 */
+	private CodecType codec;
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * 返回 Rest Url
 	 *
@@ -145,6 +162,53 @@ public class RestProperties implements AdapterProperties {
 		this.httpClient = httpClient;
 	}
 
+	/**
+	 * 返回日志数据编解码类型
+	 *
+	 * @return 日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public CodecType getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码类型
+	 *
+	 * @param codec
+	 * 		日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(CodecType codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 	/**
 	 * {@link com.buession.httpclient.HttpClient} 配置
 	 */
@@ -24,7 +24,7 @@
  */
 package com.buession.logging.springboot.autoconfigure.rocketmq;
 
-import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.rocketmq.spring.RocketMQLogHandlerFactoryBean;
 import com.buession.logging.rocketmq.spring.config.RocketMQLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.springboot.autoconfigure.AbstractLogHandlerConfiguration;
@@ -46,7 +46,6 @@ import org.springframework.context.annotation.Bean;
  */
 @AutoConfiguration
 @EnableConfigurationProperties(LogProperties.class)
-@ConditionalOnMissingBean(LogHandler.class)
 @ConditionalOnClass({RocketMQLogHandlerFactoryBean.class})
 @ConditionalOnProperty(prefix = LogProperties.PREFIX, name = "rocketmq.enabled", havingValue = "true")
 public class RocketMQLogHandlerConfiguration extends AbstractLogHandlerConfiguration<RocketMQProperties> {
@@ -56,17 +55,19 @@ public class RocketMQLogHandlerConfiguration extends AbstractLogHandlerConfigura
 	}
 
 	@Bean
-	public RocketMQLogHandlerFactoryBean logHandlerFactoryBean(
+	public RocketMQLogHandlerFactoryBean rocketMQLogHandlerFactoryBean(
 			@Qualifier("loggingRocketTemplate") RocketTemplate rocketTemplate) {
 		final RocketMQLogHandlerFactoryBeanConfigurer configurer = new RocketMQLogHandlerFactoryBeanConfigurer();
 
 		configurer.setTopic(properties.getTopic());
 		configurer.setCharset(properties.getCharset());
 		configurer.setSync(properties.isSync());
+		propertyMapper.from(properties::getCodec).as(CodecType::createCodec).to(configurer::setCodec);
 
 		final RocketMQLogHandlerFactoryBean factoryBean = new RocketMQLogHandlerFactoryBean(configurer);
 
 		factoryBean.setRocketTemplate(rocketTemplate);
+		factoryBean.setCircuitBreaker(properties.getCircuitBreaker());
 
 		return factoryBean;
 	}
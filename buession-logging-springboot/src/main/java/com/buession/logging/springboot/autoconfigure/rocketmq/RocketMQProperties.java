@@ -24,11 +24,14 @@
  */
 package com.buession.logging.springboot.autoconfigure.rocketmq;
 
+import com.buession.logging.core.codec.CodecType;
 import com.buession.logging.springboot.autoconfigure.LogProperties;
 import com.buession.logging.support.config.AdapterProperties;
+import com.buession.logging.support.config.CircuitBreakerProperties;
 import org.apache.rocketmq.client.AccessChannel;
 import org.apache.rocketmq.common.topic.TopicValidator;
 import org.springframework.util.unit.DataSize;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -135,6 +138,21 @@ public class RocketMQProperties implements AdapterProperties {
 	 */
 	private boolean sync = false;
 
+	/**
+	 * 日志数据编解码类型，为空时使用默认的序列化方式
+	 *
+	 * @since 2.1.0
+	 */
+	private CodecType codec;
+
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@NestedConfigurationProperty
+	private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
 	/**
 	 * The property of "tlsEnable".
 	 */
@@ -487,4 +505,51 @@ public class RocketMQProperties implements AdapterProperties {
 		this.tlsEnable = tlsEnable;
 	}
 
+	/**
+	 * 返回日志数据编解码类型
+	 *
+	 * @return 日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public CodecType getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码类型
+	 *
+	 * @param codec
+	 * 		日志数据编解码类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(CodecType codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
 }
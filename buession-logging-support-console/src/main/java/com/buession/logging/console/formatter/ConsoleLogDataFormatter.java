@@ -47,4 +47,18 @@ public interface ConsoleLogDataFormatter extends LogDataFormatter<String> {
 	 */
 	String format(final String template, final LogData logData);
 
+	/**
+	 * 预编译日志模板，默认实现在渲染时调用 {@link #format(String, LogData)}
+	 *
+	 * @param template
+	 * 		日志模板
+	 *
+	 * @return 预编译的日志模板
+	 *
+	 * @since 2.1.0
+	 */
+	default ConsoleTemplate compile(final String template) {
+		return ConsoleTemplate.of(template, (logData)->format(template, logData));
+	}
+
 }
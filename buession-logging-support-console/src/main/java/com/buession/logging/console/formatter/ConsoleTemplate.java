@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.console.formatter;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Constants;
+import com.buession.logging.core.LogData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 预编译的控制台日志模板，模板中的 {@code ${变量名}} 在编译时被拆分为文本片段和变量片段，
+ * 渲染时一次遍历写入 {@link StringBuilder}，只计算模板中引用到的变量；未知变量按原样输出，值为 null 的变量输出空字符串。
+ * 实例不可变，线程安全
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class ConsoleTemplate {
+
+	private final static String VARIABLE_PREFIX = "${";
+
+	private final static char VARIABLE_SUFFIX = '}';
+
+	/**
+	 * 原始模板
+	 */
+	private final String template;
+
+	/**
+	 * 片段
+	 */
+	private final Variable[] segments;
+
+	/**
+	 * 渲染结果长度估算值
+	 */
+	private final int estimatedLength;
+
+	private ConsoleTemplate(final String template, final List<Variable> segments) {
+		this.template = template;
+		this.segments = segments.toArray(new Variable[0]);
+		this.estimatedLength = template.length() + (template.length() >> 1);
+	}
+
+	/**
+	 * 编译日志模板
+	 *
+	 * @param template
+	 * 		日志模板
+	 * @param variableResolver
+	 * 		变量解析器，根据变量名返回变量取值函数，返回 null 表示未知变量
+	 *
+	 * @return 预编译的日志模板
+	 */
+	public static ConsoleTemplate compile(final String template,
+										  final Function<String, Variable> variableResolver) {
+		Assert.isNull(template, "Log message template cloud not be null.");
+		Assert.isNull(variableResolver, "Variable resolver cloud not be null.");
+
+		final List<Variable> segments = new ArrayList<>();
+		final StringBuilder literal = new StringBuilder();
+		int i = 0;
+
+		while(i < template.length()){
+			final int start = template.indexOf(VARIABLE_PREFIX, i);
+			final int end = start < 0 ? -1 : template.indexOf(VARIABLE_SUFFIX, start + VARIABLE_PREFIX.length());
+
+			if(end < 0){
+				literal.append(template, i, template.length());
+				break;
+			}
+
+			literal.append(template, i, start);
+
+			final Variable variable = variableResolver.apply(
+					template.substring(start + VARIABLE_PREFIX.length(), end));
+			if(variable == null){
+				literal.append(template, start, end + 1);
+			}else{
+				addLiteral(segments, literal);
+				segments.add(variable);
+			}
+
+			i = end + 1;
+		}
+
+		addLiteral(segments, literal);
+
+		return new ConsoleTemplate(template, segments);
+	}
+
+	/**
+	 * 创建整体交给指定函数渲染的日志模板，用于未实现模板预编译的 {@link ConsoleLogDataFormatter}
+	 *
+	 * @param template
+	 * 		日志模板
+	 * @param renderer
+	 * 		渲染函数
+	 *
+	 * @return 日志模板
+	 */
+	public static ConsoleTemplate of(final String template, final Variable renderer) {
+		Assert.isNull(template, "Log message template cloud not be null.");
+		Assert.isNull(renderer, "Renderer cloud not be null.");
+
+		final List<Variable> segments = new ArrayList<>(1);
+
+		segments.add(renderer);
+		return new ConsoleTemplate(template, segments);
+	}
+
+	/**
+	 * 返回原始模板
+	 *
+	 * @return 原始模板
+	 */
+	public String getTemplate() {
+		return template;
+	}
+
+	/**
+	 * 渲染日志数据并追加到 {@link StringBuilder}
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param sb
+	 *        {@link StringBuilder}
+	 */
+	public void render(final LogData logData, final StringBuilder sb) {
+		for(Variable segment : segments){
+			final String value = segment.value(logData);
+			sb.append(value == null ? Constants.EMPTY_STRING : value);
+		}
+	}
+
+	/**
+	 * 渲染日志数据
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 渲染结果
+	 */
+	public String render(final LogData logData) {
+		final StringBuilder sb = new StringBuilder(estimatedLength);
+
+		render(logData, sb);
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return template;
+	}
+
+	private static void addLiteral(final List<Variable> segments, final StringBuilder literal) {
+		if(literal.length() > 0){
+			final String text = literal.toString();
+
+			segments.add((logData)->text);
+			literal.setLength(0);
+		}
+	}
+
+	/**
+	 * 模板变量
+	 */
+	@FunctionalInterface
+	public interface Variable {
+
+		/**
+		 * 返回变量值
+		 *
+		 * @param logData
+		 * 		日志数据
+		 *
+		 * @return 变量值
+		 */
+		String value(final LogData logData);
+
+	}
+
+}
@@ -28,18 +28,116 @@ import com.buession.core.utils.StringUtils;
 import com.buession.core.validator.Validate;
 import com.buession.lang.Constants;
 import com.buession.lang.Geo;
+import com.buession.logging.core.Browser;
+import com.buession.logging.core.GeoLocation;
 import com.buession.logging.core.LogData;
+import com.buession.logging.core.OperatingSystem;
+import com.buession.logging.core.Principal;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * 默认控制台日志格式化
+ * 默认控制台日志格式化；子类覆盖 {@link #format(String, LogData)} 时，
+ * {@link #compile(String)} 返回的预编译模板将在渲染时调用覆盖后的方法
  *
  * @author Yong.Teng
  * @since 0.0.4
  */
 public class DefaultConsoleLogDataFormatter implements ConsoleLogDataFormatter {
 
+	/**
+	 * 模板变量
+	 *
+	 * @since 2.1.0
+	 */
+	private final static Map<String, ConsoleTemplate.Variable> VARIABLES = new HashMap<>(64);
+
+	/**
+	 * 按模板字符串缓存的预编译模板最大数量
+	 *
+	 * @since 2.1.0
+	 */
+	private final static int MAX_CACHED_TEMPLATES = 64;
+
+	/**
+	 * 预编译模板缓存
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<String, ConsoleTemplate> templates = new ConcurrentHashMap<>(4);
+
+	/**
+	 * 子类是否覆盖了 {@link #format(String, LogData)}
+	 *
+	 * @since 2.1.0
+	 */
+	private final boolean formatOverridden = isFormatOverridden();
+
+	static {
+		principal("principal", Principal::toString);
+		principal("uid", Principal::getId);
+		principal("username", Principal::getUserName);
+
+		VARIABLES.put("date_time", (logData)->logData.getDateTime() == null ? null :
+				logData.getDateTime().toString());
+		VARIABLES.put("datetime", VARIABLES.get("date_time"));
+
+		VARIABLES.put("businessType", LogData::getBusinessType);
+		VARIABLES.put("event", LogData::getEvent);
+		VARIABLES.put("description", LogData::getDescription);
+		VARIABLES.put("trace_id", LogData::getTraceId);
+		VARIABLES.put("traceId", LogData::getTraceId);
+		VARIABLES.put("url", LogData::getUrl);
+
+		final ConsoleTemplate.Variable requestMethod = (logData)->logData.getRequestMethod() == null ? null :
+				logData.getRequestMethod().name();
+		VARIABLES.put("requestMethod", requestMethod);
+		VARIABLES.put("request_method", requestMethod);
+		VARIABLES.put("method", requestMethod);
+
+		VARIABLES.put("request_parameters", (logData)->buildMap(logData.getRequestParameters()));
+		VARIABLES.put("request_body", LogData::getRequestBody);
+		VARIABLES.put("client_ip", LogData::getClientIp);
+		VARIABLES.put("remoteAddr", LogData::getRemoteAddr);
+		VARIABLES.put("remote_addr", LogData::getRemoteAddr);
+		VARIABLES.put("userAgent", LogData::getUserAgent);
+		VARIABLES.put("user-agent", LogData::getUserAgent);
+		VARIABLES.put("user_agent", LogData::getUserAgent);
+
+		operatingSystem("operating_system", OperatingSystem::toString);
+		operatingSystem("os", OperatingSystem::toString);
+		operatingSystem("operating_system_name", OperatingSystem::getName);
+		operatingSystem("os_name", OperatingSystem::getName);
+		operatingSystem("operating_system_version", OperatingSystem::getVersion);
+		operatingSystem("os_version", OperatingSystem::getVersion);
+
+		VARIABLES.put("device_type", (logData)->logData.getDeviceType() == null ? null :
+				logData.getDeviceType().getName());
+
+		browser("browser", Browser::toString);
+		browser("browser_name", Browser::getName);
+		browser("browser_version", Browser::getVersion);
+		browser("browser_type", (browser)->browser.getType() == null ? null : browser.getType().name());
+
+		location("location", GeoLocation::toString);
+		location("geo", (location)->buildGeo(location.getGeo()));
+		country("country", GeoLocation.Country::toString);
+		country("country_code", GeoLocation.Country::getCode);
+		country("country_name", GeoLocation.Country::getName);
+		country("country_full_name", GeoLocation.Country::getFullName);
+		district("district", GeoLocation.District::toString);
+		district("district_name", GeoLocation.District::getName);
+		district("district_full_name", GeoLocation.District::getFullName);
+
+		VARIABLES.put("status", (logData)->logData.getStatus() == null ? Constants.EMPTY_STRING :
+				logData.getStatus().name());
+
+		VARIABLES.put("extra", (logData)->buildMap(logData.getExtra()));
+	}
+
 	@Override
 	public String format(final LogData logData) {
 		return logData == null ? null : logData.toString();
@@ -51,65 +149,21 @@ public class DefaultConsoleLogDataFormatter implements ConsoleLogDataFormatter {
 			return null;
 		}
 
-		String message = template;
-
-		message = replace(message, "principal", logData.getPrincipal().toString());
-		message = replace(message, "uid", logData.getPrincipal().getId());
-		message = replace(message, "username", logData.getPrincipal().getUserName());
-
-		String loginDateTime = logData.getDateTime().toString();
-		message = replace(message, "date_time", loginDateTime);
-		message = replace(message, "datetime", loginDateTime);
-
-		message = replace(message, "businessType", logData.getBusinessType());
-		message = replace(message, "event", logData.getEvent());
-		message = replace(message, "description", logData.getDescription());
-		message = replace(message, "trace_id", logData.getTraceId());
-		message = replace(message, "traceId", logData.getTraceId());
-		message = replace(message, "url", logData.getUrl());
-		message = replace(message, "requestMethod", logData.getRequestMethod().name());
-		message = replace(message, "request_method", logData.getRequestMethod().name());
-		message = replace(message, "method", logData.getRequestMethod().name());
-		message = replace(message, "request_parameters", buildMap(logData.getRequestParameters()));
-		message = replace(message, "request_body", logData.getRequestBody());
-		message = replace(message, "client_ip", logData.getClientIp());
-		message = replace(message, "remoteAddr", logData.getRemoteAddr());
-		message = replace(message, "remote_addr", logData.getRemoteAddr());
-		message = replace(message, "userAgent", logData.getUserAgent());
-		message = replace(message, "user-agent", logData.getUserAgent());
-		message = replace(message, "user_agent", logData.getUserAgent());
-
-		String operatingSystem = logData.getOperatingSystem().toString();
-		message = replace(message, "operating_system", operatingSystem);
-		message = replace(message, "os", operatingSystem);
-		message = replace(message, "operating_system_name", logData.getOperatingSystem().getName());
-		message = replace(message, "os_name", logData.getOperatingSystem().getName());
-		message = replace(message, "operating_system_version", logData.getOperatingSystem().getVersion());
-		message = replace(message, "os_version", logData.getOperatingSystem().getVersion());
-
-		message = replace(message, "device_type", logData.getDeviceType().getName());
-
-		message = replace(message, "browser", logData.getBrowser().toString());
-		message = replace(message, "browser_name", logData.getBrowser().getName());
-		message = replace(message, "browser_version", logData.getBrowser().getVersion());
-		message = replace(message, "browser_type", logData.getBrowser().getType().name());
-
-		message = replace(message, "location", logData.getLocation().toString());
-		message = replace(message, "geo", buildGeo(logData.getLocation().getGeo()));
-		message = replace(message, "country", logData.getLocation().getCountry().toString());
-		message = replace(message, "country_code", logData.getLocation().getCountry().getCode());
-		message = replace(message, "country_name", logData.getLocation().getCountry().getName());
-		message = replace(message, "country_full_name", logData.getLocation().getCountry().getFullName());
-		message = replace(message, "district", logData.getLocation().getDistrict().toString());
-		message = replace(message, "district_name", logData.getLocation().getDistrict().getName());
-		message = replace(message, "district_full_name", logData.getLocation().getDistrict().getFullName());
-
-		message = replace(message, "status", logData.getStatus() == null ? Constants.EMPTY_STRING :
-				logData.getStatus().name());
+		ConsoleTemplate consoleTemplate = templates.get(template);
+		if(consoleTemplate == null){
+			consoleTemplate = ConsoleTemplate.compile(template, VARIABLES::get);
+			if(templates.size() < MAX_CACHED_TEMPLATES){
+				templates.putIfAbsent(template, consoleTemplate);
+			}
+		}
 
-		message = replace(message, "extra", buildMap(logData.getExtra()));
+		return consoleTemplate.render(logData);
+	}
 
-		return message;
+	@Override
+	public ConsoleTemplate compile(final String template) {
+		return formatOverridden ? ConsoleLogDataFormatter.super.compile(template) :
+				ConsoleTemplate.compile(template, VARIABLES::get);
 	}
 
 	protected static String replace(final String message, final String varName, final String value) {
@@ -140,4 +194,45 @@ public class DefaultConsoleLogDataFormatter implements ConsoleLogDataFormatter {
 		return geo == null ? Constants.EMPTY_STRING : geo.toString();
 	}
 
+	private boolean isFormatOverridden() {
+		for(Class<?> clazz = getClass(); clazz != DefaultConsoleLogDataFormatter.class;
+			clazz = clazz.getSuperclass()){
+			try{
+				clazz.getDeclaredMethod("format", String.class, LogData.class);
+				return true;
+			}catch(NoSuchMethodException e){
+				// 继续查找父类
+			}
+		}
+
+		return false;
+	}
+
+	private static void principal(final String name, final Function<Principal, String> function) {
+		VARIABLES.put(name, (logData)->logData.getPrincipal() == null ? null :
+				function.apply(logData.getPrincipal()));
+	}
+
+	private static void operatingSystem(final String name, final Function<OperatingSystem, String> function) {
+		VARIABLES.put(name, (logData)->logData.getOperatingSystem() == null ? null :
+				function.apply(logData.getOperatingSystem()));
+	}
+
+	private static void browser(final String name, final Function<Browser, String> function) {
+		VARIABLES.put(name, (logData)->logData.getBrowser() == null ? null : function.apply(logData.getBrowser()));
+	}
+
+	private static void location(final String name, final Function<GeoLocation, String> function) {
+		VARIABLES.put(name, (logData)->logData.getLocation() == null ? null :
+				function.apply(logData.getLocation()));
+	}
+
+	private static void country(final String name, final Function<GeoLocation.Country, String> function) {
+		location(name, (location)->location.getCountry() == null ? null : function.apply(location.getCountry()));
+	}
+
+	private static void district(final String name, final Function<GeoLocation.District, String> function) {
+		location(name, (location)->location.getDistrict() == null ? null : function.apply(location.getDistrict()));
+	}
+
 }
@@ -27,9 +27,12 @@ package com.buession.logging.console.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.console.formatter.ConsoleLogDataFormatter;
+import com.buession.logging.console.formatter.ConsoleTemplate;
 import com.buession.logging.console.formatter.DefaultConsoleLogDataFormatter;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
+
+import java.util.List;
 
 /**
  * 控制台日志处理器
@@ -37,7 +40,14 @@ import com.buession.logging.core.handler.AbstractLogHandler;
  * @author Yong.Teng
  * @since 0.0.4
  */
-public class ConsoleLogHandler extends AbstractLogHandler {
+public class ConsoleLogHandler extends AbstractBatchLogHandler {
+
+	/**
+	 * 消息缓冲区最大保留容量
+	 *
+	 * @since 2.1.0
+	 */
+	private final static int MAX_BUFFER_SIZE = 64 * 1024;
 
 	/**
 	 * 日志模板
@@ -49,6 +59,20 @@ public class ConsoleLogHandler extends AbstractLogHandler {
 	 */
 	private ConsoleLogDataFormatter formatter = new DefaultConsoleLogDataFormatter();
 
+	/**
+	 * 预编译的日志模板
+	 *
+	 * @since 2.1.0
+	 */
+	private ConsoleTemplate compiledTemplate;
+
+	/**
+	 * 线程本地的消息缓冲区
+	 *
+	 * @since 2.1.0
+	 */
+	private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(StringBuilder::new);
+
 	/**
 	 * 构造函数
 	 *
@@ -58,6 +82,7 @@ public class ConsoleLogHandler extends AbstractLogHandler {
 	public ConsoleLogHandler(final String template) {
 		Assert.isBlank(template, "Log message template cloud not be null.");
 		this.template = template;
+		this.compiledTemplate = formatter.compile(template);
 	}
 
 	/**
@@ -72,12 +97,44 @@ public class ConsoleLogHandler extends AbstractLogHandler {
 		this(template);
 		Assert.isNull(formatter, "Formatter is null.");
 		this.formatter = formatter;
+		this.compiledTemplate = formatter.compile(template);
 	}
 
 	@Override
 	protected Status doHandle(final LogData logData) throws Exception {
-		System.out.println(formatter.format(template, logData));
+		final StringBuilder sb = buffer();
+
+		compiledTemplate.render(logData, sb);
+		System.out.println(sb);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		final StringBuilder sb = buffer();
+
+		for(LogData logData : logDataList){
+			compiledTemplate.render(logData, sb);
+			sb.append(System.lineSeparator());
+		}
+
+		System.out.print(sb);
 		return Status.SUCCESS;
 	}
 
+	private StringBuilder buffer() {
+		final StringBuilder sb = buffers.get();
+
+		// 偶发的超大批次不长期占用内存
+		if(sb.capacity() > MAX_BUFFER_SIZE){
+			final StringBuilder newBuffer = new StringBuilder(template.length() << 1);
+
+			buffers.set(newBuffer);
+			return newBuffer;
+		}
+
+		sb.setLength(0);
+		return sb;
+	}
+
 }
@@ -32,4 +32,15 @@ package com.buession.logging.support.config;
  */
 public interface AdapterProperties {
 
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	default CircuitBreakerProperties getCircuitBreaker() {
+		return null;
+	}
+
 }
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.support.config;
+
+import com.buession.logging.core.handler.CircuitBreakerLogHandler;
+
+import java.time.Duration;
+
+/**
+ * 日志处理器熔断配置
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class CircuitBreakerProperties {
+
+	/**
+	 * 是否启用熔断
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * 失败率阈值（百分比）
+	 */
+	private float failureRateThreshold = CircuitBreakerLogHandler.DEFAULT_FAILURE_RATE_THRESHOLD;
+
+	/**
+	 * 慢调用比例阈值（百分比）
+	 */
+	private float slowCallRateThreshold = CircuitBreakerLogHandler.DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+
+	/**
+	 * 慢调用时长阈值
+	 */
+	private Duration slowCallDurationThreshold = CircuitBreakerLogHandler.DEFAULT_SLOW_CALL_DURATION_THRESHOLD;
+
+	/**
+	 * 滑动窗口大小（调用次数）
+	 */
+	private int slidingWindowSize = CircuitBreakerLogHandler.DEFAULT_SLIDING_WINDOW_SIZE;
+
+	/**
+	 * 计算失败率所需的最少调用次数
+	 */
+	private int minimumNumberOfCalls = CircuitBreakerLogHandler.DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+
+	/**
+	 * 熔断持续时间
+	 */
+	private Duration waitDurationInOpenState = CircuitBreakerLogHandler.DEFAULT_WAIT_DURATION_IN_OPEN_STATE;
+
+	/**
+	 * 半开状态允许的探测调用次数
+	 */
+	private int permittedCallsInHalfOpenState = CircuitBreakerLogHandler.DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+
+	/**
+	 * 降级日志处理器，可以为 Bean 名称，或 console、elasticsearch、file、jdbc、kafka、mongo、rabbit、rest、rocketMQ
+	 */
+	private String fallback;
+
+	/**
+	 * 返回是否启用熔断
+	 *
+	 * @return 是否启用熔断
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 设置是否启用熔断
+	 *
+	 * @param enabled
+	 * 		是否启用熔断
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 返回失败率阈值（百分比）
+	 *
+	 * @return 失败率阈值（百分比）
+	 */
+	public float getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	/**
+	 * 设置失败率阈值（百分比）
+	 *
+	 * @param failureRateThreshold
+	 * 		失败率阈值（百分比）
+	 */
+	public void setFailureRateThreshold(float failureRateThreshold) {
+		this.failureRateThreshold = failureRateThreshold;
+	}
+
+	/**
+	 * 返回慢调用比例阈值（百分比）
+	 *
+	 * @return 慢调用比例阈值（百分比）
+	 */
+	public float getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	/**
+	 * 设置慢调用比例阈值（百分比）
+	 *
+	 * @param slowCallRateThreshold
+	 * 		慢调用比例阈值（百分比）
+	 */
+	public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+		this.slowCallRateThreshold = slowCallRateThreshold;
+	}
+
+	/**
+	 * 返回慢调用时长阈值
+	 *
+	 * @return 慢调用时长阈值
+	 */
+	public Duration getSlowCallDurationThreshold() {
+		return slowCallDurationThreshold;
+	}
+
+	/**
+	 * 设置慢调用时长阈值
+	 *
+	 * @param slowCallDurationThreshold
+	 * 		慢调用时长阈值
+	 */
+	public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+		this.slowCallDurationThreshold = slowCallDurationThreshold;
+	}
+
+	/**
+	 * 返回滑动窗口大小
+	 *
+	 * @return 滑动窗口大小
+	 */
+	public int getSlidingWindowSize() {
+		return slidingWindowSize;
+	}
+
+	/**
+	 * 设置滑动窗口大小
+	 *
+	 * @param slidingWindowSize
+	 * 		滑动窗口大小
+	 */
+	public void setSlidingWindowSize(int slidingWindowSize) {
+		this.slidingWindowSize = slidingWindowSize;
+	}
+
+	/**
+	 * 返回计算失败率所需的最少调用次数
+	 *
+	 * @return 计算失败率所需的最少调用次数
+	 */
+	public int getMinimumNumberOfCalls() {
+		return minimumNumberOfCalls;
+	}
+
+	/**
+	 * 设置计算失败率所需的最少调用次数
+	 *
+	 * @param minimumNumberOfCalls
+	 * 		计算失败率所需的最少调用次数
+	 */
+	public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+		this.minimumNumberOfCalls = minimumNumberOfCalls;
+	}
+
+	/**
+	 * 返回熔断持续时间
+	 *
+	 * @return 熔断持续时间
+	 */
+	public Duration getWaitDurationInOpenState() {
+		return waitDurationInOpenState;
+	}
+
+	/**
+	 * 设置熔断持续时间
+	 *
+	 * @param waitDurationInOpenState
+	 * 		熔断持续时间
+	 */
+	public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+		this.waitDurationInOpenState = waitDurationInOpenState;
+	}
+
+	/**
+	 * 返回半开状态允许的探测调用次数
+	 *
+	 * @return 半开状态允许的探测调用次数
+	 */
+	public int getPermittedCallsInHalfOpenState() {
+		return permittedCallsInHalfOpenState;
+	}
+
+	/**
+	 * 设置半开状态允许的探测调用次数
+	 *
+	 * @param permittedCallsInHalfOpenState
+	 * 		半开状态允许的探测调用次数
+	 */
+	public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+		this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+	}
+
+	/**
+	 * 返回降级日志处理器
+	 *
+	 * @return 降级日志处理器
+	 */
+	public String getFallback() {
+		return fallback;
+	}
+
+	/**
+	 * 设置降级日志处理器
+	 *
+	 * @param fallback
+	 * 		降级日志处理器
+	 */
+	public void setFallback(String fallback) {
+		this.fallback = fallback;
+	}
+
+}
@@ -19,18 +19,28 @@
  * +-------------------------------------------------------------------------------------------------------+
  * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
  * | Author: Yong.Teng <webmaster@buession.com> 													       |
- * | Copyright @ 2013-2023 Buession.com Inc.														       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
  * +-------------------------------------------------------------------------------------------------------+
  */
 package com.buession.logging.support.spring;
 
 import com.buession.core.converter.mapper.PropertyMapper;
+import com.buession.core.validator.Validate;
+import com.buession.logging.core.handler.CircuitBreakerLogHandler;
+import com.buession.logging.core.handler.AbstractLogHandler;
 import com.buession.logging.core.handler.LogHandler;
+import com.buession.logging.core.metrics.LogMetrics;
+import com.buession.logging.support.config.CircuitBreakerProperties;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 
 /**
- * 日志处理器 {@link LogHandler} 工厂 Bean 基类
+ * 日志处理器 {@link LogHandler} 工厂 Bean 基类；容器中存在 {@link LogMetrics} 时，自动为日志处理器设置指标采集；
+ * 启用熔断时，工厂 Bean 仍返回日志处理器本身，由使用方（如：收集日志处理器的自动配置）通过
+ * {@link #getCircuitBreakerLogHandler()} 获取包装了日志处理器的 {@link CircuitBreakerLogHandler}
  *
  * @param <T>
  * 		日志处理器类型
@@ -39,7 +49,7 @@ import org.springframework.beans.factory.InitializingBean;
  * @since 0.0.1
  */
 public abstract class BaseLogHandlerFactoryBean<T extends LogHandler>
-		implements LogHandlerFactory, FactoryBean<T>, InitializingBean {
+		implements LogHandlerFactory, FactoryBean<T>, InitializingBean, BeanFactoryAware {
 
 	protected final static PropertyMapper propertyMapper = PropertyMapper.get().alwaysApplyingWhenNonNull();
 
@@ -48,8 +58,97 @@ public abstract class BaseLogHandlerFactoryBean<T extends LogHandler>
 	 */
 	protected volatile T logHandler;
 
+	/**
+	 * 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	private CircuitBreakerProperties circuitBreaker;
+
+	/**
+	 * 降级日志处理器
+	 *
+	 * @since 2.1.0
+	 */
+	private LogHandler fallbackLogHandler;
+
+	private BeanFactory beanFactory;
+
+	private volatile CircuitBreakerLogHandler circuitBreakerLogHandler;
+
+	private volatile boolean metricsInitialized = false;
+
+	/**
+	 * 返回熔断配置
+	 *
+	 * @return 熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public CircuitBreakerProperties getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * 设置熔断配置
+	 *
+	 * @param circuitBreaker
+	 * 		熔断配置
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCircuitBreaker(CircuitBreakerProperties circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * 返回降级日志处理器
+	 *
+	 * @return 降级日志处理器
+	 *
+	 * @since 2.1.0
+	 */
+	public LogHandler getFallbackLogHandler() {
+		return fallbackLogHandler;
+	}
+
+	/**
+	 * 设置降级日志处理器，未设置时按熔断配置中的降级日志处理器名称从容器中查找
+	 *
+	 * @param fallbackLogHandler
+	 * 		降级日志处理器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFallbackLogHandler(LogHandler fallbackLogHandler) {
+		this.fallbackLogHandler = fallbackLogHandler;
+	}
+
+	/**
+	 * 返回熔断配置中降级日志处理器对应的 Bean 名称
+	 *
+	 * @return 降级日志处理器 Bean 名称，未启用熔断或未配置降级日志处理器时返回 null
+	 *
+	 * @since 2.1.0
+	 */
+	public String getFallbackLogHandlerBeanName() {
+		if(isCircuitBreakerEnabled() == false || Validate.hasText(circuitBreaker.getFallback()) == false){
+			return null;
+		}
+
+		final String name = circuitBreaker.getFallback();
+
+		return beanFactory == null || beanFactory.containsBean(name) ? name : name + "LogHandlerFactoryBean";
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
 	@Override
 	public T getObject() throws Exception {
+		initLogMetrics();
 		return logHandler;
 	}
 
@@ -58,4 +157,73 @@ public abstract class BaseLogHandlerFactoryBean<T extends LogHandler>
 		return logHandler.getClass();
 	}
 
+	/**
+	 * 返回包装了日志处理器的熔断日志处理器，首次调用时创建
+	 *
+	 * @return 熔断日志处理器，未启用熔断时返回 null
+	 *
+	 * @since 2.1.0
+	 */
+	public CircuitBreakerLogHandler getCircuitBreakerLogHandler() {
+		if(isCircuitBreakerEnabled() == false){
+			return null;
+		}
+
+		if(circuitBreakerLogHandler == null){
+			initLogMetrics();
+
+			synchronized(this){
+				if(circuitBreakerLogHandler == null){
+					circuitBreakerLogHandler = createCircuitBreakerLogHandler();
+				}
+			}
+		}
+
+		return circuitBreakerLogHandler;
+	}
+
+	protected boolean isCircuitBreakerEnabled() {
+		return circuitBreaker != null && circuitBreaker.isEnabled();
+	}
+
+	protected CircuitBreakerLogHandler createCircuitBreakerLogHandler() {
+		LogHandler fallback = getFallbackLogHandler();
+
+		if(fallback == null && beanFactory != null){
+			final String fallbackBeanName = getFallbackLogHandlerBeanName();
+
+			if(fallbackBeanName != null){
+				fallback = beanFactory.getBean(fallbackBeanName, LogHandler.class);
+			}
+		}
+
+		final CircuitBreakerLogHandler handler = new CircuitBreakerLogHandler(logHandler, fallback);
+
+		propertyMapper.from(circuitBreaker::getFailureRateThreshold).to(handler::setFailureRateThreshold);
+		propertyMapper.from(circuitBreaker::getSlowCallRateThreshold).to(handler::setSlowCallRateThreshold);
+		propertyMapper.from(circuitBreaker::getSlowCallDurationThreshold).to(handler::setSlowCallDurationThreshold);
+		propertyMapper.from(circuitBreaker::getSlidingWindowSize).to(handler::setSlidingWindowSize);
+		propertyMapper.from(circuitBreaker::getMinimumNumberOfCalls).to(handler::setMinimumNumberOfCalls);
+		propertyMapper.from(circuitBreaker::getWaitDurationInOpenState).to(handler::setWaitDurationInOpenState);
+		propertyMapper.from(circuitBreaker::getPermittedCallsInHalfOpenState)
+				.to(handler::setPermittedCallsInHalfOpenState);
+
+		return handler;
+	}
+
+	private void initLogMetrics() {
+		if(metricsInitialized == false){
+			synchronized(this){
+				if(metricsInitialized == false){
+					if(logHandler instanceof AbstractLogHandler && beanFactory != null){
+						beanFactory.getBeanProvider(LogMetrics.class)
+								.ifAvailable(((AbstractLogHandler) logHandler)::setLogMetrics);
+					}
+
+					metricsInitialized = true;
+				}
+			}
+		}
+	}
+
 }
@@ -27,18 +27,20 @@ package com.buession.logging.elasticsearch.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
 import org.springframework.data.elasticsearch.core.IndexOperations;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
+import java.util.List;
+
 /**
  * Elasticsearch 日志处理器
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class ElasticsearchLogHandler extends AbstractLogHandler {
+public class ElasticsearchLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * {@link ElasticsearchTemplate}
@@ -102,6 +104,20 @@ public class ElasticsearchLogHandler extends AbstractLogHandler {
 
 	@Override
 	protected Status doHandle(final LogData logData) throws Exception {
+		initialize();
+		elasticsearchTemplate.save(logData, indexCoordinates);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		initialize();
+		// 批量保存，通过 Bulk API 一次请求写入
+		elasticsearchTemplate.save(logDataList, indexCoordinates);
+		return Status.SUCCESS;
+	}
+
+	protected void initialize() {
 		if(initialized == false){
 			synchronized(this){
 				if(initialized == false){
@@ -112,8 +128,6 @@ public class ElasticsearchLogHandler extends AbstractLogHandler {
 				}
 			}
 		}
-		elasticsearchTemplate.save(logData, indexCoordinates);
-		return Status.SUCCESS;
 	}
 
 	protected void createIndex() {
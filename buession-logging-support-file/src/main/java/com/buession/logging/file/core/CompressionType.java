@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.core;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 滚动文件压缩方式
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum CompressionType {
+
+	/**
+	 * 不压缩
+	 */
+	NONE(""),
+
+	/**
+	 * gzip
+	 */
+	GZIP(".gz"),
+
+	/**
+	 * Zstandard，需要 zstd-jni
+	 */
+	ZSTD(".zst");
+
+	private final String extension;
+
+	CompressionType(final String extension) {
+		this.extension = extension;
+	}
+
+	/**
+	 * 返回压缩文件扩展名
+	 *
+	 * @return 压缩文件扩展名
+	 */
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * 创建压缩输出流
+	 *
+	 * @param outputStream
+	 * 		目标输出流
+	 *
+	 * @return 压缩输出流
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+		switch(this){
+			case GZIP:
+				return new GZIPOutputStream(outputStream, 64 * 1024);
+			case ZSTD:
+				return Zstd.createOutputStream(outputStream);
+			default:
+				return outputStream;
+		}
+	}
+
+	/**
+	 * 隔离 zstd-jni 的引用，未引入 zstd-jni 时不影响其它压缩方式
+	 */
+	private final static class Zstd {
+
+		private static OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+			return new ZstdOutputStream(outputStream);
+		}
+
+	}
+
+}
@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.core;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于 {@link FileChannel} 的追加写入器，文件在整个生命周期内只打开一次。
+ *
+ * <p>多个线程并发写入时采用组提交：记录先追加到共享的直接缓冲区，由其中一个线程作为提交者将整个缓冲区一次写入文件，
+ * 其余线程等待所在批次提交完成后返回；提交期间新到达的记录写入另一块缓冲区，进入下一批次。
+ * 单条记录总是完整地出现在文件中，不会与其它线程的记录交错。</p>
+ *
+ * <p>刷盘行为由 {@link FsyncPolicy} 决定。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class FileChannelWriter implements Closeable {
+
+	/**
+	 * 默认缓冲区大小
+	 */
+	public final static int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+	/**
+	 * 默认刷盘间隔
+	 */
+	public final static Duration DEFAULT_FSYNC_INTERVAL = Duration.ofSeconds(1);
+
+	private final Path path;
+
+	private final FsyncPolicy fsyncPolicy;
+
+	private volatile FileChannel channel;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition committed = lock.newCondition();
+
+	/**
+	 * 正在接收记录的缓冲区
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * 空闲缓冲区，提交期间为 null
+	 */
+	private ByteBuffer spareBuffer;
+
+	/**
+	 * 正在接收记录的批次
+	 */
+	private Batch batch = new Batch();
+
+	/**
+	 * 是否有线程正在提交
+	 */
+	private boolean committing = false;
+
+	private volatile boolean closed = false;
+
+	private final ScheduledExecutorService fsyncScheduler;
+
+	private final static Logger logger = LoggerFactory.getLogger(FileChannelWriter.class);
+
+	/**
+	 * 构造函数，刷盘由操作系统决定
+	 *
+	 * @param path
+	 * 		文件路径
+	 *
+	 * @throws IOException
+	 * 		文件打开失败
+	 */
+	public FileChannelWriter(final Path path) throws IOException {
+		this(path, FsyncPolicy.OS, DEFAULT_FSYNC_INTERVAL, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param path
+	 * 		文件路径
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 * @param fsyncInterval
+	 * 		刷盘间隔，仅 {@link FsyncPolicy#PERIODIC} 时有效
+	 * @param bufferSize
+	 * 		缓冲区大小，超过该大小的单条记录直接写入文件
+	 *
+	 * @throws IOException
+	 * 		文件打开失败
+	 */
+	public FileChannelWriter(final Path path, final FsyncPolicy fsyncPolicy, final Duration fsyncInterval,
+	                         final int bufferSize) throws IOException {
+		Assert.isNull(path, "File path cloud not be null.");
+		Assert.isNull(fsyncPolicy, "FsyncPolicy cloud not be null.");
+		Assert.isTrue(bufferSize <= 0, "Buffer size must be greater than 0.");
+		Assert.isTrue(fsyncPolicy == FsyncPolicy.PERIODIC && (fsyncInterval == null || fsyncInterval.isNegative() ||
+				fsyncInterval.isZero()), "Fsync interval must be greater than 0.");
+
+		this.path = path;
+		this.fsyncPolicy = fsyncPolicy;
+		this.channel = open(path);
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		this.spareBuffer = ByteBuffer.allocateDirect(bufferSize);
+
+		if(fsyncPolicy == FsyncPolicy.PERIODIC){
+			final long interval = fsyncInterval.toMillis();
+
+			fsyncScheduler = Executors.newSingleThreadScheduledExecutor(
+					new NamedThreadFactory("buession-logging-file-fsync", true));
+			fsyncScheduler.scheduleWithFixedDelay(this::periodicFsync, interval, interval, TimeUnit.MILLISECONDS);
+		}else{
+			fsyncScheduler = null;
+		}
+	}
+
+	/**
+	 * 返回文件路径
+	 *
+	 * @return 文件路径
+	 */
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * 返回刷盘策略
+	 *
+	 * @return 刷盘策略
+	 */
+	public FsyncPolicy getFsyncPolicy() {
+		return fsyncPolicy;
+	}
+
+	/**
+	 * 写入一条记录，所在批次提交完成后返回
+	 *
+	 * @param data
+	 * 		记录数据
+	 *
+	 * @throws IOException
+	 * 		写入失败或写入器已关闭
+	 */
+	public void write(final byte[] data) throws IOException {
+		write(data, 0, data.length);
+	}
+
+	/**
+	 * 写入一条记录，所在批次提交完成后返回
+	 *
+	 * @param data
+	 * 		记录数据
+	 * @param offset
+	 * 		起始位置
+	 * @param length
+	 * 		长度
+	 *
+	 * @throws IOException
+	 * 		写入失败或写入器已关闭
+	 */
+	public void write(final byte[] data, final int offset, final int length) throws IOException {
+		if(length == 0){
+			return;
+		}
+
+		final Batch own;
+
+		lock.lock();
+		try{
+			ensureOpen();
+
+			if(length > buffer.capacity()){
+				// 超大记录：等待当前提交结束后，与缓冲区中的记录一起聚集写入
+				while(committing){
+					committed.awaitUninterruptibly();
+					ensureOpen();
+				}
+
+				own = batch;
+				commit(ByteBuffer.wrap(data, offset, length));
+			}else{
+				while(buffer.remaining() < length){
+					awaitOrCommit();
+					ensureOpen();
+				}
+
+				buffer.put(data, offset, length);
+				own = batch;
+
+				while(own.done == false){
+					awaitOrCommit();
+				}
+			}
+		}finally{
+			lock.unlock();
+		}
+
+		if(own.error != null){
+			throw new IOException("Write to " + path + " failure: " + own.error.getMessage(), own.error);
+		}
+	}
+
+	/**
+	 * 将已写入的数据刷到磁盘
+	 *
+	 * @throws IOException
+	 * 		刷盘失败
+	 */
+	public void fsync() throws IOException {
+		channel.force(false);
+	}
+
+	@Override
+	public void close() throws IOException {
+		lock.lock();
+		try{
+			if(closed){
+				return;
+			}
+
+			closed = true;
+
+			// 提交缓冲区中剩余的记录
+			while(committing || buffer.position() > 0){
+				awaitOrCommit();
+			}
+		}finally{
+			lock.unlock();
+		}
+
+		if(fsyncScheduler != null){
+			fsyncScheduler.shutdownNow();
+		}
+
+		try{
+			if(channel.isOpen()){
+				channel.force(false);
+			}
+		}finally{
+			channel.close();
+		}
+	}
+
+	/**
+	 * 每次提交写入文件前调用，此时没有其它线程写入文件，子类可在此切换文件
+	 *
+	 * @param length
+	 * 		本次提交写入的字节数
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	protected void beforeCommit(final long length) throws IOException {
+	}
+
+	/**
+	 * 将当前文件重命名为目标文件，并重新打开一个新的空文件继续写入；只能在 {@link #beforeCommit(long)} 中调用
+	 *
+	 * @param target
+	 * 		目标文件
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	protected final void rollTo(final Path target) throws IOException {
+		final FileChannel current = channel;
+
+		try{
+			if(fsyncPolicy != FsyncPolicy.OS){
+				current.force(false);
+			}
+		}finally{
+			current.close();
+		}
+
+		try{
+			Files.move(path, target);
+		}finally{
+			channel = open(path);
+		}
+	}
+
+	/**
+	 * 打开文件通道，父目录不存在时自动创建
+	 *
+	 * @param path
+	 * 		文件路径
+	 *
+	 * @return 文件通道
+	 *
+	 * @throws IOException
+	 * 		文件打开失败
+	 */
+	protected static FileChannel open(final Path path) throws IOException {
+		final Path parent = path.toAbsolutePath().getParent();
+
+		if(parent != null){
+			Files.createDirectories(parent);
+		}
+
+		return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+	}
+
+	private void awaitOrCommit() {
+		if(committing){
+			committed.awaitUninterruptibly();
+		}else{
+			commit(null);
+		}
+	}
+
+	/**
+	 * 提交当前批次，调用时必须持有锁且没有其它提交者；写文件期间释放锁，使其它线程可以继续向备用缓冲区追加记录
+	 *
+	 * @param extra
+	 * 		随当前批次一起写入的超大记录
+	 */
+	private void commit(final ByteBuffer extra) {
+		final Batch current = batch;
+		final ByteBuffer full = buffer;
+
+		committing = true;
+		batch = new Batch();
+		buffer = spareBuffer;
+		spareBuffer = null;
+
+		IOException error = null;
+
+		lock.unlock();
+		try{
+			full.flip();
+			beforeCommit(full.remaining() + (extra == null ? 0L : extra.remaining()));
+
+			if(extra == null){
+				while(full.hasRemaining()){
+					channel.write(full);
+				}
+			}else{
+				final ByteBuffer[] buffers = new ByteBuffer[]{full, extra};
+
+				while(extra.hasRemaining()){
+					channel.write(buffers);
+				}
+			}
+
+			if(fsyncPolicy == FsyncPolicy.EVERY_BATCH){
+				channel.force(false);
+			}
+		}catch(IOException e){
+			error = e;
+		}finally{
+			lock.lock();
+			full.clear();
+			spareBuffer = full;
+			current.error = error;
+			current.done = true;
+			committing = false;
+			committed.signalAll();
+		}
+	}
+
+	private void periodicFsync() {
+		try{
+			channel.force(false);
+		}catch(ClosedChannelException e){
+			// 已关闭
+		}catch(IOException e){
+			if(logger.isErrorEnabled()){
+				logger.error("Fsync {} failure: {}", path, e.getMessage(), e);
+			}
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if(closed){
+			throw new ClosedChannelException();
+		}
+	}
+
+	private final static class Batch {
+
+		private boolean done;
+
+		private IOException error;
+
+	}
+
+}
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.core;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 支持按大小和按时间滚动的 {@link FileChannelWriter}。
+ *
+ * <p>滚动在提交时进行，当前文件被重命名为 {@code 文件名.时间.序号}（未按时间滚动时为 {@code 文件名.序号}），
+ * 随后由后台线程压缩并清理超出数量或总大小上限的滚动文件，写入线程不会等待压缩。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class RollingFileChannelWriter extends FileChannelWriter {
+
+	/**
+	 * 关闭时等待后台压缩完成的最长时间
+	 */
+	private final static Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+	private final static String TEMP_SUFFIX = ".tmp";
+
+	private final RollingPolicy rollingPolicy;
+
+	private final CompressionType compression;
+
+	private final DateTimeFormatter dateFormatter;
+
+	private final String rolledPrefix;
+
+	/**
+	 * 滚动文件名格式：{@code <文件名>[.<日期>].<序号>[压缩扩展名]}
+	 */
+	private final Pattern rolledPattern;
+
+	private final ExecutorService executor;
+
+	/**
+	 * 当前文件大小，仅提交线程访问
+	 */
+	private long size;
+
+	/**
+	 * 当前文件对应的时间
+	 */
+	private String currentDate;
+
+	private long lastCheckSecond;
+
+	private final static Logger logger = LoggerFactory.getLogger(RollingFileChannelWriter.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param path
+	 * 		文件路径
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 * @param fsyncInterval
+	 * 		刷盘间隔，仅 {@link FsyncPolicy#PERIODIC} 时有效
+	 * @param bufferSize
+	 * 		缓冲区大小
+	 * @param rollingPolicy
+	 * 		滚动策略
+	 *
+	 * @throws IOException
+	 * 		文件打开失败
+	 */
+	public RollingFileChannelWriter(final Path path, final FsyncPolicy fsyncPolicy, final Duration fsyncInterval,
+	                                final int bufferSize, final RollingPolicy rollingPolicy) throws IOException {
+		super(path, fsyncPolicy, fsyncInterval, bufferSize);
+		Assert.isNull(rollingPolicy, "RollingPolicy cloud not be null.");
+		this.rollingPolicy = rollingPolicy;
+		this.compression = rollingPolicy.getCompression() == null ? CompressionType.NONE :
+				rollingPolicy.getCompression();
+		this.dateFormatter = Validate.hasText(rollingPolicy.getDatePattern()) ?
+				DateTimeFormatter.ofPattern(rollingPolicy.getDatePattern()).withZone(ZoneId.systemDefault()) : null;
+		this.rolledPrefix = path.getFileName().toString() + '.';
+		this.rolledPattern = rolledPattern(path.getFileName().toString());
+		this.executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("buession-logging-file-rolling", true));
+
+		if(Files.exists(path)){
+			size = Files.size(path);
+			if(dateFormatter != null){
+				currentDate = dateFormatter.format(
+						size > 0 ? Files.getLastModifiedTime(path).toInstant() : Instant.now());
+			}
+		}else if(dateFormatter != null){
+			currentDate = dateFormatter.format(Instant.now());
+		}
+
+		// 处理上次未完成的压缩和清理
+		executor.execute(this::compressAndCleanup);
+	}
+
+	/**
+	 * 返回滚动策略
+	 *
+	 * @return 滚动策略
+	 */
+	public RollingPolicy getRollingPolicy() {
+		return rollingPolicy;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try{
+			super.close();
+		}finally{
+			executor.shutdown();
+			try{
+				if(executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS) == false &&
+						logger.isWarnEnabled()){
+					logger.warn("Rolled files of {} are still being compressed.", getPath());
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	protected void beforeCommit(final long length) throws IOException {
+		if(dateFormatter != null){
+			final long now = System.currentTimeMillis();
+			final long second = now / 1000L;
+
+			if(second != lastCheckSecond){
+				lastCheckSecond = second;
+
+				final String date = dateFormatter.format(Instant.ofEpochMilli(now));
+				if(date.equals(currentDate) == false){
+					if(size > 0){
+						roll();
+					}
+					currentDate = date;
+				}
+			}
+		}
+
+		if(rollingPolicy.getMaxFileSize() > 0 && size > 0 && size + length > rollingPolicy.getMaxFileSize()){
+			roll();
+		}
+
+		size += length;
+	}
+
+	/**
+	 * 滚动当前文件，并提交后台压缩和清理任务
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	protected void roll() throws IOException {
+		rollTo(nextRolledPath());
+		size = 0;
+
+		try{
+			executor.execute(this::compressAndCleanup);
+		}catch(RuntimeException e){
+			// 关闭过程中执行器已停止，留待下次启动时处理
+			if(logger.isDebugEnabled()){
+				logger.debug("Skip compressing rolled files of {}: {}", getPath(), e.getMessage());
+			}
+		}
+	}
+
+	private Path nextRolledPath() {
+		final String prefix = currentDate == null ? rolledPrefix : rolledPrefix + currentDate + '.';
+		final String extension = compression.getExtension();
+
+		for(int i = 0; ; i++){
+			final Path candidate = getPath().resolveSibling(prefix + i);
+
+			if(Files.exists(candidate) == false && (extension.isEmpty() ||
+					Files.exists(candidate.resolveSibling(candidate.getFileName() + extension)) == false)){
+				return candidate;
+			}
+		}
+	}
+
+	private void compressAndCleanup() {
+		try{
+			if(compression != CompressionType.NONE){
+				for(Path file : listRolledFiles()){
+					final String name = file.getFileName().toString();
+
+					if(name.endsWith(compression.getExtension()) == false){
+						compress(file);
+					}
+				}
+			}
+
+			cleanup();
+		}catch(IOException e){
+			if(logger.isErrorEnabled()){
+				logger.error("Compress or cleanup rolled files of {} failure: {}", getPath(), e.getMessage(), e);
+			}
+		}
+	}
+
+	private void compress(final Path source) throws IOException {
+		final Path target = source.resolveSibling(source.getFileName() + compression.getExtension());
+		final Path temp = source.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+		final FileTime lastModifiedTime = Files.getLastModifiedTime(source);
+
+		try(InputStream inputStream = Files.newInputStream(source);
+			OutputStream outputStream = compression.createOutputStream(Files.newOutputStream(temp))){
+			inputStream.transferTo(outputStream);
+		}catch(IOException | RuntimeException | LinkageError e){
+			Files.deleteIfExists(temp);
+			throw e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+		}
+
+		Files.setLastModifiedTime(temp, lastModifiedTime);
+		Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		Files.delete(source);
+	}
+
+	private void cleanup() throws IOException {
+		final int maxHistory = rollingPolicy.getMaxHistory();
+		final long totalSizeCap = rollingPolicy.getTotalSizeCap();
+
+		if(maxHistory <= 0 && totalSizeCap <= 0){
+			return;
+		}
+
+		final List<RolledFile> files = new ArrayList<>();
+		for(Path file : listRolledFiles()){
+			files.add(new RolledFile(file, Files.getLastModifiedTime(file).toMillis(), Files.size(file)));
+		}
+
+		// 新文件在前
+		files.sort(Comparator.comparingLong((RolledFile file)->file.lastModified).reversed()
+				.thenComparing((file)->file.path.getFileName().toString(), Comparator.reverseOrder()));
+
+		long totalSize = 0;
+		for(int i = 0; i < files.size(); i++){
+			final RolledFile file = files.get(i);
+
+			totalSize += file.size;
+			if((maxHistory > 0 && i >= maxHistory) || (totalSizeCap > 0 && totalSize > totalSizeCap)){
+				Files.deleteIfExists(file.path);
+				if(logger.isDebugEnabled()){
+					logger.debug("Delete rolled log file {}", file.path);
+				}
+			}
+		}
+	}
+
+	private List<Path> listRolledFiles() throws IOException {
+		final Path directory = getPath().toAbsolutePath().getParent();
+		final List<Path> result = new ArrayList<>();
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+				(file)->isRolledFile(file.getFileName().toString()))){
+			for(Path file : stream){
+				if(Files.isRegularFile(file)){
+					result.add(file);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 判断文件是否为当前文件滚动产生的文件，只匹配本类生成的文件名，避免误删同目录下以相同前缀开头的其它文件
+	 *
+	 * @param name
+	 * 		文件名
+	 *
+	 * @return 是否为滚动文件
+	 */
+	private boolean isRolledFile(final String name) {
+		final Matcher matcher = rolledPattern.matcher(name);
+
+		if(matcher.matches() == false){
+			return false;
+		}
+
+		final String date = matcher.group(1);
+
+		if(date == null){
+			return true;
+		}else if(dateFormatter == null){
+			return false;
+		}
+
+		try{
+			dateFormatter.parse(date);
+			return true;
+		}catch(DateTimeParseException e){
+			return false;
+		}
+	}
+
+	private static Pattern rolledPattern(final String fileName) {
+		final StringBuilder extensions = new StringBuilder();
+
+		for(CompressionType type : CompressionType.values()){
+			if(type.getExtension().isEmpty() == false){
+				if(extensions.length() > 0){
+					extensions.append('|');
+				}
+				extensions.append(Pattern.quote(type.getExtension()));
+			}
+		}
+
+		return Pattern.compile(Pattern.quote(fileName) + "\\.(?:(.+)\\.)?\\d+(?:" + extensions + ")?");
+	}
+
+	private final static class RolledFile {
+
+		private final Path path;
+
+		private final long lastModified;
+
+		private final long size;
+
+		private RolledFile(final Path path, final long lastModified, final long size) {
+			this.path = path;
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+
+	}
+
+}
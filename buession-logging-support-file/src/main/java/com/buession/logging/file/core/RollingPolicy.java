@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.core;
+
+import com.buession.core.validator.Validate;
+
+/**
+ * 日志文件滚动策略；按大小和按时间可同时启用，任一条件满足即滚动
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class RollingPolicy {
+
+	/**
+	 * 单个文件最大大小（字节），小于等于 0 时不按大小滚动
+	 */
+	private long maxFileSize;
+
+	/**
+	 * 时间格式，如：yyyy-MM-dd；格式化结果变化时滚动，为空时不按时间滚动
+	 */
+	private String datePattern;
+
+	/**
+	 * 滚动文件压缩方式
+	 */
+	private CompressionType compression = CompressionType.NONE;
+
+	/**
+	 * 最多保留的滚动文件数量，小于等于 0 时不限制
+	 */
+	private int maxHistory;
+
+	/**
+	 * 滚动文件总大小上限（字节），小于等于 0 时不限制
+	 */
+	private long totalSizeCap;
+
+	/**
+	 * 返回单个文件最大大小（字节）
+	 *
+	 * @return 单个文件最大大小
+	 */
+	public long getMaxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * 设置单个文件最大大小（字节）
+	 *
+	 * @param maxFileSize
+	 * 		单个文件最大大小
+	 */
+	public void setMaxFileSize(long maxFileSize) {
+		this.maxFileSize = maxFileSize;
+	}
+
+	/**
+	 * 返回时间格式
+	 *
+	 * @return 时间格式
+	 */
+	public String getDatePattern() {
+		return datePattern;
+	}
+
+	/**
+	 * 设置时间格式
+	 *
+	 * @param datePattern
+	 * 		时间格式
+	 */
+	public void setDatePattern(String datePattern) {
+		this.datePattern = datePattern;
+	}
+
+	/**
+	 * 返回滚动文件压缩方式
+	 *
+	 * @return 滚动文件压缩方式
+	 */
+	public CompressionType getCompression() {
+		return compression;
+	}
+
+	/**
+	 * 设置滚动文件压缩方式
+	 *
+	 * @param compression
+	 * 		滚动文件压缩方式
+	 */
+	public void setCompression(CompressionType compression) {
+		this.compression = compression;
+	}
+
+	/**
+	 * 返回最多保留的滚动文件数量
+	 *
+	 * @return 最多保留的滚动文件数量
+	 */
+	public int getMaxHistory() {
+		return maxHistory;
+	}
+
+	/**
+	 * 设置最多保留的滚动文件数量
+	 *
+	 * @param maxHistory
+	 * 		最多保留的滚动文件数量
+	 */
+	public void setMaxHistory(int maxHistory) {
+		this.maxHistory = maxHistory;
+	}
+
+	/**
+	 * 返回滚动文件总大小上限（字节）
+	 *
+	 * @return 滚动文件总大小上限
+	 */
+	public long getTotalSizeCap() {
+		return totalSizeCap;
+	}
+
+	/**
+	 * 设置滚动文件总大小上限（字节）
+	 *
+	 * @param totalSizeCap
+	 * 		滚动文件总大小上限
+	 */
+	public void setTotalSizeCap(long totalSizeCap) {
+		this.totalSizeCap = totalSizeCap;
+	}
+
+	/**
+	 * 返回是否启用滚动
+	 *
+	 * @return 是否启用滚动
+	 */
+	public boolean isEnabled() {
+		return maxFileSize > 0 || Validate.hasText(datePattern);
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.handler;
+
+import com.buession.core.utils.Assert;
+import com.buession.lang.Status;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
+import com.buession.logging.file.store.AuditLogStore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 本地审计日志处理器，日志写入 {@link AuditLogStore}，可通过 {@link #getStore()} 按时间范围或用户查询
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class AuditLogHandler extends AbstractBatchLogHandler implements Closeable {
+
+	/**
+	 * 审计日志存储
+	 */
+	private final AuditLogStore store;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param store
+	 * 		审计日志存储
+	 */
+	public AuditLogHandler(final AuditLogStore store) {
+		Assert.isNull(store, "AuditLogStore cloud not be null.");
+		this.store = store;
+	}
+
+	/**
+	 * 返回审计日志存储
+	 *
+	 * @return 审计日志存储
+	 */
+	public AuditLogStore getStore() {
+		return store;
+	}
+
+	@Override
+	protected Status doHandle(final LogData logData) throws Exception {
+		store.append(logData);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		store.append(logDataList);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	public void close() throws IOException {
+		store.close();
+	}
+
+}
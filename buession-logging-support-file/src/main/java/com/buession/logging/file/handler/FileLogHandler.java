@@ -28,19 +28,39 @@ import com.buession.core.utils.Assert;
 import com.buession.io.file.File;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.formatter.LogDataFormatter;
-import com.buession.logging.core.handler.AbstractLogHandler;
 import com.buession.logging.core.formatter.DefaultLogDataFormatter;
+import com.buession.logging.core.formatter.LogDataFormatter;
+import com.buession.logging.core.formatter.StreamingLogDataFormatter;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
+import com.buession.logging.file.core.FileChannelWriter;
+import com.buession.logging.file.core.FsyncPolicy;
+import com.buession.logging.file.core.RollingFileChannelWriter;
+import com.buession.logging.file.core.RollingPolicy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 /**
- * 文件日志处理器
+ * 文件日志处理器；日志文件通过 {@link FileChannelWriter} 保持打开，多线程并发写入时以组提交的方式合并为一次写入；
+ * 设置滚动策略 {@link RollingPolicy} 后按大小、时间滚动，滚动文件在后台压缩
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class FileLogHandler extends AbstractLogHandler {
+public class FileLogHandler extends AbstractBatchLogHandler implements Closeable {
+
+	/**
+	 * 线程本地缓冲区保留的最大容量，超过时丢弃，避免长期占用内存
+	 */
+	private final static int MAX_BUFFER_SIZE = 64 * 1024;
+
+	private final static ThreadLocal<RecordBuffer> BUFFERS = ThreadLocal.withInitial(RecordBuffer::new);
 
 	/**
 	 * 日志文件对象
@@ -52,6 +72,36 @@ public class FileLogHandler extends AbstractLogHandler {
 	 */
 	private LogDataFormatter<String> formatter = new DefaultLogDataFormatter();
 
+	/**
+	 * 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	private FsyncPolicy fsyncPolicy = FsyncPolicy.OS;
+
+	/**
+	 * 刷盘间隔，仅 {@link FsyncPolicy#PERIODIC} 时有效
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration fsyncInterval = FileChannelWriter.DEFAULT_FSYNC_INTERVAL;
+
+	/**
+	 * 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	private int bufferSize = FileChannelWriter.DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * 滚动策略，为空或未启用时不滚动
+	 *
+	 * @since 2.1.0
+	 */
+	private RollingPolicy rollingPolicy;
+
+	private volatile FileChannelWriter writer;
+
 	/**
 	 * 构造函数
 	 *
@@ -127,10 +177,211 @@ public class FileLogHandler extends AbstractLogHandler {
 		this.formatter = formatter;
 	}
 
+	/**
+	 * 返回刷盘策略
+	 *
+	 * @return 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public FsyncPolicy getFsyncPolicy() {
+		return fsyncPolicy;
+	}
+
+	/**
+	 * 设置刷盘策略，需在首次写入前设置
+	 *
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+		Assert.isNull(fsyncPolicy, "FsyncPolicy cloud not be null.");
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * 返回刷盘间隔
+	 *
+	 * @return 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFsyncInterval() {
+		return fsyncInterval;
+	}
+
+	/**
+	 * 设置刷盘间隔，仅 {@link FsyncPolicy#PERIODIC} 时有效，需在首次写入前设置
+	 *
+	 * @param fsyncInterval
+	 * 		刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncInterval(Duration fsyncInterval) {
+		this.fsyncInterval = fsyncInterval;
+	}
+
+	/**
+	 * 返回组提交缓冲区大小
+	 *
+	 * @return 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置组提交缓冲区大小，需在首次写入前设置
+	 *
+	 * @param bufferSize
+	 * 		组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize <= 0, "Buffer size must be greater than 0.");
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * 返回滚动策略
+	 *
+	 * @return 滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public RollingPolicy getRollingPolicy() {
+		return rollingPolicy;
+	}
+
+	/**
+	 * 设置滚动策略，需在首次写入前设置
+	 *
+	 * @param rollingPolicy
+	 * 		滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setRollingPolicy(RollingPolicy rollingPolicy) {
+		this.rollingPolicy = rollingPolicy;
+	}
+
 	@Override
 	protected Status doHandle(final LogData logData) throws Exception {
-		file.write(formatter.format(logData), true);
+		if(formatter instanceof StreamingLogDataFormatter){
+			return write((StreamingLogDataFormatter) formatter, Collections.singletonList(logData));
+		}
+
+		getWriter().write(formatter.format(logData).getBytes(StandardCharsets.UTF_8));
+		return Status.SUCCESS;
+	}
+
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		if(formatter instanceof StreamingLogDataFormatter){
+			return write((StreamingLogDataFormatter) formatter, logDataList);
+		}
+
+		final StringBuilder sb = new StringBuilder();
+
+		for(LogData logData : logDataList){
+			sb.append(formatter.format(logData));
+		}
+
+		getWriter().write(sb.toString().getBytes(StandardCharsets.UTF_8));
+		return Status.SUCCESS;
+	}
+
+	/**
+	 * 格式化结果写入线程本地缓冲区，不生成中间字符串，整批日志作为一条记录提交
+	 *
+	 * @param formatter
+	 * 		日志格式化
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @return 处理结果
+	 *
+	 * @throws IOException
+	 * 		写入异常
+	 * @since 2.1.0
+	 */
+	protected Status write(final StreamingLogDataFormatter formatter, final List<LogData> logDataList)
+			throws IOException {
+		final RecordBuffer buffer = BUFFERS.get();
+
+		try{
+			for(LogData logData : logDataList){
+				formatter.format(logData, buffer);
+			}
+
+			buffer.writeTo(getWriter());
+		}finally{
+			if(buffer.capacity() > MAX_BUFFER_SIZE){
+				BUFFERS.remove();
+			}else{
+				buffer.reset();
+			}
+		}
+
 		return Status.SUCCESS;
 	}
 
+	/**
+	 * 返回文件写入器，首次调用时打开日志文件
+	 *
+	 * @return 文件写入器
+	 *
+	 * @throws IOException
+	 * 		日志文件打开失败
+	 * @since 2.1.0
+	 */
+	protected FileChannelWriter getWriter() throws IOException {
+		FileChannelWriter result = writer;
+
+		if(result == null){
+			synchronized(this){
+				result = writer;
+				if(result == null){
+					writer = result = rollingPolicy != null && rollingPolicy.isEnabled() ?
+							new RollingFileChannelWriter(file.toPath(), fsyncPolicy, fsyncInterval, bufferSize,
+									rollingPolicy) :
+							new FileChannelWriter(file.toPath(), fsyncPolicy, fsyncInterval, bufferSize);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized(this){
+			if(writer != null){
+				writer.close();
+			}
+		}
+	}
+
+	private final static class RecordBuffer extends ByteArrayOutputStream {
+
+		private RecordBuffer() {
+			super(1024);
+		}
+
+		private int capacity() {
+			return buf.length;
+		}
+
+		private void writeTo(final FileChannelWriter writer) throws IOException {
+			writer.write(buf, 0, count);
+		}
+
+	}
+
 }
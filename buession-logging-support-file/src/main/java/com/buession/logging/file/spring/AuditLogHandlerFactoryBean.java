@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.spring;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.core.codec.ProtobufLogDataCodec;
+import com.buession.logging.file.handler.AuditLogHandler;
+import com.buession.logging.file.spring.config.AuditLogHandlerFactoryBeanConfigurer;
+import com.buession.logging.file.store.AuditLogStore;
+import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.nio.file.Paths;
+
+/**
+ * 本地审计日志处理器 {@link AuditLogHandler} 工厂 Bean
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class AuditLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<AuditLogHandler> implements DisposableBean {
+
+	/**
+	 * 分段文件目录
+	 */
+	private String directory;
+
+	/**
+	 * 分段大小
+	 */
+	private int segmentSize = AuditLogStore.DEFAULT_SEGMENT_SIZE;
+
+	/**
+	 * 最大磁盘占用，超过时删除最旧的分段
+	 */
+	private long maxDiskSize = AuditLogStore.DEFAULT_MAX_DISK_SIZE;
+
+	/**
+	 * 稀疏时间索引间隔（字节）
+	 */
+	private int indexInterval = AuditLogStore.DEFAULT_INDEX_INTERVAL;
+
+	/**
+	 * 日志数据编解码器
+	 */
+	private LogDataCodec codec = new ProtobufLogDataCodec();
+
+	/**
+	 * 审计日志存储，设置后直接使用，由其创建方负责关闭
+	 */
+	private AuditLogStore store;
+
+	/**
+	 * 构造函数
+	 */
+	public AuditLogHandlerFactoryBean() {
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param configurer
+	 *        {@link AuditLogHandlerFactoryBeanConfigurer}
+	 */
+	public AuditLogHandlerFactoryBean(final AuditLogHandlerFactoryBeanConfigurer configurer) {
+		if(configurer != null){
+			setDirectory(configurer.getDirectory());
+			propertyMapper.from(configurer::getSegmentSize).to(this::setSegmentSize);
+			propertyMapper.from(configurer::getMaxDiskSize).to(this::setMaxDiskSize);
+			propertyMapper.from(configurer::getIndexInterval).to(this::setIndexInterval);
+			propertyMapper.from(configurer::getCodec).to(this::setCodec);
+		}
+	}
+
+	/**
+	 * 返回分段文件目录
+	 *
+	 * @return 分段文件目录
+	 */
+	public String getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 设置分段文件目录
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 */
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * 返回分段大小
+	 *
+	 * @return 分段大小
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * 设置分段大小
+	 *
+	 * @param segmentSize
+	 * 		分段大小
+	 */
+	public void setSegmentSize(int segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * 返回最大磁盘占用
+	 *
+	 * @return 最大磁盘占用
+	 */
+	public long getMaxDiskSize() {
+		return maxDiskSize;
+	}
+
+	/**
+	 * 设置最大磁盘占用
+	 *
+	 * @param maxDiskSize
+	 * 		最大磁盘占用
+	 */
+	public void setMaxDiskSize(long maxDiskSize) {
+		this.maxDiskSize = maxDiskSize;
+	}
+
+	/**
+	 * 返回稀疏时间索引间隔
+	 *
+	 * @return 稀疏时间索引间隔
+	 */
+	public int getIndexInterval() {
+		return indexInterval;
+	}
+
+	/**
+	 * 设置稀疏时间索引间隔
+	 *
+	 * @param indexInterval
+	 * 		稀疏时间索引间隔
+	 */
+	public void setIndexInterval(int indexInterval) {
+		this.indexInterval = indexInterval;
+	}
+
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码器
+	 *
+	 * @param codec
+	 * 		日志数据编解码器
+	 */
+	public void setCodec(LogDataCodec codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * 返回审计日志存储
+	 *
+	 * @return 审计日志存储
+	 */
+	public AuditLogStore getStore() {
+		return store;
+	}
+
+	/**
+	 * 设置审计日志存储，设置后忽略目录、分段等存储参数，存储由其创建方负责关闭
+	 *
+	 * @param store
+	 * 		审计日志存储
+	 */
+	public void setStore(AuditLogStore store) {
+		this.store = store;
+	}
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		if(getStore() == null){
+			Assert.isBlank(getDirectory(), "Property 'directory' is required");
+		}
+
+		if(logHandler == null){
+			synchronized(this){
+				if(logHandler == null){
+					logHandler = new AuditLogHandler(getStore() == null ? new AuditLogStore(Paths.get(getDirectory()),
+							getCodec(), getSegmentSize(), getMaxDiskSize(), getIndexInterval()) : getStore());
+				}
+			}
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		// 外部传入的存储由其创建方关闭
+		if(logHandler != null && getStore() == null){
+			logHandler.close();
+		}
+	}
+
+}
@@ -27,11 +27,16 @@ package com.buession.logging.file.spring;
 import com.buession.core.utils.Assert;
 import com.buession.logging.core.formatter.DefaultLogDataFormatter;
 import com.buession.logging.core.formatter.LogDataFormatter;
+import com.buession.logging.file.core.FileChannelWriter;
+import com.buession.logging.file.core.FsyncPolicy;
+import com.buession.logging.file.core.RollingPolicy;
 import com.buession.logging.file.handler.FileLogHandler;
 import com.buession.logging.file.spring.config.FileLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.io.File;
+import java.time.Duration;
 
 /**
  * 文件日志处理器 {@link FileLogHandler} 工厂 Bean 基类
@@ -39,7 +44,7 @@ import java.io.File;
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLogHandler> {
+public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLogHandler> implements DisposableBean {
 
 	/**
 	 * 日志文件对象
@@ -51,6 +56,34 @@ public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLog
 	 */
 	private LogDataFormatter<String> formatter = new DefaultLogDataFormatter();
 
+	/**
+	 * 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	private FsyncPolicy fsyncPolicy = FsyncPolicy.OS;
+
+	/**
+	 * 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration fsyncInterval = FileChannelWriter.DEFAULT_FSYNC_INTERVAL;
+
+	/**
+	 * 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	private int bufferSize = FileChannelWriter.DEFAULT_BUFFER_SIZE;
+
+	/**
+	 * 滚动策略，为空或未启用时不滚动
+	 *
+	 * @since 2.1.0
+	 */
+	private RollingPolicy rollingPolicy;
+
 	/**
 	 * 构造函数
 	 */
@@ -67,6 +100,10 @@ public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLog
 		if(configurer != null){
 			propertyMapper.alwaysApplyingWhenHasText().from(configurer::getPath).as(File::new).to(this::setFile);
 			propertyMapper.from(configurer::getFormatter).to(this::setFormatter);
+			propertyMapper.from(configurer::getFsyncPolicy).to(this::setFsyncPolicy);
+			propertyMapper.from(configurer::getFsyncInterval).to(this::setFsyncInterval);
+			propertyMapper.from(configurer::getBufferSize).to(this::setBufferSize);
+			propertyMapper.from(configurer::getRollingPolicy).to(this::setRollingPolicy);
 		}
 	}
 
@@ -108,6 +145,98 @@ public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLog
 		this.formatter = formatter;
 	}
 
+	/**
+	 * 返回刷盘策略
+	 *
+	 * @return 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public FsyncPolicy getFsyncPolicy() {
+		return fsyncPolicy;
+	}
+
+	/**
+	 * 设置刷盘策略
+	 *
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * 返回刷盘间隔
+	 *
+	 * @return 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFsyncInterval() {
+		return fsyncInterval;
+	}
+
+	/**
+	 * 设置刷盘间隔
+	 *
+	 * @param fsyncInterval
+	 * 		刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncInterval(Duration fsyncInterval) {
+		this.fsyncInterval = fsyncInterval;
+	}
+
+	/**
+	 * 返回组提交缓冲区大小
+	 *
+	 * @return 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置组提交缓冲区大小
+	 *
+	 * @param bufferSize
+	 * 		组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * 返回滚动策略
+	 *
+	 * @return 滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public RollingPolicy getRollingPolicy() {
+		return rollingPolicy;
+	}
+
+	/**
+	 * 设置滚动策略
+	 *
+	 * @param rollingPolicy
+	 * 		滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setRollingPolicy(RollingPolicy rollingPolicy) {
+		this.rollingPolicy = rollingPolicy;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.isNull(getFile(), "Property 'file' is required");
@@ -116,10 +245,24 @@ public class FileLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<FileLog
 		if(logHandler == null){
 			synchronized(this){
 				if(logHandler == null){
-					logHandler = new FileLogHandler(getFile(), getFormatter());
+					final FileLogHandler handler = new FileLogHandler(getFile(), getFormatter());
+
+					handler.setFsyncPolicy(getFsyncPolicy());
+					handler.setFsyncInterval(getFsyncInterval());
+					handler.setBufferSize(getBufferSize());
+					handler.setRollingPolicy(getRollingPolicy());
+
+					logHandler = handler;
 				}
 			}
 		}
 	}
 
+	@Override
+	public void destroy() throws Exception {
+		if(logHandler != null){
+			logHandler.close();
+		}
+	}
+
 }
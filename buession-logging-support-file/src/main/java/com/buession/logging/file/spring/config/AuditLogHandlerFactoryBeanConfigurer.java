@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.spring.config;
+
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.file.spring.AuditLogHandlerFactoryBean;
+
+/**
+ * Configures {@link AuditLogHandlerFactoryBean} with sensible defaults.
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class AuditLogHandlerFactoryBeanConfigurer {
+
+	/**
+	 * 分段文件目录
+	 */
+	private String directory;
+
+	/**
+	 * 分段大小
+	 */
+	private Integer segmentSize;
+
+	/**
+	 * 最大磁盘占用，超过时删除最旧的分段
+	 */
+	private Long maxDiskSize;
+
+	/**
+	 * 稀疏时间索引间隔（字节）
+	 */
+	private Integer indexInterval;
+
+	/**
+	 * 日志数据编解码器
+	 */
+	private LogDataCodec codec;
+
+	/**
+	 * 返回分段文件目录
+	 *
+	 * @return 分段文件目录
+	 */
+	public String getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 设置分段文件目录
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 */
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * 返回分段大小
+	 *
+	 * @return 分段大小
+	 */
+	public Integer getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * 设置分段大小
+	 *
+	 * @param segmentSize
+	 * 		分段大小
+	 */
+	public void setSegmentSize(Integer segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * 返回最大磁盘占用
+	 *
+	 * @return 最大磁盘占用
+	 */
+	public Long getMaxDiskSize() {
+		return maxDiskSize;
+	}
+
+	/**
+	 * 设置最大磁盘占用
+	 *
+	 * @param maxDiskSize
+	 * 		最大磁盘占用
+	 */
+	public void setMaxDiskSize(Long maxDiskSize) {
+		this.maxDiskSize = maxDiskSize;
+	}
+
+	/**
+	 * 返回稀疏时间索引间隔
+	 *
+	 * @return 稀疏时间索引间隔
+	 */
+	public Integer getIndexInterval() {
+		return indexInterval;
+	}
+
+	/**
+	 * 设置稀疏时间索引间隔
+	 *
+	 * @param indexInterval
+	 * 		稀疏时间索引间隔
+	 */
+	public void setIndexInterval(Integer indexInterval) {
+		this.indexInterval = indexInterval;
+	}
+
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码器
+	 *
+	 * @param codec
+	 * 		日志数据编解码器
+	 */
+	public void setCodec(LogDataCodec codec) {
+		this.codec = codec;
+	}
+
+}
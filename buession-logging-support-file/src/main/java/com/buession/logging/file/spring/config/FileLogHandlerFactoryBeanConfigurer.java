@@ -25,8 +25,12 @@
 package com.buession.logging.file.spring.config;
 
 import com.buession.logging.core.formatter.LogDataFormatter;
+import com.buession.logging.file.core.FsyncPolicy;
+import com.buession.logging.file.core.RollingPolicy;
 import com.buession.logging.file.spring.FileLogHandlerFactoryBean;
 
+import java.time.Duration;
+
 /**
  * Configures {@link FileLogHandlerFactoryBean} with sensible defaults.
  *
@@ -45,6 +49,34 @@ public class FileLogHandlerFactoryBeanConfigurer {
 	 */
 	private LogDataFormatter<String> formatter;
 
+	/**
+	 * 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	private FsyncPolicy fsyncPolicy;
+
+	/**
+	 * 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration fsyncInterval;
+
+	/**
+	 * 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	private Integer bufferSize;
+
+	/**
+	 * 滚动策略，为空或未启用时不滚动
+	 *
+	 * @since 2.1.0
+	 */
+	private RollingPolicy rollingPolicy;
+
 	/**
 	 * 返回日志文件路径
 	 *
@@ -83,4 +115,96 @@ public class FileLogHandlerFactoryBeanConfigurer {
 		this.formatter = formatter;
 	}
 
+	/**
+	 * 返回刷盘策略
+	 *
+	 * @return 刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public FsyncPolicy getFsyncPolicy() {
+		return fsyncPolicy;
+	}
+
+	/**
+	 * 设置刷盘策略
+	 *
+	 * @param fsyncPolicy
+	 * 		刷盘策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * 返回刷盘间隔
+	 *
+	 * @return 刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFsyncInterval() {
+		return fsyncInterval;
+	}
+
+	/**
+	 * 设置刷盘间隔
+	 *
+	 * @param fsyncInterval
+	 * 		刷盘间隔
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFsyncInterval(Duration fsyncInterval) {
+		this.fsyncInterval = fsyncInterval;
+	}
+
+	/**
+	 * 返回组提交缓冲区大小
+	 *
+	 * @return 组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public Integer getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * 设置组提交缓冲区大小
+	 *
+	 * @param bufferSize
+	 * 		组提交缓冲区大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBufferSize(Integer bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * 返回滚动策略
+	 *
+	 * @return 滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public RollingPolicy getRollingPolicy() {
+		return rollingPolicy;
+	}
+
+	/**
+	 * 设置滚动策略
+	 *
+	 * @param rollingPolicy
+	 * 		滚动策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setRollingPolicy(RollingPolicy rollingPolicy) {
+		this.rollingPolicy = rollingPolicy;
+	}
+
 }
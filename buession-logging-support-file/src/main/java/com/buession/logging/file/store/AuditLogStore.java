@@ -0,0 +1,943 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.file.store;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.Principal;
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.core.codec.ProtobufLogDataCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * 基于内存映射分段文件的本地审计日志存储，只追加写入，超过磁盘占用上限时删除最旧的分段。
+ *
+ * <p>记录格式：{@code [数据长度(4)][CRC32C(4)][时间戳(8)][用户标识长度(2)][用户标识][数据]}，数据由 {@link LogDataCodec} 编码。</p>
+ *
+ * <p>每个分段维护两个索引：稀疏时间索引按固定字节间隔划分数据块，记录每块的最小、最大时间戳；
+ * 用户索引记录每个用户的全部记录位置。按时间范围查询时只读取时间有交集的数据块，按用户查询时只读取该用户的记录。
+ * 写满的分段在封存时将索引写入同名的 {@code .idx} 文件，重启时直接加载，无需扫描数据。</p>
+ *
+ * <p>写入与查询线程安全，查询在锁外扫描已封存的分段，只有当前写入分段的扫描与写入互斥。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class AuditLogStore implements Closeable {
+
+	/**
+	 * 默认分段大小
+	 */
+	public final static int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * 默认最大磁盘占用
+	 */
+	public final static long DEFAULT_MAX_DISK_SIZE = 1024L * 1024 * 1024;
+
+	/**
+	 * 默认稀疏时间索引间隔
+	 */
+	public final static int DEFAULT_INDEX_INTERVAL = 4096;
+
+	/**
+	 * 记录头大小，不含用户标识
+	 */
+	private final static int HEADER_SIZE = 18;
+
+	/**
+	 * 用户标识最大字节数
+	 */
+	private final static int MAX_USER_ID_LENGTH = 0xFFFF;
+
+	private final static int END_OF_SEGMENT = -1;
+
+	private final static int INDEX_MAGIC = 0x4C474958;
+
+	private final static int INDEX_VERSION = 1;
+
+	private final static String SEGMENT_SUFFIX = ".seg";
+
+	private final static String INDEX_SUFFIX = ".idx";
+
+	private final static String TEMP_SUFFIX = ".tmp";
+
+	private final Path directory;
+
+	private final LogDataCodec codec;
+
+	private final int segmentSize;
+
+	private final long maxDiskSize;
+
+	private final int indexInterval;
+
+	private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+	private Segment writeSegment;
+
+	private boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(AuditLogStore.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public AuditLogStore(final Path directory) throws IOException {
+		this(directory, new ProtobufLogDataCodec());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 * @param codec
+	 * 		日志数据编解码器
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public AuditLogStore(final Path directory, final LogDataCodec codec) throws IOException {
+		this(directory, codec, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_DISK_SIZE, DEFAULT_INDEX_INTERVAL);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param directory
+	 * 		分段文件目录
+	 * @param codec
+	 * 		日志数据编解码器，重新打开已有的存储时须与写入时一致
+	 * @param segmentSize
+	 * 		分段大小
+	 * @param maxDiskSize
+	 * 		最大磁盘占用，不能小于分段大小
+	 * @param indexInterval
+	 * 		稀疏时间索引间隔（字节）
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public AuditLogStore(final Path directory, final LogDataCodec codec, final int segmentSize,
+	                     final long maxDiskSize, final int indexInterval) throws IOException {
+		Assert.isNull(directory, "Audit log directory cloud not be null.");
+		Assert.isNull(codec, "LogDataCodec cloud not be null.");
+		Assert.isTrue(segmentSize <= HEADER_SIZE * 2, "Segment size must be greater than " + HEADER_SIZE * 2 + ".");
+		Assert.isTrue(maxDiskSize < segmentSize, "Max disk size must be greater than or equal to segment size.");
+		Assert.isTrue(indexInterval <= 0, "Index interval must be greater than 0.");
+
+		this.directory = directory;
+		this.codec = codec;
+		this.segmentSize = segmentSize;
+		this.maxDiskSize = maxDiskSize;
+		this.indexInterval = indexInterval;
+
+		Files.createDirectories(directory);
+
+		recover();
+	}
+
+	/**
+	 * 返回分段文件目录
+	 *
+	 * @return 分段文件目录
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 返回分段大小
+	 *
+	 * @return 分段大小
+	 */
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	/**
+	 * 返回最大磁盘占用
+	 *
+	 * @return 最大磁盘占用
+	 */
+	public long getMaxDiskSize() {
+		return maxDiskSize;
+	}
+
+	/**
+	 * 返回稀疏时间索引间隔
+	 *
+	 * @return 稀疏时间索引间隔
+	 */
+	public int getIndexInterval() {
+		return indexInterval;
+	}
+
+	/**
+	 * 返回当前分段数量
+	 *
+	 * @return 分段数量
+	 */
+	public synchronized int getSegmentCount() {
+		return segments.size();
+	}
+
+	/**
+	 * 追加一条日志
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public void append(final LogData logData) throws IOException {
+		Assert.isNull(logData, "LogData cloud not be null.");
+
+		final Record record = createRecord(logData);
+
+		synchronized(this){
+			append(record);
+		}
+	}
+
+	/**
+	 * 追加一批日志
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @throws IOException
+	 * 		IO 异常
+	 */
+	public void append(final List<LogData> logDataList) throws IOException {
+		final List<Record> records = new ArrayList<>(logDataList.size());
+
+		for(LogData logData : logDataList){
+			records.add(createRecord(logData));
+		}
+
+		synchronized(this){
+			for(Record record : records){
+				append(record);
+			}
+		}
+	}
+
+	/**
+	 * 按时间范围查询日志，按写入顺序返回
+	 *
+	 * @param start
+	 * 		开始时间（含），为空时不限制
+	 * @param end
+	 * 		结束时间（含），为空时不限制
+	 * @param limit
+	 * 		最多返回的日志数量
+	 *
+	 * @return 日志列表
+	 *
+	 * @throws IOException
+	 * 		日志解码失败
+	 */
+	public List<LogData> findByTime(final Date start, final Date end, final int limit) throws IOException {
+		Assert.isTrue(limit <= 0, "Limit must be greater than 0.");
+
+		final long from = start == null ? Long.MIN_VALUE : start.getTime();
+		final long to = end == null ? Long.MAX_VALUE : end.getTime();
+		final List<byte[]> records = new ArrayList<>(Math.min(limit, 64));
+		final List<Segment> sealed = snapshotSealedSegments();
+
+		// 已封存的分段不再变化，在锁外扫描，不阻塞写入
+		for(Segment segment : sealed){
+			if(scanByTime(segment, from, to, limit, records)){
+				return decode(records);
+			}
+		}
+
+		synchronized(this){
+			ensureOpen();
+
+			for(Segment segment : unsealedSegments(sealed)){
+				if(scanByTime(segment, from, to, limit, records)){
+					break;
+				}
+			}
+		}
+
+		return decode(records);
+	}
+
+	/**
+	 * 按用户查询日志，按写入顺序返回
+	 *
+	 * @param userId
+	 * 		用户标识
+	 * @param start
+	 * 		开始时间（含），为空时不限制
+	 * @param end
+	 * 		结束时间（含），为空时不限制
+	 * @param limit
+	 * 		最多返回的日志数量
+	 *
+	 * @return 日志列表
+	 *
+	 * @throws IOException
+	 * 		日志解码失败
+	 */
+	public List<LogData> findByUser(final String userId, final Date start, final Date end, final int limit)
+			throws IOException {
+		Assert.isBlank(userId, "User id cloud not be null or empty.");
+		Assert.isTrue(limit <= 0, "Limit must be greater than 0.");
+
+		final long from = start == null ? Long.MIN_VALUE : start.getTime();
+		final long to = end == null ? Long.MAX_VALUE : end.getTime();
+		final List<byte[]> records = new ArrayList<>(Math.min(limit, 64));
+		final List<Segment> sealed = snapshotSealedSegments();
+
+		// 已封存的分段不再变化，在锁外扫描，不阻塞写入
+		for(Segment segment : sealed){
+			if(scanByUser(segment, userId, from, to, limit, records)){
+				return decode(records);
+			}
+		}
+
+		synchronized(this){
+			ensureOpen();
+
+			for(Segment segment : unsealedSegments(sealed)){
+				if(scanByUser(segment, userId, from, to, limit, records)){
+					break;
+				}
+			}
+		}
+
+		return decode(records);
+	}
+
+	/**
+	 * 将写入的记录刷写到磁盘
+	 */
+	public synchronized void sync() {
+		if(closed == false){
+			writeSegment.buffer.force();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if(closed){
+			return;
+		}
+
+		sync();
+		closed = true;
+
+		for(Segment segment : segments.values()){
+			segment.channel.close();
+		}
+		segments.clear();
+	}
+
+	/**
+	 * 返回日志对应的用户标识，优先使用用户 ID，其次为用户名
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 用户标识，没有用户信息时返回 null
+	 */
+	protected String getUserId(final LogData logData) {
+		final Principal principal = logData.getPrincipal();
+
+		if(principal == null){
+			return null;
+		}
+
+		return Validate.hasText(principal.getId()) ? principal.getId() : principal.getUserName();
+	}
+
+	/**
+	 * 返回当前已封存的分段，封存后分段的数据和索引不再变化；
+	 * 分段被滚动删除时只关闭文件通道，已建立的内存映射在锁外仍可安全读取
+	 */
+	private synchronized List<Segment> snapshotSealedSegments() {
+		ensureOpen();
+		return new ArrayList<>(segments.headMap(writeSegment.id, false).values());
+	}
+
+	/**
+	 * 返回快照之后的分段，包括当前写入分段以及快照后新封存的分段，须持有锁调用
+	 */
+	private Iterable<Segment> unsealedSegments(final List<Segment> sealed) {
+		return sealed.isEmpty() ? segments.values() : segments.tailMap(sealed.get(sealed.size() - 1).id,
+				false).values();
+	}
+
+	private static boolean scanByTime(final Segment segment, final long from, final long to, final int limit,
+	                                  final List<byte[]> records) {
+		if(segment.overlaps(from, to) == false){
+			return false;
+		}
+
+		for(int i = 0; i < segment.blockCount; i++){
+			if(segment.blockMaxTimes[i] < from || segment.blockMinTimes[i] > to){
+				continue;
+			}
+
+			final int blockEnd = i + 1 < segment.blockCount ? segment.blockOffsets[i + 1] : segment.position;
+
+			for(int position = segment.blockOffsets[i]; position < blockEnd; position = segment.next(position)){
+				final long timestamp = segment.timestamp(position);
+
+				if(timestamp >= from && timestamp <= to){
+					records.add(segment.data(position));
+					if(records.size() >= limit){
+						return true;
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean scanByUser(final Segment segment, final String userId, final long from, final long to,
+	                                  final int limit, final List<byte[]> records) {
+		final IntList offsets = segment.users.get(userId);
+
+		if(offsets == null || segment.overlaps(from, to) == false){
+			return false;
+		}
+
+		for(int i = 0; i < offsets.size; i++){
+			final int position = offsets.values[i];
+			final long timestamp = segment.timestamp(position);
+
+			if(timestamp >= from && timestamp <= to){
+				records.add(segment.data(position));
+				if(records.size() >= limit){
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private Record createRecord(final LogData logData) throws IOException {
+		final String userId = getUserId(logData);
+		final byte[] user = Validate.hasText(userId) ? userId.getBytes(StandardCharsets.UTF_8) : new byte[0];
+		final byte[] data = codec.encode(logData);
+		final long timestamp = logData.getDateTime() == null ? System.currentTimeMillis() :
+				logData.getDateTime().getTime();
+
+		Assert.isTrue(user.length > MAX_USER_ID_LENGTH, "User id is too long.");
+		Assert.isTrue(HEADER_SIZE + user.length + data.length > segmentSize,
+				"Record size " + (HEADER_SIZE + user.length + data.length) + " exceeds the segment size " +
+						segmentSize + ".");
+
+		return new Record(timestamp, user.length == 0 ? null : userId, user, data);
+	}
+
+	private void append(final Record record) throws IOException {
+		ensureOpen();
+
+		final int size = HEADER_SIZE + record.user.length + record.data.length;
+
+		if(writeSegment.remaining() < size){
+			roll();
+		}
+
+		final ByteBuffer buffer = writeSegment.buffer;
+		final int position = writeSegment.position;
+
+		buffer.position(position + HEADER_SIZE);
+		buffer.put(record.user);
+		buffer.put(record.data);
+		buffer.putLong(position + 8, record.timestamp);
+		buffer.putShort(position + 16, (short) record.user.length);
+		// 最后写入长度，进程中途退出时不会留下长度有效但内容不完整的记录
+		buffer.putInt(position + 4, crc(writeSegment.id, record.timestamp, record.user, record.data));
+		buffer.putInt(position, record.data.length);
+
+		writeSegment.index(position, size, record.timestamp, record.userId, indexInterval);
+	}
+
+	private void roll() throws IOException {
+		seal(writeSegment);
+
+		// 超过磁盘占用上限时删除最旧的分段
+		while(segments.isEmpty() == false && getDiskUsage() + segmentSize > maxDiskSize){
+			delete(segments.pollFirstEntry().getValue());
+		}
+
+		writeSegment = openSegment(writeSegment.id + 1, directory.resolve(segmentFileName(writeSegment.id + 1)),
+				segmentSize);
+		segments.put(writeSegment.id, writeSegment);
+	}
+
+	private long getDiskUsage() {
+		long usage = 0;
+
+		for(Segment segment : segments.values()){
+			usage += segment.buffer.capacity();
+		}
+
+		return usage;
+	}
+
+	private void recover() throws IOException {
+		final TreeMap<Long, Path> files = new TreeMap<>();
+
+		try(DirectoryStream<Path> stream = Files.newDirectoryStream(directory)){
+			for(Path path : stream){
+				final String fileName = path.getFileName().toString();
+
+				if(fileName.endsWith(SEGMENT_SUFFIX)){
+					files.put(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())),
+							path);
+				}else if(fileName.endsWith(TEMP_SUFFIX)){
+					Files.deleteIfExists(path);
+				}
+			}
+		}
+
+		for(Map.Entry<Long, Path> e : files.entrySet()){
+			final long size = Files.size(e.getValue());
+			final Segment segment = openSegment(e.getKey(), e.getValue(),
+					size > 0 && size <= Integer.MAX_VALUE ? (int) size : segmentSize);
+			final boolean last = e.getKey().equals(files.lastKey());
+
+			if(last || loadIndex(segment) == false){
+				rebuildIndex(segment);
+				if(last){
+					Files.deleteIfExists(indexPath(segment.id));
+				}else{
+					writeIndex(segment);
+				}
+			}
+
+			segments.put(segment.id, segment);
+		}
+
+		if(segments.isEmpty()){
+			writeSegment = openSegment(0L, directory.resolve(segmentFileName(0L)), segmentSize);
+			segments.put(writeSegment.id, writeSegment);
+		}else{
+			writeSegment = segments.lastEntry().getValue();
+		}
+	}
+
+	private void rebuildIndex(final Segment segment) {
+		final ByteBuffer buffer = segment.buffer;
+		final int capacity = buffer.capacity();
+		int position = 0;
+
+		while(capacity - position >= HEADER_SIZE){
+			final int length = buffer.getInt(position);
+
+			if(length < 0){
+				break;
+			}
+
+			final int userLength = buffer.getShort(position + 16) & 0xFFFF;
+			final int size = HEADER_SIZE + userLength + length;
+
+			// 未写入的区域全为 0
+			if((length == 0 && userLength == 0 && buffer.getInt(position + 4) == 0) || size > capacity - position){
+				break;
+			}
+
+			final long timestamp = buffer.getLong(position + 8);
+			final byte[] user = new byte[userLength];
+			final byte[] data = new byte[length];
+
+			buffer.get(position + HEADER_SIZE, user);
+			buffer.get(position + HEADER_SIZE + userLength, data);
+
+			if(buffer.getInt(position + 4) != crc(segment.id, timestamp, user, data)){
+				if(logger.isWarnEnabled()){
+					logger.warn("Audit log segment {} is corrupted at position {}, skip the rest of it.", segment.id,
+							position);
+				}
+				break;
+			}
+
+			segment.index(position, size, timestamp, userLength == 0 ? null :
+					new String(user, StandardCharsets.UTF_8), indexInterval);
+			position += size;
+		}
+	}
+
+	private void seal(final Segment segment) throws IOException {
+		if(segment.remaining() >= 4){
+			segment.buffer.putInt(segment.position, END_OF_SEGMENT);
+		}
+		segment.buffer.force();
+		writeIndex(segment);
+	}
+
+	private boolean loadIndex(final Segment segment) {
+		final byte[] bytes;
+
+		try{
+			bytes = Files.readAllBytes(indexPath(segment.id));
+		}catch(NoSuchFileException e){
+			return false;
+		}catch(IOException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Read audit log index of segment {} failure: {}", segment.id, e.getMessage());
+			}
+			return false;
+		}
+
+		if(bytes.length < 4){
+			return false;
+		}
+
+		final CRC32C crc32c = new CRC32C();
+
+		crc32c.update(bytes, 0, bytes.length - 4);
+		if((int) crc32c.getValue() != ByteBuffer.wrap(bytes, bytes.length - 4, 4).getInt()){
+			return false;
+		}
+
+		try(DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))){
+			if(input.readInt() != INDEX_MAGIC || input.readInt() != INDEX_VERSION){
+				return false;
+			}
+
+			segment.position = input.readInt();
+			segment.minTime = input.readLong();
+			segment.maxTime = input.readLong();
+
+			final int blockCount = input.readInt();
+
+			segment.blockCount = blockCount;
+			segment.blockOffsets = new int[Math.max(blockCount, 1)];
+			segment.blockMinTimes = new long[segment.blockOffsets.length];
+			segment.blockMaxTimes = new long[segment.blockOffsets.length];
+			for(int i = 0; i < blockCount; i++){
+				segment.blockOffsets[i] = input.readInt();
+				segment.blockMinTimes[i] = input.readLong();
+				segment.blockMaxTimes[i] = input.readLong();
+			}
+
+			final int userCount = input.readInt();
+			for(int i = 0; i < userCount; i++){
+				final byte[] user = new byte[input.readUnsignedShort()];
+
+				input.readFully(user);
+
+				final String userId = new String(user, StandardCharsets.UTF_8);
+				final int count = input.readInt();
+				final IntList offsets = new IntList(count);
+
+				for(int j = 0; j < count; j++){
+					offsets.add(input.readInt());
+				}
+				segment.users.put(userId, offsets);
+			}
+
+			return true;
+		}catch(IOException e){
+			return false;
+		}
+	}
+
+	private void writeIndex(final Segment segment) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + segment.blockCount * 20);
+
+		try(DataOutputStream output = new DataOutputStream(bytes)){
+			output.writeInt(INDEX_MAGIC);
+			output.writeInt(INDEX_VERSION);
+			output.writeInt(segment.position);
+			output.writeLong(segment.minTime);
+			output.writeLong(segment.maxTime);
+
+			output.writeInt(segment.blockCount);
+			for(int i = 0; i < segment.blockCount; i++){
+				output.writeInt(segment.blockOffsets[i]);
+				output.writeLong(segment.blockMinTimes[i]);
+				output.writeLong(segment.blockMaxTimes[i]);
+			}
+
+			output.writeInt(segment.users.size());
+			for(Map.Entry<String, IntList> e : segment.users.entrySet()){
+				final byte[] user = e.getKey().getBytes(StandardCharsets.UTF_8);
+
+				output.writeShort(user.length);
+				output.write(user);
+				output.writeInt(e.getValue().size);
+				for(int i = 0; i < e.getValue().size; i++){
+					output.writeInt(e.getValue().values[i]);
+				}
+			}
+
+			final CRC32C crc32c = new CRC32C();
+
+			output.flush();
+			crc32c.update(bytes.toByteArray());
+			output.writeInt((int) crc32c.getValue());
+		}
+
+		final Path path = indexPath(segment.id);
+		final Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+
+		Files.write(temp, bytes.toByteArray());
+		Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private void delete(final Segment segment) {
+		try{
+			segment.channel.close();
+			Files.deleteIfExists(segment.path);
+			Files.deleteIfExists(indexPath(segment.id));
+		}catch(IOException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Delete audit log segment {} failure: {}", segment.path, e.getMessage());
+			}
+		}
+	}
+
+	private Segment openSegment(final long id, final Path path, final int size) throws IOException {
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		try{
+			return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+		}catch(IOException e){
+			channel.close();
+			throw e;
+		}
+	}
+
+	private List<LogData> decode(final List<byte[]> records) throws IOException {
+		if(records.isEmpty()){
+			return Collections.emptyList();
+		}
+
+		final List<LogData> result = new ArrayList<>(records.size());
+
+		for(byte[] data : records){
+			result.add(codec.decode(data));
+		}
+
+		return result;
+	}
+
+	private Path indexPath(final long id) {
+		return directory.resolve(String.format("%020d", id) + INDEX_SUFFIX);
+	}
+
+	private void ensureOpen() {
+		if(closed){
+			throw new IllegalStateException("Audit log store " + directory + " has been closed.");
+		}
+	}
+
+	private static int crc(final long segmentId, final long timestamp, final byte[] user, final byte[] data) {
+		final CRC32C crc32c = new CRC32C();
+
+		crc32c.update(ByteBuffer.allocate(16).putLong(0, segmentId).putLong(8, timestamp));
+		crc32c.update(user);
+		crc32c.update(data);
+
+		return (int) crc32c.getValue();
+	}
+
+	private static String segmentFileName(final long id) {
+		return String.format("%020d", id) + SEGMENT_SUFFIX;
+	}
+
+	private final static class Record {
+
+		private final long timestamp;
+
+		private final String userId;
+
+		private final byte[] user;
+
+		private final byte[] data;
+
+		private Record(final long timestamp, final String userId, final byte[] user, final byte[] data) {
+			this.timestamp = timestamp;
+			this.userId = userId;
+			this.user = user;
+			this.data = data;
+		}
+
+	}
+
+	private final static class Segment {
+
+		private final long id;
+
+		private final Path path;
+
+		private final FileChannel channel;
+
+		private final MappedByteBuffer buffer;
+
+		private int position;
+
+		private long minTime = Long.MAX_VALUE;
+
+		private long maxTime = Long.MIN_VALUE;
+
+		private int blockCount;
+
+		private int[] blockOffsets = new int[16];
+
+		private long[] blockMinTimes = new long[16];
+
+		private long[] blockMaxTimes = new long[16];
+
+		private final Map<String, IntList> users = new HashMap<>();
+
+		private Segment(final long id, final Path path, final FileChannel channel, final MappedByteBuffer buffer) {
+			this.id = id;
+			this.path = path;
+			this.channel = channel;
+			this.buffer = buffer;
+		}
+
+		private int remaining() {
+			return buffer.capacity() - position;
+		}
+
+		private boolean overlaps(final long from, final long to) {
+			return position > 0 && maxTime >= from && minTime <= to;
+		}
+
+		private long timestamp(final int position) {
+			return buffer.getLong(position + 8);
+		}
+
+		private byte[] data(final int position) {
+			final byte[] data = new byte[buffer.getInt(position)];
+
+			buffer.get(position + HEADER_SIZE + (buffer.getShort(position + 16) & 0xFFFF), data);
+
+			return data;
+		}
+
+		private int next(final int position) {
+			return position + HEADER_SIZE + (buffer.getShort(position + 16) & 0xFFFF) + buffer.getInt(position);
+		}
+
+		private void index(final int offset, final int size, final long timestamp, final String userId,
+		                   final int indexInterval) {
+			if(blockCount == 0 || offset - blockOffsets[blockCount - 1] >= indexInterval){
+				if(blockCount == blockOffsets.length){
+					blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+					blockMinTimes = Arrays.copyOf(blockMinTimes, blockCount * 2);
+					blockMaxTimes = Arrays.copyOf(blockMaxTimes, blockCount * 2);
+				}
+
+				blockOffsets[blockCount] = offset;
+				blockMinTimes[blockCount] = timestamp;
+				blockMaxTimes[blockCount] = timestamp;
+				blockCount++;
+			}else{
+				blockMinTimes[blockCount - 1] = Math.min(blockMinTimes[blockCount - 1], timestamp);
+				blockMaxTimes[blockCount - 1] = Math.max(blockMaxTimes[blockCount - 1], timestamp);
+			}
+
+			minTime = Math.min(minTime, timestamp);
+			maxTime = Math.max(maxTime, timestamp);
+			position = offset + size;
+
+			if(userId != null){
+				users.computeIfAbsent(userId, (key)->new IntList(8)).add(offset);
+			}
+		}
+
+	}
+
+	private final static class IntList {
+
+		private int[] values;
+
+		private int size;
+
+		private IntList(final int capacity) {
+			values = new int[Math.max(capacity, 1)];
+		}
+
+		private void add(final int value) {
+			if(size == values.length){
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+	}
+
+}
@@ -26,8 +26,12 @@ package com.buession.logging.jdbc.converter;
 
 import com.buession.logging.core.LogData;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @author Yong.Teng
@@ -35,104 +39,154 @@ import java.util.Map;
  */
 public class DefaultLogDataConverter extends AbstractLogDataConverter {
 
-	@Override
-	public Map<String, Object> convert(final LogData logData) {
-		final Map<String, Object> data = new HashMap<>(32);
+	/**
+	 * 参数名与取值函数，类加载时构建，不可变
+	 */
+	private final static Map<String, BiFunction<DefaultLogDataConverter, LogData, Object>> EXTRACTORS;
+
+	static {
+		final Map<String, BiFunction<DefaultLogDataConverter, LogData, Object>> extractors = new LinkedHashMap<>(32);
 
 		// 用户 ID 字段
-		data.put("userId", logData.getPrincipal() == null ? null : logData.getPrincipal().getId());
+		extractors.put("userId",
+				(converter, logData)->logData.getPrincipal() == null ? null : logData.getPrincipal().getId());
 
 		// 用户名字段
-		data.put("userName", logData.getPrincipal() == null ? null : logData.getPrincipal().getUserName());
+		extractors.put("userName",
+				(converter, logData)->logData.getPrincipal() == null ? null : logData.getPrincipal().getUserName());
 
 		// 真实姓名字段
-		data.put("realName", logData.getPrincipal() == null ? null : logData.getPrincipal().getRealName());
+		extractors.put("realName",
+				(converter, logData)->logData.getPrincipal() == null ? null : logData.getPrincipal().getRealName());
 
 		// 日期时间字段
-		data.put("dateTime", getDateTimeFormatter().format(logData.getDateTime()).toString());
+		extractors.put("dateTime",
+				(converter, logData)->converter.getDateTimeFormatter().format(logData.getDateTime()).toString());
 
 		// 业务类型字段
-		data.put("businessType", logData.getBusinessType());
+		extractors.put("businessType", (converter, logData)->logData.getBusinessType());
 
 		// 事件字段
-		data.put("event", logData.getEvent());
+		extractors.put("event", (converter, logData)->logData.getEvent());
 
 		// 描述字段
-		data.put("description", logData.getDescription());
+		extractors.put("description", (converter, logData)->logData.getDescription());
 
 		// 客户端 IP 字段
-		data.put("clientIp", logData.getClientIp());
+		extractors.put("clientIp", (converter, logData)->logData.getClientIp());
 
 		// Remote Addr 字段
-		data.put("remoteAddr", logData.getRemoteAddr());
+		extractors.put("remoteAddr", (converter, logData)->logData.getRemoteAddr());
 
 		// 请求地址字段
-		data.put("url", logData.getUrl());
+		extractors.put("url", (converter, logData)->logData.getUrl());
 
 		// 请求方式字段
-		data.put("requestMethod", logData.getRequestMethod().name());
+		extractors.put("requestMethod", (converter, logData)->logData.getRequestMethod().name());
 
 		// 请求参数字段
-		data.put("requestParameters", getRequestParametersFormatter().format(logData.getRequestParameters()));
+		extractors.put("requestParameters", (converter, logData)->converter.getRequestParametersFormatter()
+				.format(logData.getRequestParameters()));
 
 		// 请求体字段
-		data.put("requestBody", logData.getRequestBody());
+		extractors.put("requestBody", (converter, logData)->logData.getRequestBody());
 
 		// User-Agent 字段
-		data.put("userAgent", logData.getUserAgent());
+		extractors.put("userAgent", (converter, logData)->logData.getUserAgent());
 
 		// 操作系统名称字段
-		data.put("operatingSystemName",
+		extractors.put("operatingSystemName", (converter, logData)->
 				logData.getOperatingSystem() == null ? null : logData.getOperatingSystem().getName());
 
 		// 操作系统版本字段
-		data.put("operatingSystemVersion",
+		extractors.put("operatingSystemVersion", (converter, logData)->
 				logData.getOperatingSystem() == null ? null : logData.getOperatingSystem().getVersion());
 
 		// 设备类型字段
-		data.put("deviceType", logData.getDeviceType() == null ? null : logData.getDeviceType().name());
+		extractors.put("deviceType",
+				(converter, logData)->logData.getDeviceType() == null ? null : logData.getDeviceType().name());
 
 		// 浏览器名称字段
-		data.put("browserName", logData.getBrowser() == null ? null : logData.getBrowser().getName());
+		extractors.put("browserName",
+				(converter, logData)->logData.getBrowser() == null ? null : logData.getBrowser().getName());
 
 		// 浏览器类型字段
-		data.put("browserType", logData.getBrowser() == null ? null : logData.getBrowser().getType().name());
+		extractors.put("browserType",
+				(converter, logData)->logData.getBrowser() == null ? null : logData.getBrowser().getType().name());
 
 		// 浏览器版本字段
-		data.put("browserVersion", logData.getBrowser() == null ? null : logData.getBrowser().getVersion());
+		extractors.put("browserVersion",
+				(converter, logData)->logData.getBrowser() == null ? null : logData.getBrowser().getVersion());
 
 		// 地理位置信息字段
-		data.put("geo",
-				logData.getLocation() == null ? null : getGeoFormatter().format(logData.getLocation().getGeo()));
+		extractors.put("geo", (converter, logData)->logData.getLocation() == null ? null :
+				converter.getGeoFormatter().format(logData.getLocation().getGeo()));
 
 		// 国家 Code 字段
-		data.put("countryCode", logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
-				logData.getLocation().getCountry().getCode());
+		extractors.put("countryCode", (converter, logData)->
+				logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
+						logData.getLocation().getCountry().getCode());
 
 		// 国家名称字段
-		data.put("countryName", logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
-				logData.getLocation().getCountry().getName());
+		extractors.put("countryName", (converter, logData)->
+				logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
+						logData.getLocation().getCountry().getName());
 
 		// 国家名称全称字段
-		data.put("countryFullName", logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
-				logData.getLocation().getCountry().getFullName());
+		extractors.put("countryFullName", (converter, logData)->
+				logData.getLocation() == null || logData.getLocation().getCountry() == null ? null :
+						logData.getLocation().getCountry().getFullName());
 
 		// 地区名称字段
-		data.put("districtName", logData.getLocation() == null || logData.getLocation().getDistrict() == null ? null :
-				logData.getLocation().getDistrict().getName());
+		extractors.put("districtName", (converter, logData)->
+				logData.getLocation() == null || logData.getLocation().getDistrict() == null ? null :
+						logData.getLocation().getDistrict().getName());
 
 		// 地区名称全称字段
-		data.put("districtFullName",
+		extractors.put("districtFullName", (converter, logData)->
 				logData.getLocation() == null || logData.getLocation().getDistrict() == null ? null :
 						logData.getLocation().getDistrict().getFullName());
 
 		// 结果字段
-		data.put("status", logData.getStatus() == null ? null : logData.getStatus().name());
+		extractors.put("status",
+				(converter, logData)->logData.getStatus() == null ? null : logData.getStatus().name());
 
 		// 附加参数字段
-		data.put("extra", logData.getExtra() == null ? null : getExtraFormatter().format(logData.getExtra()));
+		extractors.put("extra", (converter, logData)->logData.getExtra() == null ? null :
+				converter.getExtraFormatter().format(logData.getExtra()));
+
+		EXTRACTORS = Collections.unmodifiableMap(extractors);
+	}
+
+	@Override
+	public Map<String, Object> convert(final LogData logData) {
+		final Map<String, Object> data = new HashMap<>(32);
+
+		for(Map.Entry<String, BiFunction<DefaultLogDataConverter, LogData, Object>> e : EXTRACTORS.entrySet()){
+			data.put(e.getKey(), e.getValue().apply(this, logData));
+		}
 
 		return data;
 	}
 
+	@Override
+	public Function<LogData, Object> getValueExtractor(final String name) {
+		// 子类可能重写了 convert，取值须经过 convert
+		if(isExtendedClass()){
+			return null;
+		}
+
+		final BiFunction<DefaultLogDataConverter, LogData, Object> extractor = EXTRACTORS.get(name);
+		return extractor == null ? null : (logData)->extractor.apply(this, logData);
+	}
+
+	@Override
+	public boolean supportsParameter(final String name) {
+		return isExtendedClass() || EXTRACTORS.containsKey(name);
+	}
+
+	private boolean isExtendedClass() {
+		return getClass() != DefaultLogDataConverter.class;
+	}
+
 }
@@ -32,6 +32,7 @@ import com.buession.logging.core.formatter.GeoFormatter;
 import com.buession.logging.core.formatter.MapFormatter;
 
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 日志数据转换
@@ -116,4 +117,33 @@ public interface LogDataConverter extends Converter<LogData, Map<String, Object>
 	 */
 	void setExtraFormatter(MapFormatter<Object> extraFormatter);
 
+	/**
+	 * 返回参数名对应的取值函数，用于按位置绑定 SQL 参数而不必为每条日志构建 Map；
+	 * 返回 null 时该参数从 {@link #convert(Object)} 的结果中取值
+	 *
+	 * @param name
+	 * 		参数名
+	 *
+	 * @return 取值函数
+	 *
+	 * @since 2.1.0
+	 */
+	default Function<LogData, Object> getValueExtractor(String name) {
+		return null;
+	}
+
+	/**
+	 * 返回是否可以提供参数名对应的值；无法预先确定时应返回 true，缺失的参数在写入时报错
+	 *
+	 * @param name
+	 * 		参数名
+	 *
+	 * @return 确定不能提供该参数的值时返回 false
+	 *
+	 * @since 2.1.0
+	 */
+	default boolean supportsParameter(String name) {
+		return true;
+	}
+
 }
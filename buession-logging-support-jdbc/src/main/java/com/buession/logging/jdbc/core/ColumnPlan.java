@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.core;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.jdbc.converter.LogDataConverter;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 列计划，将命名参数 SQL 一次性解析为占位符 SQL 和按位置排列的取值函数，
+ * 写入时直接将日志数据的值绑定到 {@link PreparedStatement}，不再为每条日志构建参数 Map；
+ * 创建后不可变，可在多线程间共享
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class ColumnPlan {
+
+	/**
+	 * 原始命名参数 SQL
+	 */
+	private final String namedSql;
+
+	/**
+	 * 占位符 SQL
+	 */
+	private final String sql;
+
+	/**
+	 * 按位置排列的参数名
+	 */
+	private final List<String> parameterNames;
+
+	/**
+	 * 按位置排列的取值函数，为 null 的位置从 {@link LogDataConverter#convert(Object)} 的结果中取值
+	 */
+	private final Function<LogData, Object>[] extractors;
+
+	private final LogDataConverter logDataConverter;
+
+	private final boolean requiresConvert;
+
+	@SuppressWarnings({"unchecked"})
+	private ColumnPlan(final String namedSql, final LogDataConverter logDataConverter) {
+		final ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+		final List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(parsedSql,
+				EmptySqlParameterSource.INSTANCE);
+		final String[] names = new String[parameters.size()];
+		boolean requiresConvert = false;
+
+		this.extractors = new Function[names.length];
+		for(int i = 0; i < names.length; i++){
+			names[i] = parameters.get(i).getName();
+			extractors[i] = logDataConverter.getValueExtractor(names[i]);
+			if(extractors[i] == null){
+				if(logDataConverter.supportsParameter(names[i]) == false){
+					throw new InvalidDataAccessApiUsageException("No value supplied for the SQL parameter '" +
+							names[i] + "': " + logDataConverter.getClass().getName() + " does not support it");
+				}
+				requiresConvert = true;
+			}
+		}
+
+		this.namedSql = namedSql;
+		this.sql = NamedParameterUtils.substituteNamedParameters(parsedSql, null);
+		this.parameterNames = Collections.unmodifiableList(Arrays.asList(names));
+		this.logDataConverter = logDataConverter;
+		this.requiresConvert = requiresConvert;
+	}
+
+	/**
+	 * 解析命名参数 SQL，创建列计划
+	 *
+	 * @param namedSql
+	 * 		命名参数 SQL
+	 * @param logDataConverter
+	 * 		日志数据转换，须已完成配置
+	 *
+	 * @return 列计划
+	 *
+	 * @throws InvalidDataAccessApiUsageException
+	 * 		日志数据转换不能提供 SQL 中的参数
+	 */
+	public static ColumnPlan compile(final String namedSql, final LogDataConverter logDataConverter) {
+		Assert.isBlank(namedSql, "SQL is blank, empty or null.");
+		Assert.isNull(logDataConverter, "LogDataConverter cloud not be null.");
+		return new ColumnPlan(namedSql, logDataConverter);
+	}
+
+	/**
+	 * 返回原始命名参数 SQL
+	 *
+	 * @return 原始命名参数 SQL
+	 */
+	public String getNamedSql() {
+		return namedSql;
+	}
+
+	/**
+	 * 返回占位符 SQL
+	 *
+	 * @return 占位符 SQL
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * 返回按位置排列的参数名
+	 *
+	 * @return 按位置排列的参数名
+	 */
+	public List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * 返回参数数量
+	 *
+	 * @return 参数数量
+	 */
+	public int getParameterCount() {
+		return extractors.length;
+	}
+
+	/**
+	 * 将日志数据按位置绑定到 {@link PreparedStatement}
+	 *
+	 * @param ps
+	 *        {@link PreparedStatement}
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @throws SQLException
+	 * 		绑定参数异常
+	 */
+	public void bind(final PreparedStatement ps, final LogData logData) throws SQLException {
+		bind(ps, logData, 0);
+	}
+
+	/**
+	 * 将日志数据按位置绑定到 {@link PreparedStatement}，从第 offset + 1 个占位符开始，用于多行 VALUES 语句
+	 *
+	 * @param ps
+	 *        {@link PreparedStatement}
+	 * @param logData
+	 * 		日志数据
+	 * @param offset
+	 * 		占位符偏移量
+	 *
+	 * @throws SQLException
+	 * 		绑定参数异常
+	 */
+	public void bind(final PreparedStatement ps, final LogData logData, final int offset) throws SQLException {
+		final Map<String, Object> converted = requiresConvert ? logDataConverter.convert(logData) : null;
+
+		for(int i = 0; i < extractors.length; i++){
+			StatementCreatorUtils.setParameterValue(ps, offset + i + 1, SqlTypeValue.TYPE_UNKNOWN,
+					value(converted, logData, i));
+		}
+	}
+
+	/**
+	 * 将 {@link #extract(LogData, Object[])} 提取的值按位置绑定到 {@link PreparedStatement}，从第 offset + 1 个占位符开始
+	 *
+	 * @param ps
+	 *        {@link PreparedStatement}
+	 * @param values
+	 * 		按参数顺序排列的值
+	 * @param offset
+	 * 		占位符偏移量
+	 *
+	 * @throws SQLException
+	 * 		绑定参数异常
+	 */
+	public void bind(final PreparedStatement ps, final Object[] values, final int offset) throws SQLException {
+		for(int i = 0; i < extractors.length; i++){
+			StatementCreatorUtils.setParameterValue(ps, offset + i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+		}
+	}
+
+	/**
+	 * 按参数顺序提取日志数据的值
+	 *
+	 * @param logData
+	 * 		日志数据
+	 * @param values
+	 * 		值数组，长度不小于参数数量
+	 */
+	public void extract(final LogData logData, final Object[] values) {
+		final Map<String, Object> converted = requiresConvert ? logDataConverter.convert(logData) : null;
+
+		for(int i = 0; i < extractors.length; i++){
+			values[i] = value(converted, logData, i);
+		}
+	}
+
+	private Object value(final Map<String, Object> converted, final LogData logData, final int index) {
+		if(extractors[index] != null){
+			return extractors[index].apply(logData);
+		}
+
+		final String name = parameterNames.get(index);
+
+		// 与命名参数 SQL 的行为一致，缺失的参数不绑定 NULL
+		if(converted == null || converted.containsKey(name) == false){
+			throw new InvalidDataAccessApiUsageException("No value supplied for the SQL parameter '" + name +
+					"': No value registered for key '" + name + "'");
+		}
+
+		return converted.get(name);
+	}
+
+	@Override
+	public String toString() {
+		return sql;
+	}
+
+}
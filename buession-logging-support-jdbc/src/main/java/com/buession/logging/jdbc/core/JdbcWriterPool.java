@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.core;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 写入线程池，由固定数量的常驻写入线程执行写入任务；每个线程独占一个连接，并在连接上缓存 {@link java.sql.PreparedStatement}
+ * 跨批次复用。同时占用的连接数不超过写入线程数，突发流量只会堆积在有界队列中，队列满时提交方最多等待 offerTimeout，
+ * 超时后任务被拒绝；任务被拒绝或写入失败时，提交返回的 {@link CompletableFuture} 以对应的异常完成。
+ * 提交方最多等待 writeTimeout，超时后取消任务，尚未执行或尚未提交事务的任务不再写入；
+ * 复用的连接出现连接级异常（{@link SQLTransientConnectionException}、{@link SQLRecoverableException}）时换新连接重试一次，
+ * 约束冲突、语法错误等其它异常不重试
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class JdbcWriterPool implements Closeable {
+
+	/**
+	 * 默认写入线程数
+	 */
+	public final static int DEFAULT_WRITERS = 2;
+
+	/**
+	 * 默认队列容量（任务数）
+	 */
+	public final static int DEFAULT_QUEUE_CAPACITY = 64;
+
+	/**
+	 * 默认队列满时提交方最大等待时间
+	 */
+	public final static Duration DEFAULT_OFFER_TIMEOUT = Duration.ofSeconds(5);
+
+	/**
+	 * 默认提交方等待写入结果的最长时间
+	 */
+	public final static Duration DEFAULT_WRITE_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * 关闭时等待队列中任务写完的最长时间
+	 */
+	private final static long CLOSE_TIMEOUT_MILLIS = 30000L;
+
+	private final static long POLL_TIMEOUT_MILLIS = 200L;
+
+	private final DataSource dataSource;
+
+	private final int writers;
+
+	private final Duration offerTimeout;
+
+	private final Duration writeTimeout;
+
+	private final int statementCacheSize;
+
+	private final BlockingQueue<Job> queue;
+
+	private final Thread[] threads;
+
+	private final AtomicInteger activeConnections = new AtomicInteger();
+
+	private final AtomicLong rejectedCounter = new AtomicLong();
+
+	private volatile boolean closed = false;
+
+	private final static Logger logger = LoggerFactory.getLogger(JdbcWriterPool.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 */
+	public JdbcWriterPool(final DataSource dataSource) {
+		this(dataSource, DEFAULT_WRITERS, DEFAULT_QUEUE_CAPACITY, DEFAULT_OFFER_TIMEOUT, DEFAULT_WRITE_TIMEOUT,
+				StatementCache.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 * @param writers
+	 * 		写入线程数，即最多占用的连接数
+	 * @param queueCapacity
+	 * 		队列容量（任务数）
+	 * @param offerTimeout
+	 * 		队列满时提交方最大等待时间，为 null 时不等待
+	 * @param statementCacheSize
+	 * 		每个连接上缓存的语句数量
+	 */
+	public JdbcWriterPool(final DataSource dataSource, final int writers, final int queueCapacity,
+						  final Duration offerTimeout, final int statementCacheSize) {
+		this(dataSource, writers, queueCapacity, offerTimeout, DEFAULT_WRITE_TIMEOUT, statementCacheSize);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 * @param writers
+	 * 		写入线程数，即最多占用的连接数
+	 * @param queueCapacity
+	 * 		队列容量（任务数）
+	 * @param offerTimeout
+	 * 		队列满时提交方最大等待时间，为 null 时不等待
+	 * @param writeTimeout
+	 * 		提交方等待写入结果的最长时间（含排队时间），为 null 或小于等于 0 时使用 {@link #DEFAULT_WRITE_TIMEOUT}
+	 * @param statementCacheSize
+	 * 		每个连接上缓存的语句数量
+	 */
+	public JdbcWriterPool(final DataSource dataSource, final int writers, final int queueCapacity,
+						  final Duration offerTimeout, final Duration writeTimeout, final int statementCacheSize) {
+		Assert.isNull(dataSource, "DataSource cloud not be null.");
+		Assert.isTrue(writers <= 0, "Writers must be greater than 0.");
+		Assert.isTrue(queueCapacity <= 0, "Queue capacity must be greater than 0.");
+
+		this.dataSource = dataSource;
+		this.writers = writers;
+		this.offerTimeout = offerTimeout == null || offerTimeout.isNegative() ? Duration.ZERO : offerTimeout;
+		this.writeTimeout = writeTimeout == null || writeTimeout.isNegative() || writeTimeout.isZero() ?
+				DEFAULT_WRITE_TIMEOUT : writeTimeout;
+		this.statementCacheSize = statementCacheSize;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.threads = new Thread[writers];
+
+		final ThreadFactory threadFactory = new NamedThreadFactory("buession-logging-jdbc-writer");
+
+		for(int i = 0; i < writers; i++){
+			threads[i] = threadFactory.newThread(new Writer());
+			threads[i].start();
+		}
+	}
+
+	/**
+	 * 返回写入线程数
+	 *
+	 * @return 写入线程数
+	 */
+	public int getWriters() {
+		return writers;
+	}
+
+	/**
+	 * 返回提交方等待写入结果的最长时间，超时后提交方应取消任务
+	 *
+	 * @return 提交方等待写入结果的最长时间
+	 */
+	public Duration getWriteTimeout() {
+		return writeTimeout;
+	}
+
+	/**
+	 * 返回队列中等待执行的任务数
+	 *
+	 * @return 等待执行的任务数
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	/**
+	 * 返回写入线程当前占用的连接数
+	 *
+	 * @return 占用的连接数
+	 */
+	public int getActiveConnections() {
+		return activeConnections.get();
+	}
+
+	/**
+	 * 返回被拒绝的任务数
+	 *
+	 * @return 被拒绝的任务数
+	 */
+	public long getRejectedCount() {
+		return rejectedCounter.get();
+	}
+
+	/**
+	 * 提交写入任务；任务在写入线程上执行，执行成功后提交事务，失败时回滚
+	 *
+	 * @param task
+	 * 		写入任务
+	 *
+	 * @return 写入结果，成功时为影响行数；已关闭或等待超时时以 {@link RejectedExecutionException} 完成，
+	 * 写入失败（含换连接重试）时以写入异常完成；取消后尚未提交事务的任务不再写入
+	 */
+	public CompletableFuture<Integer> submit(final WriteTask task) {
+		final Job job = new Job(task);
+
+		if(closed == false){
+			try{
+				if(queue.offer(job, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)){
+					return job.future;
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		rejectedCounter.incrementAndGet();
+
+		return CompletableFuture.failedFuture(new RejectedExecutionException("JDBC writer pool " +
+				(closed ? "is closed" : "queue is full") + ", write task rejected."));
+	}
+
+	/**
+	 * 关闭写入线程池，等待队列中的任务写完后释放连接
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		final long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+
+		for(Thread thread : threads){
+			try{
+				thread.join(Math.max(1L, deadline - System.currentTimeMillis()));
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		for(Thread thread : threads){
+			if(thread.isAlive()){
+				thread.interrupt();
+			}
+		}
+
+		// 关闭超时后仍未执行的任务
+		Job job;
+		while((job = queue.poll()) != null){
+			job.future.completeExceptionally(new RejectedExecutionException("JDBC writer pool is closed, " +
+					"write task discarded."));
+		}
+	}
+
+	/**
+	 * 写入任务
+	 */
+	@FunctionalInterface
+	public interface WriteTask {
+
+		/**
+		 * 执行写入
+		 *
+		 * @param statements
+		 * 		写入线程连接上的语句缓存
+		 *
+		 * @return 影响行数
+		 *
+		 * @throws SQLException
+		 * 		写入异常
+		 */
+		int write(StatementCache statements) throws SQLException;
+
+	}
+
+	private final static class Job {
+
+		private final WriteTask task;
+
+		private final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+		private Job(final WriteTask task) {
+			this.task = task;
+		}
+
+	}
+
+	private final class Writer implements Runnable {
+
+		private Connection connection;
+
+		private StatementCache statements;
+
+		@Override
+		public void run() {
+			try{
+				while(closed == false || queue.isEmpty() == false){
+					final Job job;
+
+					try{
+						job = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+					}catch(InterruptedException e){
+						break;
+					}
+
+					if(job != null){
+						execute(job);
+					}
+				}
+			}finally{
+				releaseConnection();
+			}
+		}
+
+		private void execute(final Job job) {
+			// 提交方已超时取消
+			if(job.future.isCancelled()){
+				return;
+			}
+
+			final boolean reused = connection != null;
+			Exception failure;
+
+			try{
+				complete(job, tryWrite(job));
+				return;
+			}catch(SQLException | RuntimeException e){
+				failure = e;
+			}
+
+			// 复用的连接可能已被数据库或网络断开，仅连接级异常时换新连接重试一次
+			if(reused && isConnectionFailure(failure) && job.future.isCancelled() == false){
+				try{
+					complete(job, tryWrite(job));
+					return;
+				}catch(SQLException | RuntimeException e){
+					failure = e;
+				}
+			}
+
+			job.future.completeExceptionally(failure);
+		}
+
+		private void complete(final Job job, final int rows) {
+			// 提交事务后、完成任务前被提交方超时取消，提交方已将该批日志按失败处理；取消后回滚的任务影响行数为 0
+			if(job.future.complete(rows) == false && rows > 0 && logger.isWarnEnabled()){
+				logger.warn("JDBC write task committed {} rows after it was cancelled, the rows may be written again.",
+						rows);
+			}
+		}
+
+		private int tryWrite(final Job job) throws SQLException {
+			try{
+				return write(job);
+			}catch(SQLException | RuntimeException e){
+				rollbackQuietly();
+				releaseConnection();
+				throw e;
+			}
+		}
+
+		private int write(final Job job) throws SQLException {
+			if(connection == null){
+				final Connection conn = dataSource.getConnection();
+
+				activeConnections.incrementAndGet();
+				connection = conn;
+				connection.setAutoCommit(false);
+				statements = new StatementCache(connection, statementCacheSize);
+			}
+
+			final int rows = job.task.write(statements);
+
+			// 提交方已超时放弃等待并将该批日志视为失败，回滚以免磁盘日志重放时重复写入
+			if(job.future.isCancelled()){
+				connection.rollback();
+				return 0;
+			}
+
+			connection.commit();
+
+			return rows;
+		}
+
+		private boolean isConnectionFailure(final Throwable failure) {
+			for(Throwable e = failure; e != null; e = e.getCause() == e ? null : e.getCause()){
+				if(e instanceof SQLTransientConnectionException || e instanceof SQLRecoverableException){
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		private void rollbackQuietly() {
+			if(connection != null){
+				try{
+					connection.rollback();
+				}catch(SQLException e){
+					if(logger.isDebugEnabled()){
+						logger.debug("JDBC writer rollback failure: {}", e.getMessage());
+					}
+				}
+			}
+		}
+
+		private void releaseConnection() {
+			if(statements != null){
+				statements.close();
+				statements = null;
+			}
+
+			if(connection != null){
+				try{
+					connection.close();
+				}catch(SQLException e){
+					if(logger.isDebugEnabled()){
+						logger.debug("JDBC writer close connection failure: {}", e.getMessage());
+					}
+				}finally{
+					connection = null;
+					activeConnections.decrementAndGet();
+				}
+			}
+		}
+
+	}
+
+}
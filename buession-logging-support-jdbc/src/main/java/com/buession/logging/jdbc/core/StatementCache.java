@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.core;
+
+import com.buession.core.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 单个连接上的 {@link PreparedStatement} 缓存，按 SQL 复用语句，超出容量时关闭最久未使用的语句；
+ * 容量为 0 时不缓存，语句在 {@link #release(PreparedStatement)} 时关闭。非线程安全，只能由持有连接的线程使用
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class StatementCache implements Closeable {
+
+	/**
+	 * 默认缓存容量
+	 */
+	public final static int DEFAULT_CAPACITY = 16;
+
+	private final Connection connection;
+
+	private final int capacity;
+
+	private final Map<String, PreparedStatement> statements;
+
+	private final static Logger logger = LoggerFactory.getLogger(StatementCache.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param connection
+	 * 		数据库连接
+	 * @param capacity
+	 * 		缓存容量，为 0 时不缓存
+	 */
+	public StatementCache(final Connection connection, final int capacity) {
+		Assert.isNull(connection, "Connection cloud not be null.");
+		Assert.isTrue(capacity < 0, "Capacity cloud not be negative.");
+
+		this.connection = connection;
+		this.capacity = capacity;
+		this.statements = capacity == 0 ? null : new LinkedHashMap<>(capacity + 1, 1.0F, true);
+	}
+
+	/**
+	 * 返回数据库连接
+	 *
+	 * @return 数据库连接
+	 */
+	public Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * 返回 SQL 对应的 {@link PreparedStatement}，缓存中不存在时创建；使用完毕后须调用 {@link #release(PreparedStatement)}
+	 *
+	 * @param sql
+	 * 		SQL
+	 *
+	 * @return {@link PreparedStatement}
+	 *
+	 * @throws SQLException
+	 * 		创建语句异常
+	 */
+	public PreparedStatement prepare(final String sql) throws SQLException {
+		if(statements == null){
+			return connection.prepareStatement(sql);
+		}
+
+		PreparedStatement ps = statements.get(sql);
+
+		if(ps == null || ps.isClosed()){
+			ps = connection.prepareStatement(sql);
+			statements.put(sql, ps);
+
+			if(statements.size() > capacity){
+				final Map.Entry<String, PreparedStatement> eldest = statements.entrySet().iterator().next();
+
+				statements.remove(eldest.getKey());
+				closeQuietly(eldest.getValue());
+			}
+		}
+
+		return ps;
+	}
+
+	/**
+	 * 释放 {@link PreparedStatement}；缓存时清除参数和批量，不缓存时关闭
+	 *
+	 * @param ps
+	 *        {@link PreparedStatement}
+	 *
+	 * @throws SQLException
+	 * 		释放语句异常
+	 */
+	public void release(final PreparedStatement ps) throws SQLException {
+		if(statements == null || statements.containsValue(ps) == false){
+			ps.close();
+		}else{
+			ps.clearBatch();
+			ps.clearParameters();
+		}
+	}
+
+	/**
+	 * 关闭所有缓存的语句，不关闭连接
+	 */
+	@Override
+	public void close() {
+		if(statements != null){
+			final List<PreparedStatement> values = new ArrayList<>(statements.values());
+
+			statements.clear();
+			for(PreparedStatement ps : values){
+				closeQuietly(ps);
+			}
+		}
+	}
+
+	private static void closeQuietly(final PreparedStatement ps) {
+		try{
+			ps.close();
+		}catch(SQLException e){
+			if(logger.isDebugEnabled()){
+				logger.debug("Close statement failure: {}", e.getMessage());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import com.buession.logging.core.LogData;
+import com.buession.logging.jdbc.core.ColumnPlan;
+import com.buession.logging.jdbc.core.StatementCache;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 数据库方言，使用数据库最快的方式批量写入日志数据
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+@FunctionalInterface
+public interface Dialect {
+
+	/**
+	 * 批量写入日志数据；连接由调用方管理，方言不提交、不关闭连接，语句通过 {@link StatementCache} 获取和释放
+	 *
+	 * @param statements
+	 * 		数据库连接上的语句缓存
+	 * @param plan
+	 * 		列计划
+	 * @param batch
+	 * 		日志数据
+	 *
+	 * @return 影响行数
+	 *
+	 * @throws SQLException
+	 * 		写入异常
+	 */
+	int write(StatementCache statements, ColumnPlan plan, List<LogData> batch) throws SQLException;
+
+}
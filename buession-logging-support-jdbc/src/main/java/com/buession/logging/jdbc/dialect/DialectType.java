@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 数据库方言类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum DialectType {
+
+	/**
+	 * 标准 JDBC 批量写入
+	 */
+	STANDARD,
+
+	/**
+	 * MySQL / MariaDB，多行 VALUES 写入
+	 */
+	MYSQL,
+
+	/**
+	 * PostgreSQL，COPY 流式写入
+	 */
+	POSTGRESQL,
+
+	/**
+	 * Oracle，数组绑定写入
+	 */
+	ORACLE;
+
+	private final static boolean POSTGRESQL_COPY_PRESENT = ClassUtils.isPresent("org.postgresql.copy.CopyManager",
+			DialectType.class.getClassLoader());
+
+	private final static Logger logger = LoggerFactory.getLogger(DialectType.class);
+
+	/**
+	 * 创建方言实例；PostgreSQL 驱动不在类路径中时，{@link #POSTGRESQL} 返回标准方言
+	 *
+	 * @return 方言实例
+	 */
+	public Dialect createDialect() {
+		switch(this){
+			case MYSQL:
+				return new MySqlDialect();
+			case POSTGRESQL:
+				return POSTGRESQL_COPY_PRESENT ? new PostgreSqlDialect() : new StandardDialect();
+			case ORACLE:
+				return new OracleDialect();
+			default:
+				return new StandardDialect();
+		}
+	}
+
+	/**
+	 * 通过 {@link DatabaseMetaData#getDatabaseProductName()} 检测数据源的方言类型，检测失败时返回 {@link #STANDARD}
+	 *
+	 * @param dataSource
+	 * 		数据源
+	 *
+	 * @return 方言类型
+	 */
+	public static DialectType detect(final DataSource dataSource) {
+		try{
+			final String productName = JdbcUtils.extractDatabaseMetaData(dataSource,
+					DatabaseMetaData::getDatabaseProductName);
+			final DialectType dialectType = ofProductName(productName);
+
+			if(logger.isInfoEnabled()){
+				logger.info("Detected database '{}', use dialect {}.", productName, dialectType);
+			}
+
+			return dialectType;
+		}catch(MetaDataAccessException e){
+			if(logger.isWarnEnabled()){
+				logger.warn("Detect database dialect failure: {}, use dialect {}.", e.getMessage(), STANDARD);
+			}
+
+			return STANDARD;
+		}
+	}
+
+	/**
+	 * 根据数据库产品名称返回方言类型
+	 *
+	 * @param productName
+	 * 		数据库产品名称
+	 *
+	 * @return 方言类型
+	 */
+	public static DialectType ofProductName(final String productName) {
+		final String name = JdbcUtils.commonDatabaseName(productName);
+
+		if(name == null){
+			return STANDARD;
+		}else if("MySQL".equalsIgnoreCase(name) || "MariaDB".equalsIgnoreCase(name)){
+			return MYSQL;
+		}else if("PostgreSQL".equalsIgnoreCase(name)){
+			return POSTGRESQL;
+		}else if(name.startsWith("Oracle")){
+			return ORACLE;
+		}else{
+			return STANDARD;
+		}
+	}
+
+}
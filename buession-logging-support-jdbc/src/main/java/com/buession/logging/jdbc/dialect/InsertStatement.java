@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 占位符形式的 INSERT ... VALUES (...) 语句结构
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+final class InsertStatement {
+
+	private final static Pattern INSERT_PATTERN = Pattern.compile(
+			"^\\s*INSERT\\s+INTO\\s+([^\\s(]+)\\s*(?:\\(([^)]*)\\))?\\s*VALUES\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 表名
+	 */
+	private final String table;
+
+	/**
+	 * 列名，SQL 未指定列时为 null
+	 */
+	private final List<String> columns;
+
+	/**
+	 * VALUES 元组之前的部分
+	 */
+	private final String head;
+
+	/**
+	 * VALUES 元组，包含括号
+	 */
+	private final String tuple;
+
+	/**
+	 * VALUES 元组之后的部分
+	 */
+	private final String tail;
+
+	/**
+	 * VALUES 元组中的每一项是否均为单独的占位符
+	 */
+	private final boolean plain;
+
+	private InsertStatement(final String table, final List<String> columns, final String head, final String tuple,
+							final String tail, final boolean plain) {
+		this.table = table;
+		this.columns = columns;
+		this.head = head;
+		this.tuple = tuple;
+		this.tail = tail;
+		this.plain = plain;
+	}
+
+	/**
+	 * 解析占位符形式的 INSERT 语句，要求所有占位符都位于唯一的 VALUES 元组中
+	 *
+	 * @param sql
+	 * 		占位符 SQL
+	 * @param parameterCount
+	 * 		占位符数量
+	 *
+	 * @return 解析结果，不符合要求时返回 null
+	 */
+	static InsertStatement parse(final String sql, final int parameterCount) {
+		final Matcher matcher = INSERT_PATTERN.matcher(sql);
+
+		if(matcher.find() == false){
+			return null;
+		}
+
+		final int open = matcher.end() - 1;
+		final List<String> items = new ArrayList<>(parameterCount);
+		int depth = 0;
+		int itemStart = open + 1;
+		int placeholders = 0;
+		char quote = 0;
+		int close = -1;
+
+		for(int i = open; i < sql.length() && close < 0; i++){
+			final char c = sql.charAt(i);
+
+			if(quote != 0){
+				if(c == quote){
+					quote = 0;
+				}
+			}else if(c == '\'' || c == '"' || c == '`'){
+				quote = c;
+			}else if(c == '('){
+				depth++;
+			}else if(c == ')'){
+				if(--depth == 0){
+					items.add(sql.substring(itemStart, i).trim());
+					close = i;
+				}
+			}else if(c == ',' && depth == 1){
+				items.add(sql.substring(itemStart, i).trim());
+				itemStart = i + 1;
+			}else if(c == '?'){
+				placeholders++;
+			}
+		}
+
+		if(close < 0 || placeholders != parameterCount){
+			return null;
+		}
+
+		boolean plain = true;
+		for(String item : items){
+			if("?".equals(item) == false){
+				plain = false;
+				break;
+			}
+		}
+
+		return new InsertStatement(matcher.group(1), parseColumns(matcher.group(2)), sql.substring(0, open),
+				sql.substring(open, close + 1), sql.substring(close + 1), plain);
+	}
+
+	/**
+	 * 返回表名
+	 *
+	 * @return 表名
+	 */
+	String getTable() {
+		return table;
+	}
+
+	/**
+	 * 返回列名
+	 *
+	 * @return 列名，SQL 未指定列时为 null
+	 */
+	List<String> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * 返回是否为单纯的列插入：指定了列名，VALUES 元组中每一项均为单独的占位符且与列一一对应，元组之后没有其它子句
+	 *
+	 * @return 是否为单纯的列插入
+	 */
+	boolean isSimple() {
+		if(columns == null || plain == false){
+			return false;
+		}
+
+		final String rest = tail.trim();
+		return rest.isEmpty() || ";".equals(rest);
+	}
+
+	/**
+	 * 生成包含 rows 个 VALUES 元组的多行 INSERT 语句
+	 *
+	 * @param rows
+	 * 		行数
+	 *
+	 * @return 多行 INSERT 语句
+	 */
+	String toMultiRowSql(final int rows) {
+		final StringBuilder sb = new StringBuilder(head.length() + (tuple.length() + 2) * rows + tail.length());
+
+		sb.append(head).append(tuple);
+		for(int i = 1; i < rows; i++){
+			sb.append(", ").append(tuple);
+		}
+
+		return sb.append(tail).toString();
+	}
+
+	private static List<String> parseColumns(final String columns) {
+		if(columns == null){
+			return null;
+		}
+
+		final List<String> result = new ArrayList<>();
+
+		for(String column : columns.split(",")){
+			result.add(column.trim());
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.jdbc.core.ColumnPlan;
+import com.buession.logging.jdbc.core.StatementCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * MySQL / MariaDB 方言，将一批日志改写为多行 INSERT ... VALUES (...), (...) 语句写入，
+ * 效果等同于开启驱动的 rewriteBatchedStatements，但不依赖连接参数；SQL 无法改写时回退为标准批量写入。
+ *
+ * <p>多行语句只使用最大行数及小于它的 2 的幂次这几种固定行数，避免语句缓存中堆积各种行数的 SQL；
+ * 每条语句按估算的字节数不超过 maxStatementBytes（对应服务端的 max_allowed_packet），
+ * 无法凑成多行语句的日志通过标准批量写入，并在其后的多行语句之前执行，日志的写入顺序与批次中的顺序一致。
+ * 改写结果按 {@link ColumnPlan} 缓存，按分区写入时每个分区表的列计划各自缓存一份。</p>
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class MySqlDialect implements Dialect {
+
+	/**
+	 * 默认每条语句的最大行数
+	 */
+	public final static int DEFAULT_MAX_ROWS = 500;
+
+	/**
+	 * 默认每条语句的最大字节数，与 MySQL max_allowed_packet 的默认值 4MB 一致
+	 */
+	public final static int DEFAULT_MAX_STATEMENT_BYTES = 4 * 1024 * 1024;
+
+	/**
+	 * 单条语句最大占位符数量
+	 */
+	private final static int MAX_PARAMETERS = 65535;
+
+	private final int maxRows;
+
+	private final int maxStatementBytes;
+
+	private final StandardDialect fallback = new StandardDialect();
+
+	private final Map<ColumnPlan, Compiled> compiledPlans = new ConcurrentHashMap<>();
+
+	private final static Logger logger = LoggerFactory.getLogger(MySqlDialect.class);
+
+	/**
+	 * 构造函数
+	 */
+	public MySqlDialect() {
+		this(DEFAULT_MAX_ROWS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxRows
+	 * 		每条语句的最大行数
+	 */
+	public MySqlDialect(final int maxRows) {
+		this(maxRows, DEFAULT_MAX_STATEMENT_BYTES);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxRows
+	 * 		每条语句的最大行数
+	 * @param maxStatementBytes
+	 * 		每条语句的最大字节数，不应超过服务端的 max_allowed_packet
+	 */
+	public MySqlDialect(final int maxRows, final int maxStatementBytes) {
+		Assert.isTrue(maxRows <= 0, "Max rows must be greater than 0.");
+		Assert.isTrue(maxStatementBytes <= 0, "Max statement bytes must be greater than 0.");
+		this.maxRows = maxRows;
+		this.maxStatementBytes = maxStatementBytes;
+	}
+
+	/**
+	 * 返回每条语句的最大行数
+	 *
+	 * @return 每条语句的最大行数
+	 */
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	/**
+	 * 返回每条语句的最大字节数
+	 *
+	 * @return 每条语句的最大字节数
+	 */
+	public int getMaxStatementBytes() {
+		return maxStatementBytes;
+	}
+
+	@Override
+	public int write(final StatementCache statements, final ColumnPlan plan, final List<LogData> batch)
+			throws SQLException {
+		final Compiled compiled = compile(plan);
+
+		if(compiled.insert == null || compiled.sizes.length == 0 || batch.size() == 1){
+			return fallback.write(statements, plan, batch);
+		}
+
+		final int parameterCount = plan.getParameterCount();
+		final Object[][] values = new Object[batch.size()][];
+		// bytes[i] 为前 i 行的估算字节数
+		final long[] bytes = new long[batch.size() + 1];
+
+		for(int i = 0; i < batch.size(); i++){
+			values[i] = new Object[parameterCount];
+			plan.extract(batch.get(i), values[i]);
+			bytes[i + 1] = bytes[i] + compiled.tupleBytes + estimate(values[i]);
+		}
+
+		final List<LogData> remainder = new ArrayList<>();
+		int rows = 0;
+		int from = 0;
+
+		while(from < batch.size()){
+			final int level = compiled.level(batch.size() - from, bytes, from, maxStatementBytes);
+
+			if(level < 0){
+				remainder.add(batch.get(from++));
+				continue;
+			}
+
+			// 先写入此前无法凑成多行语句的日志，保持批次中的写入顺序
+			if(remainder.isEmpty() == false){
+				rows += fallback.write(statements, plan, remainder);
+				remainder.clear();
+			}
+
+			final int to = from + compiled.sizes[level];
+			final PreparedStatement ps = statements.prepare(compiled.sqls[level]);
+
+			try{
+				int offset = 0;
+
+				for(int i = from; i < to; i++){
+					plan.bind(ps, values[i], offset);
+					offset += parameterCount;
+				}
+
+				rows += ps.executeUpdate();
+			}finally{
+				statements.release(ps);
+			}
+
+			from = to;
+		}
+
+		if(remainder.isEmpty() == false){
+			rows += fallback.write(statements, plan, remainder);
+		}
+
+		return rows;
+	}
+
+	private Compiled compile(final ColumnPlan plan) {
+		return compiledPlans.computeIfAbsent(plan, this::doCompile);
+	}
+
+	private Compiled doCompile(final ColumnPlan plan) {
+		final InsertStatement insert = InsertStatement.parse(plan.getSql(), plan.getParameterCount());
+		final int rowsPerStatement = Math.max(1,
+				Math.min(maxRows, MAX_PARAMETERS / Math.max(1, plan.getParameterCount())));
+
+		if(insert == null && logger.isWarnEnabled()){
+			logger.warn("SQL [{}] cloud not be rewritten to multi-row VALUES, fall back to standard batch.",
+					plan.getSql());
+		}
+
+		return new Compiled(insert, rowsPerStatement);
+	}
+
+	/**
+	 * 估算一行参数在语句中占用的字节数，字符串按 UTF-8 最坏情况及转义估算
+	 *
+	 * @param values
+	 * 		一行参数
+	 *
+	 * @return 估算的字节数
+	 */
+	private static long estimate(final Object[] values) {
+		long size = 0;
+
+		for(Object value : values){
+			if(value == null){
+				size += 4;
+			}else if(value instanceof CharSequence){
+				size += ((CharSequence) value).length() * 3L + 2;
+			}else if(value instanceof byte[]){
+				size += ((byte[]) value).length * 2L + 3;
+			}else{
+				size += 32;
+			}
+		}
+
+		return size;
+	}
+
+	private final static class Compiled {
+
+		private final InsertStatement insert;
+
+		/**
+		 * 多行语句的行数，从大到小排列：最大行数及小于它的 2 的幂次，最小为 2
+		 */
+		private final int[] sizes;
+
+		/**
+		 * 与 sizes 对应的多行语句
+		 */
+		private final String[] sqls;
+
+		/**
+		 * 语句中 VALUES 元组以外部分的字节数
+		 */
+		private final int baseBytes;
+
+		/**
+		 * 每个 VALUES 元组的字节数
+		 */
+		private final int tupleBytes;
+
+		Compiled(final InsertStatement insert, final int rowsPerStatement) {
+			this.insert = insert;
+
+			final List<Integer> sizes = new ArrayList<>(16);
+
+			if(rowsPerStatement > 1){
+				sizes.add(rowsPerStatement);
+				for(int size = Integer.highestOneBit(rowsPerStatement - 1); size >= 2; size >>= 1){
+					sizes.add(size);
+				}
+			}
+
+			this.sizes = new int[insert == null ? 0 : sizes.size()];
+			this.sqls = new String[this.sizes.length];
+			for(int i = 0; i < this.sizes.length; i++){
+				this.sizes[i] = sizes.get(i);
+				this.sqls[i] = insert.toMultiRowSql(this.sizes[i]);
+			}
+
+			if(insert == null){
+				this.baseBytes = 0;
+				this.tupleBytes = 0;
+			}else{
+				final int single = insert.toMultiRowSql(1).length();
+
+				this.tupleBytes = insert.toMultiRowSql(2).length() - single;
+				this.baseBytes = single - this.tupleBytes;
+			}
+		}
+
+		/**
+		 * 返回从 from 开始可以使用的最大多行语句的下标
+		 *
+		 * @param remaining
+		 * 		剩余行数
+		 * @param bytes
+		 * 		各行估算字节数的前缀和
+		 * @param from
+		 * 		起始行
+		 * @param maxStatementBytes
+		 * 		每条语句的最大字节数
+		 *
+		 * @return 多行语句的下标，没有可用的多行语句时返回 -1
+		 */
+		private int level(final int remaining, final long[] bytes, final int from, final int maxStatementBytes) {
+			for(int i = 0; i < sizes.length; i++){
+				if(sizes[i] <= remaining && baseBytes + bytes[from + sizes[i]] - bytes[from] <= maxStatementBytes){
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+	}
+
+}
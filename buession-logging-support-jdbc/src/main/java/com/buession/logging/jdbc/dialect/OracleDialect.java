@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+/**
+ * Oracle 方言；Oracle JDBC 驱动将一次 {@link java.sql.PreparedStatement#executeBatch()} 作为数组绑定（Array DML）
+ * 整体发送，因此沿用标准批量写入，只放大每次执行的行数以减少往返次数
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class OracleDialect extends StandardDialect {
+
+	/**
+	 * 默认每次执行的最大行数
+	 */
+	public final static int DEFAULT_MAX_ROWS = 5000;
+
+	/**
+	 * 构造函数
+	 */
+	public OracleDialect() {
+		super(DEFAULT_MAX_ROWS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxRows
+	 * 		每次执行的最大行数
+	 */
+	public OracleDialect(final int maxRows) {
+		super(maxRows);
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import com.buession.logging.core.LogData;
+import com.buession.logging.jdbc.core.ColumnPlan;
+import com.buession.logging.jdbc.core.StatementCache;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * PostgreSQL 方言，通过 {@link CopyManager} 以 COPY ... FROM STDIN (FORMAT csv) 流式写入；
+ * 仅适用于指定了列名、VALUES 中每一项均为单独占位符的 INSERT 语句，否则回退为标准批量写入
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class PostgreSqlDialect implements Dialect {
+
+	private final static int INITIAL_ROW_SIZE = 512;
+
+	private final static char[] HEX = "0123456789abcdef".toCharArray();
+
+	private final StandardDialect fallback = new StandardDialect();
+
+	private volatile Compiled compiled;
+
+	private final static Logger logger = LoggerFactory.getLogger(PostgreSqlDialect.class);
+
+	@Override
+	public int write(final StatementCache statements, final ColumnPlan plan, final List<LogData> batch)
+			throws SQLException {
+		final Connection connection = statements.getConnection();
+		final Compiled compiled = compile(plan);
+
+		if(compiled.copySql == null || connection.isWrapperFor(BaseConnection.class) == false){
+			return fallback.write(statements, plan, batch);
+		}
+
+		final CopyManager copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+		final CopyIn copyIn = copyManager.copyIn(compiled.copySql);
+		final Object[] values = new Object[plan.getParameterCount()];
+		final StringBuilder sb = new StringBuilder(INITIAL_ROW_SIZE);
+
+		try{
+			for(LogData logData : batch){
+				plan.extract(logData, values);
+
+				sb.setLength(0);
+				appendRow(sb, values);
+
+				final byte[] row = sb.toString().getBytes(StandardCharsets.UTF_8);
+				copyIn.writeToCopy(row, 0, row.length);
+			}
+
+			return (int) copyIn.endCopy();
+		}finally{
+			if(copyIn.isActive()){
+				copyIn.cancelCopy();
+			}
+		}
+	}
+
+	private Compiled compile(final ColumnPlan plan) {
+		Compiled result = compiled;
+
+		if(result == null || result.plan != plan){
+			final InsertStatement insert = InsertStatement.parse(plan.getSql(), plan.getParameterCount());
+			String copySql = null;
+
+			if(insert != null && insert.isSimple() && insert.getColumns().size() == plan.getParameterCount()){
+				copySql = "COPY " + insert.getTable() + " (" + String.join(", ", insert.getColumns()) +
+						") FROM STDIN WITH (FORMAT csv)";
+			}else if(logger.isWarnEnabled()){
+				logger.warn("SQL [{}] cloud not be converted to COPY, fall back to standard batch.", plan.getSql());
+			}
+
+			result = new Compiled(plan, copySql);
+			compiled = result;
+		}
+
+		return result;
+	}
+
+	private static void appendRow(final StringBuilder sb, final Object[] values) {
+		for(int i = 0; i < values.length; i++){
+			if(i > 0){
+				sb.append(',');
+			}
+
+			// CSV 中不加引号的空字段为 NULL，加引号的空字段为空字符串
+			if(values[i] != null){
+				appendQuoted(sb, toText(values[i]));
+			}
+		}
+
+		sb.append('\n');
+	}
+
+	private static void appendQuoted(final StringBuilder sb, final String value) {
+		sb.append('"');
+
+		for(int i = 0; i < value.length(); i++){
+			final char c = value.charAt(i);
+
+			if(c == '"'){
+				sb.append('"');
+			}
+			sb.append(c);
+		}
+
+		sb.append('"');
+	}
+
+	private static String toText(final Object value) {
+		if(value instanceof byte[]){
+			final byte[] bytes = (byte[]) value;
+			final char[] chars = new char[2 + bytes.length * 2];
+
+			chars[0] = '\\';
+			chars[1] = 'x';
+			for(int i = 0; i < bytes.length; i++){
+				chars[2 + i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+				chars[3 + i * 2] = HEX[bytes[i] & 0x0F];
+			}
+
+			return new String(chars);
+		}else if(value instanceof Date && (value instanceof java.sql.Date || value instanceof java.sql.Time ||
+				value instanceof Timestamp) == false){
+			return new Timestamp(((Date) value).getTime()).toString();
+		}else if(value instanceof Enum){
+			return ((Enum<?>) value).name();
+		}else{
+			return value.toString();
+		}
+	}
+
+	private final static class Compiled {
+
+		private final ColumnPlan plan;
+
+		private final String copySql;
+
+		Compiled(final ColumnPlan plan, final String copySql) {
+			this.plan = plan;
+			this.copySql = copySql;
+		}
+
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.dialect;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.jdbc.core.ColumnPlan;
+import com.buession.logging.jdbc.core.StatementCache;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 标准 JDBC 方言，通过 {@link PreparedStatement#addBatch()} 和 {@link PreparedStatement#executeBatch()} 批量写入，
+ * 每次执行的行数不超过 maxRows
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class StandardDialect implements Dialect {
+
+	/**
+	 * 默认每次执行的最大行数
+	 */
+	public final static int DEFAULT_MAX_ROWS = 1000;
+
+	private final int maxRows;
+
+	/**
+	 * 构造函数
+	 */
+	public StandardDialect() {
+		this(DEFAULT_MAX_ROWS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param maxRows
+	 * 		每次执行的最大行数
+	 */
+	public StandardDialect(final int maxRows) {
+		Assert.isTrue(maxRows <= 0, "Max rows must be greater than 0.");
+		this.maxRows = maxRows;
+	}
+
+	/**
+	 * 返回每次执行的最大行数
+	 *
+	 * @return 每次执行的最大行数
+	 */
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	@Override
+	public int write(final StatementCache statements, final ColumnPlan plan, final List<LogData> batch)
+			throws SQLException {
+		final PreparedStatement ps = statements.prepare(plan.getSql());
+		int rows = 0;
+
+		try{
+			int pending = 0;
+
+			for(LogData logData : batch){
+				plan.bind(ps, logData);
+				ps.addBatch();
+
+				if(++pending == maxRows){
+					rows += count(ps.executeBatch());
+					pending = 0;
+				}
+			}
+
+			if(pending > 0){
+				rows += count(ps.executeBatch());
+			}
+		}finally{
+			statements.release(ps);
+		}
+
+		return rows;
+	}
+
+	/**
+	 * 统计 {@link PreparedStatement#executeBatch()} 的影响行数，{@link Statement#SUCCESS_NO_INFO} 按 1 行计
+	 *
+	 * @param results
+	 * 		执行结果
+	 *
+	 * @return 影响行数
+	 */
+	protected static int count(final int[] results) {
+		int rows = 0;
+
+		for(int result : results){
+			rows += result == Statement.SUCCESS_NO_INFO ? 1 : Math.max(result, 0);
+		}
+
+		return rows;
+	}
+
+}
@@ -24,10 +24,11 @@
  */
 package com.buession.logging.jdbc.formatter;
 
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.codec.JsonLogDataEncoder;
 import com.buession.logging.core.formatter.MapFormatter;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.util.Map;
 
 /**
@@ -38,16 +39,43 @@ import java.util.Map;
  */
 public class JsonMapFormatter implements MapFormatter<Object> {
 
+	/**
+	 * JSON 编码器
+	 *
+	 * @since 2.1.0
+	 */
+	private final JsonLogDataEncoder encoder;
+
+	/**
+	 * 构造函数
+	 *
+	 * @since 2.1.0
+	 */
+	public JsonMapFormatter() {
+		this(JsonLogDataEncoder.DEFAULT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param encoder
+	 * 		JSON 编码器
+	 *
+	 * @since 2.1.0
+	 */
+	public JsonMapFormatter(final JsonLogDataEncoder encoder) {
+		Assert.isNull(encoder, "JsonLogDataEncoder cloud not be null.");
+		this.encoder = encoder;
+	}
+
 	@Override
 	public String format(final Map<String, Object> requestParameters) {
 		if(requestParameters == null){
 			return null;
 		}else{
-			ObjectMapper objectMapper = new ObjectMapper();
-
 			try{
-				return objectMapper.writeValueAsString(requestParameters);
-			}catch(JsonProcessingException e){
+				return encoder.encodeAsString(requestParameters);
+			}catch(IOException e){
 				return "{}";
 			}
 		}
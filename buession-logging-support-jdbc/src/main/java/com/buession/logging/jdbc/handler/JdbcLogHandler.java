@@ -29,28 +29,59 @@ import com.buession.core.id.SnowflakeIdGenerator;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
 import com.buession.logging.core.formatter.DateTimeFormatter;
 import com.buession.logging.jdbc.converter.DefaultLogDataConverter;
 import com.buession.logging.jdbc.converter.LogDataConverter;
+import com.buession.logging.jdbc.core.ColumnPlan;
+import com.buession.logging.jdbc.core.JdbcWriterPool;
+import com.buession.logging.jdbc.core.StatementCache;
+import com.buession.logging.jdbc.dialect.Dialect;
+import com.buession.logging.jdbc.dialect.DialectType;
 import com.buession.logging.jdbc.formatter.DefaultGeoFormatter;
 import com.buession.logging.core.formatter.GeoFormatter;
 import com.buession.logging.jdbc.formatter.JsonMapFormatter;
+import com.buession.logging.jdbc.partition.Partition;
+import com.buession.logging.jdbc.partition.PartitionPolicy;
+import com.buession.logging.jdbc.partition.PartitionRouter;
 import com.buession.logging.core.formatter.MapFormatter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcDaoSupport;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
- * JDBC 日志处理器
+ * JDBC 日志处理器；SQL 在首次写入时解析为 {@link ColumnPlan}，日志数据按位置直接绑定到 {@link PreparedStatement}。
+ * 批量写入时，同一批日志在同一事务中通过 {@link Dialect} 一次写入，写入结果作为处理状态返回；
+ * 日志的累积由包装该处理器的 {@link com.buession.logging.core.handler.BatchingLogHandler} 统一负责，
+ * 其批量大小和最大停留时间可通过 {@link #setBatchSize(int)}、{@link #setFlushInterval(Duration)} 单独指定。
+ * 设置了 {@link PartitionPolicy} 时，SQL 中的 ${table} 按日志时间替换为所在分区的表名；
+ * 设置了 {@link JdbcWriterPool} 时，写入由写入线程池的常驻线程在其独占的连接上执行，调用方最多等待 writeTimeout，
+ * 超时后取消写入并将该批日志按失败处理
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class JdbcLogHandler extends AbstractLogHandler {
+public class JdbcLogHandler extends AbstractBatchLogHandler implements Closeable {
 
 	private final String sql;
 
@@ -86,7 +117,52 @@ public class JdbcLogHandler extends AbstractLogHandler {
 	 */
 	private LogDataConverter logDataConverter = new DefaultLogDataConverter();
 
-	private final NamedParameterJdbcDaoSupport daoSupport = new NamedParameterJdbcDaoSupport();
+	/**
+	 * 批量大小，大于 1 时包装该处理器的 {@link com.buession.logging.core.handler.BatchingLogHandler} 以该值作为批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	private int batchSize;
+
+	/**
+	 * 批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration flushInterval;
+
+	/**
+	 * 数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @since 2.1.0
+	 */
+	private DialectType dialectType;
+
+	/**
+	 * 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	private PartitionPolicy partitionPolicy;
+
+	/**
+	 * JDBC 写入线程池
+	 *
+	 * @since 2.1.0
+	 */
+	private JdbcWriterPool writerPool;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ConcurrentMap<String, ColumnPlan> columnPlans = new ConcurrentHashMap<>();
+
+	private volatile boolean converterConfigured;
+
+	private volatile PartitionRouter partitionRouter;
+
+	private volatile Dialect dialect;
 
 	private final static Logger logger = LoggerFactory.getLogger(JdbcLogHandler.class);
 
@@ -102,57 +178,66 @@ public class JdbcLogHandler extends AbstractLogHandler {
 		Assert.isNull(jdbcTemplate, "JdbcTemplate is null.");
 		Assert.isBlank(sql, "SQL is blank, empty or null.");
 
-		this.daoSupport.setJdbcTemplate(jdbcTemplate);
+		this.jdbcTemplate = jdbcTemplate;
 		this.sql = sql;
+
+		final DataSource dataSource = jdbcTemplate.getDataSource();
+		this.transactionTemplate = dataSource == null ? null :
+				new TransactionTemplate(new DataSourceTransactionManager(dataSource));
 	}
 
 	/**
-	 * 设置 ID 生成器
+	 * 设置 ID 生成器；需在写入第一条日志前设置
 	 *
 	 * @param idGenerator
 	 * 		ID 生成器
 	 */
-	public void setIdGenerator(IdGenerator<?> idGenerator) {
+	public synchronized void setIdGenerator(IdGenerator<?> idGenerator) {
+		checkConverterConfigurable();
 		this.idGenerator = idGenerator;
 	}
 
 	/**
-	 * 设置日期时间格式化对象
+	 * 设置日期时间格式化对象；需在写入第一条日志前设置
 	 *
 	 * @param dateTimeFormatter
 	 * 		日期时间格式化对象
 	 */
-	public void setDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+	public synchronized void setDateTimeFormatter(DateTimeFormatter dateTimeFormatter) {
+		checkConverterConfigurable();
 		this.dateTimeFormatter = dateTimeFormatter;
 	}
 
 	/**
-	 * 设置请求参数格式化为字符串
+	 * 设置请求参数格式化为字符串；需在写入第一条日志前设置
 	 *
 	 * @param requestParametersFormatter
 	 * 		请求参数格式化为字符串
 	 */
-	public void setRequestParametersFormatter(MapFormatter<Object> requestParametersFormatter) {
+	public synchronized void setRequestParametersFormatter(MapFormatter<Object> requestParametersFormatter) {
+		checkConverterConfigurable();
 		this.requestParametersFormatter = requestParametersFormatter;
 	}
 
 	/**
-	 * 设置 Geo 格式化
+	 * 设置 Geo 格式化；需在写入第一条日志前设置
 	 *
 	 * @param geoFormatter
 	 * 		Geo 格式化
 	 */
-	public void setGeoFormatter(GeoFormatter geoFormatter) {
+	public synchronized void setGeoFormatter(GeoFormatter geoFormatter) {
+		checkConverterConfigurable();
 		this.geoFormatter = geoFormatter;
 	}
 
 	/**
-	 * 设置附加参数格式化为字符串
+	 * 设置附加参数格式化为字符串；需在写入第一条日志前设置
 	 *
 	 * @param extraFormatter
 	 * 		附加参数格式化为字符串
 	 */
-	public void setExtraFormatter(MapFormatter<Object> extraFormatter) {
+	public synchronized void setExtraFormatter(MapFormatter<Object> extraFormatter) {
+		checkConverterConfigurable();
 		this.extraFormatter = extraFormatter;
 	}
 
@@ -168,33 +253,375 @@ public class JdbcLogHandler extends AbstractLogHandler {
 	}
 
 	/**
-	 * 设置日志数据转换
+	 * 设置日志数据转换；需在写入第一条日志前设置，写入后日志数据转换由该处理器配置，不应在多个处理器间共享
 	 *
 	 * @param logDataConverter
 	 * 		日志数据转换
 	 *
 	 * @since 2.3.3
 	 */
-	public void setLogDataConverter(LogDataConverter logDataConverter) {
+	public synchronized void setLogDataConverter(LogDataConverter logDataConverter) {
+		checkConverterConfigurable();
 		this.logDataConverter = logDataConverter;
 	}
 
+	@Override
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置批量大小；大于 1 时包装该处理器的 {@link com.buession.logging.core.handler.BatchingLogHandler}
+	 * 以该值作为批量大小，即使未开启全局批量模式，小于等于 1 时使用全局批量配置；需在创建日志管理器前设置
+	 *
+	 * @param batchSize
+	 * 		批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * 设置批量模式下日志最大停留时间，为 null 时使用全局批量配置；需在创建日志管理器前设置
+	 *
+	 * @param flushInterval
+	 * 		批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 返回数据库方言类型
+	 *
+	 * @return 数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public DialectType getDialectType() {
+		return dialectType;
+	}
+
+	/**
+	 * 设置数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @param dialectType
+	 * 		数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setDialectType(DialectType dialectType) {
+		this.dialectType = dialectType;
+		this.dialect = null;
+	}
+
+	/**
+	 * 返回分区策略
+	 *
+	 * @return 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public PartitionPolicy getPartitionPolicy() {
+		return partitionPolicy;
+	}
+
+	/**
+	 * 设置分区策略，SQL 中须使用 {@value PartitionPolicy#TABLE_PLACEHOLDER} 作为表名；需在处理第一条日志前设置
+	 *
+	 * @param partitionPolicy
+	 * 		分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setPartitionPolicy(PartitionPolicy partitionPolicy) {
+		Assert.isTrue(partitionPolicy != null && partitionPolicy.isEnabled() &&
+				sql.contains(PartitionPolicy.TABLE_PLACEHOLDER) == false, "SQL must contain '" +
+				PartitionPolicy.TABLE_PLACEHOLDER + "' when partition is enabled.");
+		this.partitionPolicy = partitionPolicy;
+	}
+
+	/**
+	 * 返回 JDBC 写入线程池
+	 *
+	 * @return JDBC 写入线程池
+	 *
+	 * @since 2.1.0
+	 */
+	public JdbcWriterPool getWriterPool() {
+		return writerPool;
+	}
+
+	/**
+	 * 设置 JDBC 写入线程池，为 null 时在调用方线程上写入；写入线程池随处理器一同关闭
+	 *
+	 * @param writerPool
+	 * 		JDBC 写入线程池
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterPool(JdbcWriterPool writerPool) {
+		this.writerPool = writerPool;
+	}
+
 	@Override
 	protected Status doHandle(final LogData logData) throws Exception {
+		if(writerPool != null){
+			batchUpdate(Collections.singletonList(logData));
+			return Status.SUCCESS;
+		}
+
+		final PartitionRouter router = getPartitionRouter();
+		final ColumnPlan plan = getColumnPlan(router == null ? null : router.route(logData).getTable());
+
+		if(logger.isDebugEnabled()){
+			logger.debug("Log sql: [{}], parameters: {}", plan.getSql(), plan.getParameterNames());
+		}
+
+		jdbcTemplate.update(plan.getSql(), (ps)->plan.bind(ps, logData));
+		return Status.SUCCESS;
+	}
+
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		batchUpdate(logDataList);
+		return Status.SUCCESS;
+	}
+
+	@Override
+	public void close() {
+		if(writerPool != null){
+			writerPool.close();
+		}
+
+		if(partitionRouter != null){
+			partitionRouter.close();
+		}
+	}
+
+	/**
+	 * 配置日志数据转换，在首次解析 SQL 前调用一次；列计划中的值提取器在运行时读取日志数据转换的格式化对象，
+	 * 因此配置后不允许再修改
+	 */
+	protected void configureLogDataConverter() {
 		logDataConverter.setIdGenerator(idGenerator);
 		logDataConverter.setDateTimeFormatter(dateTimeFormatter);
 		logDataConverter.setGeoFormatter(geoFormatter);
 		logDataConverter.setRequestParametersFormatter(requestParametersFormatter);
 		logDataConverter.setExtraFormatter(extraFormatter);
+	}
+
+	private void checkConverterConfigurable() {
+		if(converterConfigured){
+			throw new IllegalStateException("LogDataConverter cloud not be changed after the first log data written.");
+		}
+	}
+
+	/**
+	 * 返回列计划，首次调用时配置日志数据转换并解析 SQL；此后日志数据转换及其格式化对象不可再修改
+	 *
+	 * @return 列计划
+	 *
+	 * @since 2.1.0
+	 */
+	protected ColumnPlan getColumnPlan() {
+		return getColumnPlan(null);
+	}
+
+	/**
+	 * 返回写入指定表的列计划，按表名缓存
+	 *
+	 * @param table
+	 * 		表名，为 null 时使用原始 SQL
+	 *
+	 * @return 列计划
+	 *
+	 * @since 2.1.0
+	 */
+	protected ColumnPlan getColumnPlan(final String table) {
+		final String key = table == null ? "" : table;
+		ColumnPlan plan = columnPlans.get(key);
+
+		if(plan == null){
+			synchronized(this){
+				plan = columnPlans.get(key);
+				if(plan == null){
+					if(converterConfigured == false){
+						configureLogDataConverter();
+						converterConfigured = true;
+					}
+
+					plan = ColumnPlan.compile(table == null ? sql : sql.replace(PartitionPolicy.TABLE_PLACEHOLDER,
+							table), logDataConverter);
+					columnPlans.put(key, plan);
+				}
+			}
+		}
+
+		return plan;
+	}
+
+	/**
+	 * 返回分区路由，未启用分区时返回 null
+	 *
+	 * @return 分区路由
+	 *
+	 * @since 2.1.0
+	 */
+	protected PartitionRouter getPartitionRouter() {
+		if(partitionPolicy == null || partitionPolicy.isEnabled() == false){
+			return null;
+		}
+
+		PartitionRouter router = partitionRouter;
+
+		if(router == null){
+			synchronized(this){
+				router = partitionRouter;
+				if(router == null){
+					partitionRouter = router = new PartitionRouter(jdbcTemplate, partitionPolicy);
+				}
+			}
+		}
+
+		return router;
+	}
+
+	/**
+	 * 返回数据库方言，首次调用时创建；未设置方言类型时根据数据源自动检测
+	 *
+	 * @return 数据库方言
+	 *
+	 * @since 2.1.0
+	 */
+	protected Dialect getDialect() {
+		Dialect result = dialect;
+
+		if(result == null){
+			synchronized(this){
+				result = dialect;
+				if(result == null){
+					DialectType type = dialectType;
+
+					if(type == null){
+						type = jdbcTemplate.getDataSource() == null ? DialectType.STANDARD :
+								DialectType.detect(jdbcTemplate.getDataSource());
+					}
+
+					dialect = result = type.createDialect();
+				}
+			}
+		}
+
+		return result;
+	}
 
-		Map<String, Object> args = logDataConverter.convert(logData);
+	private void batchUpdate(final List<LogData> batch) throws Exception {
+		final Dialect dialect = getDialect();
+		final Map<ColumnPlan, List<LogData>> groups = group(batch);
 
 		if(logger.isDebugEnabled()){
-			logger.debug("Log sql: [{}], arguments: {}", sql, args);
+			logger.debug("Log sql: {}, batch size: {}", groups.keySet(), batch.size());
 		}
 
-		daoSupport.getNamedParameterJdbcTemplate().update(sql, args);
-		return Status.SUCCESS;
+		if(writerPool != null){
+			final CompletableFuture<Integer> future = writerPool.submit((statements)->write(dialect, groups,
+					statements));
+			final Duration timeout = writerPool.getWriteTimeout();
+
+			try{
+				future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+			}catch(ExecutionException e){
+				// 将拒绝、写入失败原样抛给上层，由磁盘日志、熔断器处理
+				throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+			}catch(TimeoutException e){
+				// 取消后写入线程不再执行或提交该批日志，该批日志按失败处理；取消失败且未异常完成说明写入恰好已成功
+				if(future.cancel(true) || future.isCompletedExceptionally()){
+					throw new TimeoutException("JDBC write not completed in " + timeout + ", batch of " +
+							batch.size() + " log data cancelled.");
+				}
+			}catch(InterruptedException e){
+				future.cancel(true);
+				Thread.currentThread().interrupt();
+				throw e;
+			}
+			return;
+		}
+
+		final ConnectionCallback<Integer> action = (connection)->{
+			final StatementCache statements = new StatementCache(connection, 0);
+
+			try{
+				return write(dialect, groups, statements);
+			}finally{
+				statements.close();
+			}
+		};
+
+		if(transactionTemplate == null){
+			jdbcTemplate.execute(action);
+		}else{
+			transactionTemplate.executeWithoutResult((status)->jdbcTemplate.execute(action));
+		}
+	}
+
+	private static int write(final Dialect dialect, final Map<ColumnPlan, List<LogData>> groups,
+							 final StatementCache statements) throws SQLException {
+		int rows = 0;
+
+		for(Map.Entry<ColumnPlan, List<LogData>> e : groups.entrySet()){
+			rows += dialect.write(statements, e.getKey(), e.getValue());
+		}
+
+		return rows;
+	}
+
+	/**
+	 * 按分区表对日志分组，未启用分区时不复制列表
+	 *
+	 * @param batch
+	 * 		日志数据
+	 *
+	 * @return 列计划与对应的日志数据
+	 */
+	private Map<ColumnPlan, List<LogData>> group(final List<LogData> batch) {
+		final PartitionRouter router = getPartitionRouter();
+
+		if(router == null){
+			return Map.of(getColumnPlan(), batch);
+		}
+
+		final Map<String, List<LogData>> tables = new LinkedHashMap<>(4);
+		Partition last = null;
+		List<LogData> lastGroup = null;
+
+		for(LogData logData : batch){
+			final Partition partition = router.route(logData);
+
+			if(partition != last){
+				last = partition;
+				lastGroup = tables.computeIfAbsent(partition.getTable(), (key)->new ArrayList<>(batch.size()));
+			}
+
+			lastGroup.add(logData);
+		}
+
+		final Map<ColumnPlan, List<LogData>> groups = new LinkedHashMap<>(tables.size());
+
+		for(Map.Entry<String, List<LogData>> e : tables.entrySet()){
+			groups.put(getColumnPlan(e.getKey()), e.getValue());
+		}
+
+		return groups;
 	}
 
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.partition;
+
+import java.time.LocalDate;
+
+/**
+ * 日志分区，时间范围为 [start, end)
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public final class Partition {
+
+	/**
+	 * 分区表名
+	 */
+	private final String table;
+
+	/**
+	 * 分区后缀
+	 */
+	private final String suffix;
+
+	/**
+	 * 起始日期（包含）
+	 */
+	private final LocalDate start;
+
+	/**
+	 * 结束日期（不包含）
+	 */
+	private final LocalDate end;
+
+	private final long startMillis;
+
+	private final long endMillis;
+
+	/**
+	 * 是否已创建，建表语句执行成功或表已存在
+	 */
+	private volatile boolean created;
+
+	/**
+	 * 是否已尝试执行建表语句
+	 */
+	private volatile boolean attempted;
+
+	Partition(final String table, final String suffix, final LocalDate start, final LocalDate end,
+			  final long startMillis, final long endMillis) {
+		this.table = table;
+		this.suffix = suffix;
+		this.start = start;
+		this.end = end;
+		this.startMillis = startMillis;
+		this.endMillis = endMillis;
+	}
+
+	/**
+	 * 返回分区表名
+	 *
+	 * @return 分区表名
+	 */
+	public String getTable() {
+		return table;
+	}
+
+	/**
+	 * 返回分区后缀
+	 *
+	 * @return 分区后缀
+	 */
+	public String getSuffix() {
+		return suffix;
+	}
+
+	/**
+	 * 返回起始日期（包含）
+	 *
+	 * @return 起始日期
+	 */
+	public LocalDate getStart() {
+		return start;
+	}
+
+	/**
+	 * 返回结束日期（不包含）
+	 *
+	 * @return 结束日期
+	 */
+	public LocalDate getEnd() {
+		return end;
+	}
+
+	/**
+	 * 返回时间戳是否落在该分区内
+	 *
+	 * @param millis
+	 * 		时间戳（毫秒）
+	 *
+	 * @return 时间戳落在该分区内时返回 true
+	 */
+	public boolean contains(final long millis) {
+		return millis >= startMillis && millis < endMillis;
+	}
+
+	boolean isCreated() {
+		return created;
+	}
+
+	void setCreated(final boolean created) {
+		this.created = created;
+	}
+
+	boolean isAttempted() {
+		return attempted;
+	}
+
+	void setAttempted(final boolean attempted) {
+		this.attempted = attempted;
+	}
+
+	@Override
+	public String toString() {
+		return table + '[' + start + ", " + end + ')';
+	}
+
+}
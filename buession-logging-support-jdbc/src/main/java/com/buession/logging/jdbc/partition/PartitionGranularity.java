@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 分区粒度
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public enum PartitionGranularity {
+
+	/**
+	 * 按天分区，分区后缀格式：yyyyMMdd
+	 */
+	DAY(DateTimeFormatter.ofPattern("yyyyMMdd")),
+
+	/**
+	 * 按月分区，分区后缀格式：yyyyMM
+	 */
+	MONTH(DateTimeFormatter.ofPattern("yyyyMM"));
+
+	private final DateTimeFormatter suffixFormatter;
+
+	PartitionGranularity(final DateTimeFormatter suffixFormatter) {
+		this.suffixFormatter = suffixFormatter;
+	}
+
+	/**
+	 * 返回日期所在分区的起始日期
+	 *
+	 * @param date
+	 * 		日期
+	 *
+	 * @return 分区起始日期
+	 */
+	public LocalDate floor(final LocalDate date) {
+		return this == MONTH ? date.withDayOfMonth(1) : date;
+	}
+
+	/**
+	 * 返回分区起始日期之后第 amount 个分区的起始日期，amount 可为负数
+	 *
+	 * @param start
+	 * 		分区起始日期
+	 * @param amount
+	 * 		分区个数
+	 *
+	 * @return 分区起始日期
+	 */
+	public LocalDate plus(final LocalDate start, final long amount) {
+		return this == MONTH ? start.plusMonths(amount) : start.plusDays(amount);
+	}
+
+	/**
+	 * 返回分区后缀
+	 *
+	 * @param start
+	 * 		分区起始日期
+	 *
+	 * @return 分区后缀
+	 */
+	public String suffix(final LocalDate start) {
+		return suffixFormatter.format(start);
+	}
+
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.partition;
+
+import com.buession.core.validator.Validate;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 日志表分区策略；SQL 语句中的 {@value #TABLE_PLACEHOLDER} 在写入时替换为日志时间所在分区的表名。
+ * 表名模板、建表语句和删表语句支持以下占位符：
+ * <ul>
+ *     <li>${base}：基础表名</li>
+ *     <li>${table}：分区表名</li>
+ *     <li>${suffix}：分区后缀，按天为 yyyyMMdd，按月为 yyyyMM</li>
+ *     <li>${start}：分区起始日期（包含），格式：yyyy-MM-dd</li>
+ *     <li>${end}：分区结束日期（不包含），格式：yyyy-MM-dd</li>
+ * </ul>
+ * 如：PostgreSQL 声明式分区可使用建表语句
+ * CREATE TABLE IF NOT EXISTS ${table} PARTITION OF ${base} FOR VALUES FROM ('${start}') TO ('${end}')
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class PartitionPolicy {
+
+	/**
+	 * SQL 语句中的表名占位符
+	 */
+	public final static String TABLE_PLACEHOLDER = "${table}";
+
+	/**
+	 * 默认分区表名模板
+	 */
+	public final static String DEFAULT_TABLE_PATTERN = "${base}_${suffix}";
+
+	/**
+	 * 删表语句示例，删除过期分区须显式设置
+	 */
+	public final static String DEFAULT_DROP_DDL = "DROP TABLE IF EXISTS ${table}";
+
+	/**
+	 * 默认提前创建的分区数量
+	 */
+	public final static int DEFAULT_PRECREATE = 2;
+
+	/**
+	 * 默认维护间隔
+	 */
+	public final static Duration DEFAULT_MAINTENANCE_INTERVAL = Duration.ofHours(1);
+
+	/**
+	 * 基础表名
+	 */
+	private String table;
+
+	/**
+	 * 分区粒度
+	 */
+	private PartitionGranularity granularity = PartitionGranularity.DAY;
+
+	/**
+	 * 分区表名模板
+	 */
+	private String tablePattern = DEFAULT_TABLE_PATTERN;
+
+	/**
+	 * 建表语句模板，为空时不自动创建分区
+	 */
+	private String createDdl;
+
+	/**
+	 * 删表语句模板，为空时不删除过期分区
+	 */
+	private String dropDdl;
+
+	/**
+	 * 提前创建的分区数量
+	 */
+	private int precreate = DEFAULT_PRECREATE;
+
+	/**
+	 * 保留的分区数量（包含当前分区），小于等于 0 时不删除过期分区
+	 */
+	private int retention;
+
+	/**
+	 * 分区时区，为 null 时使用系统默认时区
+	 */
+	private ZoneId zoneId;
+
+	/**
+	 * 维护间隔，定时创建后续分区、删除过期分区
+	 */
+	private Duration maintenanceInterval = DEFAULT_MAINTENANCE_INTERVAL;
+
+	/**
+	 * 返回基础表名
+	 *
+	 * @return 基础表名
+	 */
+	public String getTable() {
+		return table;
+	}
+
+	/**
+	 * 设置基础表名
+	 *
+	 * @param table
+	 * 		基础表名
+	 */
+	public void setTable(String table) {
+		this.table = table;
+	}
+
+	/**
+	 * 返回分区粒度
+	 *
+	 * @return 分区粒度
+	 */
+	public PartitionGranularity getGranularity() {
+		return granularity;
+	}
+
+	/**
+	 * 设置分区粒度
+	 *
+	 * @param granularity
+	 * 		分区粒度
+	 */
+	public void setGranularity(PartitionGranularity granularity) {
+		this.granularity = granularity;
+	}
+
+	/**
+	 * 返回分区表名模板
+	 *
+	 * @return 分区表名模板
+	 */
+	public String getTablePattern() {
+		return tablePattern;
+	}
+
+	/**
+	 * 设置分区表名模板；使用数据库原生分区、写入基础表时可设置为 ${base}
+	 *
+	 * @param tablePattern
+	 * 		分区表名模板
+	 */
+	public void setTablePattern(String tablePattern) {
+		this.tablePattern = tablePattern;
+	}
+
+	/**
+	 * 返回建表语句模板
+	 *
+	 * @return 建表语句模板
+	 */
+	public String getCreateDdl() {
+		return createDdl;
+	}
+
+	/**
+	 * 设置建表语句模板
+	 *
+	 * @param createDdl
+	 * 		建表语句模板
+	 */
+	public void setCreateDdl(String createDdl) {
+		this.createDdl = createDdl;
+	}
+
+	/**
+	 * 返回删表语句模板
+	 *
+	 * @return 删表语句模板
+	 */
+	public String getDropDdl() {
+		return dropDdl;
+	}
+
+	/**
+	 * 设置删表语句模板，为空时不删除过期分区；设置后分区表名模板须包含 ${suffix}，
+	 * 且不会对与基础表同名的表执行删表语句
+	 *
+	 * @param dropDdl
+	 * 		删表语句模板
+	 */
+	public void setDropDdl(String dropDdl) {
+		this.dropDdl = dropDdl;
+	}
+
+	/**
+	 * 返回提前创建的分区数量
+	 *
+	 * @return 提前创建的分区数量
+	 */
+	public int getPrecreate() {
+		return precreate;
+	}
+
+	/**
+	 * 设置提前创建的分区数量
+	 *
+	 * @param precreate
+	 * 		提前创建的分区数量
+	 */
+	public void setPrecreate(int precreate) {
+		this.precreate = precreate;
+	}
+
+	/**
+	 * 返回保留的分区数量
+	 *
+	 * @return 保留的分区数量
+	 */
+	public int getRetention() {
+		return retention;
+	}
+
+	/**
+	 * 设置保留的分区数量（包含当前分区），小于等于 0 时不删除过期分区
+	 *
+	 * @param retention
+	 * 		保留的分区数量
+	 */
+	public void setRetention(int retention) {
+		this.retention = retention;
+	}
+
+	/**
+	 * 返回分区时区
+	 *
+	 * @return 分区时区
+	 */
+	public ZoneId getZoneId() {
+		return zoneId;
+	}
+
+	/**
+	 * 设置分区时区
+	 *
+	 * @param zoneId
+	 * 		分区时区
+	 */
+	public void setZoneId(ZoneId zoneId) {
+		this.zoneId = zoneId;
+	}
+
+	/**
+	 * 返回维护间隔
+	 *
+	 * @return 维护间隔
+	 */
+	public Duration getMaintenanceInterval() {
+		return maintenanceInterval;
+	}
+
+	/**
+	 * 设置维护间隔
+	 *
+	 * @param maintenanceInterval
+	 * 		维护间隔
+	 */
+	public void setMaintenanceInterval(Duration maintenanceInterval) {
+		this.maintenanceInterval = maintenanceInterval;
+	}
+
+	/**
+	 * 返回是否启用分区
+	 *
+	 * @return 设置了基础表名时返回 true
+	 */
+	public boolean isEnabled() {
+		return Validate.hasText(table);
+	}
+
+}
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.jdbc.partition;
+
+import com.buession.core.utils.Assert;
+import com.buession.core.validator.Validate;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.concurrent.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分区路由，根据 {@link LogData#getDateTime()} 返回日志所在的分区；
+ * 路由结果按分区缓存，当前分区命中时只比较时间戳，不查询数据库元数据。
+ * 日志总是写入时间范围与其相符的表：晚于最后一个提前创建的分区时按需创建其所在的分区；
+ * 早于保留的最早分区时写入基础表，不会重新创建已删除的过期分区。
+ * 后台线程按维护间隔提前创建后续分区，重试此前建表失败的分区，删除超出保留数量的过期分区
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class PartitionRouter implements Closeable {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final PartitionPolicy policy;
+
+	private final PartitionGranularity granularity;
+
+	private final ZoneId zoneId;
+
+	private final ConcurrentMap<LocalDate, Partition> partitions = new ConcurrentHashMap<>();
+
+	private volatile Partition current;
+
+	/**
+	 * 基础表，早于保留范围的日志写入该表
+	 */
+	private final Partition basePartition;
+
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * 最近一个已删除的过期分区起始日期
+	 */
+	private LocalDate lastExpired;
+
+	private final static Logger logger = LoggerFactory.getLogger(PartitionRouter.class);
+
+	/**
+	 * 构造函数
+	 *
+	 * @param jdbcTemplate
+	 *        {@link JdbcTemplate}
+	 * @param policy
+	 * 		分区策略
+	 */
+	public PartitionRouter(final JdbcTemplate jdbcTemplate, final PartitionPolicy policy) {
+		Assert.isNull(jdbcTemplate, "JdbcTemplate cloud not be null.");
+		Assert.isNull(policy, "PartitionPolicy cloud not be null.");
+		Assert.isBlank(policy.getTable(), "Partition base table cloud not be null.");
+		Assert.isBlank(policy.getTablePattern(), "Partition table pattern cloud not be null.");
+		// 不含后缀的表名模板下每个分区都是同一张表，删除过期分区会删掉正在写入的表
+		Assert.isTrue(Validate.hasText(policy.getDropDdl()) && policy.getTablePattern().contains("${suffix}") ==
+				false, "Partition table pattern must contain '${suffix}' when drop DDL is set.");
+
+		this.jdbcTemplate = jdbcTemplate;
+		this.policy = policy;
+		this.granularity = policy.getGranularity() == null ? PartitionGranularity.DAY : policy.getGranularity();
+		this.zoneId = policy.getZoneId() == null ? ZoneId.systemDefault() : policy.getZoneId();
+		this.basePartition = new Partition(policy.getTable(), "", LocalDate.MIN, LocalDate.MAX, Long.MIN_VALUE,
+				Long.MAX_VALUE);
+		this.basePartition.setCreated(true);
+
+		final Duration interval = policy.getMaintenanceInterval();
+
+		if(interval == null || interval.isNegative() || interval.isZero()){
+			this.scheduler = null;
+			maintain();
+		}else{
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(
+					new NamedThreadFactory("buession-logging-partition", true));
+			this.scheduler.scheduleWithFixedDelay(this::maintain, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 返回分区策略
+	 *
+	 * @return 分区策略
+	 */
+	public PartitionPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * 返回日志所在的分区，分区尚未创建时先创建；日志时间为空时使用当前时间
+	 *
+	 * @param logData
+	 * 		日志数据
+	 *
+	 * @return 分区
+	 */
+	public Partition route(final LogData logData) {
+		final long millis = logData.getDateTime() == null ? System.currentTimeMillis() :
+				logData.getDateTime().getTime();
+		final Partition partition = current;
+
+		return partition != null && partition.contains(millis) ? partition : resolve(millis);
+	}
+
+	/**
+	 * 创建当前及后续分区，重试建表失败的分区，删除过期分区
+	 */
+	public void maintain() {
+		try{
+			final Partition partition = getPartition(granularity.floor(toDate(System.currentTimeMillis())));
+
+			ensureCreated(partition, true);
+			current = partition;
+
+			for(int i = 1; i <= policy.getPrecreate(); i++){
+				ensureCreated(getPartition(granularity.plus(partition.getStart(), i)), true);
+			}
+
+			// 重试此前建表失败的历史分区
+			for(Partition p : partitions.values()){
+				if(p.isCreated() == false && p.getStart().isBefore(partition.getStart())){
+					ensureCreated(p, true);
+				}
+			}
+
+			final LocalDate earliest = getEarliest(partition.getStart());
+
+			if(earliest != null && Validate.hasText(policy.getDropDdl())){
+				dropExpired(earliest);
+			}
+
+			// 只缓存保留范围内的分区；未设置保留数量时只缓存当前及后续分区，迟到的日志再次路由时重新创建
+			final LocalDate lowerBound = earliest == null ? partition.getStart() : earliest;
+			partitions.keySet().removeIf((start)->start.isBefore(lowerBound));
+		}catch(RuntimeException e){
+			if(logger.isErrorEnabled()){
+				logger.error("Maintain partitions of table '{}' failure: {}", policy.getTable(), e.getMessage(), e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		if(scheduler != null){
+			scheduler.shutdownNow();
+		}
+	}
+
+	private Partition resolve(final long millis) {
+		final long now = System.currentTimeMillis();
+		final LocalDate today = granularity.floor(toDate(now));
+		final LocalDate latest = granularity.plus(today, Math.max(policy.getPrecreate(), 0));
+		final LocalDate earliest = getEarliest(today);
+		final LocalDate start = granularity.floor(toDate(millis));
+
+		if(earliest != null && start.isBefore(earliest)){
+			// 过期分区可能已被删除，重新创建后不会再被清理，写入基础表
+			if(logger.isWarnEnabled()){
+				logger.warn("Log time {} is before the earliest retained partition {}, route to base table '{}'.",
+						millis, earliest, policy.getTable());
+			}
+
+			return basePartition;
+		}
+
+		if(start.isAfter(latest) && logger.isWarnEnabled()){
+			logger.warn("Log time {} is after the last pre-created partition {}, create partition {} on demand.",
+					millis, latest, start);
+		}
+
+		final Partition partition = getPartition(start);
+
+		// 建表失败的分区由 maintain 重试，不在每次写入时重试
+		if(partition.isCreated() == false && partition.isAttempted() == false){
+			ensureCreated(partition, false);
+		}
+
+		if(partition.contains(now)){
+			current = partition;
+		}
+
+		return partition;
+	}
+
+	/**
+	 * 返回保留的最早分区起始日期
+	 *
+	 * @param start
+	 * 		当前分区起始日期
+	 *
+	 * @return 保留的最早分区起始日期，未设置保留数量时返回 null
+	 */
+	private LocalDate getEarliest(final LocalDate start) {
+		return policy.getRetention() > 0 ? granularity.plus(start, 1 - policy.getRetention()) : null;
+	}
+
+	private Partition getPartition(final LocalDate start) {
+		return partitions.computeIfAbsent(start, (key)->{
+			final LocalDate end = granularity.plus(key, 1);
+			final String suffix = granularity.suffix(key);
+			final String table = policy.getTablePattern().replace("${base}", policy.getTable())
+					.replace("${suffix}", suffix);
+
+			return new Partition(table, suffix, key, end, toMillis(key), toMillis(end));
+		});
+	}
+
+	private void ensureCreated(final Partition partition, final boolean retry) {
+		if(partition.isCreated()){
+			return;
+		}
+
+		synchronized(partition){
+			if(partition.isCreated() || (retry == false && partition.isAttempted())){
+				return;
+			}
+
+			if(Validate.hasText(policy.getCreateDdl()) == false){
+				partition.setCreated(true);
+				return;
+			}
+
+			final String ddl = render(policy.getCreateDdl(), partition);
+
+			try{
+				jdbcTemplate.execute(ddl);
+				partition.setCreated(true);
+
+				if(logger.isInfoEnabled()){
+					logger.info("Created partition {}.", partition);
+				}
+			}catch(DataAccessException e){
+				if(isAlreadyExists(e)){
+					partition.setCreated(true);
+				}else if(logger.isWarnEnabled()){
+					logger.warn("Execute partition DDL [{}] failure, retry on next maintenance: {}", ddl,
+							e.getMessage());
+				}
+			}finally{
+				partition.setAttempted(true);
+			}
+		}
+	}
+
+	/**
+	 * 返回异常是否由表已存在引起；MySQL、H2：42S01，PostgreSQL：42P07，Oracle：ORA-00955，SQL Server：2714
+	 *
+	 * @param e
+	 * 		数据访问异常
+	 *
+	 * @return 表已存在时返回 true
+	 */
+	private static boolean isAlreadyExists(final DataAccessException e) {
+		final Throwable cause = e.getMostSpecificCause();
+
+		if(cause instanceof SQLException){
+			final SQLException sqlException = (SQLException) cause;
+
+			return "42S01".equals(sqlException.getSQLState()) || "42P07".equals(sqlException.getSQLState()) ||
+					sqlException.getErrorCode() == 955 || sqlException.getErrorCode() == 2714;
+		}
+
+		return false;
+	}
+
+	private synchronized void dropExpired(final LocalDate cutoff) {
+		// 首次维护时向前多检查一个保留周期，以清理服务停止期间过期的分区
+		LocalDate start = lastExpired == null ? granularity.plus(cutoff, -policy.getRetention()) :
+				granularity.plus(lastExpired, 1);
+
+		for(; start.isBefore(cutoff); start = granularity.plus(start, 1)){
+			final Partition partition = getPartition(start);
+
+			if(partition.getTable().equalsIgnoreCase(policy.getTable())){
+				if(logger.isWarnEnabled()){
+					logger.warn("Partition {} is the base table '{}', skip dropping it.", partition, policy.getTable());
+				}
+
+				partitions.remove(start);
+				lastExpired = start;
+				continue;
+			}
+
+			final String ddl = render(policy.getDropDdl(), partition);
+
+			try{
+				jdbcTemplate.execute(ddl);
+			}catch(DataAccessException e){
+				if(logger.isWarnEnabled()){
+					logger.warn("Execute partition DDL [{}] failure: {}", ddl, e.getMessage());
+				}
+			}
+
+			partitions.remove(start);
+			lastExpired = start;
+		}
+	}
+
+	private String render(final String template, final Partition partition) {
+		return template.replace("${base}", policy.getTable()).replace(PartitionPolicy.TABLE_PLACEHOLDER,
+						partition.getTable()).replace("${suffix}", partition.getSuffix())
+				.replace("${start}", partition.getStart().toString()).replace("${end}", partition.getEnd().toString());
+	}
+
+	private LocalDate toDate(final long millis) {
+		return Instant.ofEpochMilli(millis).atZone(zoneId).toLocalDate();
+	}
+
+	private long toMillis(final LocalDate date) {
+		return date.atStartOfDay(zoneId).toInstant().toEpochMilli();
+	}
+
+}
@@ -30,22 +30,29 @@ import com.buession.core.utils.Assert;
 import com.buession.logging.core.formatter.DateTimeFormatter;
 import com.buession.logging.jdbc.converter.DefaultLogDataConverter;
 import com.buession.logging.jdbc.converter.LogDataConverter;
+import com.buession.logging.jdbc.core.JdbcWriterPool;
+import com.buession.logging.jdbc.core.StatementCache;
+import com.buession.logging.jdbc.dialect.DialectType;
 import com.buession.logging.jdbc.formatter.DefaultGeoFormatter;
 import com.buession.logging.core.formatter.GeoFormatter;
 import com.buession.logging.jdbc.formatter.JsonMapFormatter;
 import com.buession.logging.core.formatter.MapFormatter;
 import com.buession.logging.jdbc.handler.JdbcLogHandler;
+import com.buession.logging.jdbc.partition.PartitionPolicy;
 import com.buession.logging.jdbc.spring.config.JdbcLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.Duration;
+
 /**
  * JDBC 日志处理器 {@link JdbcLogHandler} 工厂 Bean 基类
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLogHandler> {
+public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLogHandler> implements DisposableBean {
 
 	public final static MapFormatter<Object> DEFAULT_REQUEST_PARAMETERS_FORMATTER = new JsonMapFormatter();
 
@@ -95,6 +102,70 @@ public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLog
 	 */
 	private LogDataConverter logDataConverter = new DefaultLogDataConverter();
 
+	/**
+	 * 批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小（即使未开启全局批量模式），
+	 * 小于等于 1 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private int batchSize;
+
+	/**
+	 * 批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration flushInterval;
+
+	/**
+	 * 数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @since 2.1.0
+	 */
+	private DialectType dialect;
+
+	/**
+	 * 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	private PartitionPolicy partitionPolicy;
+
+	/**
+	 * 写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	private int writerThreads;
+
+	/**
+	 * 写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	private int writerQueueCapacity = JdbcWriterPool.DEFAULT_QUEUE_CAPACITY;
+
+	/**
+	 * 写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration writerOfferTimeout = JdbcWriterPool.DEFAULT_OFFER_TIMEOUT;
+
+	/**
+	 * 提交方等待写入线程池写入结果的最长时间，超时后取消写入并将该批日志按失败处理
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration writerWriteTimeout = JdbcWriterPool.DEFAULT_WRITE_TIMEOUT;
+
+	/**
+	 * 每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	private int statementCacheSize = StatementCache.DEFAULT_CAPACITY;
+
 	/**
 	 * 构造函数
 	 */
@@ -117,6 +188,15 @@ public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLog
 			propertyMapper.from(configurer::getGeoFormatter).to(this::setGeoFormatter);
 			propertyMapper.from(configurer::getExtraFormatter).to(this::setExtraFormatter);
 			propertyMapper.from(configurer::getDataConverter).to(this::setLogDataConverter);
+			propertyMapper.from(configurer::getBatchSize).to(this::setBatchSize);
+			propertyMapper.from(configurer::getFlushInterval).to(this::setFlushInterval);
+			setDialect(configurer.getDialect());
+			setPartitionPolicy(configurer.getPartitionPolicy());
+			propertyMapper.from(configurer::getWriterThreads).to(this::setWriterThreads);
+			propertyMapper.from(configurer::getWriterQueueCapacity).to(this::setWriterQueueCapacity);
+			propertyMapper.from(configurer::getWriterOfferTimeout).to(this::setWriterOfferTimeout);
+			propertyMapper.from(configurer::getWriterWriteTimeout).to(this::setWriterWriteTimeout);
+			propertyMapper.from(configurer::getStatementCacheSize).to(this::setStatementCacheSize);
 		}
 	}
 
@@ -276,6 +356,213 @@ public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLog
 		this.logDataConverter = logDataConverter;
 	}
 
+	/**
+	 * 返回批量大小
+	 *
+	 * @return 批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小，小于等于 1 时使用全局批量配置
+	 *
+	 * @param batchSize
+	 * 		批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 返回批量模式下日志最大停留时间
+	 *
+	 * @return 批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * 设置批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @param flushInterval
+	 * 		批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 返回数据库方言类型
+	 *
+	 * @return 数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public DialectType getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * 设置数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @param dialect
+	 * 		数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setDialect(DialectType dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * 返回分区策略
+	 *
+	 * @return 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public PartitionPolicy getPartitionPolicy() {
+		return partitionPolicy;
+	}
+
+	/**
+	 * 设置分区策略
+	 *
+	 * @param partitionPolicy
+	 * 		分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setPartitionPolicy(PartitionPolicy partitionPolicy) {
+		this.partitionPolicy = partitionPolicy;
+	}
+
+	/**
+	 * 返回写入线程数
+	 *
+	 * @return 写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public int getWriterThreads() {
+		return writerThreads;
+	}
+
+	/**
+	 * 设置写入线程数，小于等于 0 时在调用方线程上写入
+	 *
+	 * @param writerThreads
+	 * 		写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterThreads(int writerThreads) {
+		this.writerThreads = writerThreads;
+	}
+
+	/**
+	 * 返回写入线程池队列容量
+	 *
+	 * @return 写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public int getWriterQueueCapacity() {
+		return writerQueueCapacity;
+	}
+
+	/**
+	 * 设置写入线程池队列容量
+	 *
+	 * @param writerQueueCapacity
+	 * 		写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterQueueCapacity(int writerQueueCapacity) {
+		this.writerQueueCapacity = writerQueueCapacity;
+	}
+
+	/**
+	 * 返回写入线程池队列满时提交方最大等待时间
+	 *
+	 * @return 写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getWriterOfferTimeout() {
+		return writerOfferTimeout;
+	}
+
+	/**
+	 * 设置写入线程池队列满时提交方最大等待时间
+	 *
+	 * @param writerOfferTimeout
+	 * 		写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterOfferTimeout(Duration writerOfferTimeout) {
+		this.writerOfferTimeout = writerOfferTimeout;
+	}
+
+	/**
+	 * 返回提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @return 提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getWriterWriteTimeout() {
+		return writerWriteTimeout;
+	}
+
+	/**
+	 * 设置提交方等待写入线程池写入结果的最长时间，超时后取消写入并将该批日志按失败处理
+	 *
+	 * @param writerWriteTimeout
+	 * 		提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterWriteTimeout(Duration writerWriteTimeout) {
+		this.writerWriteTimeout = writerWriteTimeout;
+	}
+
+	/**
+	 * 返回每个写入线程连接上缓存的语句数量
+	 *
+	 * @return 每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * 设置每个写入线程连接上缓存的语句数量
+	 *
+	 * @param statementCacheSize
+	 * 		每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setStatementCacheSize(int statementCacheSize) {
+		this.statementCacheSize = statementCacheSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.isNull(getJdbcTemplate(), "Property 'jdbcTemplate' is required");
@@ -295,9 +582,27 @@ public class JdbcLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<JdbcLog
 					propertyMapper.from(getGeoFormatter()).to(logHandler::setGeoFormatter);
 					propertyMapper.from(getExtraFormatter()).to(logHandler::setExtraFormatter);
 					propertyMapper.from(getLogDataConverter()).to(logHandler::setLogDataConverter);
+					logHandler.setBatchSize(getBatchSize());
+					logHandler.setFlushInterval(getFlushInterval());
+					logHandler.setDialectType(getDialect());
+					logHandler.setPartitionPolicy(getPartitionPolicy());
+
+					if(getWriterThreads() > 0){
+						Assert.isNull(getJdbcTemplate().getDataSource(), "JdbcTemplate DataSource is required");
+						logHandler.setWriterPool(new JdbcWriterPool(getJdbcTemplate().getDataSource(),
+								getWriterThreads(), getWriterQueueCapacity(), getWriterOfferTimeout(),
+								getWriterWriteTimeout(), getStatementCacheSize()));
+					}
 				}
 			}
 		}
 	}
 
+	@Override
+	public void destroy() throws Exception {
+		if(logHandler != null){
+			logHandler.close();
+		}
+	}
+
 }
@@ -28,8 +28,12 @@ import com.buession.core.id.IdGenerator;
 import com.buession.logging.core.formatter.GeoFormatter;
 import com.buession.logging.core.formatter.MapFormatter;
 import com.buession.logging.jdbc.converter.LogDataConverter;
+import com.buession.logging.jdbc.dialect.DialectType;
+import com.buession.logging.jdbc.partition.PartitionPolicy;
 import com.buession.logging.jdbc.spring.JdbcLogHandlerFactoryBean;
 
+import java.time.Duration;
+
 /**
  * Configures {@link JdbcLogHandlerFactoryBean} with sensible defaults.
  *
@@ -73,6 +77,70 @@ public class JdbcLogHandlerFactoryBeanConfigurer {
 	 */
 	private LogDataConverter dataConverter;
 
+	/**
+	 * 批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小（即使未开启全局批量模式），
+	 * 小于等于 1 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Integer batchSize;
+
+	/**
+	 * 批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration flushInterval;
+
+	/**
+	 * 数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @since 2.1.0
+	 */
+	private DialectType dialect;
+
+	/**
+	 * 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	private PartitionPolicy partitionPolicy;
+
+	/**
+	 * 写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	private Integer writerThreads;
+
+	/**
+	 * 写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	private Integer writerQueueCapacity;
+
+	/**
+	 * 写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration writerOfferTimeout;
+
+	/**
+	 * 提交方等待写入线程池写入结果的最长时间，超时后取消写入并将该批日志按失败处理
+	 *
+	 * @since 2.1.0
+	 */
+	private Duration writerWriteTimeout;
+
+	/**
+	 * 每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	private Integer statementCacheSize;
+
 	/**
 	 * 返回 SQL
 	 *
@@ -208,4 +276,211 @@ public class JdbcLogHandlerFactoryBeanConfigurer {
 		this.dataConverter = dataConverter;
 	}
 
+	/**
+	 * 返回批量大小
+	 *
+	 * @return 批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public Integer getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * 设置批量大小，大于 1 时包装 JDBC 日志处理器的 BatchingLogHandler 以该值作为批量大小，小于等于 1 时使用全局批量配置
+	 *
+	 * @param batchSize
+	 * 		批量大小
+	 *
+	 * @since 2.1.0
+	 */
+	public void setBatchSize(Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 返回批量模式下日志最大停留时间
+	 *
+	 * @return 批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * 设置批量模式下日志最大停留时间，为 null 时使用全局批量配置
+	 *
+	 * @param flushInterval
+	 * 		批量模式下日志最大停留时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * 返回数据库方言类型
+	 *
+	 * @return 数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public DialectType getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * 设置数据库方言类型，为 null 时根据数据源自动检测
+	 *
+	 * @param dialect
+	 * 		数据库方言类型
+	 *
+	 * @since 2.1.0
+	 */
+	public void setDialect(DialectType dialect) {
+		this.dialect = dialect;
+	}
+
+	/**
+	 * 返回分区策略
+	 *
+	 * @return 分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public PartitionPolicy getPartitionPolicy() {
+		return partitionPolicy;
+	}
+
+	/**
+	 * 设置分区策略
+	 *
+	 * @param partitionPolicy
+	 * 		分区策略
+	 *
+	 * @since 2.1.0
+	 */
+	public void setPartitionPolicy(PartitionPolicy partitionPolicy) {
+		this.partitionPolicy = partitionPolicy;
+	}
+
+	/**
+	 * 返回写入线程数
+	 *
+	 * @return 写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public Integer getWriterThreads() {
+		return writerThreads;
+	}
+
+	/**
+	 * 设置写入线程数，小于等于 0 时在调用方线程上写入
+	 *
+	 * @param writerThreads
+	 * 		写入线程数
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterThreads(Integer writerThreads) {
+		this.writerThreads = writerThreads;
+	}
+
+	/**
+	 * 返回写入线程池队列容量
+	 *
+	 * @return 写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public Integer getWriterQueueCapacity() {
+		return writerQueueCapacity;
+	}
+
+	/**
+	 * 设置写入线程池队列容量
+	 *
+	 * @param writerQueueCapacity
+	 * 		写入线程池队列容量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterQueueCapacity(Integer writerQueueCapacity) {
+		this.writerQueueCapacity = writerQueueCapacity;
+	}
+
+	/**
+	 * 返回写入线程池队列满时提交方最大等待时间
+	 *
+	 * @return 写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getWriterOfferTimeout() {
+		return writerOfferTimeout;
+	}
+
+	/**
+	 * 设置写入线程池队列满时提交方最大等待时间
+	 *
+	 * @param writerOfferTimeout
+	 * 		写入线程池队列满时提交方最大等待时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterOfferTimeout(Duration writerOfferTimeout) {
+		this.writerOfferTimeout = writerOfferTimeout;
+	}
+
+	/**
+	 * 返回提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @return 提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @since 2.1.0
+	 */
+	public Duration getWriterWriteTimeout() {
+		return writerWriteTimeout;
+	}
+
+	/**
+	 * 设置提交方等待写入线程池写入结果的最长时间，超时后取消写入并将该批日志按失败处理
+	 *
+	 * @param writerWriteTimeout
+	 * 		提交方等待写入线程池写入结果的最长时间
+	 *
+	 * @since 2.1.0
+	 */
+	public void setWriterWriteTimeout(Duration writerWriteTimeout) {
+		this.writerWriteTimeout = writerWriteTimeout;
+	}
+
+	/**
+	 * 返回每个写入线程连接上缓存的语句数量
+	 *
+	 * @return 每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	public Integer getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * 设置每个写入线程连接上缓存的语句数量
+	 *
+	 * @param statementCacheSize
+	 * 		每个写入线程连接上缓存的语句数量
+	 *
+	 * @since 2.1.0
+	 */
+	public void setStatementCacheSize(Integer statementCacheSize) {
+		this.statementCacheSize = statementCacheSize;
+	}
+
 }
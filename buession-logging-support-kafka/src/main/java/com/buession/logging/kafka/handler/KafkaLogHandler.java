@@ -27,16 +27,18 @@ package com.buession.logging.kafka.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.util.List;
+
 /**
  * Kafka 日志处理器
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class KafkaLogHandler extends AbstractLogHandler {
+public class KafkaLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * {@link KafkaTemplate}
@@ -69,4 +71,13 @@ public class KafkaLogHandler extends AbstractLogHandler {
 		return Status.SUCCESS;
 	}
 
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		// Producer 按 batch.size、linger.ms 在协议层合并请求，连续发送即可进入同一批次
+		for(LogData logData : logDataList){
+			kafkaTemplate.send(topic, logData);
+		}
+		return Status.SUCCESS;
+	}
+
 }
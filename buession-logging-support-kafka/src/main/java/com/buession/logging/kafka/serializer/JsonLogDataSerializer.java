@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.kafka.serializer;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.codec.JsonLogDataEncoder;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+
+/**
+ * 基于 {@link JsonLogDataEncoder} 的 Kafka 消息值序列化器，日志数据直接编码为 UTF-8 JSON 字节，
+ * 不经过中间字符串，也不写入类型头；可通过 {@code value-serializer} 配置替换默认的 JsonSerializer
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class JsonLogDataSerializer implements Serializer<Object> {
+
+	/**
+	 * JSON 编码器
+	 */
+	private final JsonLogDataEncoder encoder;
+
+	/**
+	 * 构造函数
+	 */
+	public JsonLogDataSerializer() {
+		this(JsonLogDataEncoder.DEFAULT);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param encoder
+	 * 		JSON 编码器
+	 */
+	public JsonLogDataSerializer(final JsonLogDataEncoder encoder) {
+		Assert.isNull(encoder, "JsonLogDataEncoder cloud not be null.");
+		this.encoder = encoder;
+	}
+
+	@Override
+	public byte[] serialize(final String topic, final Object data) {
+		if(data == null){
+			return null;
+		}
+
+		try{
+			return data instanceof LogData ? encoder.encode((LogData) data) :
+					encoder.getObjectMapper().writeValueAsBytes(data);
+		}catch(IOException e){
+			throw new SerializationException("Can't serialize data for topic " + topic, e);
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.kafka.serializer;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.codec.CodecType;
+import com.buession.logging.core.codec.JsonLogDataCodec;
+import com.buession.logging.core.codec.LogDataCodec;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 基于 {@link LogDataCodec} 的 Kafka 消息值序列化器，可通过生产者配置 {@link #CODEC_CONFIG} 指定编解码类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class LogDataCodecSerializer implements Serializer<Object> {
+
+	/**
+	 * 编解码类型配置项，值为 {@link CodecType} 名称
+	 */
+	public final static String CODEC_CONFIG = "buession.logging.codec";
+
+	/**
+	 * 编解码器
+	 */
+	private LogDataCodec codec;
+
+	/**
+	 * 构造函数
+	 */
+	public LogDataCodecSerializer() {
+		this(new JsonLogDataCodec());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param codec
+	 * 		编解码器
+	 */
+	public LogDataCodecSerializer(final LogDataCodec codec) {
+		Assert.isNull(codec, "LogDataCodec cloud not be null.");
+		this.codec = codec;
+	}
+
+	@Override
+	public void configure(final Map<String, ?> configs, final boolean isKey) {
+		final Object value = configs.get(CODEC_CONFIG);
+
+		if(value instanceof CodecType){
+			codec = ((CodecType) value).createCodec();
+		}else if(value instanceof String){
+			codec = CodecType.valueOf(((String) value).trim().toUpperCase()).createCodec();
+		}
+	}
+
+	@Override
+	public byte[] serialize(final String topic, final Object data) {
+		if(data == null){
+			return null;
+		}
+
+		if(data instanceof LogData == false){
+			throw new SerializationException("Can't serialize data of type " + data.getClass().getName() +
+					" for topic " + topic + ", only LogData is supported.");
+		}
+
+		try{
+			return codec.encode((LogData) data);
+		}catch(IOException e){
+			throw new SerializationException("Can't serialize data for topic " + topic, e);
+		}
+	}
+
+}
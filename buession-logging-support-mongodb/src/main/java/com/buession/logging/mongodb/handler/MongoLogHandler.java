@@ -27,16 +27,18 @@ package com.buession.logging.mongodb.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+import java.util.List;
+
 /**
  * MongoDb 日志处理器
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class MongoLogHandler extends AbstractLogHandler {
+public class MongoLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * {@link MongoTemplate}
@@ -69,4 +71,10 @@ public class MongoLogHandler extends AbstractLogHandler {
 		return Status.SUCCESS;
 	}
 
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		mongoTemplate.insert(logDataList, collectionName);
+		return Status.SUCCESS;
+	}
+
 }
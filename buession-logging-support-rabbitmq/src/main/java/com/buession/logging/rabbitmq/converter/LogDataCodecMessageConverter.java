@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.rabbitmq.converter;
+
+import com.buession.core.utils.Assert;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.codec.JsonLogDataCodec;
+import com.buession.logging.core.codec.LogDataCodec;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 基于 {@link LogDataCodec} 的消息转换器，日志数据按编解码器编码为消息体，并设置对应的 Content-Type。
+ * Content-Type 和消息头在构造时一次性构建为不可变模板，发送时直接复制到消息属性中；
+ * 默认消息头包含 {@code __TypeId__}，与使用 Jackson2JsonMessageConverter 的消费端兼容
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class LogDataCodecMessageConverter implements MessageConverter {
+
+	/**
+	 * 默认消息头
+	 */
+	private final static Map<String, Object> DEFAULT_HEADERS = Collections.singletonMap(
+			AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, LogData.class.getName());
+
+	/**
+	 * 编解码器
+	 */
+	private final LogDataCodec codec;
+
+	/**
+	 * Content-Type
+	 */
+	private final String contentType;
+
+	/**
+	 * 消息头
+	 */
+	private final Map<String, Object> headers;
+
+	/**
+	 * 构造函数，使用 JSON 编解码器
+	 */
+	public LogDataCodecMessageConverter() {
+		this(new JsonLogDataCodec());
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param codec
+	 * 		编解码器
+	 */
+	public LogDataCodecMessageConverter(final LogDataCodec codec) {
+		this(codec, DEFAULT_HEADERS);
+	}
+
+	/**
+	 * 构造函数
+	 *
+	 * @param codec
+	 * 		编解码器
+	 * @param headers
+	 * 		每条消息附带的消息头
+	 */
+	public LogDataCodecMessageConverter(final LogDataCodec codec, final Map<String, Object> headers) {
+		Assert.isNull(codec, "LogDataCodec cloud not be null.");
+		this.codec = codec;
+		this.contentType = codec.getContentType();
+		this.headers = headers == null ? Collections.emptyMap() :
+				Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+	}
+
+	/**
+	 * 返回编解码器
+	 *
+	 * @return 编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 返回每条消息附带的消息头
+	 *
+	 * @return 消息头
+	 */
+	public Map<String, Object> getHeaders() {
+		return headers;
+	}
+
+	@Override
+	public Message toMessage(final Object object, final MessageProperties messageProperties)
+			throws MessageConversionException {
+		if(object instanceof LogData == false){
+			throw new MessageConversionException(getClass().getSimpleName() + " only supports LogData, but got " +
+					(object == null ? "null" : object.getClass().getName()));
+		}
+
+		final byte[] body;
+		try{
+			body = codec.encode((LogData) object);
+		}catch(IOException e){
+			throw new MessageConversionException("Failed to encode log data", e);
+		}
+
+		final MessageProperties properties = messageProperties == null ? new MessageProperties() : messageProperties;
+
+		properties.setContentType(contentType);
+		properties.setContentLength(body.length);
+		if(headers.isEmpty() == false){
+			properties.getHeaders().putAll(headers);
+		}
+
+		return new Message(body, properties);
+	}
+
+	@Override
+	public Object fromMessage(final Message message) throws MessageConversionException {
+		try{
+			return codec.decode(message.getBody());
+		}catch(IOException e){
+			throw new MessageConversionException("Failed to decode log data", e);
+		}
+	}
+
+}
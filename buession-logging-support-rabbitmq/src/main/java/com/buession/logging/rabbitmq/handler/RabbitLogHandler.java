@@ -27,13 +27,15 @@ package com.buession.logging.rabbitmq.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
+import com.buession.logging.rabbitmq.converter.LogDataCodecMessageConverter;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.amqp.support.converter.MessageConverter;
-import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.List;
 
 /**
  * RabbitMQ 日志处理器
@@ -41,7 +43,7 @@ import org.springframework.amqp.support.converter.SimpleMessageConverter;
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class RabbitLogHandler extends AbstractLogHandler {
+public class RabbitLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * {@link RabbitTemplate}
@@ -64,7 +66,7 @@ public class RabbitLogHandler extends AbstractLogHandler {
 	private final String routingKey;
 
 	/**
-	 * 构造函数
+	 * 构造函数，使用 JSON 编码的 {@link LogDataCodecMessageConverter}
 	 *
 	 * @param rabbitTemplate
 	 *        {@link RabbitTemplate}
@@ -74,7 +76,7 @@ public class RabbitLogHandler extends AbstractLogHandler {
 	 * 		Routing key 名称
 	 */
 	public RabbitLogHandler(final RabbitTemplate rabbitTemplate, final String exchange, final String routingKey) {
-		this(rabbitTemplate, exchange, routingKey, new SimpleMessageConverter());
+		this(rabbitTemplate, exchange, routingKey, new LogDataCodecMessageConverter());
 	}
 
 	/**
@@ -108,6 +110,18 @@ public class RabbitLogHandler extends AbstractLogHandler {
 		return Status.SUCCESS;
 	}
 
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		// 在同一个 Channel 上连续发布，避免每条消息获取、归还 Channel
+		rabbitTemplate.invoke((operations)->{
+			for(LogData logData : logDataList){
+				operations.send(exchange, routingKey, createMessage(logData));
+			}
+			return null;
+		});
+		return Status.SUCCESS;
+	}
+
 	private Message createMessage(final LogData logData) {
 		try{
 			return messageConverter.toMessage(logData, new MessageProperties());
@@ -26,11 +26,11 @@ package com.buession.logging.rabbitmq.spring;
 
 import com.buession.core.converter.mapper.PropertyMapper;
 import com.buession.core.utils.Assert;
+import com.buession.logging.rabbitmq.converter.LogDataCodecMessageConverter;
 import com.buession.logging.rabbitmq.handler.RabbitLogHandler;
 import com.buession.logging.rabbitmq.spring.config.RabbitLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 
 /**
@@ -53,7 +53,10 @@ public class RabbitLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Rabbi
 	 */
 	private String routingKey;
 
-	private MessageConverter messageConverter = new Jackson2JsonMessageConverter();
+	/**
+	 * 消息转换器
+	 */
+	private MessageConverter messageConverter = new LogDataCodecMessageConverter();
 
 	/**
 	 * 构造函数
@@ -72,6 +75,9 @@ public class RabbitLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Rabbi
 		if(configurer != null){
 			setExchange(configurer.getExchange());
 			setRoutingKey(configurer.getRoutingKey());
+			if(configurer.getMessageConverter() != null){
+				setMessageConverter(configurer.getMessageConverter());
+			}
 		}
 	}
 
@@ -121,10 +127,21 @@ public class RabbitLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Rabbi
 		this.routingKey = routingKey;
 	}
 
+	/**
+	 * 返回消息转换器
+	 *
+	 * @return 消息转换器
+	 */
 	public MessageConverter getMessageConverter() {
 		return messageConverter;
 	}
 
+	/**
+	 * 设置消息转换器
+	 *
+	 * @param messageConverter
+	 * 		消息转换器
+	 */
 	public void setMessageConverter(MessageConverter messageConverter) {
 		this.messageConverter = messageConverter;
 	}
@@ -24,7 +24,9 @@
  */
 package com.buession.logging.rabbitmq.spring.config;
 
+import com.buession.logging.rabbitmq.converter.LogDataCodecMessageConverter;
 import com.buession.logging.rabbitmq.spring.RabbitLogHandlerFactoryBean;
+import org.springframework.amqp.support.converter.MessageConverter;
 
 /**
  * Configures {@link RabbitLogHandlerFactoryBean} with sensible defaults.
@@ -44,6 +46,13 @@ public class RabbitLogHandlerFactoryBeanConfigurer {
 	 */
 	private String routingKey;
 
+	/**
+	 * 消息转换器，为空时使用 JSON 编码的 {@link LogDataCodecMessageConverter}
+	 *
+	 * @since 2.1.0
+	 */
+	private MessageConverter messageConverter;
+
 	/**
 	 * 返回 Exchange 名称
 	 *
@@ -82,4 +91,27 @@ public class RabbitLogHandlerFactoryBeanConfigurer {
 		this.routingKey = routingKey;
 	}
 
+	/**
+	 * 返回消息转换器
+	 *
+	 * @return 消息转换器
+	 *
+	 * @since 2.1.0
+	 */
+	public MessageConverter getMessageConverter() {
+		return messageConverter;
+	}
+
+	/**
+	 * 设置消息转换器
+	 *
+	 * @param messageConverter
+	 * 		消息转换器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setMessageConverter(MessageConverter messageConverter) {
+		this.messageConverter = messageConverter;
+	}
+
 }
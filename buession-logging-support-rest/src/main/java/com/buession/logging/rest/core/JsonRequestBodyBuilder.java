@@ -28,6 +28,8 @@ import com.buession.httpclient.core.JsonRawRequestBody;
 import com.buession.httpclient.core.RequestBody;
 import com.buession.logging.core.LogData;
 
+import java.util.List;
+
 /**
  * JSON 请求体构建器
  *
@@ -41,4 +43,9 @@ public class JsonRequestBodyBuilder implements RequestBodyBuilder {
 		return new JsonRawRequestBody<>(logData);
 	}
 
+	@Override
+	public RequestBody<?> build(final List<LogData> logDataList) {
+		return new JsonRawRequestBody<>(logDataList);
+	}
+
 }
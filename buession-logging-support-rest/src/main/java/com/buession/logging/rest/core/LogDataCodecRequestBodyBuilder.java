@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.
+ * See the NOTICE file distributed with this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is
+ * distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ *
+ * =========================================================================================================
+ *
+ * This software consists of voluntary contributions made by many individuals on behalf of the
+ * Apache Software Foundation. For more information on the Apache Software Foundation, please see
+ * <http://www.apache.org/>.
+ *
+ * +-------------------------------------------------------------------------------------------------------+
+ * | License: http://www.apache.org/licenses/LICENSE-2.0.txt 										       |
+ * | Author: Yong.Teng <webmaster@buession.com> 													       |
+ * | Copyright @ 2013-2026 Buession.com Inc.														       |
+ * +-------------------------------------------------------------------------------------------------------+
+ */
+package com.buession.logging.rest.core;
+
+import com.buession.core.utils.Assert;
+import com.buession.httpclient.core.ContentType;
+import com.buession.httpclient.core.InputStreamRequestBody;
+import com.buession.httpclient.core.RequestBody;
+import com.buession.logging.core.LogData;
+import com.buession.logging.core.codec.LogDataCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 基于 {@link LogDataCodec} 的请求体构建器，日志数据按编解码器编码为请求体，Content-Type 为编解码器对应的类型
+ *
+ * @author Yong.Teng
+ * @since 2.1.0
+ */
+public class LogDataCodecRequestBodyBuilder implements RequestBodyBuilder {
+
+	/**
+	 * 编解码器
+	 */
+	private final LogDataCodec codec;
+
+	/**
+	 * Content-Type
+	 */
+	private final ContentType contentType;
+
+	/**
+	 * 构造函数
+	 *
+	 * @param codec
+	 * 		编解码器
+	 */
+	public LogDataCodecRequestBodyBuilder(final LogDataCodec codec) {
+		Assert.isNull(codec, "LogDataCodec cloud not be null.");
+		this.codec = codec;
+		this.contentType = new ContentType(codec.getContentType(), null);
+	}
+
+	/**
+	 * 返回编解码器
+	 *
+	 * @return 编解码器
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	@Override
+	public RequestBody<?> build(final LogData logData) {
+		try{
+			return createRequestBody(codec.encode(logData));
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public RequestBody<?> build(final List<LogData> logDataList) {
+		try{
+			return createRequestBody(codec.encode(logDataList));
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private RequestBody<?> createRequestBody(final byte[] data) {
+		return new InputStreamRequestBody(new ByteArrayInputStream(data), contentType);
+	}
+
+}
@@ -27,6 +27,8 @@ package com.buession.logging.rest.core;
 import com.buession.httpclient.core.RequestBody;
 import com.buession.logging.core.LogData;
 
+import java.util.List;
+
 /**
  * 请求体构建器
  *
@@ -46,4 +48,19 @@ public interface RequestBodyBuilder {
 	 */
 	RequestBody<?> build(final LogData logData);
 
+	/**
+	 * 将一批 {@link LogData} 构建为一个 {@link RequestBody}；
+	 * 返回 null 时表示不支持批量请求体，将逐条发送
+	 *
+	 * @param logDataList
+	 * 		日志数据列表
+	 *
+	 * @return 请求体
+	 *
+	 * @since 2.1.0
+	 */
+	default RequestBody<?> build(final List<LogData> logDataList) {
+		return null;
+	}
+
 }
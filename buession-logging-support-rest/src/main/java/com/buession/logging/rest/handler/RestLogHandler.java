@@ -33,17 +33,19 @@ import com.buession.httpclient.core.concurrent.Callback;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
 import com.buession.logging.core.RequestMethod;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
 import com.buession.logging.rest.core.JsonRequestBodyBuilder;
 import com.buession.logging.rest.core.RequestBodyBuilder;
 
+import java.util.List;
+
 /**
  * Rest 日志处理器
  *
  * @author Yong.Teng
  * @since 0.0.1
  */
-public class RestLogHandler extends AbstractLogHandler {
+public class RestLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * Http 客户端 {@link HttpClient}
@@ -164,6 +166,25 @@ public class RestLogHandler extends AbstractLogHandler {
 		return httpAsyncClient == null ? doSyncHandle(requestBody) : doAsyncHandle(requestBody);
 	}
 
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		final RequestBody<?> requestBody = requestBodyBuilder.build(logDataList);
+
+		if(requestBody == null){
+			Status status = Status.SUCCESS;
+
+			for(LogData logData : logDataList){
+				if(doHandle(logData) != Status.SUCCESS){
+					status = Status.FAILURE;
+				}
+			}
+
+			return status;
+		}
+
+		return httpAsyncClient == null ? doSyncHandle(requestBody) : doAsyncHandle(requestBody);
+	}
+
 	protected Status doSyncHandle(final RequestBody<?> requestBody) throws Exception {
 		Response response;
 
@@ -27,10 +27,18 @@ package com.buession.logging.rocketmq.handler;
 import com.buession.core.utils.Assert;
 import com.buession.lang.Status;
 import com.buession.logging.core.LogData;
-import com.buession.logging.core.handler.AbstractLogHandler;
+import com.buession.logging.core.codec.LogDataCodec;
+import com.buession.logging.core.handler.AbstractBatchLogHandler;
+import org.apache.rocketmq.client.producer.SendCallback;
 import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.client.producer.SendStatus;
 import org.apache.rocketmq.spring.core.RocketTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RocketMQ 日志处理器
@@ -38,7 +46,7 @@ import org.apache.rocketmq.spring.core.RocketTemplate;
  * @author Yong.Teng
  * @since 2.0.0
  */
-public class RocketMQLogHandler extends AbstractLogHandler {
+public class RocketMQLogHandler extends AbstractBatchLogHandler {
 
 	/**
 	 * {@link RocketTemplate}
@@ -55,6 +63,13 @@ public class RocketMQLogHandler extends AbstractLogHandler {
 	 */
 	private boolean sync = false;
 
+	/**
+	 * 日志数据编解码器，为空时由 {@link RocketTemplate} 的消息转换器序列化
+	 *
+	 * @since 2.1.0
+	 */
+	private LogDataCodec codec;
+
 	/**
 	 * 构造函数
 	 *
@@ -104,8 +119,35 @@ public class RocketMQLogHandler extends AbstractLogHandler {
 		this.sync = sync;
 	}
 
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码器，设置后日志数据预先编码为字节数组发送，不再经过消息转换器
+	 *
+	 * @param codec
+	 * 		日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(LogDataCodec codec) {
+		this.codec = codec;
+	}
+
 	@Override
 	protected Status doHandle(final LogData logData) throws Exception {
+		if(codec != null){
+			return send(buildMessage(logData));
+		}
+
 		if(sync){
 			SendResult result = rocketTemplate.syncSend(topic, logData);
 			return result.getSendStatus() == SendStatus.SEND_OK ? Status.SUCCESS : Status.FAILURE;
@@ -115,4 +157,50 @@ public class RocketMQLogHandler extends AbstractLogHandler {
 		}
 	}
 
+	@Override
+	protected Status doHandle(final List<LogData> logDataList) throws Exception {
+		final List<Message<?>> messages = new ArrayList<>(logDataList.size());
+
+		for(LogData logData : logDataList){
+			messages.add(codec == null ? MessageBuilder.withPayload(logData).build() : buildMessage(logData));
+		}
+
+		if(sync){
+			SendResult result = rocketTemplate.syncSend(topic, messages);
+			return result.getSendStatus() == SendStatus.SEND_OK ? Status.SUCCESS : Status.FAILURE;
+		}else{
+			rocketTemplate.asyncSend(topic, messages, new SendCallback() {
+
+				@Override
+				public void onSuccess(SendResult sendResult) {
+				}
+
+				@Override
+				public void onException(Throwable e) {
+					if(logger.isErrorEnabled()){
+						logger.error("Send {} log data to topic '{}' failure: {}", messages.size(), topic,
+								e.getMessage(), e);
+					}
+				}
+
+			});
+			return Status.SUCCESS;
+		}
+	}
+
+	private Status send(final Message<byte[]> message) {
+		if(sync){
+			SendResult result = rocketTemplate.syncSend(topic, message);
+			return result.getSendStatus() == SendStatus.SEND_OK ? Status.SUCCESS : Status.FAILURE;
+		}else{
+			rocketTemplate.send(topic, message);
+			return Status.SUCCESS;
+		}
+	}
+
+	private Message<byte[]> buildMessage(final LogData logData) throws Exception {
+		return MessageBuilder.withPayload(codec.encode(logData))
+				.setHeader(MessageHeaders.CONTENT_TYPE, codec.getContentType()).build();
+	}
+
 }
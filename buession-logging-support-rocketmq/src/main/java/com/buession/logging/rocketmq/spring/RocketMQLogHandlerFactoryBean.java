@@ -25,6 +25,7 @@
 package com.buession.logging.rocketmq.spring;
 
 import com.buession.core.utils.Assert;
+import com.buession.logging.core.codec.LogDataCodec;
 import com.buession.logging.rocketmq.handler.RocketMQLogHandler;
 import com.buession.logging.rocketmq.spring.config.RocketMQLogHandlerFactoryBeanConfigurer;
 import com.buession.logging.support.spring.BaseLogHandlerFactoryBean;
@@ -55,6 +56,13 @@ public class RocketMQLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Roc
 	 */
 	private boolean sync = false;
 
+	/**
+	 * 日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	private LogDataCodec codec;
+
 	/**
 	 * 构造函数
 	 */
@@ -73,6 +81,7 @@ public class RocketMQLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Roc
 			setTopic(configurer.getTopic());
 			setCharset(configurer.getCharset());
 			setSync(configurer.isSync());
+			setCodec(configurer.getCodec());
 		}
 	}
 
@@ -130,6 +139,29 @@ public class RocketMQLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Roc
 		this.sync = sync;
 	}
 
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码器
+	 *
+	 * @param codec
+	 * 		日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(LogDataCodec codec) {
+		this.codec = codec;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
 		Assert.isNull(getRocketTemplate(), "Property 'rocketTemplate' is required");
@@ -139,6 +171,7 @@ public class RocketMQLogHandlerFactoryBean extends BaseLogHandlerFactoryBean<Roc
 			synchronized(this){
 				if(logHandler == null){
 					logHandler = new RocketMQLogHandler(getRocketTemplate(), getTopic(), isSync());
+					logHandler.setCodec(getCodec());
 				}
 			}
 		}
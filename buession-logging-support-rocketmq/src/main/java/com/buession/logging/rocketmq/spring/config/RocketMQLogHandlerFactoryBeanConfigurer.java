@@ -24,6 +24,7 @@
  */
 package com.buession.logging.rocketmq.spring.config;
 
+import com.buession.logging.core.codec.LogDataCodec;
 import com.buession.logging.rocketmq.spring.RocketMQLogHandlerFactoryBean;
 
 import java.nio.charset.Charset;
@@ -49,6 +50,13 @@ public class RocketMQLogHandlerFactoryBeanConfigurer {
 	 */
 	private boolean sync = false;
 
+	/**
+	 * 日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	private LogDataCodec codec;
+
 	/**
 	 * 返回 Topic 名称
 	 *
@@ -95,4 +103,27 @@ public class RocketMQLogHandlerFactoryBeanConfigurer {
 		this.sync = sync;
 	}
 
+	/**
+	 * 返回日志数据编解码器
+	 *
+	 * @return 日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public LogDataCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * 设置日志数据编解码器
+	 *
+	 * @param codec
+	 * 		日志数据编解码器
+	 *
+	 * @since 2.1.0
+	 */
+	public void setCodec(LogDataCodec codec) {
+		this.codec = codec;
+	}
+
 }